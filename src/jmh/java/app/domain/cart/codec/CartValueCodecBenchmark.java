@@ -0,0 +1,54 @@
+package app.domain.cart.codec;
+
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import app.domain.cart.model.dto.RedisCartItem;
+
+/**
+ * 장바구니 아이템 Redis 값 인코딩/디코딩 비용
+ * MIGRATION 은 운영 기본값으로, 바이너리로 쓰고 첫 바이트로 포맷을 판별해 읽는다.
+ */
+@State(Scope.Benchmark)
+public class CartValueCodecBenchmark {
+
+	@Param({"JSON", "BINARY", "MIGRATION"})
+	private CartCodecMode mode;
+
+	private CartValueCodec codec;
+	private RedisCartItem item;
+	private byte[] encoded;
+
+	@Setup
+	public void setUp() {
+		// RedisConfig.redisObjectMapper 와 같은 설정
+		ObjectMapper redisObjectMapper = new ObjectMapper();
+		redisObjectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+		codec = switch (mode) {
+			case JSON -> new JsonCartValueCodec(redisObjectMapper);
+			case BINARY -> new BinaryCartValueCodec();
+			case MIGRATION -> new MigratingCartValueCodec(new JsonCartValueCodec(redisObjectMapper),
+				new BinaryCartValueCodec());
+		};
+		item = new RedisCartItem(UUID.randomUUID(), UUID.randomUUID(), 3);
+		encoded = codec.encode(item);
+	}
+
+	@Benchmark
+	public byte[] encode() {
+		return codec.encode(item);
+	}
+
+	@Benchmark
+	public RedisCartItem decode() {
+		return codec.decode(encoded);
+	}
+}
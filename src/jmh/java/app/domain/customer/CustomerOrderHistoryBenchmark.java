@@ -0,0 +1,84 @@
+package app.domain.customer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.customer.dto.response.CustomerOrderResponse;
+import app.domain.order.model.dto.response.OrderStatusHistoryResponse;
+import app.domain.order.model.entity.OrderStatusEvent;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+
+/**
+ * 주문 내역 페이지에 상태 이력을 붙여 JSON 으로 내보내는 비용
+ * CustomerOrderService.getCustomerOrders 가 조회 이후 메모리에서 하는 일(이력 그룹핑, 응답 변환, 직렬화)을 그대로 따른다.
+ */
+@State(Scope.Benchmark)
+public class CustomerOrderHistoryBenchmark {
+
+	private static final OrderStatus[] FLOW = {OrderStatus.PENDING, OrderStatus.ACCEPTED, OrderStatus.COOKING,
+		OrderStatus.IN_DELIVERY, OrderStatus.COMPLETED};
+
+	@Param({"20"})
+	private int pageSize;
+
+	private ObjectMapper objectMapper;
+	private List<OrderStatusEvent> events;
+	private List<CustomerOrderResponse> orders;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		LocalDateTime now = LocalDateTime.now();
+		events = new ArrayList<>();
+		orders = new ArrayList<>();
+		for (int i = 0; i < pageSize; i++) {
+			UUID ordersId = UUID.randomUUID();
+			UUID storeId = UUID.randomUUID();
+			orders.add(new CustomerOrderResponse(ordersId, "가게 " + i, 25000L, "서울시 종로구 " + i,
+				PaymentMethod.CREDIT_CARD, OrderChannel.ONLINE, ReceiptMethod.DELIVERY, OrderStatus.COMPLETED, false,
+				"문 앞에 놔주세요", now.minusHours(i)));
+			for (int step = 0; step < FLOW.length; step++) {
+				events.add(OrderStatusEvent.builder()
+					.ordersId(ordersId)
+					.storeId(storeId)
+					.status(FLOW[step])
+					.occurredAt(now.minusHours(i).plusMinutes(step * 10L))
+					.build());
+			}
+		}
+	}
+
+	@Benchmark
+	public List<CustomerOrderResponse> mergeHistory() {
+		Map<UUID, List<OrderStatusEvent>> histories = events.stream()
+			.collect(Collectors.groupingBy(OrderStatusEvent::getOrdersId));
+		orders.forEach(order -> order.setOrderHistory(
+			histories.getOrDefault(order.getOrdersId(), List.of()).stream()
+				.map(OrderStatusHistoryResponse::from)
+				.toList()));
+		return orders;
+	}
+
+	@Benchmark
+	public byte[] mergeHistoryAndSerialize() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(mergeHistory());
+	}
+}
@@ -0,0 +1,30 @@
+package app.domain.payment.gateway;
+
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 결제 승인/취소 요청마다 만드는 멱등 키(SHA-256 + Base64) 생성 비용
+ * 여러 스레드가 같은 클라이언트를 공유하므로 -t 옵션으로 스레드 수를 늘려 함께 측정한다.
+ */
+@State(Scope.Benchmark)
+public class IdempotencyKeyBenchmark {
+
+	private TossPaymentClient tossPaymentClient;
+	private String orderId;
+
+	@Setup
+	public void setUp() {
+		tossPaymentClient = new TossPaymentClient("benchmark-secret", "http://localhost", 3000, 10000, 5, 30000);
+		orderId = UUID.randomUUID().toString();
+	}
+
+	@Benchmark
+	public String idempotencyKey() {
+		return tossPaymentClient.idempotencyKey(1L, orderId);
+	}
+}
@@ -0,0 +1,59 @@
+package app.global.apiPayload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.code.status.SuccessStatus;
+
+/**
+ * 모든 응답을 감싸는 ApiResponse 의 직렬화 비용
+ * 스프링 MVC 메시지 컨버터와 같은 기본 설정의 ObjectMapper 를 사용한다.
+ */
+@State(Scope.Benchmark)
+public class ApiResponseBenchmark {
+
+	private ObjectMapper objectMapper;
+	private ApiResponse<String> message;
+	private ApiResponse<List<RedisCartItem>> list;
+	private ApiResponse<Object> failure;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		message = ApiResponse.onSuccess(SuccessStatus._OK, "주문 상태가 변경되었습니다.");
+		List<RedisCartItem> items = new ArrayList<>();
+		UUID storeId = UUID.randomUUID();
+		for (int i = 0; i < 10; i++) {
+			items.add(new RedisCartItem(UUID.randomUUID(), storeId, i + 1));
+		}
+		list = ApiResponse.onSuccess(SuccessStatus._OK, items);
+		failure = ApiResponse.onFailure(ErrorStatus._BAD_REQUEST, null);
+	}
+
+	@Benchmark
+	public byte[] message() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(message);
+	}
+
+	@Benchmark
+	public byte[] list() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(list);
+	}
+
+	@Benchmark
+	public byte[] failure() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(failure);
+	}
+}
@@ -0,0 +1,53 @@
+package app.global.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+
+/**
+ * 요청마다 거치는 토큰 발급/검증/인증 객체 생성 비용
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+	private static final String SECRET =
+		"b3JkZXItcGxhdGZvcm0tam1oLWJlbmNobWFyay1zZWNyZXQta2V5LWZvci1oczUxMi1zaWduYXR1cmUtMDAwMQ==";
+
+	private JwtTokenProvider jwtTokenProvider;
+	private User user;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		jwtTokenProvider = new JwtTokenProvider(SECRET, 3600000, 1209600000);
+		jwtTokenProvider.afterPropertiesSet();
+		user = User.builder().userId(1L).userRole(UserRole.CUSTOMER).build();
+		accessToken = jwtTokenProvider.createAccessToken(user);
+	}
+
+	@Benchmark
+	public String createAccessToken() {
+		return jwtTokenProvider.createAccessToken(user);
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtTokenProvider.validateToken(accessToken);
+	}
+
+	@Benchmark
+	public Authentication getAuthentication() {
+		return jwtTokenProvider.getAuthentication(accessToken);
+	}
+
+	// 필터가 실제로 쓰는 경로: 한 번의 파싱으로 검증과 인증 객체 생성을 함께 처리한다
+	@Benchmark
+	public VerifiedToken verify() {
+		return jwtTokenProvider.verify(accessToken);
+	}
+}
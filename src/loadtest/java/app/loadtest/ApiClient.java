@@ -0,0 +1,85 @@
+package app.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 사용자 한 명의 HTTP 클라이언트
+ * 요청마다 응답 시간을 엔드포인트 이름으로 기록하고, 성공하면 ApiResponse 의 result 를 돌려준다.
+ * 실패하면 null 을 반환하므로 호출하는 쪽에서 시나리오를 중단할지 정한다.
+ */
+@Slf4j
+public class ApiClient {
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+	private final HttpClient httpClient;
+	private final ObjectMapper objectMapper;
+	private final String baseUrl;
+	private final LatencyRecorder recorder;
+	private String accessToken;
+
+	public ApiClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, LatencyRecorder recorder) {
+		this.httpClient = httpClient;
+		this.objectMapper = objectMapper;
+		this.baseUrl = baseUrl;
+		this.recorder = recorder;
+	}
+
+	public void authorize(String accessToken) {
+		this.accessToken = accessToken;
+	}
+
+	public JsonNode get(String endpoint, String path) {
+		return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+	}
+
+	public JsonNode post(String endpoint, String path, Object body) {
+		try {
+			byte[] json = objectMapper.writeValueAsBytes(body);
+			return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofByteArray(json)));
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("요청 본문을 JSON 으로 변환할 수 없습니다: " + endpoint, e);
+		}
+	}
+
+	private JsonNode send(String endpoint, HttpRequest.Builder builder) {
+		if (accessToken != null) {
+			builder.header("Authorization", "Bearer " + accessToken);
+		}
+		HttpRequest request = builder.timeout(REQUEST_TIMEOUT).build();
+		long start = System.nanoTime();
+		try {
+			HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+			long elapsed = System.nanoTime() - start;
+			boolean success = response.statusCode() / 100 == 2;
+			recorder.record(endpoint, elapsed, success);
+			if (!success) {
+				log.debug("요청 실패 - {} {}: {}", endpoint, response.statusCode(),
+					new String(response.body(), StandardCharsets.UTF_8));
+				return null;
+			}
+			return objectMapper.readTree(response.body()).path("result");
+		} catch (IOException e) {
+			recorder.record(endpoint, System.nanoTime() - start, false);
+			log.debug("요청 실패 - {}", endpoint, e);
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+}
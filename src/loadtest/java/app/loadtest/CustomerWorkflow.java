@@ -0,0 +1,82 @@
+package app.loadtest;
+
+import java.util.Map;
+import java.util.UUID;
+
+import app.domain.user.model.entity.enums.UserRole;
+
+/**
+ * locustfile 의 CustomerWorkflow
+ * 주소 등록 → 매장 목록 → 메뉴 목록 → 장바구니 담기 → 주문 순서로 반복한다.
+ * 주문 후에도 장바구니는 비워지지 않으므로 담은 수량을 누적해 주문 금액을 맞춘다.
+ */
+public class CustomerWorkflow extends VirtualUser {
+
+	private static final String PREFIX = "customer";
+
+	private int cartQuantity;
+
+	public CustomerWorkflow(ApiClient client, LoadTestFixture fixture, LoadTestConfig config, long deadlineNanos) {
+		super(client, fixture, config, deadlineNanos);
+	}
+
+	@Override
+	protected boolean onStart() {
+		return signupAndLogin(PREFIX, UserRole.CUSTOMER);
+	}
+
+	@Override
+	protected void runTasks() {
+		addAddress();
+		think();
+
+		boolean browsed = getStoresAndMenus();
+		think();
+		if (!browsed) {
+			return;
+		}
+
+		addItemToCart();
+		think();
+
+		createOrder();
+		think();
+	}
+
+	private void addAddress() {
+		client.post(PREFIX + ".add-address", "/customer/address/add", Map.of(
+			"alias", "My Home",
+			"address", UUID.randomUUID().toString().substring(0, 12),
+			"addressDetail", "Apt 101",
+			"isDefault", true));
+	}
+
+	private boolean getStoresAndMenus() {
+		if (client.get(PREFIX + ".get-stores", "/customer/store") == null) {
+			return false;
+		}
+		return client.get(PREFIX + ".get-menus", "/customer/store/" + fixture.storeId() + "/menus") != null;
+	}
+
+	private void addItemToCart() {
+		if (client.post(PREFIX + ".add-cart-item", "/customer/cart/item", Map.of(
+			"menuId", fixture.menuId(),
+			"storeId", fixture.storeId(),
+			"quantity", 1)) != null) {
+			cartQuantity++;
+		}
+	}
+
+	private void createOrder() {
+		if (cartQuantity == 0) {
+			return;
+		}
+		client.post(PREFIX + ".create-order", "/order", Map.of(
+			"paymentMethod", "CREDIT_CARD",
+			"orderChannel", "ONLINE",
+			"receiptMethod", "DELIVERY",
+			"requestMessage", "Load test order",
+			"totalPrice", fixture.menuPrice() * cartQuantity,
+			"deliveryAddress", "123 Main St, Apt 101"));
+	}
+}
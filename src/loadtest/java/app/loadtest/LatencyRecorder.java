@@ -0,0 +1,63 @@
+package app.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트별 응답 시간 히스토그램
+ * 값은 마이크로초 단위로 기록하며, 실패한 요청도 응답 시간에 포함하고 실패 수를 따로 센다.
+ */
+public class LatencyRecorder {
+
+	private static final int SIGNIFICANT_DIGITS = 3;
+
+	private final Map<String, EndpointLatency> endpoints = new ConcurrentHashMap<>();
+
+	public void record(String endpoint, long elapsedNanos, boolean success) {
+		EndpointLatency latency = endpoints.computeIfAbsent(endpoint, key -> new EndpointLatency());
+		latency.histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+		if (!success) {
+			latency.errors.increment();
+		}
+	}
+
+	/**
+	 * 엔드포인트 이름순으로 정렬한 히스토그램 복사본
+	 */
+	public Map<String, EndpointSnapshot> snapshot() {
+		Map<String, EndpointSnapshot> snapshot = new TreeMap<>();
+		endpoints.forEach((endpoint, latency) -> {
+			Histogram histogram = latency.histogram.copy();
+			histogram.setTag(endpoint);
+			snapshot.put(endpoint, new EndpointSnapshot(histogram, latency.errors.sum()));
+		});
+		return snapshot;
+	}
+
+	private static class EndpointLatency {
+
+		private final ConcurrentHistogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+		private final LongAdder errors = new LongAdder();
+	}
+
+	public record EndpointSnapshot(Histogram histogram, long errors) {
+
+		public long requests() {
+			return histogram.getTotalCount();
+		}
+
+		public double errorRate() {
+			return requests() == 0 ? 0 : (double)errors / requests();
+		}
+
+		public double percentileMs(double percentile) {
+			return histogram.getValueAtPercentile(percentile) / 1000.0;
+		}
+	}
+}
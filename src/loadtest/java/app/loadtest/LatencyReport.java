@@ -0,0 +1,80 @@
+package app.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.HistogramLogWriter;
+
+import app.loadtest.LatencyRecorder.EndpointSnapshot;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 테스트 결과 출력과 판정
+ * 엔드포인트별 백분위 분포를 HdrHistogram 형식(.hgrm)으로, 전체 히스토그램을 태그별 로그(latency.hlog)로 남긴다.
+ * .hgrm 은 밀리초 단위라 HdrHistogram 플로터로 릴리스 간 분포를 겹쳐 볼 수 있다.
+ */
+@Slf4j
+public class LatencyReport {
+
+	private static final double MICROS_PER_MILLI = 1000.0;
+
+	private final Map<String, EndpointSnapshot> endpoints;
+	private final LoadTestConfig config;
+
+	public LatencyReport(Map<String, EndpointSnapshot> endpoints, LoadTestConfig config) {
+		this.endpoints = endpoints;
+		this.config = config;
+	}
+
+	public void print(PrintStream out, long elapsedMs) {
+		out.printf("%n부하 테스트 결과 - 가상 사용자: 고객 %d, 점주 %d, 실행 시간: %.1fs%n",
+			config.customers(), config.owners(), elapsedMs / 1000.0);
+		out.printf("%-28s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+			"endpoint", "requests", "errors", "rps", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+		endpoints.forEach((endpoint, snapshot) -> out.printf("%-28s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+			endpoint, snapshot.requests(), snapshot.errors(), snapshot.requests() * 1000.0 / Math.max(1, elapsedMs),
+			snapshot.percentileMs(50), snapshot.percentileMs(90), snapshot.percentileMs(99),
+			snapshot.percentileMs(99.9), snapshot.histogram().getMaxValue() / MICROS_PER_MILLI));
+	}
+
+	public void write(Path dir) throws IOException {
+		Files.createDirectories(dir);
+		for (Map.Entry<String, EndpointSnapshot> entry : endpoints.entrySet()) {
+			try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(entry.getKey() + ".hgrm")))) {
+				entry.getValue().histogram().outputPercentileDistribution(out, MICROS_PER_MILLI);
+			}
+		}
+		try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve("latency.hlog")))) {
+			HistogramLogWriter writer = new HistogramLogWriter(out);
+			writer.outputComment("order-platform load test, values in microseconds");
+			writer.outputLogFormatVersion();
+			writer.outputLegend();
+			endpoints.values().forEach(snapshot -> writer.outputIntervalHistogram(snapshot.histogram()));
+		}
+		log.info("응답 시간 히스토그램을 저장했습니다: {}", dir.toAbsolutePath());
+	}
+
+	/**
+	 * p99 임계값이나 허용 실패율을 넘은 엔드포인트 목록. 비어 있으면 통과다.
+	 */
+	public List<String> violations() {
+		List<String> violations = new ArrayList<>();
+		endpoints.forEach((endpoint, snapshot) -> {
+			long thresholdMs = config.p99ThresholdMs(endpoint);
+			double p99Ms = snapshot.percentileMs(99);
+			if (thresholdMs > 0 && p99Ms > thresholdMs) {
+				violations.add(String.format("%s p99 %.2fms > %dms", endpoint, p99Ms, thresholdMs));
+			}
+			if (snapshot.errorRate() > config.maxErrorRate()) {
+				violations.add(String.format("%s 실패율 %.2f%% > %.2f%%", endpoint, snapshot.errorRate() * 100,
+					config.maxErrorRate() * 100));
+			}
+		});
+		return violations;
+	}
+}
@@ -0,0 +1,52 @@
+package app.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정
+ * 모든 값은 loadtest. 으로 시작하는 시스템 프로퍼티로 바꿀 수 있다.
+ * p99 임계값은 엔드포인트별로 loadtest.p99-threshold-ms.<엔드포인트> 로 덮어쓸 수 있고, 0 이면 검사하지 않는다.
+ */
+public record LoadTestConfig(
+	int customers,
+	int owners,
+	Duration duration,
+	Duration rampUp,
+	long thinkTimeMinMs,
+	long thinkTimeMaxMs,
+	long p99ThresholdMs,
+	double maxErrorRate,
+	Path reportDir
+) {
+
+	private static final String PREFIX = "loadtest.";
+
+	public static LoadTestConfig fromSystemProperties() {
+		LoadTestConfig config = new LoadTestConfig(
+			Integer.getInteger(PREFIX + "customers", 20),
+			Integer.getInteger(PREFIX + "owners", 2),
+			Duration.ofSeconds(Long.getLong(PREFIX + "duration-seconds", 60)),
+			Duration.ofSeconds(Long.getLong(PREFIX + "ramp-up-seconds", 5)),
+			Long.getLong(PREFIX + "think-time-min-ms", 100),
+			Long.getLong(PREFIX + "think-time-max-ms", 300),
+			Long.getLong(PREFIX + "p99-threshold-ms", 0),
+			Double.parseDouble(System.getProperty(PREFIX + "max-error-rate", "0.01")),
+			Path.of(System.getProperty(PREFIX + "report-dir", "build/reports/loadtest")));
+		if (config.customers < 0 || config.owners < 0 || config.customers + config.owners == 0) {
+			throw new IllegalArgumentException("가상 사용자는 한 명 이상이어야 합니다.");
+		}
+		if (config.thinkTimeMinMs < 0 || config.thinkTimeMaxMs < config.thinkTimeMinMs) {
+			throw new IllegalArgumentException("think-time 범위가 올바르지 않습니다.");
+		}
+		return config;
+	}
+
+	public long p99ThresholdMs(String endpoint) {
+		return Long.getLong(PREFIX + "p99-threshold-ms." + endpoint, p99ThresholdMs);
+	}
+
+	public int virtualUsers() {
+		return customers + owners;
+	}
+}
@@ -0,0 +1,65 @@
+package app.loadtest;
+
+import java.util.UUID;
+
+import org.springframework.context.ApplicationContext;
+
+import app.domain.menu.model.entity.Category;
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.repository.CategoryRepository;
+import app.domain.menu.model.repository.MenuRepository;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.store.repository.RegionRepository;
+import app.domain.store.repository.StoreRepository;
+import app.domain.store.status.StoreAcceptStatus;
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+
+/**
+ * 모든 가상 사용자가 공유하는 기준 데이터
+ * locustfile 의 GLOBAL_STORE_ID/GLOBAL_MENU_ID 에 해당하며, 빈 H2 에 승인된 매장과 메뉴를 하나씩 만든다.
+ */
+public record LoadTestFixture(UUID regionId, UUID categoryId, UUID storeId, UUID menuId, long menuPrice) {
+
+	private static final long MENU_PRICE = 7000L;
+
+	public static LoadTestFixture seed(ApplicationContext context) {
+		Region region = context.getBean(RegionRepository.class).save(Region.builder()
+			.regionCode("1111010600")
+			.regionName("광화문")
+			.fullName("서울특별시 종로구 세종로")
+			.isActive(true)
+			.build());
+		Category category = context.getBean(CategoryRepository.class).save(Category.builder()
+			.categoryName("한식")
+			.build());
+		User owner = context.getBean(UserRepository.class).save(User.builder()
+			.username("loadtest_owner")
+			.password("password123!")
+			.email("loadtest_owner@example.com")
+			.nickname("부하점주")
+			.realName("부하점주")
+			.phoneNumber("01000000000")
+			.userRole(UserRole.OWNER)
+			.build());
+		Store store = context.getBean(StoreRepository.class).save(Store.builder()
+			.user(owner)
+			.region(region)
+			.category(category)
+			.storeName("부하 테스트 매장")
+			.address("서울시 종로구")
+			.minOrderAmount(10000L)
+			.storeAcceptStatus(StoreAcceptStatus.APPROVE)
+			.build());
+		Menu menu = context.getBean(MenuRepository.class).save(Menu.builder()
+			.store(store)
+			.category(category)
+			.name("김치찌개")
+			.price(MENU_PRICE)
+			.build());
+		return new LoadTestFixture(region.getRegionId(), category.getCategoryId(), store.getStoreId(),
+			menu.getMenuId(), MENU_PRICE);
+	}
+}
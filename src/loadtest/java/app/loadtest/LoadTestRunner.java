@@ -0,0 +1,145 @@
+package app.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.OrderPlatformBackendApplication;
+import lombok.extern.slf4j.Slf4j;
+import redis.embedded.RedisServer;
+
+/**
+ * performance_test/locustfile.py 를 대신하는 JVM 부하 테스트
+ * 내장 Redis 와 H2 로 애플리케이션을 띄우고, 고객/점주 가상 사용자가 같은 시나리오를 반복한 뒤
+ * 엔드포인트별 응답 시간 분포를 남긴다. p99 임계값이나 허용 실패율을 넘으면 종료 코드 1 로 끝난다.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+	private static final String REDIS_PASSWORD = "loadtest";
+	private static final String JWT_SECRET =
+		"bG9hZHRlc3Qtb3JkZXItcGxhdGZvcm0tc2VjcmV0LWtleS1mb3ItaHM1MTItc2lnbmF0dXJlLTAwMDAwMDAwMQ==";
+
+	public static void main(String[] args) throws Exception {
+		LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+		int redisPort = freePort();
+		RedisServer redisServer = RedisServer.newRedisServer()
+			.port(redisPort)
+			.setting("bind 127.0.0.1")
+			.setting("requirepass " + REDIS_PASSWORD)
+			.build();
+		redisServer.start();
+
+		int exitCode;
+		try (ConfigurableApplicationContext context = SpringApplication.run(OrderPlatformBackendApplication.class,
+			applicationArgs(redisPort))) {
+			exitCode = run(context, config);
+		} finally {
+			redisServer.stop();
+		}
+		System.exit(exitCode);
+	}
+
+	private static int run(ConfigurableApplicationContext context, LoadTestConfig config)
+		throws InterruptedException, IOException {
+		LoadTestFixture fixture = LoadTestFixture.seed(context);
+		int port = ((WebServerApplicationContext)context).getWebServer().getPort();
+		String baseUrl = "http://localhost:" + port + "/api";
+
+		LatencyRecorder recorder = new LatencyRecorder();
+		HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		log.info("부하 테스트 시작 - 고객 {}명, 점주 {}명, {}초", config.customers(), config.owners(),
+			config.duration().toSeconds());
+		long startNanos = System.nanoTime();
+		long deadlineNanos = startNanos + config.duration().toNanos();
+		AtomicInteger sequence = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(config.virtualUsers(),
+			runnable -> new Thread(runnable, "loadtest-user-" + sequence.getAndIncrement()));
+		try {
+			// 고객과 점주가 섞여서 들어오도록 시작한 비율이 낮은 쪽부터 번갈아 ramp-up 구간에 고르게 나눠 시작한다
+			long rampUpStepMs = config.rampUp().toMillis() / config.virtualUsers();
+			int customers = 0;
+			int owners = 0;
+			while (customers < config.customers() || owners < config.owners()) {
+				ApiClient client = new ApiClient(httpClient, objectMapper, baseUrl, recorder);
+				if (owners >= config.owners()
+					|| (customers < config.customers()
+					&& (long)customers * config.owners() <= (long)owners * config.customers())) {
+					executor.submit(new CustomerWorkflow(client, fixture, config, deadlineNanos));
+					customers++;
+				} else {
+					executor.submit(new OwnerWorkflow(client, fixture, config, deadlineNanos));
+					owners++;
+				}
+				if (rampUpStepMs > 0) {
+					Thread.sleep(rampUpStepMs);
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+		long graceMs = Math.max(30000, config.thinkTimeMaxMs() * 10);
+		if (!executor.awaitTermination(config.duration().toMillis() + graceMs, TimeUnit.MILLISECONDS)) {
+			log.warn("종료 시각이 지나도 끝나지 않은 가상 사용자를 중단합니다.");
+			executor.shutdownNow();
+		}
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+		LatencyReport report = new LatencyReport(recorder.snapshot(), config);
+		report.print(System.out, elapsedMs);
+		report.write(config.reportDir());
+
+		List<String> violations = report.violations();
+		if (violations.isEmpty()) {
+			log.info("부하 테스트 통과");
+			return 0;
+		}
+		violations.forEach(violation -> log.error("부하 테스트 기준 초과 - {}", violation));
+		return 1;
+	}
+
+	private static String[] applicationArgs(int redisPort) {
+		return new String[] {
+			"--server.port=0",
+			"--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+			"--spring.datasource.username=sa",
+			"--spring.datasource.password=",
+			"--spring.datasource.driver-class-name=org.h2.Driver",
+			"--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+			"--spring.jpa.properties.hibernate.show_sql=false",
+			"--spring.jpa.properties.hibernate.format_sql=false",
+			"--spring.jpa.properties.hibernate.use_sql_comments=false",
+			"--spring.data.redis.host=127.0.0.1",
+			"--spring.data.redis.port=" + redisPort,
+			"--spring.data.redis.password=" + REDIS_PASSWORD,
+			"--spring.ai.openai.api-key=loadtest",
+			"--jwt.secret=" + JWT_SECRET,
+			"--TOSS_CLIENT_KEY=loadtest",
+			"--TOSS_SECRET_KEY=loadtest",
+			"--TOSS_URL=http://127.0.0.1:1"
+		};
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
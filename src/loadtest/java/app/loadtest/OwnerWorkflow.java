@@ -0,0 +1,37 @@
+package app.loadtest;
+
+import java.util.Map;
+import java.util.UUID;
+
+import app.domain.user.model.entity.enums.UserRole;
+
+/**
+ * locustfile 의 OwnerWorkflow
+ * 기준 데이터의 지역/카테고리로 매장 생성을 반복한다. 매장 이름은 지역 안에서 중복될 수 없으므로 매번 새로 만든다.
+ */
+public class OwnerWorkflow extends VirtualUser {
+
+	private static final String PREFIX = "owner";
+
+	public OwnerWorkflow(ApiClient client, LoadTestFixture fixture, LoadTestConfig config, long deadlineNanos) {
+		super(client, fixture, config, deadlineNanos);
+	}
+
+	@Override
+	protected boolean onStart() {
+		return signupAndLogin(PREFIX, UserRole.OWNER);
+	}
+
+	@Override
+	protected void runTasks() {
+		client.post(PREFIX + ".create-store", "/store", Map.of(
+			"storeName", "Load Store " + UUID.randomUUID().toString().substring(0, 12),
+			"regionId", fixture.regionId(),
+			"categoryId", fixture.categoryId(),
+			"desc", "A great store for testing.",
+			"address", "123 Load St.",
+			"phoneNumber", randomPhoneNumber(),
+			"minOrderAmount", 10000));
+		think();
+	}
+}
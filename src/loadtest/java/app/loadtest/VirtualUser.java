@@ -0,0 +1,97 @@
+package app.loadtest;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import app.domain.user.model.entity.enums.UserRole;
+
+/**
+ * 가상 사용자
+ * locust 의 HttpUser + SequentialTaskSet 처럼 회원가입/로그인 후 종료 시각까지 시나리오를 반복한다.
+ * 각 단계 사이에는 think-time 범위에서 임의로 대기한다.
+ */
+public abstract class VirtualUser implements Runnable {
+
+	protected static final String PASSWORD = "password123!";
+
+	protected final ApiClient client;
+	protected final LoadTestFixture fixture;
+	private final LoadTestConfig config;
+	private final long deadlineNanos;
+
+	protected VirtualUser(ApiClient client, LoadTestFixture fixture, LoadTestConfig config, long deadlineNanos) {
+		this.client = client;
+		this.fixture = fixture;
+		this.config = config;
+		this.deadlineNanos = deadlineNanos;
+	}
+
+	@Override
+	public void run() {
+		if (!onStart()) {
+			return;
+		}
+		while (!Thread.currentThread().isInterrupted() && System.nanoTime() < deadlineNanos) {
+			runTasks();
+		}
+	}
+
+	protected abstract boolean onStart();
+
+	/**
+	 * 시나리오를 한 바퀴 실행한다. 중간 단계가 실패하면 남은 단계를 건너뛰고 다음 바퀴로 넘어간다.
+	 */
+	protected abstract void runTasks();
+
+	protected boolean signupAndLogin(String prefix, UserRole role) {
+		String username = role.name().toLowerCase() + "_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+		client.post(prefix + ".signup", "/user/signup", Map.of(
+			"username", username,
+			"password", PASSWORD,
+			"email", username + "@example.com",
+			"nickname", randomString(8),
+			"realName", role.name(),
+			"phoneNumber", randomPhoneNumber(),
+			"userRole", role.name()));
+
+		JsonNode login = client.post(prefix + ".login", "/user/login", Map.of(
+			"username", username,
+			"password", PASSWORD));
+		String accessToken = login == null ? null : login.path("accessToken").asText(null);
+		if (accessToken == null) {
+			return false;
+		}
+		client.authorize(accessToken);
+		return true;
+	}
+
+	protected void think() {
+		long min = config.thinkTimeMinMs();
+		long max = config.thinkTimeMaxMs();
+		long millis = min == max ? min : ThreadLocalRandom.current().nextLong(min, max + 1);
+		if (millis == 0) {
+			return;
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	protected static String randomString(int length) {
+		String letters = "abcdefghijklmnopqrstuvwxyz0123456789";
+		StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			builder.append(letters.charAt(ThreadLocalRandom.current().nextInt(letters.length())));
+		}
+		return builder.toString();
+	}
+
+	protected static String randomPhoneNumber() {
+		return "010" + ThreadLocalRandom.current().nextInt(10000000, 100000000);
+	}
+}
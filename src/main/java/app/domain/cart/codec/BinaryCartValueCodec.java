@@ -0,0 +1,97 @@
+package app.domain.cart.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import app.domain.cart.model.dto.RedisCartItem;
+
+/**
+ * 고정 길이 바이너리 포맷
+ * [버전 1byte][menuId 16byte][storeId 16byte][quantity varint]
+ * 장바구니 Lua 스크립트도 같은 오프셋으로 storeId 와 quantity 를 읽으므로 레이아웃 변경 시 함께 수정해야 한다.
+ */
+public class BinaryCartValueCodec implements CartValueCodec {
+
+	public static final byte FORMAT_VERSION = 0x01;
+	private static final int UUID_BYTES = 16;
+	private static final int QUANTITY_OFFSET = 1 + UUID_BYTES * 2;
+	private static final int MAX_VARINT_BYTES = 5;
+
+	@Override
+	public byte[] encode(RedisCartItem item) {
+		int quantity = item.getQuantity();
+		if (quantity < 0) {
+			throw new IllegalArgumentException("수량은 음수일 수 없습니다: " + quantity);
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(QUANTITY_OFFSET + varintSize(quantity));
+		buffer.put(FORMAT_VERSION);
+		putUuid(buffer, item.getMenuId());
+		putUuid(buffer, item.getStoreId());
+		putVarint(buffer, quantity);
+		return buffer.array();
+	}
+
+	@Override
+	public RedisCartItem decode(byte[] value) {
+		if (value == null || value.length <= QUANTITY_OFFSET || value[0] != FORMAT_VERSION) {
+			throw new IllegalArgumentException("지원하지 않는 장바구니 값 형식입니다.");
+		}
+
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(value, 1, value.length - 1);
+			UUID menuId = getUuid(buffer);
+			UUID storeId = getUuid(buffer);
+			int quantity = getVarint(buffer);
+			return new RedisCartItem(menuId, storeId, quantity);
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("장바구니 값이 잘려 있습니다.", e);
+		}
+	}
+
+	public static byte[] encodeUuid(UUID uuid) {
+		ByteBuffer buffer = ByteBuffer.allocate(UUID_BYTES);
+		putUuid(buffer, uuid);
+		return buffer.array();
+	}
+
+	private static void putUuid(ByteBuffer buffer, UUID uuid) {
+		buffer.putLong(uuid.getMostSignificantBits());
+		buffer.putLong(uuid.getLeastSignificantBits());
+	}
+
+	private static UUID getUuid(ByteBuffer buffer) {
+		long mostSignificantBits = buffer.getLong();
+		long leastSignificantBits = buffer.getLong();
+		return new UUID(mostSignificantBits, leastSignificantBits);
+	}
+
+	private static int varintSize(int value) {
+		int size = 1;
+		while ((value >>>= 7) != 0) {
+			size++;
+		}
+		return size;
+	}
+
+	private static void putVarint(ByteBuffer buffer, int value) {
+		while ((value & ~0x7F) != 0) {
+			buffer.put((byte)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte)value);
+	}
+
+	private static int getVarint(ByteBuffer buffer) {
+		int result = 0;
+		for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+			byte b = buffer.get();
+			result |= (b & 0x7F) << (7 * i);
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new IllegalArgumentException("수량 varint 길이가 올바르지 않습니다.");
+	}
+}
@@ -0,0 +1,13 @@
+package app.domain.cart.codec;
+
+/**
+ * 장바구니 값 코덱 운영 모드
+ * JSON: JSON 으로 읽고 쓴다.
+ * BINARY: 바이너리로 읽고 쓴다.
+ * MIGRATION: 바이너리로 쓰고, 기존 JSON 값과 바이너리 값을 모두 읽는다.
+ */
+public enum CartCodecMode {
+	JSON,
+	BINARY,
+	MIGRATION
+}
@@ -0,0 +1,14 @@
+package app.domain.cart.codec;
+
+import app.domain.cart.model.dto.RedisCartItem;
+
+/**
+ * Redis 장바구니 해시에 저장되는 아이템 값의 인코딩 방식
+ * 잘못된 형식의 값은 IllegalArgumentException 으로 알린다.
+ */
+public interface CartValueCodec {
+
+	byte[] encode(RedisCartItem item);
+
+	RedisCartItem decode(byte[] value);
+}
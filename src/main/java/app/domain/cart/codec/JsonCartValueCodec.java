@@ -0,0 +1,32 @@
+package app.domain.cart.codec;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class JsonCartValueCodec implements CartValueCodec {
+
+	private final ObjectMapper redisObjectMapper;
+
+	@Override
+	public byte[] encode(RedisCartItem item) {
+		try {
+			return redisObjectMapper.writeValueAsBytes(item);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("장바구니 아이템을 JSON으로 변환할 수 없습니다.", e);
+		}
+	}
+
+	@Override
+	public RedisCartItem decode(byte[] value) {
+		try {
+			return redisObjectMapper.readValue(value, RedisCartItem.class);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("JSON 장바구니 아이템을 읽을 수 없습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package app.domain.cart.codec;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 쓰기는 바이너리로 하고, 읽기는 첫 바이트로 포맷을 판별해 JSON 과 바이너리를 모두 지원한다.
+ * JSON 값은 항상 '{' 로 시작하고 바이너리 값은 버전 바이트로 시작하므로 두 포맷이 겹치지 않는다.
+ */
+@RequiredArgsConstructor
+public class MigratingCartValueCodec implements CartValueCodec {
+
+	private static final byte JSON_OBJECT_START = '{';
+
+	private final JsonCartValueCodec jsonCodec;
+	private final BinaryCartValueCodec binaryCodec;
+
+	@Override
+	public byte[] encode(RedisCartItem item) {
+		return binaryCodec.encode(item);
+	}
+
+	@Override
+	public RedisCartItem decode(byte[] value) {
+		if (value != null && value.length > 0 && value[0] == JSON_OBJECT_START) {
+			return jsonCodec.decode(value);
+		}
+		return binaryCodec.decode(value);
+	}
+}
@@ -1,9 +1,13 @@
 package app.domain.cart.model.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.cart.model.entity.CartItem;
@@ -13,4 +17,8 @@ public interface CartItemRepository extends JpaRepository<CartItem, UUID> {
 	List<CartItem> findByCart_CartId(UUID cartId);
 
 	void deleteByCart_CartId(UUID cartId);
-}
\ No newline at end of file
+
+	@Modifying
+	@Query("DELETE FROM CartItem ci WHERE ci.cart.cartId IN :cartIds")
+	int deleteAllByCartIdIn(@Param("cartIds") Collection<UUID> cartIds);
+}
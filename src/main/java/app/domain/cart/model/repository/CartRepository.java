@@ -1,9 +1,13 @@
 package app.domain.cart.model.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.cart.model.entity.Cart;
@@ -11,4 +15,7 @@ import app.domain.cart.model.entity.Cart;
 @Repository
 public interface CartRepository extends JpaRepository<Cart, UUID> {
 	Optional<Cart> findByUser_UserId(Long userId);
-}
\ No newline at end of file
+
+	@Query("SELECT c FROM Cart c JOIN FETCH c.user u WHERE u.userId IN :userIds")
+	List<Cart> findAllWithUserByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,198 @@
+package app.domain.cart.service;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 장바구니 Redis 조작을 한 번의 왕복으로 처리하기 위한 Lua 스크립트 모음
+ * 변경 스크립트는 KEYS[2] 로 변경 장바구니 집합이 주어지면 장바구니 키를 함께 등록한다.
+ */
+final class CartRedisScripts {
+
+	/**
+	 * 아이템 값 해석 함수
+	 * '{' 로 시작하면 JSON, 그 외에는 BinaryCartValueCodec 포맷
+	 * (버전 1byte, menuId 2~17, storeId 18~33, quantity varint 34~)
+	 */
+	private static final String VALUE_FUNCTIONS =
+		"local function isJson(v) "
+			+ "  return string.byte(v, 1) == 123 "
+			+ "end "
+			+ "local function readVarint(v, pos) "
+			+ "  local result, multiplier = 0, 1 "
+			+ "  while true do "
+			+ "    local b = string.byte(v, pos) "
+			+ "    result = result + (b % 128) * multiplier "
+			+ "    if b < 128 then return result end "
+			+ "    multiplier = multiplier * 128 "
+			+ "    pos = pos + 1 "
+			+ "  end "
+			+ "end "
+			+ "local function writeVarint(n) "
+			+ "  local out = {} "
+			+ "  repeat "
+			+ "    local b = n % 128 "
+			+ "    n = math.floor(n / 128) "
+			+ "    if n > 0 then b = b + 128 end "
+			+ "    out[#out + 1] = string.char(b) "
+			+ "  until n == 0 "
+			+ "  return table.concat(out) "
+			+ "end "
+			+ "local function sameStore(v, storeText, storeRaw) "
+			+ "  if isJson(v) then return cjson.decode(v)['storeId'] == storeText end "
+			+ "  return string.sub(v, 18, 33) == storeRaw "
+			+ "end "
+			+ "local function quantityOf(v) "
+			+ "  if isJson(v) then return cjson.decode(v)['quantity'] end "
+			+ "  return readVarint(v, 34) "
+			+ "end "
+			+ "local function withQuantity(v, quantity) "
+			+ "  if isJson(v) then "
+			+ "    local item = cjson.decode(v) "
+			+ "    item['quantity'] = quantity "
+			+ "    return cjson.encode(item) "
+			+ "  end "
+			+ "  return string.sub(v, 1, 33) .. writeVarint(quantity) "
+			+ "end ";
+
+	/**
+	 * 장바구니 해시 전체를 교체한다.
+	 * KEYS[1] = 장바구니 키, ARGV[1] = TTL(초), ARGV[2..] = (menuId, value) 쌍
+	 * 아이템이 없으면 빈 문자열 센티널을 저장한다.
+	 */
+	static final RedisScript<Long> REPLACE_CART = new DefaultRedisScript<>(
+		"redis.call('DEL', KEYS[1]) "
+			+ "if #ARGV < 2 then "
+			+ "  redis.call('SET', KEYS[1], '') "
+			+ "else "
+			+ "  for i = 2, #ARGV, 2 do "
+			+ "    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) "
+			+ "  end "
+			+ "end "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+			+ "if #KEYS > 1 then "
+			+ "  redis.call('SADD', KEYS[2], KEYS[1]) "
+			+ "end "
+			+ "return 1",
+		Long.class);
+
+	/**
+	 * 장바구니에 아이템 수량을 증분 반영한다.
+	 * KEYS[1] = 장바구니 키, ARGV[1] = TTL(초), ARGV[2] = menuId, ARGV[3] = storeId(문자열),
+	 * ARGV[4] = 증분 수량, ARGV[5] = 신규 아이템 값, ARGV[6] = storeId(16byte)
+	 * 다른 매장의 아이템이 담겨 있으면 장바구니를 초기화한 뒤 추가한다.
+	 * 기존 값은 저장된 포맷을 유지한 채 수량만 갱신하며, 반영 후 해당 메뉴의 수량을 반환한다.
+	 */
+	static final RedisScript<Long> ADD_ITEM = new DefaultRedisScript<>(
+		VALUE_FUNCTIONS
+			+ "local keyType = redis.call('TYPE', KEYS[1])['ok'] "
+			+ "if keyType == 'string' then "
+			+ "  redis.call('DEL', KEYS[1]) "
+			+ "elseif keyType == 'hash' then "
+			+ "  local sampleField = redis.call('HRANDFIELD', KEYS[1]) "
+			+ "  if sampleField and not sameStore(redis.call('HGET', KEYS[1], sampleField), ARGV[3], ARGV[6]) then "
+			+ "    redis.call('DEL', KEYS[1]) "
+			+ "  end "
+			+ "end "
+			+ "local quantity = tonumber(ARGV[4]) "
+			+ "local current = redis.call('HGET', KEYS[1], ARGV[2]) "
+			+ "if current then "
+			+ "  quantity = quantityOf(current) + quantity "
+			+ "  redis.call('HSET', KEYS[1], ARGV[2], withQuantity(current, quantity)) "
+			+ "else "
+			+ "  redis.call('HSET', KEYS[1], ARGV[2], ARGV[5]) "
+			+ "end "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+			+ "if #KEYS > 1 then "
+			+ "  redis.call('SADD', KEYS[2], KEYS[1]) "
+			+ "end "
+			+ "return quantity",
+		Long.class);
+
+	/**
+	 * 장바구니에 담긴 아이템의 수량을 지정한 값으로 변경한다.
+	 * KEYS[1] = 장바구니 키, ARGV[1] = TTL(초), ARGV[2] = menuId, ARGV[3] = 변경할 수량
+	 * 아이템이 없으면 아무것도 변경하지 않고 0을 반환한다.
+	 */
+	static final RedisScript<Long> SET_QUANTITY = new DefaultRedisScript<>(
+		VALUE_FUNCTIONS
+			+ "if redis.call('TYPE', KEYS[1])['ok'] ~= 'hash' then "
+			+ "  return 0 "
+			+ "end "
+			+ "local current = redis.call('HGET', KEYS[1], ARGV[2]) "
+			+ "if not current then "
+			+ "  return 0 "
+			+ "end "
+			+ "redis.call('HSET', KEYS[1], ARGV[2], withQuantity(current, tonumber(ARGV[3]))) "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+			+ "if #KEYS > 1 then "
+			+ "  redis.call('SADD', KEYS[2], KEYS[1]) "
+			+ "end "
+			+ "return 1",
+		Long.class);
+
+	/**
+	 * 장바구니에서 아이템 하나를 삭제한다.
+	 * KEYS[1] = 장바구니 키, ARGV[1] = TTL(초), ARGV[2] = menuId
+	 * 마지막 아이템이 삭제되면 빈 문자열 센티널로 교체한다.
+	 */
+	static final RedisScript<Long> REMOVE_ITEM = new DefaultRedisScript<>(
+		"local keyType = redis.call('TYPE', KEYS[1])['ok'] "
+			+ "if keyType == 'none' then "
+			+ "  return 0 "
+			+ "end "
+			+ "if keyType == 'hash' then "
+			+ "  redis.call('HDEL', KEYS[1], ARGV[2]) "
+			+ "  if redis.call('HLEN', KEYS[1]) == 0 then "
+			+ "    redis.call('SET', KEYS[1], '') "
+			+ "  end "
+			+ "end "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+			+ "if #KEYS > 1 then "
+			+ "  redis.call('SADD', KEYS[2], KEYS[1]) "
+			+ "end "
+			+ "return 1",
+		Long.class);
+
+	/**
+	 * 변경 장바구니 집합을 처리 중 집합으로 옮긴다.
+	 * KEYS[1] = 변경 장바구니 집합, KEYS[2] = 처리 중 집합
+	 * 이전 실행에서 처리하지 못한 처리 중 집합이 남아 있으면 그것부터 이어서 처리한다.
+	 */
+	static final RedisScript<Long> BEGIN_DRAIN = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[2]) == 1 then "
+			+ "  return 1 "
+			+ "end "
+			+ "if redis.call('EXISTS', KEYS[1]) == 1 then "
+			+ "  redis.call('RENAME', KEYS[1], KEYS[2]) "
+			+ "  return 1 "
+			+ "end "
+			+ "return 0",
+		Long.class);
+
+	/**
+	 * 여러 장바구니를 한 번에 조회한다.
+	 * KEYS = 장바구니 키 목록
+	 * 키별로 아이템 값 목록을 반환하며, 빈 장바구니는 빈 목록, 만료된 장바구니는 0 을 반환한다.
+	 */
+	@SuppressWarnings("rawtypes")
+	static final RedisScript<List> READ_CARTS = new DefaultRedisScript<>(
+		"local result = {} "
+			+ "for i, key in ipairs(KEYS) do "
+			+ "  local keyType = redis.call('TYPE', key)['ok'] "
+			+ "  if keyType == 'hash' then "
+			+ "    result[i] = redis.call('HVALS', key) "
+			+ "  elseif keyType == 'string' then "
+			+ "    result[i] = {} "
+			+ "  else "
+			+ "    result[i] = 0 "
+			+ "  end "
+			+ "end "
+			+ "return result",
+		List.class);
+
+	private CartRedisScripts() {
+	}
+}
@@ -1,23 +1,49 @@
 package app.domain.cart.service;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import app.domain.cart.model.dto.RedisCartItem;
 
 public interface CartRedisService {
+	/**
+	 * DB 에서 읽은 장바구니로 캐시를 채운다. DB 와 이미 같은 상태이므로 동기화 대상으로 등록하지 않는다.
+	 */
 	String saveCartToRedis(Long userId, List<RedisCartItem> cartItems);
 
 	List<RedisCartItem> getCartFromRedis(Long userId);
 
+	/**
+	 * 여러 사용자의 장바구니를 한 번에 조회한다. 만료된 장바구니는 결과에서 제외된다.
+	 */
+	Map<Long, List<RedisCartItem>> getCartsFromRedis(List<Long> userIds);
+
+	String addCartItem(Long userId, RedisCartItem cartItem);
+
+	String updateCartItemQuantity(Long userId, UUID menuId, int quantity);
+
 	String removeCartItem(Long userId, UUID menuId);
 
 	String clearCartItems(Long userId);
 
 	boolean existsCartInRedis(Long userId);
 
-	Set<String> getAllCartKeys();
-
 	Long extractUserIdFromKey(String key);
+
+	/**
+	 * 변경 장바구니 집합을 처리 중 상태로 전환한다. 처리할 장바구니가 없으면 false 를 반환한다.
+	 */
+	boolean beginDirtyCartDrain();
+
+	/**
+	 * 처리 중 집합을 커서로 순회하며 batchSize 단위로 사용자 ID 목록을 전달한다.
+	 */
+	void scanDrainingCarts(int batchSize, Consumer<List<Long>> chunkHandler);
+
+	void finishDirtyCartDrain();
+
+	void markCartsDirty(Collection<Long> userIds);
 }
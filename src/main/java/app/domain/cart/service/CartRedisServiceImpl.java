@@ -1,18 +1,23 @@
 package app.domain.cart.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import app.domain.cart.codec.BinaryCartValueCodec;
+import app.domain.cart.codec.CartValueCodec;
 import app.domain.cart.model.dto.RedisCartItem;
 import app.domain.cart.status.CartErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -23,47 +28,52 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class CartRedisServiceImpl implements CartRedisService {
-	private final RedisTemplate<String, String> redisTemplate;
-	private final ObjectMapper redisObjectMapper;
+	private final RedisTemplate<String, byte[]> cartRedisTemplate;
+	private final CartValueCodec cartValueCodec;
 	private static final Duration CART_TTL = Duration.ofMinutes(30);
+	private static final String DIRTY_CARTS_KEY = "cart-sync:dirty";
+	private static final String DRAINING_CARTS_KEY = "cart-sync:draining";
 
 	@Override
 	public String saveCartToRedis(Long userId, List<RedisCartItem> cartItems) {
 		try {
-			String key = "cart:" + userId;
-			redisTemplate.delete(key);
-
-			for (RedisCartItem item : cartItems) {
-				String itemJson = redisObjectMapper.writeValueAsString(item);
-				redisTemplate.opsForHash().put(key, item.getMenuId().toString(), itemJson);
-			}
-
-			if (cartItems.isEmpty()) {
-				redisTemplate.opsForValue().set(key, "");
-			}
-
-			redisTemplate.expire(key, CART_TTL);
+			replaceCart(userId, cartItems, false);
 			return "사용자 " + userId + "의 장바구니가 성공적으로 저장되었습니다.";
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
 		}
 	}
 
+	private void replaceCart(Long userId, List<RedisCartItem> cartItems, boolean markDirty) {
+		String key = "cart:" + userId;
+
+		Object[] args = new Object[1 + cartItems.size() * 2];
+		args[0] = ttlArg();
+		int index = 1;
+		for (RedisCartItem item : cartItems) {
+			args[index++] = toArg(item.getMenuId().toString());
+			args[index++] = cartValueCodec.encode(item);
+		}
+
+		List<String> keys = markDirty ? List.of(key, DIRTY_CARTS_KEY) : List.of(key);
+		cartRedisTemplate.execute(CartRedisScripts.REPLACE_CART, keys, args);
+	}
+
 	@Override
 	public List<RedisCartItem> getCartFromRedis(Long userId) {
 		try {
 			String key = "cart:" + userId;
 
-			String keyType = redisTemplate.type(key).code();
+			String keyType = cartRedisTemplate.type(key).code();
 			if ("string".equals(keyType)) {
 				return new ArrayList<>();
 			}
 
-			return redisTemplate.opsForHash().values(key).stream()
+			return cartRedisTemplate.opsForHash().values(key).stream()
 				.map(value -> {
 					try {
-						return redisObjectMapper.readValue((String)value, RedisCartItem.class);
-					} catch (JsonProcessingException e) {
+						return cartValueCodec.decode((byte[])value);
+					} catch (IllegalArgumentException e) {
 						throw new GeneralException(CartErrorStatus.CART_ITEM_PARSE_FAILED);
 					}
 				})
@@ -75,10 +85,40 @@ public class CartRedisServiceImpl implements CartRedisService {
 		}
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<Long, List<RedisCartItem>> getCartsFromRedis(List<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return Map.of();
+		}
+
+		try {
+			List<String> keys = userIds.stream().map(userId -> "cart:" + userId).toList();
+			List<Object> results = cartRedisTemplate.execute(CartRedisScripts.READ_CARTS, keys);
+
+			Map<Long, List<RedisCartItem>> carts = new HashMap<>();
+			for (int i = 0; i < userIds.size(); i++) {
+				if (!(results.get(i) instanceof List<?> values)) {
+					continue;
+				}
+				List<RedisCartItem> items = new ArrayList<>(values.size());
+				for (Object value : values) {
+					items.add(cartValueCodec.decode((byte[])value));
+				}
+				carts.put(userIds.get(i), items);
+			}
+			return carts;
+		} catch (IllegalArgumentException e) {
+			throw new GeneralException(CartErrorStatus.CART_ITEM_PARSE_FAILED);
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
+		}
+	}
+
 	@Override
 	public String clearCartItems(Long userId) {
 		try {
-			saveCartToRedis(userId, List.of());
+			replaceCart(userId, List.of(), true);
 			return "사용자 " + userId + "의 장바구니가 성공적으로 비워졌습니다.";
 		} catch (GeneralException e) {
 			throw e;
@@ -88,28 +128,43 @@ public class CartRedisServiceImpl implements CartRedisService {
 	}
 
 	@Override
-	public String removeCartItem(Long userId, UUID menuId) {
+	public String addCartItem(Long userId, RedisCartItem cartItem) {
 		try {
 			String key = "cart:" + userId;
+			cartRedisTemplate.execute(CartRedisScripts.ADD_ITEM, List.of(key, DIRTY_CARTS_KEY),
+				ttlArg(),
+				toArg(cartItem.getMenuId().toString()),
+				toArg(cartItem.getStoreId().toString()),
+				toArg(String.valueOf(cartItem.getQuantity())),
+				cartValueCodec.encode(cartItem),
+				BinaryCartValueCodec.encodeUuid(cartItem.getStoreId()));
+			return "사용자 " + userId + "의 장바구니에 메뉴 " + cartItem.getMenuId() + "가 성공적으로 추가되었습니다.";
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
+		}
+	}
 
-			if (!redisTemplate.hasKey(key)) {
-				return "사용자 " + userId + "의 장바구니에서 메뉴 " + menuId + "가 성공적으로 삭제되었습니다.";
-			}
-
-			String keyType = redisTemplate.type(key).code();
-			if ("string".equals(keyType)) {
-				redisTemplate.expire(key, CART_TTL);
-				return "사용자 " + userId + "의 장바구니에서 메뉴 " + menuId + "가 성공적으로 삭제되었습니다.";
-			}
-
-			Long hashSize = redisTemplate.opsForHash().size(key);
-			redisTemplate.opsForHash().delete(key, menuId.toString());
-
-			if (hashSize == 1) {
-				redisTemplate.opsForValue().set(key, "");
-			}
+	@Override
+	public String updateCartItemQuantity(Long userId, UUID menuId, int quantity) {
+		try {
+			String key = "cart:" + userId;
+			cartRedisTemplate.execute(CartRedisScripts.SET_QUANTITY, List.of(key, DIRTY_CARTS_KEY),
+				ttlArg(),
+				toArg(menuId.toString()),
+				toArg(String.valueOf(quantity)));
+			return "사용자 " + userId + "의 장바구니에서 메뉴 " + menuId + "의 수량이 성공적으로 변경되었습니다.";
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
+		}
+	}
 
-			redisTemplate.expire(key, CART_TTL);
+	@Override
+	public String removeCartItem(Long userId, UUID menuId) {
+		try {
+			String key = "cart:" + userId;
+			cartRedisTemplate.execute(CartRedisScripts.REMOVE_ITEM, List.of(key, DIRTY_CARTS_KEY),
+				ttlArg(),
+				toArg(menuId.toString()));
 			return "사용자 " + userId + "의 장바구니에서 메뉴 " + menuId + "가 성공적으로 삭제되었습니다.";
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
@@ -120,28 +175,85 @@ public class CartRedisServiceImpl implements CartRedisService {
 	public boolean existsCartInRedis(Long userId) {
 		try {
 			String key = "cart:" + userId;
-			return redisTemplate.hasKey(key);
+			return cartRedisTemplate.hasKey(key);
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
 		}
 	}
 
 	@Override
-	public Set<String> getAllCartKeys() {
+	public Long extractUserIdFromKey(String key) {
 		try {
-			return redisTemplate.keys("cart:*");
+			return Long.parseLong(key.substring(5));
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.INVALID_KEY_EXTRACT_FAILED);
+		}
+
+	}
+
+	@Override
+	public boolean beginDirtyCartDrain() {
+		try {
+			Long started = cartRedisTemplate.execute(CartRedisScripts.BEGIN_DRAIN,
+				List.of(DIRTY_CARTS_KEY, DRAINING_CARTS_KEY));
+			return started != null && started == 1L;
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
 		}
 	}
 
 	@Override
-	public Long extractUserIdFromKey(String key) {
+	public void scanDrainingCarts(int batchSize, Consumer<List<Long>> chunkHandler) {
+		ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+		List<Long> chunk = new ArrayList<>(batchSize);
+		try (Cursor<byte[]> cursor = cartRedisTemplate.opsForSet().scan(DRAINING_CARTS_KEY, options)) {
+			while (cursor.hasNext()) {
+				chunk.add(extractUserIdFromKey(new String(cursor.next(), StandardCharsets.UTF_8)));
+				if (chunk.size() >= batchSize) {
+					chunkHandler.accept(chunk);
+					chunk = new ArrayList<>(batchSize);
+				}
+			}
+		} catch (GeneralException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
+		}
+		if (!chunk.isEmpty()) {
+			chunkHandler.accept(chunk);
+		}
+	}
+
+	@Override
+	public void finishDirtyCartDrain() {
 		try {
-			return Long.parseLong(key.substring(5));
+			cartRedisTemplate.delete(DRAINING_CARTS_KEY);
 		} catch (Exception e) {
-			throw new GeneralException(CartErrorStatus.INVALID_KEY_EXTRACT_FAILED);
+			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
+		}
+	}
+
+	@Override
+	public void markCartsDirty(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+
+		try {
+			byte[][] members = userIds.stream()
+				.map(userId -> toArg("cart:" + userId))
+				.toArray(byte[][]::new);
+			cartRedisTemplate.opsForSet().add(DIRTY_CARTS_KEY, members);
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
 		}
+	}
+
+	private static byte[] ttlArg() {
+		return toArg(String.valueOf(CART_TTL.toSeconds()));
+	}
 
+	private static byte[] toArg(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
 	}
 }
@@ -0,0 +1,137 @@
+package app.domain.cart.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.model.entity.Cart;
+import app.domain.cart.model.repository.CartItemRepository;
+import app.domain.cart.model.repository.CartRepository;
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.repository.MenuRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 장바구니 write-behind 동기화
+ * 변경된 장바구니 집합만 커서로 순회하며 batchSize 단위 청크를 parallelism 개의 스레드로 DB 에 반영한다.
+ * 실패한 청크는 다음 실행에서 다시 처리되도록 변경 집합에 되돌린다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CartSyncService {
+
+	private static final String INSERT_CART_ITEM_SQL =
+		"INSERT INTO p_cart_item (cart_item_id, cart_id, menu_id, store_id, quantity, created_at, updated_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	private final CartRedisService cartRedisService;
+	private final CartRepository cartRepository;
+	private final CartItemRepository cartItemRepository;
+	private final MenuRepository menuRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${cart.sync.parallelism:4}")
+	private int parallelism;
+
+	@Value("${cart.sync.batch-size:500}")
+	private int batchSize;
+
+	@Scheduled(initialDelay = 900000, fixedRate = 900000)
+	public String syncDirtyCartsToDb() {
+		if (!cartRedisService.beginDirtyCartDrain()) {
+			return "동기화할 장바구니가 없습니다.";
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		List<Future<Integer>> futures = new ArrayList<>();
+		int successCount = 0;
+		try {
+			cartRedisService.scanDrainingCarts(batchSize,
+				chunk -> futures.add(executor.submit(() -> syncChunkOrRequeue(chunk))));
+
+			for (Future<Integer> future : futures) {
+				successCount += future.get();
+			}
+			cartRedisService.finishDirtyCartDrain();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("장바구니 동기화가 중단되었습니다. 남은 장바구니는 다음 실행에서 처리됩니다.");
+		} catch (ExecutionException e) {
+			log.error("장바구니 동기화 중 오류가 발생했습니다.", e.getCause());
+		} finally {
+			executor.shutdown();
+		}
+		return "변경 장바구니 동기화 완료 - 성공: " + successCount;
+	}
+
+	private int syncChunkOrRequeue(List<Long> userIds) {
+		try {
+			return syncChunk(userIds);
+		} catch (Exception e) {
+			log.error("장바구니 청크 동기화 실패 - 사용자 수: {}", userIds.size(), e);
+			cartRedisService.markCartsDirty(userIds);
+			return 0;
+		}
+	}
+
+	int syncChunk(List<Long> userIds) {
+		Map<Long, List<RedisCartItem>> redisCarts = cartRedisService.getCartsFromRedis(userIds);
+		if (redisCarts.isEmpty()) {
+			return 0;
+		}
+
+		Integer synced = transactionTemplate.execute(status -> {
+			List<Cart> carts = cartRepository.findAllWithUserByUserIdIn(redisCarts.keySet());
+			if (carts.isEmpty()) {
+				return 0;
+			}
+
+			cartItemRepository.deleteAllByCartIdIn(carts.stream().map(Cart::getCartId).toList());
+
+			Set<UUID> menuIds = redisCarts.values().stream()
+				.flatMap(List::stream)
+				.map(RedisCartItem::getMenuId)
+				.collect(Collectors.toSet());
+			Map<UUID, UUID> storeIdByMenuId = menuRepository.findAllById(menuIds).stream()
+				.collect(Collectors.toMap(Menu::getMenuId, menu -> menu.getStore().getStoreId()));
+
+			Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+			List<Object[]> rows = new ArrayList<>();
+			for (Cart cart : carts) {
+				for (RedisCartItem item : redisCarts.get(cart.getUser().getUserId())) {
+					UUID storeId = storeIdByMenuId.get(item.getMenuId());
+					if (storeId == null) {
+						continue;
+					}
+					rows.add(new Object[] {UUID.randomUUID(), cart.getCartId(), item.getMenuId(), storeId,
+						item.getQuantity(), now, now});
+				}
+			}
+
+			for (int from = 0; from < rows.size(); from += batchSize) {
+				jdbcTemplate.batchUpdate(INSERT_CART_ITEM_SQL, rows.subList(from, Math.min(from + batchSize, rows.size())));
+			}
+			return carts.size();
+		});
+		return synced == null ? 0 : synced;
+	}
+}
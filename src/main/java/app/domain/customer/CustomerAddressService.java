@@ -27,10 +27,10 @@ public class CustomerAddressService {
 	@Transactional(readOnly = true)
 	// @PreAuthorize("hasAuthority('CUSTOMER')")
 	public List<GetCustomerAddressListResponse> getCustomerAddresses() throws GeneralException {
-		User user = securityUtil.getCurrentUser();
+		Long userId = securityUtil.getCurrentPrincipal().userId();
 
 		try {
-			return userAddressRepository.findAllByUserUserId(user.getUserId())
+			return userAddressRepository.findAllByUserUserId(userId)
 					.stream()
 					.map(GetCustomerAddressListResponse::from)
 					.toList();
@@ -1,7 +1,7 @@
 package app.domain.customer;
 
-import java.util.List;
-
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.RestController;
 import app.domain.customer.dto.response.CustomerOrderResponse;
 import app.domain.customer.status.CustomerSuccessStatus;
 import app.global.apiPayload.ApiResponse;
+import app.global.apiPayload.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -23,11 +24,12 @@ public class CustomerOrderController {
 
 	private final CustomerOrderService customerOrderService;
 
-	@Operation(summary = "고객 주문 내역 조회 API", description = "자신의 모든 주문 내역을 조회합니다.")
+	@Operation(summary = "고객 주문 내역 조회 API", description = "자신의 주문 내역을 최신 주문순으로 페이지 별로 조회합니다.")
 	@GetMapping
-	public ApiResponse<List<CustomerOrderResponse>> getCustomerOrders(
-		@AuthenticationPrincipal UserDetails principal
+	public ApiResponse<PagedResponse<CustomerOrderResponse>> getCustomerOrders(
+		@AuthenticationPrincipal UserDetails principal,
+		@PageableDefault(size = 20) Pageable pageable
 	) {
-		return ApiResponse.onSuccess(CustomerSuccessStatus.CUSTOMER_OK, customerOrderService.getCustomerOrders());
+		return ApiResponse.onSuccess(CustomerSuccessStatus.CUSTOMER_OK, customerOrderService.getCustomerOrders(pageable));
 	}
 }
\ No newline at end of file
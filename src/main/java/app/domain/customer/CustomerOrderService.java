@@ -1,18 +1,24 @@
 package app.domain.customer;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.UUID;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import app.domain.customer.dto.response.CustomerOrderResponse;
 import app.domain.customer.status.CustomerErrorStatus;
+import app.domain.order.model.dto.response.OrderStatusHistoryResponse;
+import app.domain.order.model.entity.OrderStatusEvent;
 import app.domain.order.model.repository.OrdersRepository;
-import app.domain.order.model.entity.Orders;
+import app.domain.order.service.OrderStatusHistoryService;
 import app.domain.user.model.UserRepository;
-import app.domain.user.model.entity.User;
 import app.global.SecurityUtil;
+import app.global.apiPayload.PagedResponse;
 import app.global.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 
@@ -23,17 +29,28 @@ public class CustomerOrderService {
 	private final OrdersRepository ordersRepository;
 	private final UserRepository userRepository;
 	private final SecurityUtil securityUtil;
+	private final OrderStatusHistoryService orderStatusHistoryService;
 
+	/**
+	 * 주문 내역은 최신 주문순으로 고정 정렬하며, 페이지에 필요한 컬럼만 DTO 로 조회한다.
+	 * 상태 이력은 해당 페이지의 주문에 대해서만 한 번에 조회한다.
+	 */
 	@Transactional(readOnly = true)
-	public List<CustomerOrderResponse> getCustomerOrders() {
-		User user = securityUtil.getCurrentUser();
-		List<Orders> orders = ordersRepository.findByUser(user);
-		if (orders.isEmpty()) {
+	public PagedResponse<CustomerOrderResponse> getCustomerOrders(Pageable pageable) {
+		Long userId = securityUtil.getCurrentPrincipal().userId();
+		Page<CustomerOrderResponse> orders = ordersRepository.findCustomerOrderPage(userId,
+			PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+		if (orders.getTotalElements() == 0) {
 			throw new GeneralException(CustomerErrorStatus.CUSTOMER_ORDER_NOT_FOUND);
 		}
-		return orders.stream()
-			.map(CustomerOrderResponse::of)
-			.collect(Collectors.toList());
-
+		if (orders.hasContent()) {
+			Map<UUID, List<OrderStatusEvent>> histories = orderStatusHistoryService.getHistories(
+				orders.getContent().stream().map(CustomerOrderResponse::getOrdersId).toList());
+			orders.forEach(order -> order.setOrderHistory(
+				histories.getOrDefault(order.getOrdersId(), List.of()).stream()
+					.map(OrderStatusHistoryResponse::from)
+					.toList()));
+		}
+		return PagedResponse.from(orders);
 	}
-}
\ No newline at end of file
+}
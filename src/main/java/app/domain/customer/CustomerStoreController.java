@@ -11,6 +11,7 @@ import app.domain.customer.dto.response.GetCustomerStoreDetailResponse;
 import app.domain.customer.dto.response.GetStoreListResponse;
 import app.domain.customer.status.CustomerSuccessStatus;
 import app.global.apiPayload.ApiResponse;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -36,6 +37,20 @@ public class CustomerStoreController {
 	}
 
 
+	@GetMapping("/scroll")
+	@Operation(
+		summary = "승인이 허용된 가게 목록 커서 조회",
+		description = "최신 등록순으로 가게 목록을 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회하며, "
+			+ "includeTotal 이 true 인 경우에만 전체 개수를 계산합니다.")
+	public ApiResponse<CursorResponse<GetStoreListResponse>> scrollApprovedStoreList(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size,
+		@RequestParam(defaultValue = "false") boolean includeTotal) {
+		return ApiResponse.onSuccess(CustomerSuccessStatus.CUSTOMER_GET_STORE_LIST_OK,
+			customerStoreService.scrollApprovedStores(null, cursor, size, includeTotal));
+	}
+
+
 	@GetMapping("/{storeId}")
 	@Operation(
 		summary = "승인이 허용된 가게 상세 조회",
@@ -56,4 +71,18 @@ public class CustomerStoreController {
 		return ApiResponse.onSuccess(CustomerSuccessStatus.CUSTOMER_SEARCH_STORE_OK,
 			customerStoreService.searchApproveStores(keyword, pageable));
 	}
+
+
+	@GetMapping("/search/scroll")
+	@Operation(
+		summary = "가게 목록 커서 검색",
+		description = "가게를 키워드에 따라 최신 등록순으로 검색합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+	public ApiResponse<CursorResponse<GetStoreListResponse>> scrollSearchApprovedStore(
+		@RequestParam String keyword,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "10") int size,
+		@RequestParam(defaultValue = "false") boolean includeTotal) {
+		return ApiResponse.onSuccess(CustomerSuccessStatus.CUSTOMER_SEARCH_STORE_OK,
+			customerStoreService.scrollApprovedStores(keyword, cursor, size, includeTotal));
+	}
 }
\ No newline at end of file
@@ -6,11 +6,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import app.domain.customer.dto.response.GetCustomerStoreDetailResponse;
 import app.domain.customer.dto.response.GetStoreListResponse;
-import app.domain.review.model.ReviewRepository;
 import app.domain.store.model.StoreQueryRepository;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
 import app.domain.store.status.StoreAcceptStatus;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.PagedResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -20,9 +20,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CustomerStoreService {
 
+	private static final int MAX_SCROLL_SIZE = 100;
+
 	private final StoreRepository storeRepository;
 	private final StoreQueryRepository storeQueryRepository;
-	private final ReviewRepository reviewRepository;
 
 	@Transactional(readOnly = true)
 	public PagedResponse<GetStoreListResponse> getApprovedStore(Pageable pageable) {
@@ -32,12 +33,18 @@ public class CustomerStoreService {
 	public GetCustomerStoreDetailResponse getApproveStoreDetail(UUID storeId) {
 		Store store = storeRepository.findByStoreIdAndStoreAcceptStatusAndDeletedAtIsNull(storeId, StoreAcceptStatus.APPROVE)
 			.orElseThrow(() -> new GeneralException(ErrorStatus.STORE_NOT_FOUND));
-		Double avgRating = reviewRepository.getAverageRatingByStore(storeId);
-		return GetCustomerStoreDetailResponse.from(store, avgRating != null ? avgRating : 0.0);
+		return GetCustomerStoreDetailResponse.from(store, store.getAverageRating());
 	}
 
 	@Transactional(readOnly = true)
 	public PagedResponse<GetStoreListResponse> searchApproveStores(String keyword, Pageable pageable) {
 		return storeQueryRepository.searchStoresWithAvgRating(keyword, StoreAcceptStatus.APPROVE, pageable);
 	}
+
+	@Transactional(readOnly = true)
+	public CursorResponse<GetStoreListResponse> scrollApprovedStores(String keyword, String cursor, int size,
+		boolean includeTotal) {
+		int pageSize = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+		return storeQueryRepository.scrollStores(keyword, StoreAcceptStatus.APPROVE, cursor, pageSize, includeTotal);
+	}
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package app.domain.customer.dto.response;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import app.domain.order.model.dto.response.OrderStatusHistoryResponse;
 import app.domain.order.model.entity.Orders;
 import app.domain.order.model.entity.enums.OrderChannel;
 import app.domain.order.model.entity.enums.OrderStatus;
@@ -19,14 +21,14 @@ public class CustomerOrderResponse {
     private ReceiptMethod receiptMethod;
     private OrderStatus orderStatus;
     private boolean isRefundable;
-    private String orderHistory;
+    private List<OrderStatusHistoryResponse> orderHistory;
     private String requestMessage;
     private LocalDateTime createdAt;
 
     public CustomerOrderResponse() {
     }
 
-    public CustomerOrderResponse(UUID ordersId, String storeName, Long totalPrice, String deliveryAddress, PaymentMethod paymentMethod, OrderChannel orderChannel, ReceiptMethod receiptMethod, OrderStatus orderStatus, boolean isRefundable, String orderHistory, String requestMessage, LocalDateTime createdAt) {
+    public CustomerOrderResponse(UUID ordersId, String storeName, Long totalPrice, String deliveryAddress, PaymentMethod paymentMethod, OrderChannel orderChannel, ReceiptMethod receiptMethod, OrderStatus orderStatus, boolean isRefundable, List<OrderStatusHistoryResponse> orderHistory, String requestMessage, LocalDateTime createdAt) {
         this.ordersId = ordersId;
         this.storeName = storeName;
         this.totalPrice = totalPrice;
@@ -41,7 +43,14 @@ public class CustomerOrderResponse {
         this.createdAt = createdAt;
     }
 
-    public static CustomerOrderResponse of(Orders orders) {
+    /**
+     * OrdersRepository 의 DTO 조회용 생성자, 상태 이력은 조회 후 setOrderHistory 로 채운다.
+     */
+    public CustomerOrderResponse(UUID ordersId, String storeName, Long totalPrice, String deliveryAddress, PaymentMethod paymentMethod, OrderChannel orderChannel, ReceiptMethod receiptMethod, OrderStatus orderStatus, boolean isRefundable, String requestMessage, LocalDateTime createdAt) {
+        this(ordersId, storeName, totalPrice, deliveryAddress, paymentMethod, orderChannel, receiptMethod, orderStatus, isRefundable, List.of(), requestMessage, createdAt);
+    }
+
+    public static CustomerOrderResponse of(Orders orders, List<OrderStatusHistoryResponse> orderHistory) {
         return new CustomerOrderResponse(
             orders.getOrdersId(),
             orders.getStore().getStoreName(),
@@ -52,7 +61,7 @@ public class CustomerOrderResponse {
             orders.getReceiptMethod(),
             orders.getOrderStatus(),
             orders.isRefundable(),
-            orders.getOrderHistory(),
+            orderHistory,
             orders.getRequestMessage(),
             orders.getCreatedAt()
         );
@@ -130,11 +139,11 @@ public class CustomerOrderResponse {
         isRefundable = refundable;
     }
 
-    public String getOrderHistory() {
+    public List<OrderStatusHistoryResponse> getOrderHistory() {
         return orderHistory;
     }
 
-    public void setOrderHistory(String orderHistory) {
+    public void setOrderHistory(List<OrderStatusHistoryResponse> orderHistory) {
         this.orderHistory = orderHistory;
     }
 
@@ -12,6 +12,7 @@ import lombok.Getter;
 public enum CustomerErrorStatus implements BaseCode {
 
 	CUSTOMER_ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "CUSTOMER404", "유저에 대한 오더가 존재하지 않습니다."),
+	INVALID_STORE_CURSOR(HttpStatus.BAD_REQUEST, "CUSTOMER400", "유효하지 않은 가게 목록 커서입니다."),
 
 	ADDRESS_ALREADY_EXISTS(HttpStatus.CONFLICT, "ADDRESS_001", "이미 존재하는 주소입니다."),
 	ADDRESS_ADD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "ADDRESS_002", "주소 등록에 실패했습니다."),
@@ -1,6 +1,7 @@
 package app.domain.manager;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -13,13 +14,12 @@ import app.domain.manager.dto.response.GetCustomerListResponse;
 import app.domain.manager.dto.response.GetStoreDetailResponse;
 import app.domain.manager.dto.response.GetCustomerDetailResponse;
 import app.domain.customer.dto.response.GetStoreListResponse;
-import app.domain.order.model.repository.OrderItemRepository;
 import app.domain.order.model.repository.OrdersRepository;
 import app.domain.manager.status.ManagerErrorStatus;
 import app.domain.order.model.dto.response.OrderDetailResponse;
 import app.domain.order.model.entity.OrderItem;
 import app.domain.order.model.entity.Orders;
-import app.domain.review.model.ReviewRepository;
+import app.domain.order.service.OrderItemLoader;
 import app.domain.store.model.StoreQueryRepository;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
@@ -42,9 +42,8 @@ public class ManagerService {
 	private final UserQueryRepository userQueryRepository;
 	private final UserAddressRepository userAddressRepository;
 	private final OrdersRepository ordersRepository;
-	private final OrderItemRepository orderItemRepository;
+	private final OrderItemLoader orderItemLoader;
 	private final StoreRepository storeRepository;
-	private final ReviewRepository reviewRepository;
 	private final StoreQueryRepository storeQueryRepository;
 
 	@Transactional(readOnly = true)
@@ -72,10 +71,9 @@ public class ManagerService {
 
 		Page<Orders> ordersPage = ordersRepository.findAllByUserAndDeliveryAddressIsNotNull(user, pageable);
 
-		Page<OrderDetailResponse> mapped = ordersPage.map(order -> {
-			List<OrderItem> orderItems = orderItemRepository.findByOrders(order);
-			return OrderDetailResponse.from(order, orderItems);
-		});
+		Map<UUID, List<OrderItem>> orderItems = orderItemLoader.loadByOrders(ordersPage.getContent());
+		Page<OrderDetailResponse> mapped = ordersPage.map(order ->
+			OrderDetailResponse.from(order, orderItems.getOrDefault(order.getOrdersId(), List.of())));
 
 		return PagedResponse.from(mapped);
 	}
@@ -99,9 +97,7 @@ public class ManagerService {
 		Store store = storeRepository.findByStoreIdAndDeletedAtIsNull(storeId)
 			.orElseThrow(() -> new GeneralException(ErrorStatus.STORE_NOT_FOUND));
 
-		Double avgRating = reviewRepository.getAverageRatingByStore(storeId);
-
-		return GetStoreDetailResponse.from(store, avgRating != null ? avgRating : 0.0);
+		return GetStoreDetailResponse.from(store, store.getAverageRating());
 	}
 
 	@Transactional
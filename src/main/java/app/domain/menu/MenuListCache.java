@@ -0,0 +1,210 @@
+package app.domain.menu;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import app.domain.menu.model.dto.response.MenuListResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가게별 메뉴 목록 2단계 캐시 (로컬 Caffeine -> 공유 Redis -> DB)
+ * 메뉴 변경 시 커밋 이후 Redis 항목을 지우고 무효화 메시지를 발행해 모든 인스턴스의 로컬 항목을 제거한다.
+ * 메시지가 유실되더라도 로컬 항목은 local-ttl 이 지나면 만료된다.
+ * 무효화할 때마다 가게별 버전을 올리고, DB 조회 결과는 조회 전에 읽은 버전이 그대로일 때만 Redis 에 저장해
+ * 조회와 무효화가 겹쳐도 변경 전 목록이 다시 캐시되지 않는다.
+ */
+@Slf4j
+@Component
+public class MenuListCache implements MessageListener {
+
+	public static final String MENU_INVALIDATED_CHANNEL = "menu:invalidated";
+	static final String KEY_PREFIX = "menu:list:";
+	static final String VERSION_KEY_PREFIX = "menu:list:version:";
+	private static final String NO_VERSION = "0";
+
+	/**
+	 * KEYS[1] = 목록 키, KEYS[2] = 버전 키, ARGV[1] = 조회 전에 읽은 버전, ARGV[2] = 목록 JSON, ARGV[3] = TTL(초)
+	 * 그사이 무효화로 버전이 바뀌었으면 저장하지 않고 0 을 반환한다.
+	 */
+	private static final RedisScript<Long> FILL_IF_UNCHANGED = new DefaultRedisScript<>(
+		"if (redis.call('GET', KEYS[2]) or '" + NO_VERSION + "') ~= ARGV[1] then "
+			+ "  return 0 "
+			+ "end "
+			+ "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) "
+			+ "return 1",
+		Long.class);
+
+	/**
+	 * KEYS[1] = 목록 키, KEYS[2] = 버전 키, ARGV[1] = 버전 키 TTL(초)
+	 * 버전 키가 만료되면 진행 중이던 조회의 저장이 실패할 뿐이므로 목록 TTL 만큼만 유지한다.
+	 */
+	private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>(
+		"local version = redis.call('INCR', KEYS[2]) "
+			+ "redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+			+ "redis.call('DEL', KEYS[1]) "
+			+ "return version",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ObjectMapper objectMapper;
+	private final Cache<UUID, MenuListResponse> localCache;
+	private final Duration redisTtl;
+
+	private final LongAdder localHits = new LongAdder();
+	private final LongAdder redisHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public MenuListCache(RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer,
+		ObjectMapper objectMapper,
+		@Value("${menu.cache.local.maximum-size:10000}") long localMaximumSize,
+		@Value("${menu.cache.local.ttl-seconds:60}") long localTtlSeconds,
+		@Value("${menu.cache.redis.ttl-seconds:600}") long redisTtlSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.objectMapper = objectMapper;
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(localMaximumSize)
+			.expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+			.build();
+		this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(MENU_INVALIDATED_CHANNEL));
+	}
+
+	/**
+	 * 캐시에 없으면 loader 로 조회해 두 계층에 모두 저장한다. loader 가 던진 예외는 캐시하지 않고 그대로 전파한다.
+	 */
+	public MenuListResponse get(UUID storeId, Supplier<MenuListResponse> loader) {
+		MenuListResponse cached = localCache.getIfPresent(storeId);
+		if (cached != null) {
+			localHits.increment();
+			return cached;
+		}
+
+		RedisEntry entry = readRedis(storeId);
+		if (entry.value() != null) {
+			redisHits.increment();
+			localCache.put(storeId, entry.value());
+			return entry.value();
+		}
+
+		misses.increment();
+		MenuListResponse loaded = loader.get();
+		// 로컬에 먼저 넣고 Redis 저장이 거절되면 되돌린다. 저장 이후의 무효화는 이 항목을 지우므로 순서와 관계없이 남지 않는다
+		localCache.put(storeId, loaded);
+		if (entry.version() != null && !writeRedis(storeId, entry.version(), loaded)) {
+			localCache.invalidate(storeId);
+		}
+		return loaded;
+	}
+
+	/**
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 무효화해 커밋 전 데이터가 다시 캐시되지 않도록 한다.
+	 */
+	public void evict(UUID storeId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictNow(storeId);
+				}
+			});
+			return;
+		}
+		evictNow(storeId);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		localCache.invalidate(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+	}
+
+	public MenuCacheStats stats() {
+		return new MenuCacheStats(localHits.sum(), redisHits.sum(), misses.sum());
+	}
+
+	@Scheduled(initialDelayString = "${menu.cache.stats-log-interval-ms:300000}",
+		fixedDelayString = "${menu.cache.stats-log-interval-ms:300000}")
+	public void logStats() {
+		MenuCacheStats stats = stats();
+		log.info("메뉴 캐시 적중률 - 로컬: {}, Redis: {}, 미스: {}, 적중률: {}",
+			stats.localHits(), stats.redisHits(), stats.misses(), String.format("%.3f", stats.hitRate()));
+	}
+
+	private void evictNow(UUID storeId) {
+		try {
+			redisTemplate.execute(INVALIDATE, List.of(KEY_PREFIX + storeId, VERSION_KEY_PREFIX + storeId),
+				String.valueOf(redisTtl.toSeconds()));
+			redisTemplate.convertAndSend(MENU_INVALIDATED_CHANNEL, storeId.toString());
+		} catch (Exception e) {
+			log.warn("메뉴 캐시 무효화에 실패했습니다. storeId={}", storeId, e);
+		} finally {
+			localCache.invalidate(storeId);
+		}
+	}
+
+	// 목록과 버전을 한 번에 읽는다. Redis 장애 시 버전을 알 수 없으므로 조회 결과를 Redis 에 저장하지 않는다
+	private RedisEntry readRedis(UUID storeId) {
+		try {
+			List<String> values = redisTemplate.opsForValue()
+				.multiGet(List.of(KEY_PREFIX + storeId, VERSION_KEY_PREFIX + storeId));
+			String json = values.get(0);
+			String version = values.get(1) == null ? NO_VERSION : values.get(1);
+			return new RedisEntry(json == null ? null : objectMapper.readValue(json, MenuListResponse.class), version);
+		} catch (Exception e) {
+			log.warn("Redis 메뉴 캐시 조회에 실패했습니다. storeId={}", storeId, e);
+			return new RedisEntry(null, null);
+		}
+	}
+
+	// 조회 중에 무효화되어 저장이 거절된 경우에만 false 를 반환한다. Redis 장애는 기존처럼 로컬 항목을 유지한다
+	private boolean writeRedis(UUID storeId, String version, MenuListResponse response) {
+		try {
+			Long stored = redisTemplate.execute(FILL_IF_UNCHANGED,
+				List.of(KEY_PREFIX + storeId, VERSION_KEY_PREFIX + storeId),
+				version, objectMapper.writeValueAsString(response), String.valueOf(redisTtl.toSeconds()));
+			return stored != null && stored == 1L;
+		} catch (Exception e) {
+			log.warn("Redis 메뉴 캐시 저장에 실패했습니다. storeId={}", storeId, e);
+			return true;
+		}
+	}
+
+	private record RedisEntry(MenuListResponse value, String version) {
+	}
+
+	public record MenuCacheStats(long localHits, long redisHits, long misses) {
+
+		public double hitRate() {
+			long total = localHits + redisHits + misses;
+			return total == 0 ? 0.0 : (double)(localHits + redisHits) / total;
+		}
+	}
+}
@@ -21,7 +21,6 @@ import app.domain.menu.status.StoreMenuErrorCode;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
 import app.domain.store.status.StoreErrorCode;
-import app.domain.user.model.entity.User;
 import app.global.SecurityUtil;
 import app.global.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +32,7 @@ public class StoreMenuService {
 	private final MenuRepository menuRepository;
 	private final StoreRepository storeRepository;
 	private final SecurityUtil securityUtil;
+	private final MenuListCache menuListCache;
 
 	@Transactional
 	public MenuCreateResponse createMenu(MenuCreateRequest request) {
@@ -46,6 +46,7 @@ public class StoreMenuService {
 		Menu menu = new Menu(null, store, request.getName(), request.getPrice(), request.getDescription(), false, null, null);
 
 		Menu savedMenu = menuRepository.save(menu);
+		menuListCache.evict(request.getStoreId());
 
 		return new MenuCreateResponse(savedMenu.getMenuId(), savedMenu.getName());
 	}
@@ -53,8 +54,7 @@ public class StoreMenuService {
 	@Transactional
 	public MenuUpdateResponse updateMenu(MenuUpdateRequest request) {
 
-		User user = securityUtil.getCurrentUser();
-		Long userId = user.getUserId();
+		Long userId = securityUtil.getCurrentPrincipal().userId();
 
 		Menu menu = menuRepository.findByMenuIdAndDeletedAtIsNull(request.getMenuId())
 			.orElseThrow(() -> new GeneralException(StoreMenuErrorCode.MENU_NOT_FOUND));
@@ -72,6 +72,7 @@ public class StoreMenuService {
 		menu.update(request.getName(), request.getPrice(), request.getDescription(), request.getIsHidden());
 
 		Menu updatedMenu = menuRepository.save(menu);
+		menuListCache.evict(menu.getStore().getStoreId());
 
 		return new MenuUpdateResponse(updatedMenu.getMenuId(), updatedMenu.getName());
 	}
@@ -79,8 +80,7 @@ public class StoreMenuService {
 	@Transactional
 	public MenuDeleteResponse deleteMenu(MenuDeleteRequest request) {
 
-		User user = securityUtil.getCurrentUser();
-		Long userId = user.getUserId();
+		Long userId = securityUtil.getCurrentPrincipal().userId();
 
 		Menu menu = menuRepository.findByMenuIdAndDeletedAtIsNull(request.getMenuId())
 			.orElseThrow(() -> new GeneralException(StoreMenuErrorCode.MENU_NOT_FOUND));
@@ -95,6 +95,7 @@ public class StoreMenuService {
 
 		menu.markAsDeleted();
 		menuRepository.save(menu);
+		menuListCache.evict(menu.getStore().getStoreId());
 
 		return new MenuDeleteResponse(menu.getMenuId(), "DELETED");
 	}
@@ -102,8 +103,7 @@ public class StoreMenuService {
 	@Transactional
 	public MenuUpdateResponse updateMenuVisibility(UUID menuId, Boolean visible) {
 
-		User user = securityUtil.getCurrentUser();
-		Long userId = user.getUserId();
+		Long userId = securityUtil.getCurrentPrincipal().userId();
 
 		Menu menu = menuRepository.findByMenuIdAndDeletedAtIsNull(menuId)
 			.orElseThrow(() -> new GeneralException(StoreMenuErrorCode.MENU_NOT_FOUND));
@@ -114,13 +114,18 @@ public class StoreMenuService {
 
 		menu.update(null, null, null, visible);
 		Menu updatedMenu = menuRepository.save(menu);
+		menuListCache.evict(menu.getStore().getStoreId());
 
 		return new MenuUpdateResponse(updatedMenu.getMenuId(), updatedMenu.getName());
 	}
 
 	@Transactional(readOnly = true)
 	public MenuListResponse getMenuList(MenuListRequest request) {
-		Store store = storeRepository.findById(request.getStoreId())
+		return menuListCache.get(request.getStoreId(), () -> loadMenuList(request.getStoreId()));
+	}
+
+	private MenuListResponse loadMenuList(UUID storeId) {
+		Store store = storeRepository.findById(storeId)
 			.orElseThrow(() -> new GeneralException(StoreErrorCode.STORE_NOT_FOUND));
 
 		List<Menu> menus = menuRepository.findByStoreAndDeletedAtIsNull(store);
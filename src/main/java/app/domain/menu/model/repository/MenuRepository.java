@@ -1,5 +1,6 @@
 package app.domain.menu.model.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,6 +8,8 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.menu.model.entity.Menu;
@@ -21,4 +24,9 @@ public interface MenuRepository extends JpaRepository<Menu, UUID> {
 	boolean existsByStoreAndNameAndDeletedAtIsNull(Store store, String name);
 
 	Page<Menu> findByStoreStoreIdAndHiddenFalse(UUID storeId, Pageable pageable);
+
+	// 주문 생성용: 해당 매장에 속한 메뉴만 매장과 함께 한 번에 조회
+	@Query("select m from Menu m join fetch m.store s where m.menuId in :menuIds and s.storeId = :storeId")
+	List<Menu> findAllWithStoreByMenuIdInAndStoreId(@Param("menuIds") Collection<UUID> menuIds,
+		@Param("storeId") UUID storeId);
 }
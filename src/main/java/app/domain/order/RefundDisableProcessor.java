@@ -1,9 +1,14 @@
 package app.domain.order;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.redisson.api.RBlockingQueue;
+import org.redisson.api.RDelayedQueue;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
@@ -12,46 +17,99 @@ import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 환불 불가 처리 지연 큐 소비자
+ * 새 주문의 환불 불가 전환은 OrderDeadlineScheduler 가 처리하며, 이 소비자는 이전 버전이 Redisson 지연 큐에 넣어 둔 항목을 비운다.
+ * 큐에 새로 넣는 곳이 없으므로 지연 중인 항목과 도착한 항목이 모두 사라지면 지연 큐 전송 작업을 정리하고 종료한다.
+ * 처리에 실패한 항목은 큐에 되돌려 다시 처리한다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class RefundDisableProcessor implements CommandLineRunner {
 
+	private static final String THREAD_NAME = "refund-disable-drain";
+	private static final int BATCH_SIZE = 200;
+	private static final long POLL_TIMEOUT_MS = 1000;
+	private static final long RETRY_DELAY_MS = 1000;
+
 	private final RedissonClient redissonClient;
 	private final RefundUpdateService refundUpdateService;
-	private static final String REFUND_DISABLE_QUEUE = "refund-disable-queue";
-	private Thread processingThread;
+
+	private Thread worker;
+
+	@Value("${order.refund-disable.queue:refund-disable-queue}")
+	private String queueName;
 
 	@Override
 	public void run(String... args) {
-		processRefundDisableQueue();
-	}
+		RBlockingQueue<UUID> queue = redissonClient.getBlockingQueue(queueName);
+		// 지연 시간이 지난 항목을 큐로 옮기는 전송 작업은 지연 큐 객체를 만든 인스턴스에서만 돈다
+		RDelayedQueue<UUID> delayedQueue = redissonClient.getDelayedQueue(queue);
 
-	private void processRefundDisableQueue() {
-		processingThread = new Thread(() -> {
-			RBlockingQueue<UUID> queue = redissonClient.getBlockingQueue(REFUND_DISABLE_QUEUE);
+		worker = new Thread(() -> drain(queue, delayedQueue), THREAD_NAME);
+		worker.setDaemon(true);
+		worker.start();
+	}
 
+	private void drain(RBlockingQueue<UUID> queue, RDelayedQueue<UUID> delayedQueue) {
+		try {
 			while (!Thread.currentThread().isInterrupted()) {
+				List<UUID> batch = new ArrayList<>(BATCH_SIZE);
 				try {
-					UUID orderId = queue.take();
-					refundUpdateService.updateRefundableStatus(orderId);
+					UUID ordersId = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+					if (ordersId == null) {
+						if (delayedQueue.isEmpty()) {
+							log.info("환불 불가 처리 지연 큐를 모두 비웠습니다 - 큐: {}", queue.getName());
+							return;
+						}
+						continue;
+					}
+					batch.add(ordersId);
+					queue.drainTo(batch, BATCH_SIZE - 1);
+					refundUpdateService.disableRefunds(batch);
 				} catch (InterruptedException e) {
 					Thread.currentThread().interrupt();
-					break;
+				} catch (Exception e) {
+					log.error("환불 불가 처리 실패 - 큐: {}, 주문 수: {}", queue.getName(), batch.size(), e);
+					requeue(queue, batch);
+					pause();
 				}
 			}
-		});
-		processingThread.start();
+		} finally {
+			delayedQueue.destroy();
+		}
+	}
+
+	private void requeue(RBlockingQueue<UUID> queue, List<UUID> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		try {
+			queue.addAll(batch);
+		} catch (Exception e) {
+			log.error("환불 불가 처리 항목을 큐에 되돌리지 못했습니다 - 큐: {}, 주문: {}", queue.getName(), batch, e);
+		}
+	}
+
+	private void pause() {
+		try {
+			Thread.sleep(RETRY_DELAY_MS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
 	}
 
 	@PreDestroy
 	public void shutdown() {
-		if (processingThread != null && processingThread.isAlive()) {
-			processingThread.interrupt();
-			try {
-				processingThread.join(1000);
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-			}
+		if (worker == null) {
+			return;
+		}
+		worker.interrupt();
+		try {
+			worker.join(1000);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 		}
 	}
-}
\ No newline at end of file
+}
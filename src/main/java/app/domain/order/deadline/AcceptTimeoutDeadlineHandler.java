@@ -0,0 +1,47 @@
+package app.domain.order.deadline;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import app.domain.order.model.entity.enums.OrderDeadlineType;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderStatusHistoryService;
+import app.domain.payment.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기한 안에 가게가 수락하지 않은 주문을 거절 처리한다.
+ * 이미 결제된 주문은 환불 불가 전환이 지났더라도 같은 트랜잭션에서 결제 취소 의도를 기록해 환불한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AcceptTimeoutDeadlineHandler implements OrderDeadlineHandler {
+
+	private static final String ACCEPT_TIMEOUT_CANCEL_REASON = "가게 미수락으로 주문이 자동 거절되었습니다.";
+
+	private final OrdersRepository ordersRepository;
+	private final OrderStatusHistoryService orderStatusHistoryService;
+	private final PaymentService paymentService;
+
+	@Override
+	public OrderDeadlineType type() {
+		return OrderDeadlineType.ACCEPT_TIMEOUT;
+	}
+
+	@Override
+	public void onDeadline(UUID ordersId) {
+		ordersRepository.findById(ordersId)
+			.filter(order -> order.getOrderStatus() == OrderStatus.PENDING)
+			.ifPresent(order -> {
+				log.info("수락 기한이 지나 주문을 자동 거절합니다 - ordersId: {}", ordersId);
+				orderStatusHistoryService.changeStatus(order, OrderStatus.REJECTED);
+				if (paymentService.beginRefundForRejectedOrder(ordersId, ACCEPT_TIMEOUT_CANCEL_REASON)) {
+					log.info("자동 거절된 주문의 결제를 취소합니다 - ordersId: {}", ordersId);
+				}
+			});
+	}
+}
@@ -0,0 +1,127 @@
+package app.domain.order.deadline;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이밍 휠
+ * 0단계 휠은 tickMs 간격의 버킷 wheelSize 개로 구성되고, i단계 휠의 버킷 하나는 (i-1)단계 휠 한 바퀴를 덮는다.
+ * 먼 기한은 상위 휠에 넣어 두었다가 그 버킷 차례가 되면 하위 휠로 내려보내므로,
+ * 등록/취소는 O(1), 시간 진행은 지난 tick 수에 비례한다.
+ * 취소된 항목은 버킷에서 바로 지우지 않고 버킷을 비울 때 건너뛴다.
+ */
+public class HierarchicalTimingWheel<K> {
+
+	private final long tickMs;
+	private final int wheelSize;
+	private final List<List<Entry<K>>[]> levels = new ArrayList<>();
+	private final Map<K, Entry<K>> entries = new HashMap<>();
+	private long currentTick;
+
+	public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+		if (tickMs <= 0 || wheelSize < 2) {
+			throw new IllegalArgumentException("tickMs 는 양수, wheelSize 는 2 이상이어야 합니다.");
+		}
+		this.tickMs = tickMs;
+		this.wheelSize = wheelSize;
+		this.currentTick = startMs / tickMs;
+	}
+
+	/**
+	 * 기한을 등록한다. 같은 키가 이미 있으면 새 기한으로 바꾼다.
+	 * 이미 지난 기한은 다음 advanceTo 에서 만료된다.
+	 */
+	public synchronized void schedule(K key, long deadlineMs) {
+		Entry<K> entry = new Entry<>(key, Math.max(Math.floorDiv(deadlineMs + tickMs - 1, tickMs), currentTick + 1));
+		entries.put(key, entry);
+		place(entry);
+	}
+
+	public synchronized boolean cancel(K key) {
+		return entries.remove(key) != null;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * nowMs 까지 시간을 진행하고 그 사이 만료된 키를 기한 순서대로 반환한다.
+	 */
+	public synchronized List<K> advanceTo(long nowMs) {
+		long targetTick = nowMs / tickMs;
+		List<K> expired = new ArrayList<>();
+		while (currentTick < targetTick) {
+			if (entries.isEmpty()) {
+				// 남은 항목이 없으면 취소된 항목만 든 버킷을 버리고 바로 건너뛴다
+				levels.clear();
+				currentTick = targetTick;
+				break;
+			}
+			currentTick++;
+			// 상위 휠부터 비워야 내려온 항목이 같은 tick 의 하위 버킷에서 함께 처리된다
+			for (int level = levels.size() - 1; level >= 0; level--) {
+				long levelSpan = spanOf(level);
+				if (currentTick % levelSpan != 0) {
+					continue;
+				}
+				List<Entry<K>>[] buckets = levels.get(level);
+				int index = (int)((currentTick / levelSpan) % wheelSize);
+				List<Entry<K>> bucket = buckets[index];
+				if (bucket == null) {
+					continue;
+				}
+				buckets[index] = null;
+				for (Entry<K> entry : bucket) {
+					if (entries.get(entry.key) != entry) {
+						continue;
+					}
+					if (entry.tick <= currentTick) {
+						entries.remove(entry.key);
+						expired.add(entry.key);
+					} else {
+						place(entry);
+					}
+				}
+			}
+		}
+		return expired;
+	}
+
+	private void place(Entry<K> entry) {
+		long delta = entry.tick - currentTick;
+		int level = 0;
+		long span = 1;
+		while (delta >= span * wheelSize) {
+			span *= wheelSize;
+			level++;
+		}
+		List<Entry<K>>[] buckets = level(level);
+		int index = (int)((entry.tick / span) % wheelSize);
+		if (buckets[index] == null) {
+			buckets[index] = new ArrayList<>();
+		}
+		buckets[index].add(entry);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Entry<K>>[] level(int level) {
+		while (levels.size() <= level) {
+			levels.add(new List[wheelSize]);
+		}
+		return levels.get(level);
+	}
+
+	private long spanOf(int level) {
+		long span = 1;
+		for (int i = 0; i < level; i++) {
+			span *= wheelSize;
+		}
+		return span;
+	}
+
+	private record Entry<K>(K key, long tick) {
+	}
+}
@@ -0,0 +1,16 @@
+package app.domain.order.deadline;
+
+import java.util.UUID;
+
+import app.domain.order.model.entity.enums.OrderDeadlineType;
+
+/**
+ * 주문 기한 만료 시 실행할 작업
+ * 기한 행 삭제와 같은 트랜잭션에서 호출되며, 빈으로 등록하면 OrderDeadlineScheduler 가 type 별로 찾아 쓴다.
+ */
+public interface OrderDeadlineHandler {
+
+	OrderDeadlineType type();
+
+	void onDeadline(UUID ordersId);
+}
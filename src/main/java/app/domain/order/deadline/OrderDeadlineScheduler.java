@@ -0,0 +1,198 @@
+package app.domain.order.deadline;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.order.model.entity.OrderDeadline;
+import app.domain.order.model.entity.enums.OrderDeadlineType;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrderDeadlineRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 기한(환불 불가 전환, 미수락 자동 거절, 결제 시간 초과) 스케줄러
+ * 기한은 p_order_deadline 에 기록한 뒤 커밋되면 인스턴스 내부 타이밍 휠에 등록하고, 휠이 만료시킨 기한을 처리한다.
+ * 기한을 등록한 인스턴스가 내려가 처리되지 못한 기한은 sweep 이 grace 이후에 넘겨받고,
+ * 재시작한 인스턴스는 남은 기한을 모두 휠에 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class OrderDeadlineScheduler {
+
+	private static final Set<OrderStatus> TERMINAL_STATUSES = EnumSet.of(OrderStatus.REJECTED, OrderStatus.REFUNDED,
+		OrderStatus.FAILED);
+
+	private final OrderDeadlineRepository orderDeadlineRepository;
+	private final ObjectProvider<OrderDeadlineHandler> handlerProvider;
+	private final TransactionTemplate transactionTemplate;
+	private final HierarchicalTimingWheel<DeadlineKey> wheel;
+	private final Map<OrderDeadlineType, OrderDeadlineHandler> handlers = new EnumMap<>(OrderDeadlineType.class);
+	private final Map<OrderDeadlineType, Duration> newOrderDelays = new EnumMap<>(OrderDeadlineType.class);
+	private final long retryDelayMs;
+	private final long sweepGraceMs;
+	private final int sweepBatchSize;
+
+	public OrderDeadlineScheduler(OrderDeadlineRepository orderDeadlineRepository,
+		ObjectProvider<OrderDeadlineHandler> handlerProvider,
+		TransactionTemplate transactionTemplate,
+		@Value("${order.deadline.tick-ms:100}") long tickMs,
+		@Value("${order.deadline.wheel-size:64}") int wheelSize,
+		@Value("${order.deadline.retry-delay-ms:5000}") long retryDelayMs,
+		@Value("${order.deadline.sweep-grace-ms:30000}") long sweepGraceMs,
+		@Value("${order.deadline.sweep-batch-size:500}") int sweepBatchSize,
+		@Value("${order.deadline.refund-disable-ms:300000}") long refundDisableMs,
+		@Value("${order.deadline.accept-timeout-ms:900000}") long acceptTimeoutMs,
+		@Value("${order.deadline.payment-timeout-ms:600000}") long paymentTimeoutMs) {
+		this.orderDeadlineRepository = orderDeadlineRepository;
+		this.handlerProvider = handlerProvider;
+		this.transactionTemplate = transactionTemplate;
+		this.wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+		this.retryDelayMs = retryDelayMs;
+		this.sweepGraceMs = sweepGraceMs;
+		this.sweepBatchSize = sweepBatchSize;
+		newOrderDelays.put(OrderDeadlineType.REFUND_DISABLE, Duration.ofMillis(refundDisableMs));
+		newOrderDelays.put(OrderDeadlineType.ACCEPT_TIMEOUT, Duration.ofMillis(acceptTimeoutMs));
+		newOrderDelays.put(OrderDeadlineType.PAYMENT_TIMEOUT, Duration.ofMillis(paymentTimeoutMs));
+	}
+
+	/**
+	 * 새 주문의 환불 불가 전환, 수락, 결제 기한을 등록한다.
+	 */
+	public void scheduleNewOrder(UUID ordersId) {
+		newOrderDelays.forEach((type, delay) -> schedule(ordersId, type, delay));
+	}
+
+	/**
+	 * 호출한 트랜잭션에서 기한을 기록하고, 커밋된 뒤에 휠에 등록한다.
+	 */
+	public void schedule(UUID ordersId, OrderDeadlineType type, Duration delay) {
+		LocalDateTime dueAt = LocalDateTime.now().plus(delay);
+		orderDeadlineRepository.save(OrderDeadline.builder().ordersId(ordersId).type(type).dueAt(dueAt).build());
+		afterCommit(() -> wheel.schedule(new DeadlineKey(ordersId, type), toEpochMilli(dueAt)));
+	}
+
+	public void cancel(UUID ordersId, Collection<OrderDeadlineType> types) {
+		if (types.isEmpty()) {
+			return;
+		}
+		orderDeadlineRepository.deleteByOrdersIdAndTypeIn(ordersId, types);
+		afterCommit(() -> types.forEach(type -> wheel.cancel(new DeadlineKey(ordersId, type))));
+	}
+
+	/**
+	 * 주문이 수락 이후로 넘어가면 수락/결제 기한을, 종료 상태가 되면 모든 기한을 취소한다.
+	 */
+	public void onStatusChanged(UUID ordersId, OrderStatus status) {
+		if (TERMINAL_STATUSES.contains(status)) {
+			cancel(ordersId, EnumSet.allOf(OrderDeadlineType.class));
+		} else if (status != OrderStatus.PENDING) {
+			cancel(ordersId, EnumSet.of(OrderDeadlineType.ACCEPT_TIMEOUT, OrderDeadlineType.PAYMENT_TIMEOUT));
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		handlerProvider.orderedStream().forEach(handler -> handlers.put(handler.type(), handler));
+		List<OrderDeadline> pending = orderDeadlineRepository.findAll();
+		pending.forEach(deadline -> wheel.schedule(new DeadlineKey(deadline.getOrdersId(), deadline.getType()),
+			toEpochMilli(deadline.getDueAt())));
+		log.info("주문 기한 {}건을 타이밍 휠에 적재했습니다.", pending.size());
+	}
+
+	@Scheduled(fixedDelayString = "${order.deadline.tick-ms:100}")
+	public int advance() {
+		int fired = 0;
+		for (DeadlineKey key : wheel.advanceTo(System.currentTimeMillis())) {
+			if (fire(key)) {
+				fired++;
+			}
+		}
+		return fired;
+	}
+
+	/**
+	 * 기한이 grace 이상 지났는데 남아 있는 행은 이를 등록한 인스턴스가 처리하지 못한 것으로 보고 직접 처리한다.
+	 */
+	@Scheduled(initialDelayString = "${order.deadline.sweep-interval-ms:60000}",
+		fixedDelayString = "${order.deadline.sweep-interval-ms:60000}")
+	public int sweep() {
+		LocalDateTime overdueBefore = LocalDateTime.now().minus(Duration.ofMillis(sweepGraceMs));
+		List<OrderDeadline> overdue = orderDeadlineRepository.findAllByDueAtBeforeOrderByDueAtAsc(overdueBefore,
+			PageRequest.of(0, sweepBatchSize));
+		int fired = 0;
+		for (OrderDeadline deadline : overdue) {
+			if (fire(new DeadlineKey(deadline.getOrdersId(), deadline.getType()))) {
+				fired++;
+			}
+		}
+		if (fired > 0) {
+			log.warn("처리되지 않고 남은 주문 기한 {}건을 처리했습니다.", fired);
+		}
+		return fired;
+	}
+
+	public int pendingCount() {
+		return wheel.size();
+	}
+
+	// 기한 행을 지운 쪽만 처리하므로 휠과 sweep, 여러 인스턴스가 같은 기한을 만나도 한 번만 실행된다
+	private boolean fire(DeadlineKey key) {
+		try {
+			Boolean fired = transactionTemplate.execute(status -> {
+				OrderDeadlineHandler handler = handlers.get(key.type());
+				if (handler == null) {
+					throw new IllegalStateException("기한 처리기가 없습니다: " + key.type());
+				}
+				if (orderDeadlineRepository.deleteByOrdersIdAndType(key.ordersId(), key.type()) == 0) {
+					return false;
+				}
+				handler.onDeadline(key.ordersId());
+				return true;
+			});
+			return Boolean.TRUE.equals(fired);
+		} catch (Exception e) {
+			log.error("주문 기한 처리 실패 - ordersId: {}, type: {}", key.ordersId(), key.type(), e);
+			wheel.schedule(key, System.currentTimeMillis() + retryDelayMs);
+			return false;
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+
+	private static long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private record DeadlineKey(UUID ordersId, OrderDeadlineType type) {
+	}
+}
@@ -0,0 +1,27 @@
+package app.domain.order.deadline;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import app.domain.order.model.entity.enums.OrderDeadlineType;
+import app.domain.order.service.RefundUpdateService;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class RefundDisableDeadlineHandler implements OrderDeadlineHandler {
+
+	private final RefundUpdateService refundUpdateService;
+
+	@Override
+	public OrderDeadlineType type() {
+		return OrderDeadlineType.REFUND_DISABLE;
+	}
+
+	@Override
+	public void onDeadline(UUID ordersId) {
+		refundUpdateService.disableRefunds(List.of(ordersId));
+	}
+}
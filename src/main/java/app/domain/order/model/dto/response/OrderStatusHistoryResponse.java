@@ -0,0 +1,31 @@
+package app.domain.order.model.dto.response;
+
+import java.time.LocalDateTime;
+
+import app.domain.order.model.entity.OrderStatusEvent;
+import app.domain.order.model.entity.enums.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusHistoryResponse {
+
+	@Schema(description = "변경된 주문 상태")
+	private OrderStatus status;
+
+	@Schema(description = "상태 변경 시각")
+	private LocalDateTime occurredAt;
+
+	public static OrderStatusHistoryResponse from(OrderStatusEvent event) {
+		return OrderStatusHistoryResponse.builder()
+			.status(event.getStatus())
+			.occurredAt(event.getOccurredAt())
+			.build();
+	}
+}
@@ -0,0 +1,55 @@
+package app.domain.order.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.UuidGenerator;
+
+import app.domain.order.model.entity.enums.OrderDeadlineType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 기한 체크포인트
+ * 타이밍 휠은 메모리에만 있으므로 기한을 여기에 함께 기록해 재시작 후 다시 적재한다.
+ * 기한이 처리되거나 취소되면 행을 삭제하며, 삭제에 성공한 쪽만 처리하므로 여러 인스턴스에서도 한 번만 실행된다.
+ */
+@Entity
+@Table(name = "p_order_deadline",
+	uniqueConstraints = @UniqueConstraint(name = "uk_order_deadline", columnNames = {"orders_id", "type"}),
+	indexes = @Index(name = "idx_order_deadline_due", columnList = "due_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderDeadline {
+
+	@Id
+	@UuidGenerator(style = UuidGenerator.Style.TIME)
+	private UUID orderDeadlineId;
+
+	@Column(name = "orders_id", nullable = false, updatable = false)
+	private UUID ordersId;
+
+	@Column(nullable = false, updatable = false, length = 30)
+	@Enumerated(EnumType.STRING)
+	private OrderDeadlineType type;
+
+	@Column(name = "due_at", nullable = false, updatable = false)
+	private LocalDateTime dueAt;
+
+	@Builder
+	public OrderDeadline(UUID ordersId, OrderDeadlineType type, LocalDateTime dueAt) {
+		this.ordersId = ordersId;
+		this.type = type;
+		this.dueAt = dueAt;
+	}
+}
@@ -2,12 +2,14 @@ package app.domain.order.model.entity;
 
 import java.util.UUID;
 
+import org.hibernate.annotations.UuidGenerator;
+
 import app.global.entity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,14 +20,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "p_b_order_item")
+@Table(name = "p_b_order_item", indexes = {
+	@Index(name = "idx_order_item_orders", columnList = "orders_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 public class OrderItem extends BaseEntity {
 
+	// 애플리케이션에서 생성하는 시간 순 UUID: INSERT 전에 식별자가 정해지므로 JDBC 배치가 가능하다
 	@Id
-	@GeneratedValue
+	@UuidGenerator(style = UuidGenerator.Style.TIME)
 	private UUID orderItemId;
 
 	@ManyToOne(fetch = FetchType.LAZY)
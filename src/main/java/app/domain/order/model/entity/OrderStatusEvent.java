@@ -0,0 +1,66 @@
+package app.domain.order.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.UuidGenerator;
+
+import app.domain.order.model.entity.enums.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 상태 변경 이력 (append-only)
+ * 상태 변경 시 주문 행을 다시 읽거나 고치지 않고 INSERT 만 하도록 연관관계 대신 식별자 컬럼을 둔다.
+ */
+@Entity
+@Table(name = "p_order_status_event", indexes = {
+	@Index(name = "idx_order_status_event_orders", columnList = "orders_id, occurred_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderStatusEvent {
+
+	@Id
+	@UuidGenerator(style = UuidGenerator.Style.TIME)
+	private UUID orderStatusEventId;
+
+	@Column(name = "orders_id", nullable = false, updatable = false)
+	private UUID ordersId;
+
+	@Column(name = "store_id", nullable = false, updatable = false)
+	private UUID storeId;
+
+	@Column(nullable = false, updatable = false, length = 20)
+	@Enumerated(EnumType.STRING)
+	private OrderStatus status;
+
+	@Column(name = "occurred_at", nullable = false, updatable = false)
+	private LocalDateTime occurredAt;
+
+	@Builder
+	public OrderStatusEvent(UUID ordersId, UUID storeId, OrderStatus status, LocalDateTime occurredAt) {
+		this.ordersId = ordersId;
+		this.storeId = storeId;
+		this.status = status;
+		this.occurredAt = occurredAt;
+	}
+
+	public static OrderStatusEvent of(Orders order, OrderStatus status) {
+		return OrderStatusEvent.builder()
+			.ordersId(order.getOrdersId())
+			.storeId(order.getStore().getStoreId())
+			.status(status)
+			.occurredAt(LocalDateTime.now())
+			.build();
+	}
+}
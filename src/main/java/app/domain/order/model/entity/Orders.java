@@ -1,7 +1,5 @@
 package app.domain.order.model.entity;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
 import app.domain.order.model.entity.enums.OrderChannel;
@@ -17,6 +15,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -27,13 +26,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "p_orders")
+@Table(name = "p_orders", indexes = {
+	@Index(name = "idx_orders_store_updated", columnList = "store_id, updated_at"),
+	@Index(name = "idx_orders_user_created", columnList = "user_id, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 public class Orders extends BaseEntity {
 
-	public Orders(UUID ordersId, Store store, User user, Long totalPrice, String deliveryAddress, PaymentMethod paymentMethod, OrderChannel orderChannel, ReceiptMethod receiptMethod, OrderStatus orderStatus, boolean isRefundable, String orderHistory, String requestMessage) {
+	public Orders(UUID ordersId, Store store, User user, Long totalPrice, String deliveryAddress, PaymentMethod paymentMethod, OrderChannel orderChannel, ReceiptMethod receiptMethod, OrderStatus orderStatus, boolean isRefundable, String requestMessage) {
 		this.ordersId = ordersId;
 		this.store = store;
 		this.user = user;
@@ -44,7 +46,6 @@ public class Orders extends BaseEntity {
 		this.receiptMethod = receiptMethod;
 		this.orderStatus = orderStatus;
 		this.isRefundable = isRefundable;
-		this.orderHistory = orderHistory;
 		this.requestMessage = requestMessage;
 	}
 
@@ -85,32 +86,15 @@ public class Orders extends BaseEntity {
 	@Column(nullable = false)
 	private boolean isRefundable;
 
-	@Column(nullable = false, columnDefinition = "TEXT")
-	private String orderHistory;
-
 	private String requestMessage;
 
+	// 상태 변경은 OrderStatusHistoryService.changeStatus 를 통해서만 호출한다
 	public void updateOrderStatus(OrderStatus orderStatus) {
 		this.orderStatus = orderStatus;
 	}
 
-	public void addHistory(String state, LocalDateTime dateTime) {
-		String newEntry = state + ":" + dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-
-		if (this.orderHistory == null || this.orderHistory.toString().isEmpty()) {
-			this.orderHistory = newEntry;
-		} else {
-			this.orderHistory = this.orderHistory.toString() + "\n" + newEntry;
-		}
-	}
-
 	public void disableRefund() {
 		this.isRefundable = false;
 	}
 
-	public void updateStatusAndHistory(OrderStatus newStatus, String updatedHistory) {
-		this.orderStatus = newStatus;
-		this.orderHistory = updatedHistory;
-	}
-
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package app.domain.order.model.entity.enums;
+
+public enum OrderDeadlineType {
+	REFUND_DISABLE,
+	ACCEPT_TIMEOUT,
+	PAYMENT_TIMEOUT;
+}
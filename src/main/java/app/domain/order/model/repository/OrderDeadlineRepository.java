@@ -0,0 +1,30 @@
+package app.domain.order.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import app.domain.order.model.entity.OrderDeadline;
+import app.domain.order.model.entity.enums.OrderDeadlineType;
+
+@Repository
+public interface OrderDeadlineRepository extends JpaRepository<OrderDeadline, UUID> {
+
+	List<OrderDeadline> findAllByDueAtBeforeOrderByDueAtAsc(LocalDateTime dueBefore, Pageable pageable);
+
+	@Modifying
+	@Query("delete from OrderDeadline d where d.ordersId = :ordersId and d.type = :type")
+	int deleteByOrdersIdAndType(@Param("ordersId") UUID ordersId, @Param("type") OrderDeadlineType type);
+
+	@Modifying
+	@Query("delete from OrderDeadline d where d.ordersId = :ordersId and d.type in :types")
+	int deleteByOrdersIdAndTypeIn(@Param("ordersId") UUID ordersId, @Param("types") Collection<OrderDeadlineType> types);
+}
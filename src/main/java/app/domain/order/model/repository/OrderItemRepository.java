@@ -1,5 +1,6 @@
 package app.domain.order.model.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,4 +13,6 @@ import app.domain.order.model.entity.Orders;
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, UUID> {
 	List<OrderItem> findByOrders(Orders orders);
+
+	List<OrderItem> findAllByOrders_OrdersIdIn(Collection<UUID> ordersIds);
 }
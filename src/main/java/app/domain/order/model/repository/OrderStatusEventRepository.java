@@ -0,0 +1,16 @@
+package app.domain.order.model.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import app.domain.order.model.entity.OrderStatusEvent;
+
+@Repository
+public interface OrderStatusEventRepository extends JpaRepository<OrderStatusEvent, UUID> {
+
+	List<OrderStatusEvent> findAllByOrdersIdInOrderByOccurredAtAsc(Collection<UUID> ordersIds);
+}
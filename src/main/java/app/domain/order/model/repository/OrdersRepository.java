@@ -1,22 +1,78 @@
 package app.domain.order.model.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import app.domain.customer.dto.response.CustomerOrderResponse;
 import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.store.model.dto.response.StoreOrderBoardItem;
 import app.domain.store.model.entity.Store;
 import app.domain.user.model.entity.User;
+import jakarta.persistence.LockModeType;
 
 @Repository
 public interface OrdersRepository extends JpaRepository<Orders, UUID> {
-	Page<Orders> findAllByUserAndDeliveryAddressIsNotNull(User user, Pageable pageable);
+	// 결제 승인 시작과 결제/수락 기한 처리가 같은 주문의 상태를 동시에 판단하지 않도록 주문 행을 잠근다
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select o from Orders o where o.ordersId = :ordersId")
+	Optional<Orders> findByIdForUpdate(@Param("ordersId") UUID ordersId);
+
+	// Orders.store 는 즉시 로딩이라 조인하지 않으면 페이지의 매장마다 추가 조회가 나간다
+	@Query(value = "select o from Orders o join fetch o.store "
+		+ "where o.user = :user and o.deliveryAddress is not null",
+		countQuery = "select count(o) from Orders o where o.user = :user and o.deliveryAddress is not null")
+	Page<Orders> findAllByUserAndDeliveryAddressIsNotNull(@Param("user") User user, Pageable pageable);
 
 	List<Orders> findByUser(User user);
 
-	List<Orders> findByStore(Store store);
+	// Orders.user 는 즉시 로딩이라 조인하지 않으면 주문한 고객마다 추가 조회가 나간다
+	@Query("select o from Orders o left join fetch o.user where o.store = :store")
+	List<Orders> findByStore(@Param("store") Store store);
+
+	// 고객 주문 내역은 (user_id, created_at) 인덱스를 역순으로 읽고, 매장은 이름만 조인해 가져온다
+	@Query(value = "select new app.domain.customer.dto.response.CustomerOrderResponse("
+		+ "o.ordersId, s.storeName, o.totalPrice, o.deliveryAddress, o.paymentMethod, o.orderChannel, "
+		+ "o.receiptMethod, o.orderStatus, o.isRefundable, o.requestMessage, o.createdAt) "
+		+ "from Orders o join o.store s "
+		+ "where o.user.userId = :userId "
+		+ "order by o.createdAt desc, o.ordersId desc",
+		countQuery = "select count(o) from Orders o where o.user.userId = :userId")
+	Page<CustomerOrderResponse> findCustomerOrderPage(@Param("userId") Long userId, Pageable pageable);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update Orders o set o.isRefundable = false, o.updatedAt = :now "
+		+ "where o.ordersId in :ids and o.isRefundable = true")
+	int disableRefunds(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+	// 주문 보드 조회는 (store_id, updated_at) 인덱스 범위만 읽고, 엔티티 대신 DTO 로 바로 받아 Store/User 추가 조회가 없다
+	@Query("select new app.domain.store.model.dto.response.StoreOrderBoardItem("
+		+ "o.ordersId, u.username, o.totalPrice, o.orderStatus, o.createdAt, o.updatedAt) "
+		+ "from Orders o left join o.user u "
+		+ "where o.store.storeId = :storeId and o.orderStatus in :statuses "
+		+ "order by o.updatedAt asc, o.ordersId asc")
+	List<StoreOrderBoardItem> findBoardSnapshot(@Param("storeId") UUID storeId,
+		@Param("statuses") Collection<OrderStatus> statuses, Pageable pageable);
+
+	// 변경분은 (updatedAt, ordersId) 복합 커서로 이어 읽어 같은 시각에 변경된 주문이 페이지 경계에서 빠지지 않는다
+	@Query("select new app.domain.store.model.dto.response.StoreOrderBoardItem("
+		+ "o.ordersId, u.username, o.totalPrice, o.orderStatus, o.createdAt, o.updatedAt) "
+		+ "from Orders o left join o.user u "
+		+ "where o.store.storeId = :storeId "
+		+ "and (o.updatedAt > :since or (o.updatedAt = :since and o.ordersId > :sinceOrderId)) "
+		+ "order by o.updatedAt asc, o.ordersId asc")
+	List<StoreOrderBoardItem> findBoardChanges(@Param("storeId") UUID storeId, @Param("since") LocalDateTime since,
+		@Param("sinceOrderId") UUID sinceOrderId, Pageable pageable);
 }
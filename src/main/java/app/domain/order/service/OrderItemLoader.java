@@ -0,0 +1,56 @@
+package app.domain.order.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.domain.order.model.entity.OrderItem;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.repository.OrderItemRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 아이템 일괄 로더
+ * 주문 목록을 응답으로 변환할 때 주문마다 아이템을 조회하지 않도록, 주문 id 목록을 IN 쿼리로 한 번에 조회해 주문별로 묶는다.
+ * 주문 id 가 BATCH_SIZE 를 넘으면 그 크기 단위로 나누어 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderItemLoader {
+
+	static final int BATCH_SIZE = 500;
+
+	private final OrderItemRepository orderItemRepository;
+
+	@Transactional(readOnly = true)
+	public Map<UUID, List<OrderItem>> loadByOrderIds(Collection<UUID> ordersIds) {
+		if (ordersIds.isEmpty()) {
+			return Map.of();
+		}
+		List<UUID> ids = List.copyOf(ordersIds);
+		Map<UUID, List<OrderItem>> itemsByOrder = new HashMap<>();
+		for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+			orderItemRepository.findAllByOrders_OrdersIdIn(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())))
+				.forEach(item -> itemsByOrder.computeIfAbsent(item.getOrders().getOrdersId(), id -> new ArrayList<>())
+					.add(item));
+		}
+		return itemsByOrder;
+	}
+
+	@Transactional(readOnly = true)
+	public Map<UUID, List<OrderItem>> loadByOrders(Collection<Orders> orders) {
+		return loadByOrderIds(orders.stream().map(Orders::getOrdersId).collect(Collectors.toList()));
+	}
+
+	@Transactional(readOnly = true)
+	public List<OrderItem> load(Orders order) {
+		return loadByOrderIds(List.of(order.getOrdersId())).getOrDefault(order.getOrdersId(), List.of());
+	}
+}
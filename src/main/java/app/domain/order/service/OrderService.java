@@ -1,26 +1,21 @@
 package app.domain.order.service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import app.domain.cart.model.dto.RedisCartItem;
 import app.domain.cart.service.CartService;
 import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.repository.MenuRepository;
+import app.domain.order.deadline.OrderDeadlineScheduler;
 import app.domain.order.model.dto.request.CreateOrderRequest;
 import app.domain.order.model.dto.response.OrderDetailResponse;
 import app.domain.order.model.dto.response.UpdateOrderStatusResponse;
@@ -34,6 +29,7 @@ import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
 import app.domain.user.model.entity.User;
 import app.domain.user.model.entity.enums.UserRole;
+import app.global.CurrentUser;
 import app.global.SecurityUtil;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -49,9 +45,10 @@ public class OrderService {
 	private final CartService cartService;
 	private final StoreRepository storeRepository;
 	private final MenuRepository menuRepository;
-	private final OrderDelayService orderDelayService;
+	private final OrderDeadlineScheduler orderDeadlineScheduler;
 	private final SecurityUtil securityUtil;
-	private final ObjectMapper objectMapper;
+	private final OrderStatusHistoryService orderStatusHistoryService;
+	private final OrderItemLoader orderItemLoader;
 
 	@PreAuthorize("hasAuthority('CUSTOMER')")
 	@Transactional
@@ -68,16 +65,17 @@ public class OrderService {
 			throw new GeneralException(OrderErrorStatus.ORDER_DIFFERENT_STORE);
 		}
 
-		Store store = storeRepository.findById(storeId)
-			.orElseThrow(() -> new GeneralException(ErrorStatus.STORE_NOT_FOUND));
-
-		Map<UUID, Menu> menuMap = new HashMap<>();
-		for (RedisCartItem cartItem : cartItems) {
-			Menu menu = menuRepository.findById(cartItem.getMenuId())
-				.orElseThrow(
-					() -> new GeneralException(ErrorStatus.MENU_NOT_FOUND));
-			menuMap.put(cartItem.getMenuId(), menu);
+		Set<UUID> menuIds = cartItems.stream().map(RedisCartItem::getMenuId).collect(Collectors.toSet());
+		Map<UUID, Menu> menuMap = menuRepository.findAllWithStoreByMenuIdInAndStoreId(menuIds, storeId).stream()
+			.collect(Collectors.toMap(Menu::getMenuId, Function.identity()));
+		if (menuMap.size() != menuIds.size()) {
+			// 실패 경로에서만 매장 존재 여부를 확인해 원인을 구분한다
+			if (menuMap.isEmpty() && !storeRepository.existsById(storeId)) {
+				throw new GeneralException(ErrorStatus.STORE_NOT_FOUND);
+			}
+			throw new GeneralException(ErrorStatus.MENU_NOT_FOUND);
 		}
+		Store store = menuMap.values().iterator().next().getStore();
 
 		long calculatedTotalPrice = cartItems.stream()
 			.mapToLong(cartItem -> menuMap.get(cartItem.getMenuId()).getPrice() * cartItem.getQuantity())
@@ -97,26 +95,26 @@ public class OrderService {
 			.totalPrice(request.getTotalPrice())
 			.orderStatus(OrderStatus.PENDING)
 			.deliveryAddress(request.getDeliveryAddress())
-			.orderHistory(
-				"pending:" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
 			.isRefundable(true)
 			.build();
 
 		Orders savedOrder = ordersRepository.save(order);
-
-		for (RedisCartItem cartItem : cartItems) {
-			Menu menu = menuMap.get(cartItem.getMenuId());
-
-			OrderItem orderItem = OrderItem.builder()
-				.orders(savedOrder)
-				.menuName(menu.getName())
-				.price(menu.getPrice())
-				.quantity(cartItem.getQuantity())
-				.build();
-			orderItemRepository.save(orderItem);
-		}
-
-		orderDelayService.scheduleRefundDisable(savedOrder.getOrdersId());
+		orderStatusHistoryService.changeStatus(savedOrder, OrderStatus.PENDING);
+
+		List<OrderItem> orderItems = cartItems.stream()
+			.map(cartItem -> {
+				Menu menu = menuMap.get(cartItem.getMenuId());
+				return OrderItem.builder()
+					.orders(savedOrder)
+					.menuName(menu.getName())
+					.price(menu.getPrice())
+					.quantity(cartItem.getQuantity())
+					.build();
+			})
+			.toList();
+		orderItemRepository.saveAll(orderItems);
+
+		orderDeadlineScheduler.scheduleNewOrder(savedOrder.getOrdersId());
 
 		return savedOrder.getOrdersId();
 	}
@@ -126,9 +124,7 @@ public class OrderService {
 		Orders order = ordersRepository.findById(orderId)
 			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
 
-		List<OrderItem> orderItems = orderItemRepository.findByOrders(order);
-
-		return OrderDetailResponse.from(order, orderItems);
+		return OrderDetailResponse.from(order, orderItemLoader.load(order));
 	}
 
 	private static final Map<OrderStatus, Set<OrderStatus>> VALID_TRANSITIONS = Map.of(
@@ -141,21 +137,20 @@ public class OrderService {
 	@Transactional
 	@PreAuthorize("hasAnyAuthority('OWNER','MANAGER','MASTER')")
 	public UpdateOrderStatusResponse updateOrderStatus(UUID orderId, OrderStatus newStatus) {
-		User currentUser = securityUtil.getCurrentUser();
+		CurrentUser currentUser = securityUtil.getCurrentPrincipal();
 
 		Orders order = ordersRepository.findById(orderId)
 			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
 
 		validateOrderStatusUpdate(currentUser, order, newStatus);
 
-		String updatedHistory = appendToHistory(order.getOrderHistory(), newStatus);
-		order.updateStatusAndHistory(newStatus, updatedHistory);
+		orderStatusHistoryService.changeStatus(order, newStatus);
 
 		return UpdateOrderStatusResponse.from(order);
 	}
 
-	private void validateOrderStatusUpdate(User user, Orders order, OrderStatus newStatus) {
-		UserRole role = user.getUserRole();
+	private void validateOrderStatusUpdate(CurrentUser user, Orders order, OrderStatus newStatus) {
+		UserRole role = user.userRole();
 
 		switch (role) {
 			case OWNER, MANAGER, MASTER -> validateOwnerUpdate(user, order, newStatus);
@@ -163,8 +158,8 @@ public class OrderService {
 		}
 	}
 
-	private void validateOwnerUpdate(User owner, Orders order, OrderStatus newStatus) {
-		if (!order.getStore().getUser().getUserId().equals(owner.getUserId())) {
+	private void validateOwnerUpdate(CurrentUser owner, Orders order, OrderStatus newStatus) {
+		if (!order.getStore().getUser().getUserId().equals(owner.userId())) {
 			throw new GeneralException(OrderErrorStatus.ORDER_ACCESS_DENIED);
 		}
 
@@ -175,29 +170,4 @@ public class OrderService {
 			throw new GeneralException(OrderErrorStatus.INVALID_ORDER_STATUS_TRANSITION);
 		}
 	}
-
-	private String appendToHistory(String currentHistoryJson, OrderStatus newStatus) {
-		TypeReference<Map<String, String>> typeRef = new TypeReference<>() {
-		};
-
-		Map<String, String> historyMap;
-		if (currentHistoryJson == null || currentHistoryJson.isBlank() || currentHistoryJson.equals("{}")) {
-			historyMap = new LinkedHashMap<>();
-		} else {
-			try {
-				historyMap = objectMapper.readValue(currentHistoryJson, typeRef);
-			} catch (JsonProcessingException e) {
-				throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-			}
-		}
-
-		String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-		historyMap.put(newStatus.name(), timestamp);
-
-		try {
-			return objectMapper.writeValueAsString(historyMap);
-		} catch (JsonProcessingException e) {
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-		}
-	}
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package app.domain.order.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.domain.order.deadline.OrderDeadlineScheduler;
+import app.domain.order.model.entity.OrderStatusEvent;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 상태 변경과 이력 기록의 단일 진입점
+ * 주문 상태는 반드시 changeStatus 로만 변경하며, 이력은 p_order_status_event 에 INSERT 만 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderStatusHistoryService {
+
+	private final OrderStatusEventRepository orderStatusEventRepository;
+	private final OrderDeadlineScheduler orderDeadlineScheduler;
+
+	public void changeStatus(Orders order, OrderStatus newStatus) {
+		order.updateOrderStatus(newStatus);
+		orderStatusEventRepository.save(OrderStatusEvent.of(order, newStatus));
+		orderDeadlineScheduler.onStatusChanged(order.getOrdersId(), newStatus);
+	}
+
+	@Transactional(readOnly = true)
+	public Map<UUID, List<OrderStatusEvent>> getHistories(Collection<UUID> ordersIds) {
+		if (ordersIds.isEmpty()) {
+			return Map.of();
+		}
+		return orderStatusEventRepository.findAllByOrdersIdInOrderByOccurredAtAsc(ordersIds).stream()
+			.collect(Collectors.groupingBy(OrderStatusEvent::getOrdersId));
+	}
+}
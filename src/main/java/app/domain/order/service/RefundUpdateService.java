@@ -1,5 +1,7 @@
 package app.domain.order.service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -26,4 +28,16 @@ public class RefundUpdateService {
 		order.disableRefund();
 		ordersRepository.save(order);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 여러 주문의 환불 가능 여부를 UPDATE 한 번으로 해제한다.
+	 * 이미 해제됐거나 삭제된 주문은 건너뛰므로 같은 주문이 다시 들어와도 안전하다.
+	 */
+	@Transactional
+	public int disableRefunds(Collection<UUID> orderIds) {
+		if (orderIds.isEmpty()) {
+			return 0;
+		}
+		return ordersRepository.disableRefunds(orderIds, LocalDateTime.now());
+	}
+}
@@ -0,0 +1,111 @@
+package app.domain.payment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.cart.service.CartRedisService;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderStatusHistoryService;
+import app.domain.payment.model.entity.PaymentEtc;
+import app.domain.payment.model.entity.PaymentOutbox;
+import app.domain.payment.model.repository.PaymentEtcRepository;
+import app.domain.payment.model.repository.PaymentOutboxRepository;
+import app.domain.payment.model.repository.PaymentRepository;
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 후속 작업 디스패처
+ * 처리할 시각이 된 작업을 batchSize 만큼 잠가 lease 를 건 뒤, 작업마다 별도 트랜잭션에서 처리하고 삭제한다.
+ * DB 작업은 삭제와 같은 트랜잭션이라 한 번만 반영되고, 장바구니 비우기는 여러 번 실행돼도 결과가 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxDispatcher {
+
+	private final PaymentOutboxRepository paymentOutboxRepository;
+	private final PaymentRepository paymentRepository;
+	private final PaymentEtcRepository paymentEtcRepository;
+	private final OrdersRepository ordersRepository;
+	private final OrderStatusHistoryService orderStatusHistoryService;
+	private final CartRedisService cartRedisService;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${payment.outbox.batch-size:100}")
+	private int batchSize;
+
+	@Value("${payment.outbox.max-attempts:10}")
+	private int maxAttempts;
+
+	@Value("${payment.outbox.lease-ms:60000}")
+	private long leaseMs;
+
+	@Value("${payment.outbox.retry-backoff-ms:1000}")
+	private long retryBackoffMs;
+
+	@Scheduled(fixedDelayString = "${payment.outbox.dispatch-interval-ms:1000}")
+	public int dispatch() {
+		List<UUID> claimed = transactionTemplate.execute(status -> claim());
+		if (claimed == null || claimed.isEmpty()) {
+			return 0;
+		}
+
+		int processed = 0;
+		for (UUID outboxId : claimed) {
+			if (process(outboxId)) {
+				processed++;
+			}
+		}
+		return processed;
+	}
+
+	private List<UUID> claim() {
+		LocalDateTime now = LocalDateTime.now();
+		List<PaymentOutbox> due = paymentOutboxRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+		LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseMs));
+		due.forEach(outbox -> outbox.lease(leaseUntil));
+		return due.stream().map(PaymentOutbox::getPaymentOutboxId).toList();
+	}
+
+	private boolean process(UUID outboxId) {
+		try {
+			transactionTemplate.executeWithoutResult(status ->
+				paymentOutboxRepository.findById(outboxId).ifPresent(outbox -> {
+					handle(outbox);
+					paymentOutboxRepository.delete(outbox);
+				}));
+			return true;
+		} catch (Exception e) {
+			log.warn("결제 후속 작업 처리 실패 - outboxId: {}", outboxId, e);
+			transactionTemplate.executeWithoutResult(status ->
+				paymentOutboxRepository.findById(outboxId).ifPresent(outbox ->
+					outbox.recordFailure(e.getMessage(), LocalDateTime.now(), maxAttempts,
+						Duration.ofMillis(retryBackoffMs))));
+			return false;
+		}
+	}
+
+	private void handle(PaymentOutbox outbox) {
+		switch (outbox.getType()) {
+			case STORE_RESPONSE -> paymentEtcRepository.save(PaymentEtc.of(
+				paymentRepository.getReferenceById(outbox.getPaymentId()), outbox.getPayload()));
+			case CLEAR_CART -> cartRedisService.clearCartItems(outbox.getUserId());
+			case CHANGE_ORDER_STATUS -> orderStatusHistoryService.changeStatus(
+				ordersRepository.findById(outbox.getOrdersId())
+					.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND)),
+				OrderStatus.valueOf(outbox.getPayload()));
+		}
+	}
+}
@@ -1,207 +1,225 @@
 package app.domain.payment;
 
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
-import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import app.domain.cart.service.CartService;
 import app.domain.order.model.entity.Orders;
 import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderStatusHistoryService;
+import app.domain.payment.gateway.TossPaymentClient;
+import app.domain.payment.gateway.TossPaymentResponse;
 import app.domain.payment.model.dto.request.CancelPaymentRequest;
 import app.domain.payment.model.dto.request.PaymentConfirmRequest;
 import app.domain.payment.model.dto.request.PaymentFailRequest;
 import app.domain.payment.model.entity.Payment;
-import app.domain.payment.model.entity.PaymentEtc;
+import app.domain.payment.model.entity.PaymentOutbox;
+import app.domain.payment.model.entity.enums.PaymentOutboxType;
 import app.domain.payment.model.entity.enums.PaymentStatus;
-import app.domain.payment.model.repository.PaymentEtcRepository;
+import app.domain.payment.model.repository.PaymentOutboxRepository;
 import app.domain.payment.model.repository.PaymentRepository;
 import app.domain.payment.status.PaymentErrorStatus;
-import app.domain.user.model.entity.User;
 import app.global.SecurityUtil;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 승인/취소는 토스 API 호출을 DB 트랜잭션 밖에서 수행한다.
+ * 1. 짧은 트랜잭션으로 결제 의도(PENDING / CANCEL_PENDING)를 기록한다.
+ * 2. 트랜잭션 없이 토스 API 를 호출한다.
+ * 3. 두 번째 짧은 트랜잭션으로 결과를 확정하고
+ *    후속 작업(응답 저장, 장바구니 비우기, 주문 상태 변경)을 outbox 에 기록한다.
+ * 후속 작업은 PaymentOutboxDispatcher 가 비동기로 처리하므로 API 는 결제 상태가 기록되는 즉시 응답한다.
+ * 응답을 받지 못해 의도 상태로 남은 결제는 recoverStaleIntents 가 결제에 보관한 같은 멱등 키로 재전송해 확정한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
 
-	@Value("${TOSS_SECRET_KEY}")
-	private String tossSecretKey;
-	@Value("${TOSS_URL}")
-	private String tossUrl;
+	private static final List<PaymentStatus> INTENT_STATUSES = List.of(PaymentStatus.PENDING,
+		PaymentStatus.CANCEL_PENDING);
 
 	private final OrdersRepository ordersRepository;
 	private final PaymentRepository paymentRepository;
-	private final PaymentEtcRepository paymentEtcRepository;
-	private final CartService cartService;
+	private final PaymentOutboxRepository paymentOutboxRepository;
 	private final SecurityUtil securityUtil;
+	private final OrderStatusHistoryService orderStatusHistoryService;
+	private final TossPaymentClient tossPaymentClient;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${payment.recovery.stale-after-ms:120000}")
+	private long staleAfterMs;
 
 	public Orders getOrderById(UUID orderId) {
 		return ordersRepository.findById(orderId)
 			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
 	}
 
-	private String generateIdempotencyKey(Long userId, String orderId) {
-		try {
-			String input = userId + orderId;
-			MessageDigest digest = MessageDigest.getInstance("SHA-256");
-			byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-			return Base64.getEncoder().encodeToString(hash);
-		} catch (Exception e) {
+	@PreAuthorize("hasAuthority('CUSTOMER')")
+	public String confirmPayment(PaymentConfirmRequest request) {
+		Long userId = securityUtil.getCurrentPrincipal().userId();
+		String idempotencyKey = TossPaymentClient.confirmIdempotencyKey(UUID.fromString(request.getOrderId()),
+			request.getPaymentKey());
+		UUID paymentId = transactionTemplate.execute(status -> beginConfirm(request, idempotencyKey));
+
+		TossPaymentResponse response = tossPaymentClient.confirm(request, idempotencyKey);
+
+		PaymentStatus result = transactionTemplate.execute(
+			status -> finishConfirm(paymentId, UUID.fromString(request.getOrderId()), userId, response));
+		if (result == PaymentStatus.COMPLETED) {
+			return "결제 승인이 완료되었습니다. PaymentKey: " + request.getAmount();
+		} else {
+			throw new GeneralException(PaymentErrorStatus.PAYMENT_CONFIRM_FAILED);
+		}
+	}
+
+	@PreAuthorize("hasAuthority('CUSTOMER')")
+	@Transactional
+	public String failSave(PaymentFailRequest request) {
+		Orders order = getOrderById(UUID.fromString(request.getOrderId()));
+		orderStatusHistoryService.changeStatus(order, OrderStatus.FAILED);
+		return "결제 실패 처리가 완료되었습니다.";
+	}
+
+	@PreAuthorize("hasAuthority('CUSTOMER')")
+	public String cancelPayment(CancelPaymentRequest request) {
+		Long userId = securityUtil.getCurrentPrincipal().userId();
+		Payment payment = transactionTemplate.execute(status -> beginCancel(request));
+
+		TossPaymentResponse response = tossPaymentClient.cancel(payment.getPaymentKey(), request.getCancelReason(),
+			payment.getIdempotencyKey());
+
+		PaymentStatus result = transactionTemplate.execute(
+			status -> finishCancel(payment.getPaymentId(), payment.getOrdersId(), userId, response));
+		if (result == PaymentStatus.CANCELLED) {
+			return "결제 취소가 완료되었습니다.";
+		} else {
 			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
 		}
 	}
 
-	public String callTossConfirmApi(PaymentConfirmRequest request, Long userId) {
-		try {
-			String widgetSecretKey = tossSecretKey;
-			Base64.Encoder encoder = Base64.getEncoder();
-			byte[] encodedBytes = encoder.encode((widgetSecretKey + ":").getBytes(StandardCharsets.UTF_8));
-			String authorizations = "Basic " + new String(encodedBytes);
-			String fullUrl = tossUrl + "/confirm";
-			String idempotencyKey = generateIdempotencyKey(userId, request.getOrderId());
-
-			JSONObject obj = new JSONObject();
-			obj.put("orderId", request.getOrderId());
-			obj.put("amount", request.getAmount());
-			obj.put("paymentKey", request.getPaymentKey());
-
-			URL url = new URL(fullUrl);
-			HttpURLConnection connection = (HttpURLConnection)url.openConnection();
-			connection.setRequestProperty("Authorization", authorizations);
-			connection.setRequestProperty("Content-Type", "application/json");
-			connection.setRequestProperty("Idempotency-Key", idempotencyKey);
-			connection.setRequestMethod("POST");
-			connection.setDoOutput(true);
-
-			OutputStream outputStream = connection.getOutputStream();
-			outputStream.write(obj.toString().getBytes("UTF-8"));
-
-			int code = connection.getResponseCode();
-			boolean isSuccess = code == 200;
-
-			java.io.InputStream responseStream = isSuccess ? connection.getInputStream() : connection.getErrorStream();
-			java.io.BufferedReader reader = new java.io.BufferedReader(
-				new java.io.InputStreamReader(responseStream, StandardCharsets.UTF_8));
-			StringBuilder responseBuilder = new StringBuilder();
-			String line;
-			while ((line = reader.readLine()) != null) {
-				responseBuilder.append(line);
+	/**
+	 * 결제가 끝난 주문을 가게가 수락하지 않아 거절할 때 결제 취소 의도를 기록한다.
+	 * 호출한 트랜잭션과 함께 커밋되며, 토스 취소 요청은 recoverStaleIntents 가 같은 멱등 키로 보낸다.
+	 * 고객이 요청한 취소가 아니므로 환불 불가 전환 여부와 관계없이 취소한다.
+	 */
+	public boolean beginRefundForRejectedOrder(UUID ordersId, String cancelReason) {
+		return paymentRepository.findByOrdersId(ordersId)
+			.filter(payment -> payment.getPaymentStatus() == PaymentStatus.COMPLETED)
+			.map(payment -> {
+				payment.beginCancel(cancelReason,
+					TossPaymentClient.cancelIdempotencyKey(ordersId, payment.getPaymentKey()));
+				return true;
+			})
+			.orElse(false);
+	}
+
+	/**
+	 * 일정 시간 이상 의도 상태로 남은 결제를 다시 확정한다.
+	 * 토스는 같은 멱등 키의 요청에 최초 처리 결과를 돌려주므로 재전송해도 중복 승인/취소되지 않는다.
+	 */
+	@Scheduled(initialDelayString = "${payment.recovery.interval-ms:60000}",
+		fixedDelayString = "${payment.recovery.interval-ms:60000}")
+	public int recoverStaleIntents() {
+		LocalDateTime staleBefore = LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs));
+		List<Payment> staleIntents = paymentRepository
+			.findTop100ByPaymentStatusInAndUpdatedAtBeforeOrderByUpdatedAtAsc(INTENT_STATUSES, staleBefore);
+
+		int recovered = 0;
+		for (Payment payment : staleIntents) {
+			try {
+				recover(payment);
+				recovered++;
+			} catch (Exception e) {
+				log.warn("결제 의도 복구 실패 - paymentId: {}, status: {}", payment.getPaymentId(),
+					payment.getPaymentStatus(), e);
 			}
-			String responseBody = responseBuilder.toString();
-			return (isSuccess ? "success:" : "fail:") + responseBody;
-		} catch (Exception e) {
-			throw new GeneralException(PaymentErrorStatus.TOSS_API_ERROR);
 		}
+		return recovered;
 	}
 
-	public String callTossCancelApi(String paymentKey, String cancelReason, Long userId, UUID orderId) {
-		try {
-			String widgetSecretKey = tossSecretKey;
-			Base64.Encoder encoder = Base64.getEncoder();
-			byte[] encodedBytes = encoder.encode((widgetSecretKey + ":").getBytes(StandardCharsets.UTF_8));
-			String authorizations = "Basic " + new String(encodedBytes);
-			String idempotencyKey = generateIdempotencyKey(userId, orderId.toString());
-
-			JSONObject obj = new JSONObject();
-			obj.put("cancelReason", cancelReason);
-
-			String cancelUrl = tossUrl + "/" + paymentKey + "/cancel";
-
-			URL url = new URL(cancelUrl);
-			HttpURLConnection connection = (HttpURLConnection)url.openConnection();
-			connection.setRequestProperty("Authorization", authorizations);
-			connection.setRequestProperty("Content-Type", "application/json");
-			connection.setRequestProperty("Idempotency-Key", idempotencyKey);
-			connection.setRequestMethod("POST");
-			connection.setDoOutput(true);
-
-			OutputStream outputStream = connection.getOutputStream();
-			outputStream.write(obj.toString().getBytes("UTF-8"));
-
-			int code = connection.getResponseCode();
-			boolean isSuccess = code == 200;
-
-			java.io.InputStream responseStream = isSuccess ? connection.getInputStream() : connection.getErrorStream();
-			java.io.BufferedReader reader = new java.io.BufferedReader(
-				new java.io.InputStreamReader(responseStream, StandardCharsets.UTF_8));
-			StringBuilder responseBuilder = new StringBuilder();
-			String line;
-			while ((line = reader.readLine()) != null) {
-				responseBuilder.append(line);
-			}
-			String responseBody = responseBuilder.toString();
-			return (isSuccess ? "success:" : "fail:") + responseBody;
-		} catch (Exception e) {
-			throw new GeneralException(PaymentErrorStatus.TOSS_API_ERROR);
+	private void recover(Payment payment) {
+		Long userId = transactionTemplate.execute(
+			status -> getOrderById(payment.getOrdersId()).getUser().getUserId());
+
+		if (payment.getPaymentStatus() == PaymentStatus.PENDING) {
+			PaymentConfirmRequest request = new PaymentConfirmRequest(payment.getPaymentKey(),
+				payment.getOrdersId().toString(), String.valueOf(payment.getAmount()));
+			TossPaymentResponse response = tossPaymentClient.confirm(request, storedIdempotencyKey(payment,
+				TossPaymentClient.confirmIdempotencyKey(payment.getOrdersId(), payment.getPaymentKey())));
+			transactionTemplate.execute(
+				status -> finishConfirm(payment.getPaymentId(), payment.getOrdersId(), userId, response));
+		} else {
+			TossPaymentResponse response = tossPaymentClient.cancel(payment.getPaymentKey(),
+				payment.getCancelReason(), storedIdempotencyKey(payment,
+					TossPaymentClient.cancelIdempotencyKey(payment.getOrdersId(), payment.getPaymentKey())));
+			transactionTemplate.execute(
+				status -> finishCancel(payment.getPaymentId(), payment.getOrdersId(), userId, response));
 		}
 	}
 
-	@PreAuthorize("hasAuthority('CUSTOMER')")
-	@Transactional
-	public String confirmPayment(PaymentConfirmRequest request) {
-		User user = securityUtil.getCurrentUser();
-		Orders order = getOrderById(UUID.fromString(request.getOrderId()));
+	// 멱등 키 컬럼이 생기기 전에 기록된 의도는 키가 비어 있으므로 같은 규칙으로 다시 만든다
+	private String storedIdempotencyKey(Payment payment, String derived) {
+		return payment.getIdempotencyKey() != null ? payment.getIdempotencyKey() : derived;
+	}
+
+	// 결제 시간 초과로 실패 처리된 주문에 늦게 도착한 승인이 토스까지 가지 않도록 주문을 잠그고 상태를 확인한다
+	private UUID beginConfirm(PaymentConfirmRequest request, String idempotencyKey) {
+		Orders order = ordersRepository.findByIdForUpdate(UUID.fromString(request.getOrderId()))
+			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
+		if (order.getOrderStatus() != OrderStatus.PENDING) {
+			throw new GeneralException(PaymentErrorStatus.PAYMENT_ORDER_NOT_PAYABLE);
+		}
 		long requestAmount = Long.parseLong(request.getAmount());
 		if (order.getTotalPrice() != requestAmount) {
 			throw new GeneralException(PaymentErrorStatus.PAYMENT_AMOUNT_MISMATCH);
 		}
 
-		String responseWithPrefix = callTossConfirmApi(request, user.getUserId());
-		boolean isSuccess = responseWithPrefix.startsWith("success:");
-		String responseBody = responseWithPrefix.substring(responseWithPrefix.indexOf(":") + 1);
-		PaymentStatus paymentStatus = isSuccess ? PaymentStatus.COMPLETED : PaymentStatus.FAILED;
-
-		Payment payment = Payment.builder()
-			.ordersId(order.getOrdersId())
-			.paymentKey(request.getPaymentKey())
-			.paymentMethod(order.getPaymentMethod())
-			.paymentStatus(paymentStatus)
-			.amount(order.getTotalPrice())
-			.build();
-
-		Payment savedPayment = paymentRepository.save(payment);
-
-		PaymentEtc paymentEtc = PaymentEtc.builder()
-			.payment(savedPayment)
-			.paymentResponse(responseBody)
-			.build();
-
-		paymentEtcRepository.save(paymentEtc);
+		Payment payment = paymentRepository.findByOrdersId(order.getOrdersId())
+			.map(existing -> {
+				existing.beginConfirm(request.getPaymentKey(), idempotencyKey);
+				return existing;
+			})
+			.orElseGet(() -> paymentRepository.save(Payment.builder()
+				.ordersId(order.getOrdersId())
+				.paymentKey(request.getPaymentKey())
+				.paymentMethod(order.getPaymentMethod())
+				.paymentStatus(PaymentStatus.PENDING)
+				.amount(order.getTotalPrice())
+				.idempotencyKey(idempotencyKey)
+				.build()));
+		return payment.getPaymentId();
+	}
 
-		if (isSuccess) {
-			cartService.clearCartItems();
-			return "결제 승인이 완료되었습니다. PaymentKey: " + request.getAmount();
-		} else {
-			throw new GeneralException(PaymentErrorStatus.PAYMENT_CONFIRM_FAILED);
+	private PaymentStatus finishConfirm(UUID paymentId, UUID orderId, Long userId, TossPaymentResponse response) {
+		PaymentStatus result = response.success() ? PaymentStatus.COMPLETED : PaymentStatus.FAILED;
+		if (paymentRepository.transitionStatus(paymentId, PaymentStatus.PENDING, result) == 0) {
+			return currentStatus(paymentId);
 		}
-	}
 
-	@PreAuthorize("hasAuthority('CUSTOMER')")
-	@Transactional
-	public String failSave(PaymentFailRequest request) {
-		Orders order = getOrderById(UUID.fromString(request.getOrderId()));
-		order.updateOrderStatus(OrderStatus.FAILED);
-		return "결제 실패 처리가 완료되었습니다.";
+		List<PaymentOutbox> followUps = new ArrayList<>();
+		followUps.add(outbox(PaymentOutboxType.STORE_RESPONSE, paymentId, orderId, userId, response.body()));
+		if (response.success()) {
+			followUps.add(outbox(PaymentOutboxType.CLEAR_CART, paymentId, orderId, userId, null));
+		}
+		paymentOutboxRepository.saveAll(followUps);
+		return result;
 	}
 
-	@PreAuthorize("hasAuthority('CUSTOMER')")
-	@Transactional
-	public String cancelPayment(CancelPaymentRequest request) {
-		User user = securityUtil.getCurrentUser();
+	private Payment beginCancel(CancelPaymentRequest request) {
 		Orders order = getOrderById(request.getOrderId());
 
 		if (!order.isRefundable()) {
@@ -210,29 +228,41 @@ public class PaymentService {
 
 		Payment payment = paymentRepository.findByOrdersId(request.getOrderId())
 			.orElseThrow(() -> new GeneralException(ErrorStatus.PAYMENT_NOT_FOUND));
+		payment.beginCancel(request.getCancelReason(),
+			TossPaymentClient.cancelIdempotencyKey(payment.getOrdersId(), payment.getPaymentKey()));
+		return payment;
+	}
 
-		String responseWithPrefix = callTossCancelApi(payment.getPaymentKey(), request.getCancelReason(), user.getUserId(),
-			request.getOrderId());
-		boolean isSuccess = responseWithPrefix.startsWith("success:");
-		String responseBody = responseWithPrefix.substring(responseWithPrefix.indexOf(":") + 1);
+	private PaymentStatus finishCancel(UUID paymentId, UUID orderId, Long userId, TossPaymentResponse response) {
+		// 취소가 거절되면 결제는 승인 완료 상태로 되돌린다
+		PaymentStatus result = response.success() ? PaymentStatus.CANCELLED : PaymentStatus.COMPLETED;
+		if (paymentRepository.transitionStatus(paymentId, PaymentStatus.CANCEL_PENDING, result) == 0) {
+			return currentStatus(paymentId);
+		}
 
-		if (isSuccess) {
-			order.updateOrderStatus(OrderStatus.REFUNDED);
-			order.addHistory("cancel", LocalDateTime.now());
-			payment.updatePaymentStatus(PaymentStatus.CANCELLED);
+		List<PaymentOutbox> followUps = new ArrayList<>();
+		followUps.add(outbox(PaymentOutboxType.STORE_RESPONSE, paymentId, orderId, userId, response.body()));
+		if (response.success()) {
+			followUps.add(outbox(PaymentOutboxType.CHANGE_ORDER_STATUS, paymentId, orderId, userId,
+				OrderStatus.REFUNDED.name()));
 		}
+		paymentOutboxRepository.saveAll(followUps);
+		return result;
+	}
 
-		PaymentEtc paymentEtc = PaymentEtc.builder()
-			.payment(payment)
-			.paymentResponse(responseBody)
+	private PaymentOutbox outbox(PaymentOutboxType type, UUID paymentId, UUID orderId, Long userId, String payload) {
+		return PaymentOutbox.builder()
+			.type(type)
+			.paymentId(paymentId)
+			.ordersId(orderId)
+			.userId(userId)
+			.payload(payload)
 			.build();
+	}
 
-		paymentEtcRepository.save(paymentEtc);
-
-		if (isSuccess) {
-			return "결제 취소가 완료되었습니다.";
-		} else {
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-		}
+	private PaymentStatus currentStatus(UUID paymentId) {
+		return paymentRepository.findById(paymentId)
+			.map(Payment::getPaymentStatus)
+			.orElseThrow(() -> new GeneralException(ErrorStatus.PAYMENT_NOT_FOUND));
 	}
-}
\ No newline at end of file
+}
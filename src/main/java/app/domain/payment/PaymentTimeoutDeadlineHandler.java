@@ -0,0 +1,54 @@
+package app.domain.payment;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import app.domain.order.deadline.OrderDeadlineHandler;
+import app.domain.order.model.entity.enums.OrderDeadlineType;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderStatusHistoryService;
+import app.domain.payment.model.entity.Payment;
+import app.domain.payment.model.entity.enums.PaymentStatus;
+import app.domain.payment.model.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기한 안에 결제가 승인되지 않은 주문을 실패 처리한다.
+ * 승인 요청이 진행 중인 결제는 PaymentService 의 의도 복구가 확정하므로 건드리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentTimeoutDeadlineHandler implements OrderDeadlineHandler {
+
+	private final OrdersRepository ordersRepository;
+	private final PaymentRepository paymentRepository;
+	private final OrderStatusHistoryService orderStatusHistoryService;
+
+	@Override
+	public OrderDeadlineType type() {
+		return OrderDeadlineType.PAYMENT_TIMEOUT;
+	}
+
+	@Override
+	public void onDeadline(UUID ordersId) {
+		// 주문을 먼저 잠가 진행 중인 승인 시작과 순서를 정한 뒤 결제 상태를 확인한다
+		ordersRepository.findByIdForUpdate(ordersId)
+			.filter(order -> order.getOrderStatus() == OrderStatus.PENDING)
+			.filter(order -> isUnpaid(ordersId))
+			.ifPresent(order -> {
+				log.info("결제 기한이 지나 주문을 실패 처리합니다 - ordersId: {}", ordersId);
+				orderStatusHistoryService.changeStatus(order, OrderStatus.FAILED);
+			});
+	}
+
+	private boolean isUnpaid(UUID ordersId) {
+		return paymentRepository.findByOrdersId(ordersId)
+			.map(Payment::getPaymentStatus)
+			.map(status -> status == PaymentStatus.FAILED)
+			.orElse(true);
+	}
+}
@@ -0,0 +1,66 @@
+package app.domain.payment.archive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.payment.model.repository.PaymentEtcArchiveRepository;
+import app.domain.payment.model.repository.PaymentEtcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보관 기간이 지난 토스 응답 원문을 p_payment_etc_archive 로 옮긴다.
+ * batchSize 단위로 복사와 hot 행 비우기를 한 트랜잭션에서 처리해, 중간에 실패해도 원문이 사라지거나 두 번 복사되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentResponseArchiver {
+
+	private final PaymentEtcRepository paymentEtcRepository;
+	private final PaymentEtcArchiveRepository paymentEtcArchiveRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${payment.response-archive.retention-days:30}")
+	private int retentionDays;
+
+	@Value("${payment.response-archive.batch-size:500}")
+	private int batchSize;
+
+	@Scheduled(cron = "${payment.response-archive.cron:0 0 5 * * *}")
+	public int archive() {
+		LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+		int archived = 0;
+		while (true) {
+			Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+			if (moved == null || moved == 0) {
+				break;
+			}
+			archived += moved;
+			if (moved < batchSize) {
+				break;
+			}
+		}
+		if (archived > 0) {
+			log.info("결제 응답 원문 보관 이동 완료 - {}건 ({}일 이전)", archived, retentionDays);
+		}
+		return archived;
+	}
+
+	private int archiveBatch(LocalDateTime cutoff) {
+		List<UUID> ids = paymentEtcRepository.findIdsToArchive(cutoff, PageRequest.of(0, batchSize));
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		paymentEtcArchiveRepository.copyFromHot(ids);
+		paymentEtcRepository.markArchived(ids, LocalDateTime.now());
+		return ids.size();
+	}
+}
@@ -0,0 +1,59 @@
+package app.domain.payment.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * 토스 응답 원문 압축/해제와 조회용 핵심 필드 추출
+ * 응답 JSON 은 키 이름이 반복되는 텍스트라 gzip 으로 대체로 원문의 1/4~1/5 크기가 된다.
+ */
+public final class PaymentResponseCodec {
+
+	public static final int GATEWAY_STATUS_LENGTH = 50;
+
+	private PaymentResponseCodec() {
+	}
+
+	public static byte[] compress(String body) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+
+	public static String decompress(byte[] compressed) {
+		try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 성공 응답은 status(DONE, CANCELED 등), 실패 응답은 code 를 반환한다. JSON 이 아니면 null 을 반환한다.
+	 */
+	public static String gatewayStatus(String body) {
+		try {
+			JSONObject json = new JSONObject(body);
+			String status = json.optString("status", null);
+			if (status == null) {
+				status = json.optString("code", null);
+			}
+			return status == null || status.length() <= GATEWAY_STATUS_LENGTH
+				? status : status.substring(0, GATEWAY_STATUS_LENGTH);
+		} catch (JSONException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package app.domain.payment.gateway;
+
+import java.time.Duration;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커
+ * 연속 실패가 임계값에 도달하면 openDuration 동안 호출을 차단하고,
+ * 이후 시험 호출 한 건만 통과시켜 성공하면 닫고 실패하면 다시 연다.
+ */
+final class CircuitBreaker {
+
+	enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long openDurationNanos;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+
+	CircuitBreaker(int failureThreshold, Duration openDuration) {
+		this.failureThreshold = failureThreshold;
+		this.openDurationNanos = openDuration.toNanos();
+	}
+
+	synchronized boolean tryAcquire() {
+		return switch (state) {
+			case CLOSED -> true;
+			case OPEN -> {
+				if (System.nanoTime() - openedAt < openDurationNanos) {
+					yield false;
+				}
+				state = State.HALF_OPEN;
+				yield true;
+			}
+			// 시험 호출이 진행 중이면 결과가 나올 때까지 나머지는 차단한다
+			case HALF_OPEN -> false;
+		};
+	}
+
+	synchronized void recordSuccess() {
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+	}
+
+	synchronized void recordFailure() {
+		if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+			state = State.OPEN;
+			openedAt = System.nanoTime();
+			consecutiveFailures = 0;
+		}
+	}
+
+	synchronized State state() {
+		return state;
+	}
+}
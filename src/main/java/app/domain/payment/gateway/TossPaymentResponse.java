@@ -0,0 +1,8 @@
+package app.domain.payment.gateway;
+
+/**
+ * 토스페이먼츠 API 응답
+ * success 는 HTTP 200 여부이며, body 는 성공/실패와 관계없이 응답 본문 원문이다.
+ */
+public record TossPaymentResponse(boolean success, String body) {
+}
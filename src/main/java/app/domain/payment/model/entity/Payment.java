@@ -4,6 +4,8 @@ import java.util.UUID;
 
 import app.domain.order.model.entity.enums.PaymentMethod;
 import app.domain.payment.model.entity.enums.PaymentStatus;
+import app.domain.payment.status.PaymentErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
 import app.global.entity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,6 +13,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,7 +22,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "p_payment")
+@Table(name = "p_payment", indexes = {
+	@Index(name = "idx_payment_status_updated", columnList = "payment_status, updated_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -45,13 +50,47 @@ public class Payment extends BaseEntity {
 	@Enumerated(EnumType.STRING)
 	private PaymentStatus paymentStatus;
 
-	public Payment(UUID paymentId, String paymentKey, UUID ordersId, PaymentMethod paymentMethod, Long amount, PaymentStatus paymentStatus) {
+	@Column
+	private String cancelReason;
+
+	// 진행 중인 승인/취소 요청의 멱등 키. 복구 시 같은 키로 재전송해 토스가 최초 처리 결과를 돌려주게 한다
+	@Column(length = 64)
+	private String idempotencyKey;
+
+	public Payment(UUID paymentId, String paymentKey, UUID ordersId, PaymentMethod paymentMethod, Long amount,
+		PaymentStatus paymentStatus, String cancelReason, String idempotencyKey) {
 		this.paymentId = paymentId;
 		this.paymentKey = paymentKey;
 		this.ordersId = ordersId;
 		this.paymentMethod = paymentMethod;
 		this.amount = amount;
 		this.paymentStatus = paymentStatus;
+		this.cancelReason = cancelReason;
+		this.idempotencyKey = idempotencyKey;
+	}
+
+	/**
+	 * 승인 요청 의도를 기록한다. 승인 대기 중이거나 실패한 결제만 다시 승인할 수 있다.
+	 */
+	public void beginConfirm(String paymentKey, String idempotencyKey) {
+		if (paymentStatus != PaymentStatus.PENDING && paymentStatus != PaymentStatus.FAILED) {
+			throw new GeneralException(PaymentErrorStatus.PAYMENT_ALREADY_PROCESSED);
+		}
+		this.paymentKey = paymentKey;
+		this.idempotencyKey = idempotencyKey;
+		this.paymentStatus = PaymentStatus.PENDING;
+	}
+
+	/**
+	 * 취소 요청 의도를 기록한다. 복구 시 같은 요청을 재전송할 수 있도록 취소 사유와 멱등 키를 함께 보관한다.
+	 */
+	public void beginCancel(String cancelReason, String idempotencyKey) {
+		if (paymentStatus != PaymentStatus.COMPLETED && paymentStatus != PaymentStatus.CANCEL_PENDING) {
+			throw new GeneralException(PaymentErrorStatus.PAYMENT_ALREADY_PROCESSED);
+		}
+		this.cancelReason = cancelReason;
+		this.idempotencyKey = idempotencyKey;
+		this.paymentStatus = PaymentStatus.CANCEL_PENDING;
 	}
 
 	public void updatePaymentStatus(PaymentStatus paymentStatus) {
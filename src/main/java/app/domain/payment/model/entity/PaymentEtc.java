@@ -1,29 +1,41 @@
 package app.domain.payment.model.entity;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
+import app.domain.payment.archive.PaymentResponseCodec;
 import app.global.entity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 토스 승인/취소 응답 (hot)
+ * 원문은 gzip 으로 압축해 보관하고, 조회에 쓰는 응답 상태만 평문 컬럼으로 둔다.
+ * 보관 기간이 지난 원문은 PaymentResponseArchiver 가 p_payment_etc_archive 로 옮기고 이 행에서는 비운다.
+ */
 @Entity
-@Table(name = "p_payment_etc")
+@Table(name = "p_payment_etc", indexes = {
+	@Index(name = "idx_payment_etc_payment", columnList = "payment_id, gateway_status"),
+	@Index(name = "idx_payment_etc_archive_due", columnList = "archived_at, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 public class PaymentEtc extends BaseEntity {
 
+	private static final int MAX_COMPRESSED_LENGTH = 1024 * 1024;
+
 	@Id
 	@GeneratedValue
 	private UUID paymentEtcId;
@@ -32,12 +44,36 @@ public class PaymentEtc extends BaseEntity {
 	@JoinColumn(name = "payment_id", nullable = false)
 	private Payment payment;
 
-	@Column(nullable = false, columnDefinition = "TEXT")
-	private String paymentResponse;
+	@Column(name = "gateway_status", length = PaymentResponseCodec.GATEWAY_STATUS_LENGTH)
+	private String gatewayStatus;
+
+	@Column(length = MAX_COMPRESSED_LENGTH)
+	private byte[] compressedResponse;
 
-	public PaymentEtc(UUID paymentEtcId, Payment payment, String paymentResponse) {
+	@Column(name = "archived_at")
+	private LocalDateTime archivedAt;
+
+	public PaymentEtc(UUID paymentEtcId, Payment payment, String gatewayStatus, byte[] compressedResponse,
+		LocalDateTime archivedAt) {
 		this.paymentEtcId = paymentEtcId;
 		this.payment = payment;
-		this.paymentResponse = paymentResponse;
+		this.gatewayStatus = gatewayStatus;
+		this.compressedResponse = compressedResponse;
+		this.archivedAt = archivedAt;
+	}
+
+	public static PaymentEtc of(Payment payment, String rawResponse) {
+		return PaymentEtc.builder()
+			.payment(payment)
+			.gatewayStatus(PaymentResponseCodec.gatewayStatus(rawResponse))
+			.compressedResponse(PaymentResponseCodec.compress(rawResponse))
+			.build();
+	}
+
+	/**
+	 * 원문이 cold 저장소로 옮겨졌으면 null 을 반환한다.
+	 */
+	public String getPaymentResponse() {
+		return compressedResponse == null ? null : PaymentResponseCodec.decompress(compressedResponse);
 	}
-}
\ No newline at end of file
+}
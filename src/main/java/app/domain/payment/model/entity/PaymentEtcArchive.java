@@ -0,0 +1,38 @@
+package app.domain.payment.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 기간이 지난 토스 응답 원문 (cold)
+ * p_payment_etc 와 같은 식별자를 쓰며, 옮긴 뒤에는 읽기만 한다.
+ */
+@Entity
+@Table(name = "p_payment_etc_archive", indexes = {
+	@Index(name = "idx_payment_etc_archive_payment", columnList = "payment_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentEtcArchive {
+
+	@Id
+	private UUID paymentEtcId;
+
+	@Column(name = "payment_id", nullable = false, updatable = false)
+	private UUID paymentId;
+
+	@Column(nullable = false, updatable = false, length = 1024 * 1024)
+	private byte[] compressedResponse;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,102 @@
+package app.domain.payment.model.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.UuidGenerator;
+
+import app.domain.payment.model.entity.enums.PaymentOutboxType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 확정 후 처리할 후속 작업 (outbox)
+ * 결제 상태 변경과 같은 트랜잭션에서 기록되고, PaymentOutboxDispatcher 가 배치로 꺼내 처리한 뒤 삭제한다.
+ * 실패하면 지수 백오프로 다시 시도하며, 최대 시도 횟수를 넘기면 dead 로 남겨 수동 확인 대상으로 둔다.
+ */
+@Entity
+@Table(name = "p_payment_outbox", indexes = {
+	@Index(name = "idx_payment_outbox_due", columnList = "dead, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentOutbox {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+	private static final int MAX_BACKOFF_SHIFT = 10;
+
+	@Id
+	@UuidGenerator(style = UuidGenerator.Style.TIME)
+	private UUID paymentOutboxId;
+
+	@Column(nullable = false, updatable = false)
+	private UUID paymentId;
+
+	@Column(nullable = false, updatable = false)
+	private UUID ordersId;
+
+	@Column(updatable = false)
+	private Long userId;
+
+	@Column(nullable = false, updatable = false, length = 30)
+	@Enumerated(EnumType.STRING)
+	private PaymentOutboxType type;
+
+	@Column(updatable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(nullable = false)
+	private boolean dead;
+
+	@Column(length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Builder
+	public PaymentOutbox(UUID paymentId, UUID ordersId, Long userId, PaymentOutboxType type, String payload) {
+		LocalDateTime now = LocalDateTime.now();
+		this.paymentId = paymentId;
+		this.ordersId = ordersId;
+		this.userId = userId;
+		this.type = type;
+		this.payload = payload;
+		this.nextAttemptAt = now;
+		this.createdAt = now;
+	}
+
+	/**
+	 * 처리하는 동안 다른 디스패처가 다시 가져가지 않도록 다음 시도 시각을 미룬다.
+	 * 처리 중 인스턴스가 죽으면 lease 가 지난 뒤 다시 처리된다.
+	 */
+	public void lease(LocalDateTime until) {
+		this.nextAttemptAt = until;
+	}
+
+	public void recordFailure(String error, LocalDateTime now, int maxAttempts, Duration baseBackoff) {
+		this.attempts++;
+		this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+		if (attempts >= maxAttempts) {
+			this.dead = true;
+			return;
+		}
+		this.nextAttemptAt = now.plus(baseBackoff.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_SHIFT)));
+	}
+}
@@ -0,0 +1,7 @@
+package app.domain.payment.model.entity.enums;
+
+public enum PaymentOutboxType {
+	STORE_RESPONSE,
+	CLEAR_CART,
+	CHANGE_ORDER_STATUS
+}
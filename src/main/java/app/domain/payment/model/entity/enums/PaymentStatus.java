@@ -1,7 +1,9 @@
 package app.domain.payment.model.entity.enums;
 
 public enum PaymentStatus {
+	PENDING,
 	COMPLETED,
 	FAILED,
+	CANCEL_PENDING,
 	CANCELLED
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package app.domain.payment.model.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import app.domain.payment.model.entity.PaymentEtcArchive;
+
+@Repository
+public interface PaymentEtcArchiveRepository extends JpaRepository<PaymentEtcArchive, UUID> {
+
+	// 압축된 원문을 애플리케이션으로 읽어 오지 않고 DB 안에서 바로 복사한다
+	@Modifying
+	@Query("insert into PaymentEtcArchive (paymentEtcId, paymentId, compressedResponse, createdAt) "
+		+ "select e.paymentEtcId, e.payment.paymentId, e.compressedResponse, e.createdAt from PaymentEtc e "
+		+ "where e.paymentEtcId in :ids and e.compressedResponse is not null")
+	int copyFromHot(@Param("ids") List<UUID> ids);
+}
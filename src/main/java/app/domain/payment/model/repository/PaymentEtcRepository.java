@@ -1,12 +1,25 @@
 package app.domain.payment.model.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.payment.model.entity.PaymentEtc;
 
 @Repository
 public interface PaymentEtcRepository extends JpaRepository<PaymentEtc, UUID> {
-}
\ No newline at end of file
+
+	@Query("select e.paymentEtcId from PaymentEtc e where e.archivedAt is null and e.createdAt < :cutoff order by e.createdAt")
+	List<UUID> findIdsToArchive(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update PaymentEtc e set e.compressedResponse = null, e.archivedAt = :archivedAt where e.paymentEtcId in :ids")
+	int markArchived(@Param("ids") List<UUID> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,27 @@
+package app.domain.payment.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import app.domain.payment.model.entity.PaymentOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, UUID> {
+
+	// lock.timeout -2 는 SKIP LOCKED, 여러 인스턴스의 디스패처가 서로 다른 작업을 가져간다
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("select o from PaymentOutbox o where o.dead = false and o.nextAttemptAt <= :now order by o.nextAttemptAt")
+	List<PaymentOutbox> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -1,14 +1,32 @@
 package app.domain.payment.model.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.payment.model.entity.Payment;
+import app.domain.payment.model.entity.enums.PaymentStatus;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, UUID> {
 	Optional<Payment> findByOrdersId(UUID ordersId);
-}
\ No newline at end of file
+
+	/**
+	 * 상태가 from 일 때만 to 로 바꾼다. 요청 스레드와 복구 작업이 같은 결제를 동시에 확정해도 한 번만 반영된다.
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("update Payment p set p.paymentStatus = :to where p.paymentId = :paymentId and p.paymentStatus = :from")
+	int transitionStatus(@Param("paymentId") UUID paymentId, @Param("from") PaymentStatus from,
+		@Param("to") PaymentStatus to);
+
+	List<Payment> findTop100ByPaymentStatusInAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+		Collection<PaymentStatus> statuses, LocalDateTime updatedBefore);
+}
@@ -15,7 +15,10 @@ public enum PaymentErrorStatus implements BaseCode {
 	PAYMENT_CONFIRM_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PAYMENT002", "결제 승인에 실패했습니다."),
 	TOSS_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "PAYMENT003", "토스페이먼츠 API 오류가 발생했습니다."),
 	PAYMENT_NOT_REFUNDABLE(HttpStatus.BAD_REQUEST, "PAYMENT004", "환불이 불가능한 주문입니다."),
-	PAYMENT_CANCEL_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PAYMENT005", "결제 취소에 실패했습니다.");
+	PAYMENT_CANCEL_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PAYMENT005", "결제 취소에 실패했습니다."),
+	TOSS_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "PAYMENT006", "결제 서비스가 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요."),
+	PAYMENT_ALREADY_PROCESSED(HttpStatus.CONFLICT, "PAYMENT007", "이미 처리된 결제입니다."),
+	PAYMENT_ORDER_NOT_PAYABLE(HttpStatus.CONFLICT, "PAYMENT008", "결제할 수 없는 주문 상태입니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
@@ -57,6 +57,7 @@ public class ReviewService {
 			.build();
 
 		Review savedReview = reviewRepository.save(review);
+		storeRepository.incrementRating(order.getStore().getStoreId(), request.getRating());
 
 		return "리뷰 : " + savedReview.getReviewId() + " 가 생성되었습니다.";
 	}
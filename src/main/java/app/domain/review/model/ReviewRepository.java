@@ -16,12 +16,12 @@ import app.domain.user.model.entity.User;
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, UUID> {
 
-	List<Review> findByUser(User user);
+	// 응답에 매장명과 작성자명이 함께 나가므로 리뷰마다 Store/User 를 따로 조회하지 않도록 함께 가져온다
+	@Query("select r from Review r join fetch r.store join fetch r.user where r.user = :user")
+	List<Review> findByUser(@Param("user") User user);
 
-	@Query("SELECT AVG(r.rating) FROM Review r WHERE r.store.storeId = :storeId")
-	Double getAverageRatingByStore(@Param("storeId") UUID storeId);
-
-	List<Review> findByStore(Store store);
+	@Query("select r from Review r join fetch r.user where r.store = :store")
+	List<Review> findByStore(@Param("store") Store store);
 
 	boolean existsByOrders(Orders orders);
 }
@@ -1,8 +1,10 @@
 package app.domain.store;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import app.domain.menu.model.dto.response.MenuListResponse;
@@ -18,6 +21,7 @@ import app.domain.store.model.dto.request.StoreApproveRequest;
 import app.domain.store.model.dto.request.StoreInfoUpdateRequest;
 import app.domain.store.model.dto.response.StoreApproveResponse;
 import app.domain.store.model.dto.response.StoreInfoUpdateResponse;
+import app.domain.store.model.dto.response.StoreOrderBoardResponse;
 import app.domain.store.model.dto.response.StoreOrderListResponse;
 import app.domain.store.model.entity.Region;
 import app.domain.store.repository.RegionRepository;
@@ -108,6 +112,14 @@ public class StoreController {
 		return ApiResponse.onSuccess(StoreSuccessStatus._OK, response);
 	}
 
+	@GetMapping("/{storeId}/order/board")
+	public ApiResponse<StoreOrderBoardResponse> getStoreOrderBoard(@PathVariable UUID storeId,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+		@RequestParam(required = false) UUID sinceOrderId) {
+		StoreOrderBoardResponse response = storeService.getStoreOrderBoard(storeId, since, sinceOrderId);
+		return ApiResponse.onSuccess(StoreSuccessStatus._OK, response);
+	}
+
 	@PostMapping("/order/{orderId}/accept")
 	public ApiResponse<String> acceptOrder(@PathVariable UUID orderId) {
 		storeService.acceptOrder(orderId);
@@ -0,0 +1,31 @@
+package app.domain.store;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매장 평점 집계 보정 작업
+ * 리뷰 작성 시 증분 반영이 누락되거나 리뷰가 직접 수정된 경우를 p_review 기준으로 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRatingReconciler {
+
+	private final StoreRepository storeRepository;
+
+	@Scheduled(cron = "${store.rating.reconcile-cron:0 30 4 * * *}")
+	@Transactional
+	public int reconcile() {
+		int corrected = storeRepository.reconcileRatings();
+		if (corrected > 0) {
+			log.warn("매장 평점 집계 보정 완료 - 보정된 매장 수: {}", corrected);
+		}
+		return corrected;
+	}
+}
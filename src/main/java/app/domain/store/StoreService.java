@@ -1,9 +1,15 @@
 package app.domain.store;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +19,7 @@ import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.repository.CategoryRepository;
 import app.domain.menu.model.repository.MenuRepository;
 import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.repository.OrdersRepository;
 import app.domain.order.service.OrderService;
 import app.domain.review.model.ReviewRepository;
@@ -22,6 +29,8 @@ import app.domain.store.model.dto.request.StoreApproveRequest;
 import app.domain.store.model.dto.request.StoreInfoUpdateRequest;
 import app.domain.store.model.dto.response.StoreApproveResponse;
 import app.domain.store.model.dto.response.StoreInfoUpdateResponse;
+import app.domain.store.model.dto.response.StoreOrderBoardItem;
+import app.domain.store.model.dto.response.StoreOrderBoardResponse;
 import app.domain.store.model.dto.response.StoreOrderListResponse;
 import app.domain.store.model.entity.Region;
 import app.domain.store.model.entity.Store;
@@ -47,6 +56,17 @@ public class StoreService {
 	private final OrderService orderService;
 	private final SecurityUtil securityUtil;
 
+	private static final Set<OrderStatus> BOARD_STATUSES = EnumSet.of(OrderStatus.PENDING, OrderStatus.ACCEPTED,
+		OrderStatus.COOKING, OrderStatus.IN_DELIVERY);
+	// sinceOrderId 가 없으면 since 시각에 변경된 주문을 모두 포함한다
+	private static final UUID MIN_ORDER_ID = new UUID(0L, 0L);
+
+	@Value("${store.order-board.max-size:200}")
+	private int boardMaxSize;
+
+	@Value("${store.order-board.lookback-ms:2000}")
+	private long boardLookbackMs;
+
 	@Transactional
 	public StoreApproveResponse createStore(StoreApproveRequest request) {
 
@@ -69,8 +89,7 @@ public class StoreService {
 	@Transactional
 	public StoreInfoUpdateResponse updateStoreInfo(StoreInfoUpdateRequest request) {
 
-		User user = securityUtil.getCurrentUser();
-		Long userId = user.getUserId();
+		Long userId = securityUtil.getCurrentPrincipal().userId();
 
 		Store store = storeRepository.findById(request.getStoreId())
 			.orElseThrow(() -> new GeneralException(StoreErrorCode.STORE_NOT_FOUND));
@@ -106,8 +125,7 @@ public class StoreService {
 
 	@Transactional
 	public void deleteStore(UUID storeId) {
-		User user = securityUtil.getCurrentUser();
-		Long userId = user.getUserId();
+		Long userId = securityUtil.getCurrentPrincipal().userId();
 
 		Store store = storeRepository.findById(storeId)
 			.orElseThrow(() -> new GeneralException(StoreErrorCode.STORE_NOT_FOUND));
@@ -121,8 +139,7 @@ public class StoreService {
 
 	@Transactional(readOnly = true)
 	public MenuListResponse getStoreMenuList(UUID storeId) {
-		User user = securityUtil.getCurrentUser();
-		Long userId = user.getUserId();
+		Long userId = securityUtil.getCurrentPrincipal().userId();
 
 		Store store = storeRepository.findById(storeId)
 			.orElseThrow(() -> new GeneralException(StoreErrorCode.STORE_NOT_FOUND));
@@ -143,8 +160,7 @@ public class StoreService {
 
 	@Transactional(readOnly = true)
 	public List<GetReviewResponse> getStoreReviewList(UUID storeId) {
-		User user = securityUtil.getCurrentUser();
-		Long userId = user.getUserId();
+		Long userId = securityUtil.getCurrentPrincipal().userId();
 
 		Store store = storeRepository.findById(storeId)
 			.orElseThrow(() -> new GeneralException(StoreErrorCode.STORE_NOT_FOUND));
@@ -163,8 +179,7 @@ public class StoreService {
 
 	@Transactional(readOnly = true)
 	public StoreOrderListResponse getStoreOrderList(UUID storeId) {
-		User user = securityUtil.getCurrentUser();
-		Long userId = user.getUserId();
+		Long userId = securityUtil.getCurrentPrincipal().userId();
 
 		Store store = storeRepository.findById(storeId)
 			.orElseThrow(() -> new GeneralException(StoreErrorCode.STORE_NOT_FOUND));
@@ -182,10 +197,61 @@ public class StoreService {
 		return new StoreOrderListResponse(store.getStoreId(), orderDetails);
 	}
 
+	/**
+	 * 진행 중 주문 보드
+	 * since 가 없으면 진행 중 주문 전체를, 있으면 since 이후 변경된 주문만 반환한다.
+	 * 조회 시점에 아직 커밋되지 않은 변경을 놓치지 않도록 watermark 는 조회 시각보다 lookback 만큼 앞으로 잡으며,
+	 * 그 구간에서 다시 전달되는 주문은 클라이언트가 ID 로 덮어쓴다.
+	 * 한 번에 다 읽지 못하면 (watermark, watermarkOrderId) 를 복합 커서로 돌려줘 같은 시각의 주문을 건너뛰지 않는다.
+	 */
+	@Transactional(readOnly = true)
+	public StoreOrderBoardResponse getStoreOrderBoard(UUID storeId, LocalDateTime since, UUID sinceOrderId) {
+		Long userId = securityUtil.getCurrentPrincipal().userId();
+
+		Store store = storeRepository.findById(storeId)
+			.orElseThrow(() -> new GeneralException(StoreErrorCode.STORE_NOT_FOUND));
+
+		if (!store.getUser().getUserId().equals(userId)) {
+			throw new GeneralException(StoreErrorCode.INVALID_USER_ROLE);
+		}
+
+		LocalDateTime safePoint = LocalDateTime.now().minus(Duration.ofMillis(boardLookbackMs));
+		PageRequest limit = PageRequest.of(0, boardMaxSize);
+		List<StoreOrderBoardItem> changes = since == null
+			? ordersRepository.findBoardSnapshot(storeId, BOARD_STATUSES, limit)
+			: ordersRepository.findBoardChanges(storeId, since, sinceOrderId != null ? sinceOrderId : MIN_ORDER_ID,
+				limit);
+
+		boolean hasMore = changes.size() == boardMaxSize;
+		LocalDateTime watermark;
+		UUID watermarkOrderId = null;
+		if (hasMore) {
+			StoreOrderBoardItem last = changes.get(changes.size() - 1);
+			watermark = last.getUpdatedAt();
+			watermarkOrderId = last.getOrderId();
+		} else if (since == null || safePoint.isAfter(since)) {
+			watermark = safePoint;
+		} else {
+			watermark = since;
+			watermarkOrderId = sinceOrderId;
+		}
+
+		return StoreOrderBoardResponse.builder()
+			.storeId(storeId)
+			.watermark(watermark)
+			.watermarkOrderId(watermarkOrderId)
+			.orders(changes.stream().filter(order -> BOARD_STATUSES.contains(order.getOrderStatus())).toList())
+			.closedOrderIds(changes.stream()
+				.filter(order -> !BOARD_STATUSES.contains(order.getOrderStatus()))
+				.map(StoreOrderBoardItem::getOrderId)
+				.toList())
+			.hasMore(hasMore)
+			.build();
+	}
+
 	@Transactional
 	public void acceptOrder(UUID orderId) {
-		User user = securityUtil.getCurrentUser();
-		Long userId = user.getUserId();
+		Long userId = securityUtil.getCurrentPrincipal().userId();
 
 		Orders order = ordersRepository.findById(orderId)
 			.orElseThrow(() -> new GeneralException(StoreErrorCode.ORDER_NOT_FOUND));
@@ -199,8 +265,7 @@ public class StoreService {
 
 	@Transactional
 	public void rejectOrder(UUID orderId) {
-		User user = securityUtil.getCurrentUser();
-		Long userId = user.getUserId();
+		Long userId = securityUtil.getCurrentPrincipal().userId();
 
 		Orders order = ordersRepository.findById(orderId)
 			.orElseThrow(() -> new GeneralException(StoreErrorCode.ORDER_NOT_FOUND));
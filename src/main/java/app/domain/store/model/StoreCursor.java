@@ -0,0 +1,34 @@
+package app.domain.store.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import app.domain.customer.status.CustomerErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+/**
+ * 매장 목록 커서: 정렬 키 (createdAt DESC, storeId DESC) 의 마지막 값
+ * 클라이언트에는 내용을 알 수 없는 URL-safe Base64 토큰으로 전달한다.
+ */
+public record StoreCursor(LocalDateTime createdAt, UUID storeId) {
+
+	private static final String DELIMITER = "|";
+
+	public String encode() {
+		String raw = createdAt + DELIMITER + storeId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static StoreCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int index = raw.indexOf(DELIMITER);
+			return new StoreCursor(LocalDateTime.parse(raw.substring(0, index)),
+				UUID.fromString(raw.substring(index + 1)));
+		} catch (RuntimeException e) {
+			throw new GeneralException(CustomerErrorStatus.INVALID_STORE_CURSOR);
+		}
+	}
+}
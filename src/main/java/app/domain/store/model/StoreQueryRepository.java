@@ -3,6 +3,7 @@ package app.domain.store.model;
 import org.springframework.data.domain.Pageable;
 import app.domain.customer.dto.response.GetStoreListResponse;
 import app.domain.store.status.StoreAcceptStatus;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.PagedResponse;
 
 public interface StoreQueryRepository {
@@ -14,4 +15,8 @@ public interface StoreQueryRepository {
 	PagedResponse<GetStoreListResponse> getApprovedStore(Pageable pageable);
 
 	PagedResponse<GetStoreListResponse> getAllStore(StoreAcceptStatus status, Pageable pageable);
+
+	// 커서 기반 조회: keyword 가 null 이면 전체 목록, cursor 가 null 이면 첫 페이지
+	CursorResponse<GetStoreListResponse> scrollStores(String keyword, StoreAcceptStatus status, String cursor,
+		int size, boolean includeTotal);
 }
\ No newline at end of file
@@ -1,19 +1,25 @@
 package app.domain.store.model;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import app.domain.customer.dto.response.GetStoreListResponse;
-import app.domain.review.model.entity.QReview;
 import app.domain.store.model.entity.QStore;
 import app.domain.store.status.StoreAcceptStatus;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.PagedResponse;
 import lombok.RequiredArgsConstructor;
 
@@ -30,7 +36,17 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 		Pageable pageable
 	) {
 		QStore store = QStore.store;
-		QReview review = QReview.review;
+
+		BooleanBuilder condition = new BooleanBuilder()
+			.and(store.storeAcceptStatus.eq(status))
+			.and(store.deletedAt.isNull());
+		List<OrderSpecifier<?>> orders = new ArrayList<>();
+		if (StringUtils.hasText(keyword)) {
+			condition.and(StoreSearchExpressions.matches(store, keyword, status));
+			orders.add(StoreSearchExpressions.rank(store, keyword).desc());
+			orders.add(store.storeName.length().asc());
+		}
+		orders.add(store.storeId.asc());
 
 		List<GetStoreListResponse> content = queryFactory
 			.select(Projections.constructor(
@@ -39,16 +55,11 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 				store.storeName,
 				store.address,
 				store.minOrderAmount,
-				review.rating.avg().coalesce(0.0)
+				averageRating(store)
 			))
 			.from(store)
-			.leftJoin(review).on(review.store.eq(store))
-			.where(
-				store.storeAcceptStatus.eq(status),
-				store.deletedAt.isNull(),
-				store.storeName.containsIgnoreCase(keyword)
-			)
-			.groupBy(store.storeId)
+			.where(condition)
+			.orderBy(orders.toArray(OrderSpecifier[]::new))
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
@@ -56,11 +67,7 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 		Long total = queryFactory
 			.select(store.count())
 			.from(store)
-			.where(
-				store.storeAcceptStatus.eq(status),
-				store.deletedAt.isNull(),
-				store.storeName.containsIgnoreCase(keyword)
-			)
+			.where(condition)
 			.fetchOne();
 
 		Page<GetStoreListResponse> page = new PageImpl<>(content, pageable, total != null ? total : 0);
@@ -70,7 +77,6 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 	@Override
 	public PagedResponse<GetStoreListResponse> getApprovedStore(Pageable pageable) {
 		QStore store = QStore.store;
-		QReview review = QReview.review;
 
 		List<GetStoreListResponse> results = queryFactory
 			.select(Projections.constructor(GetStoreListResponse.class,
@@ -78,13 +84,11 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 				store.storeName,
 				store.address,
 				store.minOrderAmount,
-				review.rating.avg().coalesce(0.0)
+				averageRating(store)
 			))
 			.from(store)
-			.leftJoin(review).on(review.store.eq(store))
 			.where(store.storeAcceptStatus.eq(StoreAcceptStatus.APPROVE)
 				.and(store.deletedAt.isNull()))
-			.groupBy(store.storeId)
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
@@ -105,7 +109,6 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 	@Override
 	public PagedResponse<GetStoreListResponse> getAllStore(StoreAcceptStatus status, Pageable pageable) {
 		QStore store = QStore.store;
-		QReview review = QReview.review;
 
 		List<GetStoreListResponse> content = queryFactory
 			.select(Projections.constructor(
@@ -114,15 +117,13 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 				store.storeName,
 				store.address,
 				store.minOrderAmount,
-				review.rating.avg().coalesce(0.0)
+				averageRating(store)
 			))
 			.from(store)
-			.leftJoin(review).on(review.store.eq(store))
 			.where(
 				store.storeAcceptStatus.eq(status),
 				store.deletedAt.isNull()
 			)
-			.groupBy(store.storeId)
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
@@ -140,4 +141,66 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 
 		return PagedResponse.from(page);
 	}
+
+	@Override
+	public CursorResponse<GetStoreListResponse> scrollStores(String keyword, StoreAcceptStatus status,
+		String cursor, int size, boolean includeTotal) {
+		QStore store = QStore.store;
+
+		BooleanBuilder condition = new BooleanBuilder()
+			.and(store.storeAcceptStatus.eq(status))
+			.and(store.deletedAt.isNull());
+		if (StringUtils.hasText(keyword)) {
+			condition.and(StoreSearchExpressions.matches(store, keyword, status));
+		}
+
+		Long total = null;
+		if (includeTotal) {
+			total = queryFactory
+				.select(store.count())
+				.from(store)
+				.where(condition)
+				.fetchOne();
+		}
+
+		if (cursor != null) {
+			StoreCursor after = StoreCursor.decode(cursor);
+			condition.and(store.createdAt.lt(after.createdAt())
+				.or(store.createdAt.eq(after.createdAt()).and(store.storeId.lt(after.storeId()))));
+		}
+
+		// 한 건을 더 읽어 다음 페이지 존재 여부를 COUNT 없이 판단한다
+		NumberExpression<Double> averageRating = averageRating(store);
+		List<Tuple> rows = queryFactory
+			.select(store.storeId, store.storeName, store.address, store.minOrderAmount, averageRating,
+				store.createdAt)
+			.from(store)
+			.where(condition)
+			.orderBy(store.createdAt.desc(), store.storeId.desc())
+			.limit(size + 1L)
+			.fetch();
+
+		boolean hasNext = rows.size() > size;
+		List<Tuple> pageRows = hasNext ? rows.subList(0, size) : rows;
+		List<GetStoreListResponse> content = pageRows.stream()
+			.map(row -> new GetStoreListResponse(
+				row.get(store.storeId),
+				row.get(store.storeName),
+				row.get(store.address),
+				row.get(store.minOrderAmount),
+				row.get(averageRating)))
+			.toList();
+
+		String nextCursor = null;
+		if (hasNext) {
+			Tuple last = pageRows.get(pageRows.size() - 1);
+			nextCursor = new StoreCursor(last.get(store.createdAt), last.get(store.storeId)).encode();
+		}
+		return new CursorResponse<>(content, content.size(), hasNext, nextCursor, total);
+	}
+
+	// 매장 행에 유지되는 평점 집계(합계/개수)로 평균을 계산해 p_review 를 조회하지 않는다
+	private NumberExpression<Double> averageRating(QStore store) {
+		return store.ratingSum.doubleValue().divide(store.reviewCount.nullif(0L)).coalesce(0.0);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package app.domain.store.model;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+
+import app.domain.menu.model.entity.QMenu;
+import app.domain.store.model.entity.QStore;
+import app.domain.store.status.StoreAcceptStatus;
+
+/**
+ * 가게/메뉴 이름 검색 조건과 정렬 점수
+ * 조건은 lower(이름) LIKE '%키워드%' 형태로 생성되어 PostgreSQL 에서는
+ * SearchIndexInitializer 가 만든 pg_trgm GIN 인덱스를 타고, H2 에서는 그대로 LIKE 로 동작한다.
+ * 두 조건을 조인해 OR 로 묶으면 인덱스를 쓰지 못하므로 가게 이름과 메뉴 이름을 각각 서브쿼리로 조회하되,
+ * 후보 가게를 애플리케이션으로 가져오지 않고 본 쿼리 안에서 상태/삭제 조건과 함께 처리한다.
+ */
+public final class StoreSearchExpressions {
+
+	private static final int EXACT_NAME = 4;
+	private static final int PREFIX_NAME = 3;
+	private static final int CONTAINS_NAME = 2;
+	private static final int MENU_ONLY = 1;
+
+	/**
+	 * 트라이그램 인덱스를 사용할 수 있는 최소 키워드 길이
+	 */
+	public static final int TRIGRAM_MIN_LENGTH = 3;
+
+	private StoreSearchExpressions() {
+	}
+
+	/**
+	 * 가게 이름 또는 노출 중인 메뉴 이름에 키워드가 포함되고, 주어진 승인 상태이며 삭제되지 않은 가게
+	 * 키워드가 트라이그램보다 짧으면 인덱스를 탈 수 없으므로 메뉴 전체를 훑지 않고
+	 * 상태 조건으로 걸러진 가게마다 해당 가게의 메뉴만 확인한다 (idx_menu_store)
+	 */
+	public static BooleanExpression matches(QStore store, String keyword, StoreAcceptStatus status) {
+		QMenu menu = new QMenu("candidateMenu");
+		if (keyword.strip().length() < TRIGRAM_MIN_LENGTH) {
+			return storeNameMatches(store, keyword)
+				.or(JPAExpressions.selectOne()
+					.from(menu)
+					.where(menu.store.storeId.eq(store.storeId), menuNameMatches(menu, keyword))
+					.exists());
+		}
+
+		QStore candidate = new QStore("candidateStore");
+		return store.storeId.in(JPAExpressions.select(candidate.storeId)
+				.from(candidate)
+				.where(storeNameMatches(candidate, keyword),
+					candidate.storeAcceptStatus.eq(status),
+					candidate.deletedAt.isNull()))
+			.or(store.storeId.in(JPAExpressions.select(menu.store.storeId)
+				.from(menu)
+				.where(menuNameMatches(menu, keyword),
+					menu.store.storeAcceptStatus.eq(status),
+					menu.store.deletedAt.isNull())));
+	}
+
+	/**
+	 * 가게 이름에 키워드가 포함된 가게 (idx_store_name_trgm)
+	 */
+	public static BooleanExpression storeNameMatches(QStore store, String keyword) {
+		return store.storeName.containsIgnoreCase(keyword);
+	}
+
+	/**
+	 * 노출 중인 메뉴 중 이름에 키워드가 포함된 메뉴 (idx_menu_name_trgm)
+	 */
+	public static BooleanExpression menuNameMatches(QMenu menu, String keyword) {
+		return menu.name.containsIgnoreCase(keyword)
+			.and(menu.deletedAt.isNull())
+			.and(menu.isHidden.isFalse());
+	}
+
+	/**
+	 * 일치 정도가 높을수록 큰 점수 (이름 일치 > 접두 일치 > 부분 일치 > 메뉴 이름만 일치)
+	 */
+	public static NumberExpression<Integer> rank(QStore store, String keyword) {
+		return new CaseBuilder()
+			.when(store.storeName.equalsIgnoreCase(keyword)).then(EXACT_NAME)
+			.when(store.storeName.startsWithIgnoreCase(keyword)).then(PREFIX_NAME)
+			.when(store.storeName.containsIgnoreCase(keyword)).then(CONTAINS_NAME)
+			.otherwise(MENU_ONLY);
+	}
+}
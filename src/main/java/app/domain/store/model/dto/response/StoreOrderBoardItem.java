@@ -0,0 +1,25 @@
+package app.domain.store.model.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import app.domain.order.model.entity.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 보드 항목, OrdersRepository 에서 엔티티 대신 이 DTO 로 바로 조회한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreOrderBoardItem {
+
+	private UUID orderId;
+	private String customerName;
+	private Long totalPrice;
+	private OrderStatus orderStatus;
+	private LocalDateTime orderedAt;
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,30 @@
+package app.domain.store.model.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 보드 응답
+ * 클라이언트는 watermark 와 watermarkOrderId 를 다음 요청의 since, sinceOrderId 로 보내고, orders 는 주문 ID 기준으로 덮어쓰며,
+ * closedOrderIds 는 진행 중 상태를 벗어난 주문이므로 보드에서 제거한다.
+ * hasMore 가 true 면 바로 다시 요청해 나머지 변경분을 받는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoreOrderBoardResponse {
+
+	private UUID storeId;
+	private LocalDateTime watermark;
+	private UUID watermarkOrderId;
+	private List<StoreOrderBoardItem> orders;
+	private List<UUID> closedOrderIds;
+	private boolean hasMore;
+}
@@ -14,6 +14,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -24,7 +25,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "p_store")
+@Table(name = "p_store", indexes = {
+	// 고객 가게 목록 커서 조회: (상태, 생성일 DESC, storeId DESC) 키셋 탐색
+	@Index(name = "idx_store_status_created", columnList = "store_accept_status, created_at, store_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -67,6 +71,25 @@ public class Store extends BaseEntity {
 	@Builder.Default
 	private StoreAcceptStatus storeAcceptStatus = StoreAcceptStatus.PENDING;
 
+	// 리뷰 평점 집계: 리뷰 작성 시 증분 반영하고 StoreRatingReconciler 가 주기적으로 보정한다
+	// 벌크 UPDATE 로만 변경하므로, 영속 상태의 매장을 수정해도 오래된 값을 덮어쓰지 않도록 dirty checking 대상에서 뺀다
+	@Column(nullable = false, updatable = false)
+	@Builder.Default
+	private long reviewCount = 0L;
+
+	@Column(nullable = false, updatable = false)
+	@Builder.Default
+	private long ratingSum = 0L;
+
+	public Store(UUID storeId, User user, Region region, Category category, String storeName, String description,
+		String address, String phoneNumber, long minOrderAmount, StoreAcceptStatus storeAcceptStatus) {
+		this(storeId, user, region, category, storeName, description, address, phoneNumber, minOrderAmount,
+			storeAcceptStatus, 0L, 0L);
+	}
+
+	public double getAverageRating() {
+		return reviewCount == 0 ? 0.0 : (double)ratingSum / reviewCount;
+	}
 
 	public void updateAcceptStatus(StoreAcceptStatus newStatus) {
 		this.storeAcceptStatus = newStatus;
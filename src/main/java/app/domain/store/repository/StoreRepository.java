@@ -5,6 +5,9 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.store.model.entity.Region;
@@ -25,4 +28,19 @@ public interface StoreRepository extends JpaRepository<Store, UUID> {
 
 	boolean existsByStoreIdAndDeletedAtIsNull(UUID storeId);
 	List<Store> user(User user);
+
+	// 리뷰 작성 시 평점 집계를 원자적으로 증분 반영
+	@Modifying
+	@Query("update Store s set s.reviewCount = s.reviewCount + 1, s.ratingSum = s.ratingSum + :rating "
+		+ "where s.storeId = :storeId")
+	int incrementRating(@Param("storeId") UUID storeId, @Param("rating") long rating);
+
+	// p_review 기준으로 집계가 어긋난 매장만 다시 계산
+	@Modifying
+	@Query("update Store s "
+		+ "set s.reviewCount = (select count(r) from Review r where r.store = s), "
+		+ "s.ratingSum = (select coalesce(sum(r.rating), 0) from Review r where r.store = s) "
+		+ "where s.reviewCount <> (select count(r) from Review r where r.store = s) "
+		+ "or s.ratingSum <> (select coalesce(sum(r.rating), 0) from Review r where r.store = s)")
+	int reconcileRatings();
 }
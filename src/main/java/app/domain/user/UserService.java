@@ -24,6 +24,8 @@ import app.global.SecurityUtil;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 import app.global.jwt.JwtTokenProvider;
+import app.global.jwt.TokenDigest;
+import app.global.jwt.TokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,8 +41,8 @@ public class UserService {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final RedisTemplate<String, String> redisTemplate;
 	private final SecurityUtil securityUtil;
+	private final TokenRevocationRegistry tokenRevocationRegistry;
 	private static final String REFRESH_TOKEN_PREFIX = "RT:";
-	private static final String BLACKLIST_PREFIX = "BL:";
 
 	@Transactional
 	public CreateUserResponse createUser(CreateUserRequest createUserRequest) {
@@ -120,12 +122,16 @@ public class UserService {
 
 		Long expiration = jwtTokenProvider.getExpiration(accessToken);
 		if (expiration > 0) {
-			redisTemplate.opsForValue().set(
-				BLACKLIST_PREFIX + accessToken,
-				"logout",
-				expiration,
-				TimeUnit.MILLISECONDS
+			String digest = TokenDigest.of(accessToken);
+			// 만료 시각을 점수로 두어 재동기화 때 만료된 토큰을 점수 구간으로 정리한다
+			redisTemplate.opsForZSet().add(
+				TokenRevocationRegistry.REVOKED_TOKENS_KEY,
+				digest,
+				System.currentTimeMillis() + expiration
 			);
+			// 현재 인스턴스는 메시지 왕복을 기다리지 않고 바로 폐기하고, 다른 인스턴스에는 메시지로 전파
+			tokenRevocationRegistry.revoke(digest);
+			redisTemplate.convertAndSend(TokenRevocationRegistry.REVOKED_TOKEN_CHANNEL, digest);
 		}
 	}
 
@@ -0,0 +1,13 @@
+package app.global;
+
+import app.domain.user.model.entity.enums.UserRole;
+
+/**
+ * JWT 클레임만으로 구성한 인증 사용자 정보
+ * 사용자 ID 와 권한만 필요한 경우 DB 조회 없이 사용한다.
+ */
+public record CurrentUser(
+	Long userId,
+	UserRole userRole
+) {
+}
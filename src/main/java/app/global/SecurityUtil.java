@@ -1,11 +1,15 @@
 package app.global;
 
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import app.domain.user.model.UserRepository;
 import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
@@ -14,23 +18,67 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityUtil {
 
+	private static final String CURRENT_USER_ATTRIBUTE = SecurityUtil.class.getName() + ".CURRENT_USER";
+
 	private final UserRepository userRepository;
 
 	/**
 	 * 현재 인증된 사용자의 User 엔티티를 반환합니다.
+	 * 같은 요청 안에서는 처음 조회한 엔티티를 재사용합니다.
 	 * @return 현재 사용자 User 엔티티
 	 * @throws GeneralException 인증 정보가 없거나 사용자를 찾을 수 없는 경우
 	 */
 	public User getCurrentUser() {
+		Long userId = getCurrentUserId();
+
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes != null) {
+			Object cached = requestAttributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+			if (cached instanceof User cachedUser && userId.equals(cachedUser.getUserId())) {
+				return cachedUser;
+			}
+		}
+
+		User user = userRepository.findById(userId)
+			.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+		if (requestAttributes != null) {
+			requestAttributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+		}
+		return user;
+	}
+
+	/**
+	 * 현재 인증된 사용자의 ID 와 권한을 JWT 클레임에서 바로 반환합니다. DB 를 조회하지 않습니다.
+	 * 소유자 확인처럼 ID 와 권한만 필요한 경우 getCurrentUser 대신 사용합니다.
+	 * @throws GeneralException 인증 정보가 없는 경우
+	 */
+	public CurrentUser getCurrentPrincipal() {
+		Authentication authentication = getAuthentication();
+		return new CurrentUser(Long.parseLong(authentication.getName()), resolveUserRole(authentication));
+	}
+
+	private Long getCurrentUserId() {
+		return Long.parseLong(getAuthentication().getName());
+	}
+
+	private Authentication getAuthentication() {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
 		if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(
 			authentication.getPrincipal())) {
 			throw new GeneralException(ErrorStatus._UNAUTHORIZED);
 		}
+		return authentication;
+	}
 
-		Long userId = Long.parseLong(authentication.getName());
-		return userRepository.findById(userId)
-			.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+	private UserRole resolveUserRole(Authentication authentication) {
+		for (GrantedAuthority authority : authentication.getAuthorities()) {
+			for (UserRole userRole : UserRole.values()) {
+				if (userRole.name().equals(authority.getAuthority())) {
+					return userRole;
+				}
+			}
+		}
+		return null;
 	}
 }
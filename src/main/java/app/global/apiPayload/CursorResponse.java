@@ -0,0 +1,24 @@
+package app.global.apiPayload;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * nextCursor 를 다음 요청에 그대로 넘기면 이어서 조회하며, 마지막 페이지이면 null 이다.
+ * totalElements 는 요청한 경우에만 계산하고 그 외에는 null 이다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+	private List<T> content;
+	private int size;
+	private boolean hasNext;
+	private String nextCursor;
+	private Long totalElements;
+}
@@ -1,14 +1,23 @@
 package app.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
+import app.domain.cart.codec.BinaryCartValueCodec;
+import app.domain.cart.codec.CartCodecMode;
+import app.domain.cart.codec.CartValueCodec;
+import app.domain.cart.codec.JsonCartValueCodec;
+import app.domain.cart.codec.MigratingCartValueCodec;
+
 @Configuration
 public class RedisConfig {
 
@@ -23,10 +32,40 @@ public class RedisConfig {
 		return template;
 	}
 
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+
 	@Bean
 	public ObjectMapper redisObjectMapper() {
 		ObjectMapper mapper = new ObjectMapper();
 		mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
 		return mapper;
 	}
-}
\ No newline at end of file
+
+	@Bean
+	public RedisTemplate<String, byte[]> cartRedisTemplate(RedisConnectionFactory connectionFactory) {
+		RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+		template.setKeySerializer(new StringRedisSerializer());
+		template.setValueSerializer(RedisSerializer.byteArray());
+		template.setHashKeySerializer(new StringRedisSerializer());
+		template.setHashValueSerializer(RedisSerializer.byteArray());
+		return template;
+	}
+
+	@Bean
+	public CartValueCodec cartValueCodec(@Value("${cart.codec.mode:MIGRATION}") CartCodecMode mode,
+		ObjectMapper redisObjectMapper) {
+		JsonCartValueCodec jsonCodec = new JsonCartValueCodec(redisObjectMapper);
+		BinaryCartValueCodec binaryCodec = new BinaryCartValueCodec();
+		return switch (mode) {
+			case JSON -> jsonCodec;
+			case BINARY -> binaryCodec;
+			case MIGRATION -> new MigratingCartValueCodec(jsonCodec, binaryCodec);
+		};
+	}
+}
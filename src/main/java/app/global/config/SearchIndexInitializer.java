@@ -0,0 +1,60 @@
+package app.global.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가게/메뉴 이름 부분 검색용 pg_trgm GIN 인덱스 생성
+ * lower(이름) LIKE '%키워드%' 조건이 순차 스캔 대신 트라이그램 인덱스를 사용하도록 한다.
+ * 스키마가 ddl-auto 로 생성되므로 애플리케이션 기동 이후에 실행하며, PostgreSQL 이 아니면 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexInitializer {
+
+	private static final String POSTGRESQL = "PostgreSQL";
+
+	static final List<String> TRIGRAM_INDEX_DDL = List.of(
+		"CREATE EXTENSION IF NOT EXISTS pg_trgm",
+		"CREATE INDEX IF NOT EXISTS idx_store_name_trgm ON p_store USING gin (lower(store_name) gin_trgm_ops)",
+		"CREATE INDEX IF NOT EXISTS idx_menu_name_trgm ON p_menu USING gin (lower(name) gin_trgm_ops)"
+	);
+
+	private final DataSource dataSource;
+	private final JdbcTemplate jdbcTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void createTrigramIndexes() {
+		if (!isPostgreSql()) {
+			log.info("PostgreSQL 이 아니므로 트라이그램 검색 인덱스 생성을 건너뜁니다.");
+			return;
+		}
+		try {
+			TRIGRAM_INDEX_DDL.forEach(jdbcTemplate::execute);
+		} catch (Exception e) {
+			// 인덱스가 없어도 검색 결과는 같으므로 기동은 계속한다
+			log.warn("트라이그램 검색 인덱스 생성에 실패했습니다. 이름 검색이 순차 스캔으로 동작합니다.", e);
+		}
+	}
+
+	private boolean isPostgreSql() {
+		try (Connection connection = dataSource.getConnection()) {
+			return POSTGRESQL.equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+		} catch (SQLException e) {
+			log.warn("데이터베이스 종류를 확인하지 못했습니다.", e);
+			return false;
+		}
+	}
+}
@@ -2,7 +2,6 @@ package app.global.jwt;
 
 import java.io.IOException;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -21,10 +20,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	public static final String AUTHORIZATION_HEADER = "Authorization";
 	public static final String BEARER_PREFIX = "Bearer ";
-	public static final String BLACKLIST_PREFIX = "BL:";
 
-	private final JwtTokenProvider jwtTokenProvider;
-	private final RedisTemplate<String, String> redisTemplate;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final TokenRevocationRegistry tokenRevocationRegistry;
 
 	// 실제 필터링 로직은 doFilterInternal 에 들어감
 	// JWT 토큰의 인증 정보를 현재 쓰레드의 SecurityContext 에 저장하는 역할 수행
@@ -36,12 +34,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		String jwt = resolveToken(request);
 
-		// 정상 토큰이고, 블랙리스트에 없는 경우에만 Authentication 을 가져와서 SecurityContext 에 저장
-		if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-			// 블랙리스트에 토큰이 있는지 확인
-			if (redisTemplate.opsForValue().get(BLACKLIST_PREFIX + jwt) == null) {
-				Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
-				SecurityContextHolder.getContext().setAuthentication(authentication);
+		// 블랙리스트에 없고 정상 토큰인 경우에만 Authentication 을 가져와서 SecurityContext 에 저장
+		// 블랙리스트는 로컬 복제본으로, 검증 결과는 로컬 캐시로 확인하므로 대부분의 요청은 Redis 를 거치지 않는다
+		if (StringUtils.hasText(jwt)) {
+			String digest = TokenDigest.of(jwt);
+			if (!tokenRevocationRegistry.isRevoked(digest)) {
+				Authentication authentication = verifiedTokenCache.getAuthentication(digest, jwt);
+				if (authentication != null) {
+					SecurityContextHolder.getContext().setAuthentication(authentication);
+				}
 			}
 		}
 
@@ -87,7 +87,10 @@ public class JwtTokenProvider implements InitializingBean {
 	public Authentication getAuthentication(String accessToken) {
 		// 토큰 복호화
 		Claims claims = getClaims(accessToken);
+		return toAuthentication(claims, accessToken);
+	}
 
+	private Authentication toAuthentication(Claims claims, String accessToken) {
 		// 클레임에서 권한 정보 가져오기
 		Collection<? extends GrantedAuthority> authorities =
 			Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
@@ -101,6 +104,30 @@ public class JwtTokenProvider implements InitializingBean {
 		return new UsernamePasswordAuthenticationToken(principal, accessToken, authorities);
 	}
 
+	/**
+	 * 3-1. 토큰을 한 번만 파싱해 서명 검증과 Authentication 생성을 함께 처리하는 메서드
+	 * 유효하지 않은 토큰이면 null 을 반환한다.
+	 */
+	public VerifiedToken verify(String accessToken) {
+		try {
+			Claims claims = getClaims(accessToken);
+			if (claims.get(AUTHORITIES_KEY) == null || claims.getExpiration() == null) {
+				log.info("권한 정보나 만료 시간이 없는 토큰입니다.");
+				return null;
+			}
+			return new VerifiedToken(toAuthentication(claims, accessToken), claims.getExpiration().toInstant());
+		} catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
+			log.info("잘못된 JWT 서명입니다.");
+		} catch (ExpiredJwtException e) {
+			log.info("만료된 JWT 토큰입니다.");
+		} catch (UnsupportedJwtException e) {
+			log.info("지원되지 않는 JWT 토큰입니다.");
+		} catch (IllegalArgumentException e) {
+			log.info("JWT 토큰이 잘못되었습니다.");
+		}
+		return null;
+	}
+
 	/**
 	 * 4. 토큰 정보를 검증하는 메서드
 	 */
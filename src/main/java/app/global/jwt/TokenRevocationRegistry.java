@@ -0,0 +1,90 @@
+package app.global.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그아웃으로 폐기된 토큰의 다이제스트를 인스턴스 로컬에 복제해 두는 저장소
+ * 원본은 토큰 만료 시각을 점수로 둔 Redis 정렬 집합이며, 로그아웃 시 발행되는 메시지로 즉시 반영하고
+ * 유실된 메시지는 주기적으로 만료되지 않은 구간만 페이지 단위로 읽어 보정한다.
+ * 만료된 토큰은 서명 검증 단계에서 거부되므로 재동기화 때 집합과 목록에서 함께 빠진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRegistry implements MessageListener {
+
+	public static final String REVOKED_TOKEN_CHANNEL = "token:revoked";
+	public static final String REVOKED_TOKENS_KEY = "revoked-tokens";
+	private static final long PAGE_SIZE = 1000;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private volatile Set<String> revokedDigests = ConcurrentHashMap.newKeySet();
+	private volatile Set<String> rebuildingDigests;
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_TOKEN_CHANNEL));
+		resync();
+	}
+
+	public boolean isRevoked(String digest) {
+		return revokedDigests.contains(digest);
+	}
+
+	public void revoke(String digest) {
+		revokedDigests.add(digest);
+		Set<String> rebuilding = rebuildingDigests;
+		if (rebuilding != null) {
+			rebuilding.add(digest);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		revoke(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	@Scheduled(initialDelayString = "${jwt.revocation.resync-interval-ms:60000}",
+		fixedDelayString = "${jwt.revocation.resync-interval-ms:60000}")
+	public void resync() {
+		Set<String> rebuilding = ConcurrentHashMap.newKeySet();
+		rebuildingDigests = rebuilding;
+		try {
+			long now = System.currentTimeMillis();
+			ZSetOperations<String, String> revokedTokens = redisTemplate.opsForZSet();
+			revokedTokens.removeRangeByScore(REVOKED_TOKENS_KEY, Double.NEGATIVE_INFINITY, now);
+			long offset = 0;
+			Set<String> page;
+			do {
+				page = revokedTokens.rangeByScore(REVOKED_TOKENS_KEY, now, Double.POSITIVE_INFINITY, offset, PAGE_SIZE);
+				if (page == null) {
+					break;
+				}
+				rebuilding.addAll(page);
+				offset += page.size();
+			} while (page.size() == PAGE_SIZE);
+			revokedDigests = rebuilding;
+		} catch (Exception e) {
+			log.warn("폐기 토큰 목록 재동기화에 실패했습니다. 기존 목록을 유지합니다.", e);
+		} finally {
+			rebuildingDigests = null;
+		}
+	}
+}
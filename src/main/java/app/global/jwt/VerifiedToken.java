@@ -0,0 +1,14 @@
+package app.global.jwt;
+
+import java.time.Instant;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * 서명 검증을 마친 토큰의 인증 정보와 만료 시각
+ */
+public record VerifiedToken(
+	Authentication authentication,
+	Instant expiresAt
+) {
+}
@@ -0,0 +1,74 @@
+package app.global.jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * 토큰 다이제스트 -> 검증된 Authentication 로컬 캐시
+ * 항목은 토큰 만료 시각에 맞춰 제거되며, 최대 크기를 넘으면 오래 쓰지 않은 항목부터 제거된다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+	private final JwtTokenProvider jwtTokenProvider;
+	private final Cache<String, VerifiedToken> cache;
+
+	public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+		@Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+		this.jwtTokenProvider = jwtTokenProvider;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfter(new TokenExpiry())
+			.build();
+	}
+
+	/**
+	 * 캐시에 없으면 토큰을 한 번 검증해 저장한다. 유효하지 않은 토큰이면 null 을 반환하며 캐시하지 않는다.
+	 */
+	public Authentication getAuthentication(String digest, String token) {
+		VerifiedToken verifiedToken = cache.getIfPresent(digest);
+		if (verifiedToken == null) {
+			verifiedToken = jwtTokenProvider.verify(token);
+			if (verifiedToken == null) {
+				return null;
+			}
+			cache.put(digest, verifiedToken);
+		}
+
+		if (!verifiedToken.expiresAt().isAfter(Instant.now())) {
+			cache.invalidate(digest);
+			return null;
+		}
+		return verifiedToken.authentication();
+	}
+
+	public void invalidate(String digest) {
+		cache.invalidate(digest);
+	}
+
+	private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+			return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package app.global;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.jwt.JwtAuthenticationFilter;
+import app.global.jwt.JwtTokenProvider;
+import app.global.jwt.TokenDigest;
+import app.global.jwt.TokenRevocationRegistry;
+import app.global.jwt.VerifiedTokenCache;
+
+@DisplayName("JwtAuthenticationFilter 단위 테스트")
+class JwtAuthenticationFilterTest {
+
+	private final String testSecret = "V29vTmVvUmVhbGx5TG9uZ0FuZFNlY3JldEtleUZvckpXVFNpZ25pbmdXaGljaElzQmFzZTY0RW5jb2RlZA==";
+
+	private JwtTokenProvider jwtTokenProvider;
+	private TokenRevocationRegistry tokenRevocationRegistry;
+	private JwtAuthenticationFilter jwtAuthenticationFilter;
+	private String accessToken;
+
+	@BeforeEach
+	void setUp() {
+		JwtTokenProvider provider = new JwtTokenProvider(testSecret, 3600000L, 1209600000L);
+		provider.afterPropertiesSet();
+		jwtTokenProvider = spy(provider);
+		tokenRevocationRegistry = mock(TokenRevocationRegistry.class);
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(new VerifiedTokenCache(jwtTokenProvider, 100),
+			tokenRevocationRegistry);
+
+		accessToken = provider.createAccessToken(User.builder().userId(1L).userRole(UserRole.CUSTOMER).build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	private void doFilter(String token) throws Exception {
+		SecurityContextHolder.clearContext();
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + token);
+		jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+	}
+
+	@Test
+	@DisplayName("같은 토큰은 최초 요청에서만 서명을 검증하고 이후에는 캐시를 사용한다")
+	void sameToken_VerifiedOnce() throws Exception {
+		doFilter(accessToken);
+		doFilter(accessToken);
+		doFilter(accessToken);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("1");
+		verify(jwtTokenProvider, times(1)).verify(accessToken);
+		verify(jwtTokenProvider, never()).validateToken(any());
+		verify(jwtTokenProvider, never()).getAuthentication(any());
+	}
+
+	@Test
+	@DisplayName("폐기된 토큰은 캐시에 있어도 인증되지 않는다")
+	void revokedToken_NotAuthenticated() throws Exception {
+		doFilter(accessToken);
+		when(tokenRevocationRegistry.isRevoked(TokenDigest.of(accessToken))).thenReturn(true);
+
+		doFilter(accessToken);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+	}
+
+	@Test
+	@DisplayName("유효하지 않은 토큰은 인증되지 않고 캐시되지 않는다")
+	void invalidToken_NotCached() throws Exception {
+		String invalidToken = accessToken + "tampered";
+
+		doFilter(invalidToken);
+		doFilter(invalidToken);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		verify(jwtTokenProvider, times(2)).verify(invalidToken);
+	}
+}
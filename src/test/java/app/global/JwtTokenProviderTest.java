@@ -2,6 +2,7 @@ package app.global;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Instant;
 import java.util.Collection;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,7 @@ import org.springframework.security.core.GrantedAuthority;
 import app.domain.user.model.entity.User;
 import app.domain.user.model.entity.enums.UserRole;
 import app.global.jwt.JwtTokenProvider;
+import app.global.jwt.VerifiedToken;
 
 @DisplayName("JwtTokenProvider 단위 테스트")
 class JwtTokenProviderTest {
@@ -161,4 +163,40 @@ class JwtTokenProviderTest {
 			assertThat(isValid).isFalse();
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	@DisplayName("verify 단일 파싱 검증")
+	class Verify {
+
+		@Test
+		@DisplayName("성공: 유효한 토큰은 한 번의 파싱으로 Authentication과 만료 시각을 반환한다.")
+		void verify_ValidToken() {
+			String accessToken = jwtTokenProvider.createAccessToken(testUser);
+
+			VerifiedToken verifiedToken = jwtTokenProvider.verify(accessToken);
+
+			assertThat(verifiedToken).isNotNull();
+			assertThat(verifiedToken.authentication().getName()).isEqualTo(String.valueOf(testUser.getUserId()));
+			assertThat(verifiedToken.authentication().getAuthorities())
+				.extracting(GrantedAuthority::getAuthority)
+				.containsExactly(UserRole.CUSTOMER.name());
+			assertThat(verifiedToken.expiresAt()).isAfter(Instant.now());
+		}
+
+		@Test
+		@DisplayName("실패: 변조된 토큰은 null을 반환한다.")
+		void verify_TamperedToken() {
+			String accessToken = jwtTokenProvider.createAccessToken(testUser);
+
+			assertThat(jwtTokenProvider.verify(accessToken + "tampered")).isNull();
+		}
+
+		@Test
+		@DisplayName("실패: 권한 정보가 없는 RefreshToken은 null을 반환한다.")
+		void verify_RefreshToken() {
+			String refreshToken = jwtTokenProvider.createRefreshToken(testUser);
+
+			assertThat(jwtTokenProvider.verify(refreshToken)).isNull();
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package app.global;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import app.global.jwt.TokenDigest;
+import app.global.jwt.TokenRevocationRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationRegistry 단위 테스트")
+class TokenRevocationRegistryTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@InjectMocks
+	private TokenRevocationRegistry tokenRevocationRegistry;
+
+	@Test
+	@DisplayName("발행된 폐기 메시지를 받으면 즉시 폐기 목록에 반영한다")
+	void onMessage_RevokesDigest() {
+		String digest = TokenDigest.of("token-a");
+
+		tokenRevocationRegistry.onMessage(
+			new DefaultMessage("token:revoked".getBytes(StandardCharsets.UTF_8), digest.getBytes(StandardCharsets.UTF_8)),
+			null);
+
+		assertThat(tokenRevocationRegistry.isRevoked(digest)).isTrue();
+		assertThat(tokenRevocationRegistry.isRevoked(TokenDigest.of("token-b"))).isFalse();
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("재동기화 시 만료된 토큰을 정리하고 만료되지 않은 구간으로 폐기 목록을 다시 구성한다")
+	void resync_RebuildsFromUnexpiredRange() {
+		tokenRevocationRegistry.revoke(TokenDigest.of("expired-token"));
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(zSetOperations.rangeByScore(eq(TokenRevocationRegistry.REVOKED_TOKENS_KEY), anyDouble(),
+			eq(Double.POSITIVE_INFINITY), eq(0L), anyLong()))
+			.thenReturn(Set.of(TokenDigest.of("token-a"), TokenDigest.of("token-b")));
+
+		tokenRevocationRegistry.resync();
+
+		verify(zSetOperations).removeRangeByScore(eq(TokenRevocationRegistry.REVOKED_TOKENS_KEY),
+			eq(Double.NEGATIVE_INFINITY), anyDouble());
+		assertThat(tokenRevocationRegistry.isRevoked(TokenDigest.of("token-a"))).isTrue();
+		assertThat(tokenRevocationRegistry.isRevoked(TokenDigest.of("token-b"))).isTrue();
+		assertThat(tokenRevocationRegistry.isRevoked(TokenDigest.of("expired-token"))).isFalse();
+	}
+
+	@Test
+	@DisplayName("페이지가 가득 차 있으면 다음 페이지를 이어서 읽는다")
+	void resync_ReadsNextPageWhenFull() {
+		Set<String> firstPage = IntStream.range(0, 1000)
+			.mapToObj(i -> TokenDigest.of("token-" + i))
+			.collect(Collectors.toCollection(LinkedHashSet::new));
+		String last = TokenDigest.of("token-last");
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(zSetOperations.rangeByScore(eq(TokenRevocationRegistry.REVOKED_TOKENS_KEY), anyDouble(),
+			eq(Double.POSITIVE_INFINITY), eq(0L), eq(1000L))).thenReturn(firstPage);
+		when(zSetOperations.rangeByScore(eq(TokenRevocationRegistry.REVOKED_TOKENS_KEY), anyDouble(),
+			eq(Double.POSITIVE_INFINITY), eq(1000L), eq(1000L))).thenReturn(Set.of(last));
+
+		tokenRevocationRegistry.resync();
+
+		assertThat(tokenRevocationRegistry.isRevoked(TokenDigest.of("token-0"))).isTrue();
+		assertThat(tokenRevocationRegistry.isRevoked(last)).isTrue();
+	}
+
+	@Test
+	@DisplayName("재동기화가 실패하면 기존 폐기 목록을 유지한다")
+	void resync_FailureKeepsCurrentList() {
+		String digest = TokenDigest.of("token-a");
+		tokenRevocationRegistry.revoke(digest);
+		when(redisTemplate.opsForZSet()).thenThrow(new RuntimeException("Redis connection failed"));
+
+		tokenRevocationRegistry.resync();
+
+		assertThat(tokenRevocationRegistry.isRevoked(digest)).isTrue();
+	}
+}
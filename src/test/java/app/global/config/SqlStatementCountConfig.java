@@ -0,0 +1,27 @@
+package app.global.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import app.global.sql.SqlStatementCounter;
+
+/**
+ * 테스트 컨텍스트의 DataSource 를 SqlStatementCounter 로 감싼다.
+ * SQL 실행 횟수를 검증하는 테스트에서 @Import 로 함께 등록한다.
+ */
+@TestConfiguration
+public class SqlStatementCountConfig {
+
+	@Bean
+	public static BeanPostProcessor sqlStatementCountingPostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				return bean instanceof DataSource dataSource ? SqlStatementCounter.wrap(dataSource) : bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,54 @@
+package app.global.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import app.global.sql.SqlStatementCounter.SqlType;
+
+/**
+ * SqlStatementCounter 기록에 대한 검증 도우미
+ * 실패 메시지에 실행된 SQL 을 모두 담아 어떤 쿼리가 늘었는지 바로 확인할 수 있다.
+ */
+public final class SqlStatementAssertions {
+
+	private SqlStatementAssertions() {
+	}
+
+	public static void assertSelectCount(int expected) {
+		assertCount(SqlType.SELECT, expected);
+	}
+
+	public static void assertInsertCount(int expected) {
+		assertCount(SqlType.INSERT, expected);
+	}
+
+	public static void assertUpdateCount(int expected) {
+		assertCount(SqlType.UPDATE, expected);
+	}
+
+	public static void assertDeleteCount(int expected) {
+		assertCount(SqlType.DELETE, expected);
+	}
+
+	public static void assertTotalCount(int expected) {
+		List<String> statements = SqlStatementCounter.statements();
+		assertThat(statements.size())
+			.as("전체 SQL 실행 횟수%n%s", describe(statements))
+			.isEqualTo(expected);
+	}
+
+	private static void assertCount(SqlType type, int expected) {
+		assertThat(SqlStatementCounter.count(type))
+			.as("%s 실행 횟수%n%s", type, describe(SqlStatementCounter.statements()))
+			.isEqualTo(expected);
+	}
+
+	private static String describe(List<String> statements) {
+		StringBuilder description = new StringBuilder();
+		for (int i = 0; i < statements.size(); i++) {
+			description.append(i + 1).append(") ").append(statements.get(i).strip()).append(System.lineSeparator());
+		}
+		return description.toString();
+	}
+}
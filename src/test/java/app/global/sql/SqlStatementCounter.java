@@ -0,0 +1,138 @@
+package app.global.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import javax.sql.DataSource;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * DataSource 를 감싸 실행된 SQL 을 기록하는 테스트용 카운터
+ * PreparedStatement 는 준비 시점에, 일반 Statement 는 실행 시점에 한 건으로 센다.
+ * JDBC 배치는 준비 한 번에 여러 번 실행되므로 한 건으로 센다.
+ * 기록은 reset 이후부터 누적되며, 테스트는 준비 데이터를 넣은 뒤 reset 하고 대상 메서드를 호출한다.
+ */
+public final class SqlStatementCounter {
+
+	private static final List<String> STATEMENTS = new ArrayList<>();
+
+	private SqlStatementCounter() {
+	}
+
+	public static DataSource wrap(DataSource dataSource) {
+		return proxy(dataSource, (target, method, args) -> {
+			Object result = invoke(target, method, args);
+			return result instanceof Connection connection ? wrapConnection(connection) : result;
+		});
+	}
+
+	public static void reset() {
+		synchronized (STATEMENTS) {
+			STATEMENTS.clear();
+		}
+	}
+
+	public static List<String> statements() {
+		synchronized (STATEMENTS) {
+			return List.copyOf(STATEMENTS);
+		}
+	}
+
+	public static List<String> statements(SqlType type) {
+		return statements().stream().filter(sql -> SqlType.of(sql) == type).toList();
+	}
+
+	public static int count(SqlType type) {
+		return statements(type).size();
+	}
+
+	static void record(String sql) {
+		synchronized (STATEMENTS) {
+			STATEMENTS.add(sql);
+		}
+	}
+
+	private static Connection wrapConnection(Connection connection) {
+		return proxy(connection, (target, method, args) -> {
+			String name = method.getName();
+			if ((name.equals("prepareStatement") || name.equals("prepareCall")) && args != null
+				&& args[0] instanceof String sql) {
+				record(sql);
+			}
+			Object result = invoke(target, method, args);
+			if (name.equals("createStatement") && result instanceof Statement statement) {
+				return wrapStatement(statement);
+			}
+			return result;
+		});
+	}
+
+	private static Statement wrapStatement(Statement statement) {
+		return proxy(statement, (target, method, args) -> {
+			if (method.getName().startsWith("execute") && args != null && args.length > 0
+				&& args[0] instanceof String sql) {
+				record(sql);
+			}
+			return invoke(target, method, args);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(T target, Delegate delegate) {
+		InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+			case "equals" -> proxy == args[0];
+			case "hashCode" -> System.identityHashCode(proxy);
+			default -> delegate.invoke(target, method, args);
+		};
+		// 드라이버 내부용 비공개 인터페이스는 다른 패키지에서 프록시할 수 없으므로 공개 인터페이스만 노출한다
+		Class<?>[] interfaces = Arrays.stream(ClassUtils.getAllInterfaces(target))
+			.filter(type -> Modifier.isPublic(type.getModifiers()))
+			.toArray(Class<?>[]::new);
+		return (T)Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), interfaces, handler);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	@FunctionalInterface
+	private interface Delegate {
+		Object invoke(Object target, Method method, Object[] args) throws Throwable;
+	}
+
+	public enum SqlType {
+		SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+		/**
+		 * hibernate.use_sql_comments 로 붙는 앞쪽 주석을 건너뛰고 첫 키워드로 구분한다.
+		 */
+		public static SqlType of(String sql) {
+			String statement = sql.strip();
+			while (statement.startsWith("/*") && statement.contains("*/")) {
+				statement = statement.substring(statement.indexOf("*/") + 2).strip();
+			}
+			String keyword = statement.split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+			return switch (keyword) {
+				case "select", "with" -> SELECT;
+				case "insert" -> INSERT;
+				case "update" -> UPDATE;
+				case "delete" -> DELETE;
+				default -> OTHER;
+			};
+		}
+	}
+}
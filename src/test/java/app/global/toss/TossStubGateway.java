@@ -0,0 +1,108 @@
+package app.global.toss;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 토스페이먼츠 결제 API 를 흉내 내는 로컬 스텁 서버
+ * 응답 지연, 상태 코드, 연결 끊김을 바꿔 가며 타임아웃과 장애 상황을 오프라인에서 재현한다.
+ */
+public class TossStubGateway implements AutoCloseable {
+
+	public static final String BASE_PATH = "/v1/payments";
+	// 애플리케이션이 동시에 수백 건의 승인을 보내도 연결이 accept 큐에서 버려지지 않도록 넉넉히 둔다
+	private static final int BACKLOG = 1024;
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final AtomicInteger requestCount = new AtomicInteger();
+	private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+	private final List<Headers> requestHeaders = new CopyOnWriteArrayList<>();
+
+	private volatile int status = 200;
+	private volatile String responseBody = "{\"status\":\"DONE\"}";
+	private volatile Duration latency = Duration.ZERO;
+	private volatile boolean dropConnection;
+
+	public TossStubGateway(int port) throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", port), BACKLOG);
+		server.createContext(BASE_PATH, this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	public String baseUrl() {
+		return "http://localhost:" + server.getAddress().getPort() + BASE_PATH;
+	}
+
+	public TossStubGateway respond(int status, String body) {
+		this.status = status;
+		this.responseBody = body;
+		return this;
+	}
+
+	public TossStubGateway latency(Duration latency) {
+		this.latency = latency;
+		return this;
+	}
+
+	public TossStubGateway dropConnection(boolean dropConnection) {
+		this.dropConnection = dropConnection;
+		return this;
+	}
+
+	public int requestCount() {
+		return requestCount.get();
+	}
+
+	public Set<Integer> clientPorts() {
+		return clientPorts;
+	}
+
+	public List<Headers> requestHeaders() {
+		return requestHeaders;
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		requestCount.incrementAndGet();
+		clientPorts.add(exchange.getRemoteAddress().getPort());
+		requestHeaders.add(exchange.getRequestHeaders());
+		exchange.getRequestBody().readAllBytes();
+
+		try {
+			Thread.sleep(latency.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (dropConnection) {
+			exchange.close();
+			return;
+		}
+
+		byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, body.length);
+		exchange.getResponseBody().write(body);
+		exchange.close();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
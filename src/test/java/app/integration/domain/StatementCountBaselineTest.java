@@ -0,0 +1,404 @@
+package app.integration.domain;
+
+import static app.global.sql.SqlStatementAssertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import app.domain.cart.service.CartService;
+import app.domain.customer.CustomerAddressService;
+import app.domain.customer.CustomerOrderService;
+import app.domain.customer.CustomerStoreService;
+import app.domain.manager.ManagerService;
+import app.domain.menu.model.entity.Category;
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.repository.CategoryRepository;
+import app.domain.menu.model.repository.MenuRepository;
+import app.domain.order.deadline.OrderDeadlineScheduler;
+import app.domain.order.model.entity.OrderItem;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderItemLoader;
+import app.domain.order.service.OrderService;
+import app.domain.order.service.OrderStatusHistoryService;
+import app.domain.review.ReviewService;
+import app.domain.review.model.ReviewRepository;
+import app.domain.review.model.entity.Review;
+import app.domain.store.StoreService;
+import app.domain.store.model.StoreQueryRepository;
+import app.domain.store.model.StoreQueryRepositoryImpl;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.store.repository.RegionRepository;
+import app.domain.store.repository.StoreRepository;
+import app.domain.store.status.StoreAcceptStatus;
+import app.domain.user.model.UserAddressRepository;
+import app.domain.user.model.UserQueryRepository;
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.UserAddress;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.CurrentUser;
+import app.global.SecurityUtil;
+import app.global.config.QueryDslConfig;
+import app.global.config.SqlStatementCountConfig;
+import app.global.config.TestJpaConfig;
+import app.global.sql.SqlStatementCounter;
+
+/**
+ * 주요 조회 API 의 SQL 실행 횟수 기준선
+ * data_small.sql 과 같은 구성(매장 2, 점주 2, 고객 3, 매장별 메뉴/주문/리뷰)을 엔티티로 만들어 두고,
+ * 각 서비스 메서드가 실행하는 SELECT 수를 고정한다. 데이터 건수에 따라 늘어나는 N+1 이 생기면 여기서 실패한다.
+ * 기준선을 바꿔야 하는 변경이라면 실패 메시지에 출력되는 SQL 목록을 확인한 뒤 기대값을 함께 수정한다.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({QueryDslConfig.class, TestJpaConfig.class, SqlStatementCountConfig.class})
+@DisplayName("조회 API SQL 실행 횟수 기준선 테스트")
+class StatementCountBaselineTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JPAQueryFactory queryFactory;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserAddressRepository userAddressRepository;
+
+	@Autowired
+	private StoreRepository storeRepository;
+
+	@Autowired
+	private RegionRepository regionRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private MenuRepository menuRepository;
+
+	@Autowired
+	private OrdersRepository ordersRepository;
+
+	@Autowired
+	private OrderItemRepository orderItemRepository;
+
+	@Autowired
+	private OrderStatusEventRepository orderStatusEventRepository;
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	private final SecurityUtil securityUtil = mock(SecurityUtil.class);
+
+	private StoreService storeService;
+	private ManagerService managerService;
+	private CustomerStoreService customerStoreService;
+	private CustomerOrderService customerOrderService;
+	private CustomerAddressService customerAddressService;
+	private OrderService orderService;
+	private ReviewService reviewService;
+
+	private User owner;
+	private User customer;
+	private Store store;
+	private UUID customerOrderId;
+
+	@BeforeEach
+	void setUp() {
+		StoreQueryRepository storeQueryRepository = new StoreQueryRepositoryImpl(queryFactory);
+		OrderItemLoader orderItemLoader = new OrderItemLoader(orderItemRepository);
+		OrderStatusHistoryService orderStatusHistoryService = new OrderStatusHistoryService(
+			orderStatusEventRepository, mock(OrderDeadlineScheduler.class));
+		orderService = new OrderService(ordersRepository, orderItemRepository, mock(CartService.class),
+			storeRepository, menuRepository, mock(OrderDeadlineScheduler.class), securityUtil, orderStatusHistoryService,
+			orderItemLoader);
+		storeService = new StoreService(storeRepository, regionRepository, categoryRepository, menuRepository,
+			reviewRepository, ordersRepository, orderService, securityUtil);
+		ReflectionTestUtils.setField(storeService, "boardMaxSize", 200);
+		ReflectionTestUtils.setField(storeService, "boardLookbackMs", 2000L);
+		managerService = new ManagerService(userRepository, mock(UserQueryRepository.class), userAddressRepository,
+			ordersRepository, orderItemLoader, storeRepository, storeQueryRepository);
+		customerStoreService = new CustomerStoreService(storeRepository, storeQueryRepository);
+		customerOrderService = new CustomerOrderService(ordersRepository, userRepository, securityUtil,
+			orderStatusHistoryService);
+		customerAddressService = new CustomerAddressService(userAddressRepository, securityUtil);
+		reviewService = new ReviewService(reviewRepository, userRepository, storeRepository, ordersRepository,
+			securityUtil);
+
+		givenSmallDataSet();
+		entityManager.flush();
+		entityManager.clear();
+		SqlStatementCounter.reset();
+	}
+
+	private void givenSmallDataSet() {
+		Region region = entityManager.persist(Region.builder()
+			.regionCode("1111010600")
+			.regionName("광화문")
+			.fullName("서울특별시 종로구 세종로")
+			.isActive(true)
+			.build());
+		Category korean = entityManager.persist(Category.builder().categoryName("한식").build());
+		Category chinese = entityManager.persist(Category.builder().categoryName("중식").build());
+
+		owner = persistUser("owner1", UserRole.OWNER);
+		User otherOwner = persistUser("owner2", UserRole.OWNER);
+		customer = persistUser("customer1", UserRole.CUSTOMER);
+		List<User> customers = List.of(customer, persistUser("customer2", UserRole.CUSTOMER),
+			persistUser("customer3", UserRole.CUSTOMER));
+
+		store = persistStore(owner, region, korean, "한식당");
+		Store otherStore = persistStore(otherOwner, region, chinese, "중식당");
+
+		for (Store orderStore : List.of(store, otherStore)) {
+			List<Menu> menus = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				menus.add(entityManager.persist(Menu.builder()
+					.store(orderStore)
+					.category(orderStore.getCategory())
+					.name(orderStore.getStoreName() + " 메뉴" + i)
+					.price(8000L + i * 1000)
+					.build()));
+			}
+			for (User orderUser : customers) {
+				Orders order = persistOrder(orderStore, orderUser, menus);
+				if (orderStore == store || orderUser == customer) {
+					persistReview(order);
+				}
+				if (orderStore == store && orderUser == customer) {
+					customerOrderId = order.getOrdersId();
+				}
+			}
+		}
+
+		for (String alias : List.of("집", "회사")) {
+			entityManager.persist(UserAddress.builder()
+				.user(customer)
+				.alias(alias)
+				.address("서울시 강남구")
+				.addressDetail("101호")
+				.isDefault(alias.equals("집"))
+				.build());
+		}
+	}
+
+	private User persistUser(String username, UserRole role) {
+		return entityManager.persist(User.builder()
+			.username(username)
+			.password("password123!")
+			.email(username + "@example.com")
+			.nickname(username)
+			.realName("김" + username)
+			.phoneNumber("010" + Math.abs(username.hashCode() % 100000000))
+			.userRole(role)
+			.build());
+	}
+
+	private Store persistStore(User storeOwner, Region region, Category category, String storeName) {
+		return entityManager.persist(Store.builder()
+			.user(storeOwner)
+			.region(region)
+			.category(category)
+			.storeName(storeName)
+			.address("서울시 종로구")
+			.minOrderAmount(10000L)
+			.storeAcceptStatus(StoreAcceptStatus.APPROVE)
+			.build());
+	}
+
+	private Orders persistOrder(Store orderStore, User orderUser, List<Menu> menus) {
+		Orders order = entityManager.persist(Orders.builder()
+			.store(orderStore)
+			.user(orderUser)
+			.totalPrice(17000L)
+			.deliveryAddress("서울시 강남구")
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.orderChannel(OrderChannel.ONLINE)
+			.receiptMethod(ReceiptMethod.DELIVERY)
+			.orderStatus(OrderStatus.PENDING)
+			.isRefundable(true)
+			.build());
+		for (Menu menu : menus.subList(0, 2)) {
+			entityManager.persist(OrderItem.builder()
+				.orders(order)
+				.menuName(menu.getName())
+				.price(menu.getPrice())
+				.quantity(1)
+				.build());
+		}
+		return order;
+	}
+
+	private void persistReview(Orders order) {
+		entityManager.persist(Review.builder()
+			.orders(order)
+			.user(order.getUser())
+			.store(order.getStore())
+			.rating(5L)
+			.content("맛있어요")
+			.build());
+	}
+
+	private void assertSelectOnly(int expected) {
+		assertSelectCount(expected);
+		assertTotalCount(expected);
+	}
+
+	@Test
+	@DisplayName("고객 가게 목록 조회는 목록과 전체 개수 2회")
+	void customerStoreList() {
+		customerStoreService.getApprovedStore(PageRequest.of(0, 20));
+
+		assertSelectOnly(2);
+	}
+
+	@Test
+	@DisplayName("고객 가게 상세 조회는 가게와 카테고리 2회")
+	void customerStoreDetail() {
+		customerStoreService.getApproveStoreDetail(store.getStoreId());
+
+		assertSelectOnly(2);
+	}
+
+	@Test
+	@DisplayName("고객 주문 내역 조회는 주문 페이지와 상태 이력 2회")
+	void customerOrderHistory() {
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(customer.getUserId(), UserRole.CUSTOMER));
+
+		customerOrderService.getCustomerOrders(PageRequest.of(0, 20));
+
+		assertSelectOnly(2);
+	}
+
+	@Test
+	@DisplayName("고객 배송지 목록 조회는 1회")
+	void customerAddressList() {
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(customer.getUserId(), UserRole.CUSTOMER));
+
+		customerAddressService.getCustomerAddresses();
+
+		assertSelectOnly(1);
+	}
+
+	@Test
+	@DisplayName("주문 상세 조회는 주문(매장, 고객 조인)과 주문 아이템 2회")
+	void orderDetail() {
+		orderService.getOrderDetail(customerOrderId);
+
+		assertSelectOnly(2);
+	}
+
+	@Test
+	@DisplayName("내 리뷰 목록 조회는 매장 수와 관계없이 1회")
+	void customerReviewList() {
+		when(securityUtil.getCurrentUser()).thenReturn(customer);
+
+		reviewService.getReviews();
+
+		assertSelectOnly(1);
+	}
+
+	@Test
+	@DisplayName("점주 메뉴 목록 조회는 가게와 메뉴 2회")
+	void storeMenuList() {
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(owner.getUserId(), UserRole.OWNER));
+
+		storeService.getStoreMenuList(store.getStoreId());
+
+		assertSelectOnly(2);
+	}
+
+	@Test
+	@DisplayName("점주 리뷰 목록 조회는 작성자 수와 관계없이 2회")
+	void storeReviewList() {
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(owner.getUserId(), UserRole.OWNER));
+
+		storeService.getStoreReviewList(store.getStoreId());
+
+		assertSelectOnly(2);
+	}
+
+	@Test
+	@DisplayName("점주 주문 목록 조회는 주문 고객 수와 관계없이 2회")
+	void storeOrderList() {
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(owner.getUserId(), UserRole.OWNER));
+
+		storeService.getStoreOrderList(store.getStoreId());
+
+		assertSelectOnly(2);
+	}
+
+	@Test
+	@DisplayName("점주 주문 보드 조회는 가게와 보드 스냅샷 2회")
+	void storeOrderBoard() {
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(owner.getUserId(), UserRole.OWNER));
+
+		storeService.getStoreOrderBoard(store.getStoreId(), null, null);
+
+		assertSelectOnly(2);
+	}
+
+	@Test
+	@DisplayName("관리자 고객 목록 조회는 1회")
+	void managerCustomerList() {
+		managerService.getAllCustomer(PageRequest.of(0, 20));
+
+		assertSelectOnly(1);
+	}
+
+	@Test
+	@DisplayName("관리자 고객 상세 조회는 고객과 배송지 2회")
+	void managerCustomerDetail() {
+		managerService.getCustomerDetailById(customer.getUserId());
+
+		assertSelectOnly(2);
+	}
+
+	@Test
+	@DisplayName("관리자 고객 주문 목록 조회는 매장 수와 주문 수에 관계없이 3회")
+	void managerCustomerOrderList() {
+		managerService.getCustomerOrderListById(customer.getUserId(), PageRequest.of(0, 20));
+
+		assertSelectOnly(3);
+	}
+
+	@Test
+	@DisplayName("관리자 가게 상세 조회는 가게, 지역, 카테고리, 점주 4회")
+	void managerStoreDetail() {
+		managerService.getStoreDetail(store.getStoreId());
+
+		assertSelectOnly(4);
+	}
+
+	@Test
+	@DisplayName("관리자 가게 목록 조회는 목록과 전체 개수 2회")
+	void managerStoreList() {
+		managerService.getAllStore(StoreAcceptStatus.APPROVE, PageRequest.of(0, 20));
+
+		assertSelectOnly(2);
+	}
+}
@@ -0,0 +1,254 @@
+package app.integration.global;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import app.OrderPlatformBackendApplication;
+import app.domain.menu.model.entity.Category;
+import app.domain.menu.model.repository.CategoryRepository;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.store.repository.RegionRepository;
+import app.domain.store.repository.StoreRepository;
+import app.domain.store.status.StoreAcceptStatus;
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.jwt.JwtTokenProvider;
+import app.global.toss.TossStubGateway;
+import redis.embedded.RedisServer;
+
+/**
+ * 애플리케이션을 플랫폼 스레드와 가상 스레드로 각각 띄워 응답이 느린 토스 스텁에 결제 승인을 동시에 보낸다.
+ * Tomcat 최대 스레드 수보다 많은 승인 요청이 토스 응답 지연 한 번 안에 함께 끝나는지를 비교한다.
+ * spring.threads.virtual.enabled 는 Java 21 에서만 동작하므로 -PjavaVersion=21 빌드에서만 실행된다.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DisplayName("가상 스레드 처리량 비교 테스트")
+class VirtualThreadThroughputTest {
+
+	// Tomcat 기본 최대 스레드 수에서 200건이 토스 응답을 기다리는 상황을 재현한다
+	private static final int TOMCAT_MAX_THREADS = 200;
+	private static final int CONCURRENT_CONFIRMS = 250;
+	private static final long ORDER_PRICE = 10000L;
+	private static final Duration TOSS_LATENCY = Duration.ofMillis(1000);
+	private static final Duration COMPLETION_WINDOW = TOSS_LATENCY.multipliedBy(3).dividedBy(2);
+	private static final String REDIS_PASSWORD = "throughput";
+	private static final String JWT_SECRET =
+		"dGhyb3VnaHB1dC1vcmRlci1wbGF0Zm9ybS1zZWNyZXQta2V5LWZvci1oczUxMi1zaWduYXR1cmUtMDAwMDAwMDAwMQ==";
+
+	private static RedisServer redisServer;
+	private static int redisPort;
+	private static TossStubGateway tossGateway;
+
+	@BeforeAll
+	static void startInfrastructure() throws IOException {
+		redisPort = freePort();
+		redisServer = RedisServer.newRedisServer()
+			.port(redisPort)
+			.setting("bind 127.0.0.1")
+			.setting("requirepass " + REDIS_PASSWORD)
+			.build();
+		redisServer.start();
+		tossGateway = new TossStubGateway(0).latency(TOSS_LATENCY);
+	}
+
+	@AfterAll
+	static void stopInfrastructure() throws IOException {
+		tossGateway.close();
+		redisServer.stop();
+	}
+
+	@Test
+	@DisplayName("토스 응답이 느려도 가상 스레드에서는 Tomcat 최대 스레드 수보다 많은 결제 승인이 동시에 끝난다")
+	void virtualThreadsCompleteSlowConfirmsConcurrently() throws Exception {
+		int platform = confirmsCompletedWithinWindow(false);
+		int virtual = confirmsCompletedWithinWindow(true);
+
+		// 플랫폼 스레드는 첫 묶음이 토스 응답을 기다리는 동안 나머지 요청이 Tomcat 큐에서 대기한다
+		assertThat(platform).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+		assertThat(virtual).isEqualTo(CONCURRENT_CONFIRMS);
+	}
+
+	private int confirmsCompletedWithinWindow(boolean virtualThreads) throws Exception {
+		try (ConfigurableApplicationContext context = SpringApplication.run(OrderPlatformBackendApplication.class,
+			applicationArgs(virtualThreads))) {
+			int port = ((WebServerApplicationContext)context).getWebServer().getPort();
+			User customer = seedCustomer(context);
+			List<Orders> orders = seedOrders(context, customer, CONCURRENT_CONFIRMS + 1);
+			String accessToken = context.getBean(JwtTokenProvider.class).createAccessToken(customer);
+			HttpClient httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+
+			// 첫 요청의 초기화 비용이 측정 구간에 들어가지 않도록 한 건을 먼저 승인한다
+			assertThat(confirm(httpClient, port, accessToken, orders.get(0))).isEqualTo(200);
+
+			ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_CONFIRMS);
+			try {
+				CountDownLatch ready = new CountDownLatch(CONCURRENT_CONFIRMS);
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<Long>> completedAt = new ArrayList<>();
+				for (Orders order : orders.subList(1, orders.size())) {
+					completedAt.add(clients.submit(() -> {
+						ready.countDown();
+						start.await();
+						int status = confirm(httpClient, port, accessToken, order);
+						if (status != 200) {
+							throw new IllegalStateException("결제 승인 실패 - status: " + status);
+						}
+						return System.nanoTime();
+					}));
+				}
+				ready.await(5, TimeUnit.SECONDS);
+				long startNanos = System.nanoTime();
+				start.countDown();
+
+				int completed = 0;
+				for (Future<Long> future : completedAt) {
+					if (future.get(30, TimeUnit.SECONDS) - startNanos <= COMPLETION_WINDOW.toNanos()) {
+						completed++;
+					}
+				}
+				return completed;
+			} finally {
+				clients.shutdownNow();
+			}
+		}
+	}
+
+	private int confirm(HttpClient httpClient, int port, String accessToken, Orders order) throws Exception {
+		String body = String.format("{\"paymentKey\":\"%s\",\"orderId\":\"%s\",\"amount\":\"%d\"}",
+			"throughput_" + order.getOrdersId(), order.getOrdersId(), order.getTotalPrice());
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/payment/confirm"))
+			.timeout(Duration.ofSeconds(30))
+			.header("Authorization", "Bearer " + accessToken)
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body))
+			.build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+
+	private User seedCustomer(ConfigurableApplicationContext context) {
+		return context.getBean(UserRepository.class).save(User.builder()
+			.username("throughput_customer")
+			.password("password123!")
+			.email("throughput_customer@example.com")
+			.nickname("처리량고객")
+			.realName("처리량고객")
+			.phoneNumber("01000000001")
+			.userRole(UserRole.CUSTOMER)
+			.build());
+	}
+
+	private List<Orders> seedOrders(ConfigurableApplicationContext context, User customer, int count) {
+		Region region = context.getBean(RegionRepository.class).save(Region.builder()
+			.regionCode("1111010600")
+			.regionName("광화문")
+			.fullName("서울특별시 종로구 세종로")
+			.isActive(true)
+			.build());
+		Category category = context.getBean(CategoryRepository.class).save(Category.builder()
+			.categoryName("한식")
+			.build());
+		User owner = context.getBean(UserRepository.class).save(User.builder()
+			.username("throughput_owner")
+			.password("password123!")
+			.email("throughput_owner@example.com")
+			.nickname("처리량점주")
+			.realName("처리량점주")
+			.phoneNumber("01000000002")
+			.userRole(UserRole.OWNER)
+			.build());
+		Store store = context.getBean(StoreRepository.class).save(Store.builder()
+			.user(owner)
+			.region(region)
+			.category(category)
+			.storeName("처리량 테스트 매장")
+			.address("서울시 종로구")
+			.minOrderAmount(ORDER_PRICE)
+			.storeAcceptStatus(StoreAcceptStatus.APPROVE)
+			.build());
+
+		List<Orders> orders = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			orders.add(Orders.builder()
+				.store(store)
+				.user(customer)
+				.totalPrice(ORDER_PRICE)
+				.deliveryAddress("서울시 강남구")
+				.paymentMethod(PaymentMethod.CREDIT_CARD)
+				.orderChannel(OrderChannel.ONLINE)
+				.receiptMethod(ReceiptMethod.DELIVERY)
+				.orderStatus(OrderStatus.PENDING)
+				.isRefundable(true)
+				.build());
+		}
+		return context.getBean(OrdersRepository.class).saveAll(orders);
+	}
+
+	private static String[] applicationArgs(boolean virtualThreads) {
+		return new String[] {
+			"--server.port=0",
+			"--spring.threads.virtual.enabled=" + virtualThreads,
+			"--server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+			"--server.tomcat.accept-count=" + CONCURRENT_CONFIRMS,
+			// 요청 스레드 모델만 비교하도록 커넥션 풀은 동시 요청 수보다 넉넉하게 둔다
+			"--spring.datasource.hikari.maximum-pool-size=" + (CONCURRENT_CONFIRMS + TOMCAT_MAX_THREADS),
+			"--spring.datasource.url=jdbc:h2:mem:throughput-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+			"--spring.datasource.username=sa",
+			"--spring.datasource.password=",
+			"--spring.datasource.driver-class-name=org.h2.Driver",
+			"--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+			"--spring.jpa.properties.hibernate.show_sql=false",
+			"--spring.jpa.properties.hibernate.format_sql=false",
+			"--spring.jpa.properties.hibernate.use_sql_comments=false",
+			"--spring.data.redis.host=127.0.0.1",
+			"--spring.data.redis.port=" + redisPort,
+			"--spring.data.redis.password=" + REDIS_PASSWORD,
+			"--spring.ai.openai.api-key=throughput",
+			"--jwt.secret=" + JWT_SECRET,
+			"--TOSS_CLIENT_KEY=throughput",
+			"--TOSS_SECRET_KEY=throughput",
+			"--TOSS_URL=" + tossGateway.baseUrl()
+		};
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
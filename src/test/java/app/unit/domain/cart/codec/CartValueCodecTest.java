@@ -0,0 +1,79 @@
+package app.unit.domain.cart.codec;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.codec.BinaryCartValueCodec;
+import app.domain.cart.codec.JsonCartValueCodec;
+import app.domain.cart.codec.MigratingCartValueCodec;
+import app.domain.cart.model.dto.RedisCartItem;
+
+class CartValueCodecTest {
+
+	private final JsonCartValueCodec jsonCodec = new JsonCartValueCodec(new ObjectMapper());
+	private final BinaryCartValueCodec binaryCodec = new BinaryCartValueCodec();
+	private final MigratingCartValueCodec migratingCodec = new MigratingCartValueCodec(jsonCodec, binaryCodec);
+
+	@Test
+	@DisplayName("바이너리 코덱은 UUID 두 개와 varint 수량만으로 인코딩한다")
+	void binary_EncodeDecode() {
+		RedisCartItem item = new RedisCartItem(UUID.randomUUID(), UUID.randomUUID(), 3);
+
+		byte[] encoded = binaryCodec.encode(item);
+
+		assertThat(encoded).hasSize(1 + 16 + 16 + 1);
+		assertThat(encoded[0]).isEqualTo(BinaryCartValueCodec.FORMAT_VERSION);
+		assertThat(binaryCodec.decode(encoded)).isEqualTo(item);
+	}
+
+	@Test
+	@DisplayName("바이너리 코덱은 128 이상의 수량을 여러 바이트 varint로 저장한다")
+	void binary_LargeQuantity() {
+		RedisCartItem item = new RedisCartItem(UUID.randomUUID(), UUID.randomUUID(), 300);
+
+		byte[] encoded = binaryCodec.encode(item);
+
+		assertThat(encoded).hasSize(1 + 16 + 16 + 2);
+		assertThat(binaryCodec.decode(encoded).getQuantity()).isEqualTo(300);
+	}
+
+	@Test
+	@DisplayName("바이너리 값이 JSON 값보다 작다")
+	void binary_SmallerThanJson() {
+		RedisCartItem item = new RedisCartItem(UUID.randomUUID(), UUID.randomUUID(), 2);
+
+		assertThat(binaryCodec.encode(item).length).isLessThan(jsonCodec.encode(item).length);
+	}
+
+	@Test
+	@DisplayName("잘린 바이너리 값은 IllegalArgumentException 으로 거부된다")
+	void binary_TruncatedValue() {
+		byte[] encoded = binaryCodec.encode(new RedisCartItem(UUID.randomUUID(), UUID.randomUUID(), 1));
+		byte[] truncated = new byte[20];
+		System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+
+		assertThatThrownBy(() -> binaryCodec.decode(truncated))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("마이그레이션 코덱은 바이너리로 쓰고 JSON과 바이너리를 모두 읽는다")
+	void migration_ReadsBothFormats() {
+		RedisCartItem item = new RedisCartItem(UUID.randomUUID(), UUID.randomUUID(), 4);
+		byte[] legacyJson = ("{\"menuId\":\"" + item.getMenuId() + "\",\"storeId\":\"" + item.getStoreId()
+			+ "\",\"quantity\":4}").getBytes(StandardCharsets.UTF_8);
+
+		byte[] encoded = migratingCodec.encode(item);
+
+		assertThat(encoded[0]).isEqualTo(BinaryCartValueCodec.FORMAT_VERSION);
+		assertThat(migratingCodec.decode(encoded)).isEqualTo(item);
+		assertThat(migratingCodec.decode(legacyJson)).isEqualTo(item);
+	}
+}
@@ -0,0 +1,48 @@
+package app.unit.domain.cart.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import app.domain.cart.codec.BinaryCartValueCodec;
+import app.domain.cart.codec.CartValueCodec;
+import app.domain.cart.service.CartRedisServiceImpl;
+import app.domain.cart.status.CartErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+@ExtendWith(MockitoExtension.class)
+class CartRedisServiceFailureTest {
+
+	@Mock
+	private RedisTemplate<String, byte[]> cartRedisTemplate;
+
+	@Spy
+	private CartValueCodec cartValueCodec = new BinaryCartValueCodec();
+
+	@InjectMocks
+	private CartRedisServiceImpl cartRedisService;
+
+	@Test
+	@DisplayName("스크립트 실행 중 Redis 오류가 발생하면 CART_REDIS_SAVE_FAILED 예외가 발생한다")
+	void saveCartToRedis_RedisFailure() {
+		when(cartRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenThrow(new RuntimeException("Redis connection failed"));
+
+		assertThatThrownBy(() -> cartRedisService.saveCartToRedis(3L, List.of()))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(CartErrorStatus.CART_REDIS_SAVE_FAILED);
+	}
+}
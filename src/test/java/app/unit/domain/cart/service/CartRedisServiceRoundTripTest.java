@@ -0,0 +1,143 @@
+package app.unit.domain.cart.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import app.domain.cart.codec.BinaryCartValueCodec;
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartRedisServiceImpl;
+import redis.embedded.RedisServer;
+
+/**
+ * 내장 Redis 의 INFO commandstats 로 장바구니 저장의 Redis 왕복 횟수를 확인한다.
+ * 스크립트 안에서 실행된 명령도 집계되므로 EVALSHA 1회와 스크립트가 내리는 명령 외에는 없어야 한다.
+ */
+@DisplayName("장바구니 저장 Redis 왕복 횟수 테스트")
+class CartRedisServiceRoundTripTest {
+
+	private static final Pattern CALLS = Pattern.compile("calls=(\\d+)");
+	private static final Set<String> STAT_COMMANDS = Set.of("info", "config");
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisTemplate<String, byte[]> cartRedisTemplate;
+
+	private CartRedisServiceImpl cartRedisService;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = RedisServer.newRedisServer().port(port).setting("bind 127.0.0.1").build();
+		redisServer.start();
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+		connectionFactory.afterPropertiesSet();
+
+		cartRedisTemplate = new RedisTemplate<>();
+		cartRedisTemplate.setConnectionFactory(connectionFactory);
+		cartRedisTemplate.setKeySerializer(new StringRedisSerializer());
+		cartRedisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		cartRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		cartRedisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+		cartRedisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		cartRedisService = new CartRedisServiceImpl(cartRedisTemplate, new BinaryCartValueCodec());
+		// 첫 EVALSHA 는 NOSCRIPT 후 EVAL 로 스크립트를 올리므로 미리 한 번 실행하고 집계를 초기화한다
+		cartRedisService.saveCartToRedis(0L, List.of());
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.serverCommands().flushAll();
+			connection.serverCommands().resetConfigStats();
+		}
+	}
+
+	@AfterEach
+	void cleanup() {
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.serverCommands().flushAll();
+		}
+	}
+
+	private Map<String, Long> commandCalls() {
+		Properties stats;
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			stats = connection.serverCommands().info("commandstats");
+		}
+		Map<String, Long> calls = new HashMap<>();
+		stats.stringPropertyNames().stream()
+			.filter(name -> name.startsWith("cmdstat_"))
+			.forEach(name -> {
+				String command = name.substring("cmdstat_".length());
+				Matcher matcher = CALLS.matcher(stats.getProperty(name));
+				if (!STAT_COMMANDS.contains(command) && matcher.find()) {
+					calls.put(command, Long.parseLong(matcher.group(1)));
+				}
+			});
+		return calls;
+	}
+
+	@Test
+	@DisplayName("장바구니 저장은 아이템 수와 관계없이 EVALSHA 1회로 처리된다")
+	void saveCartToRedis_SingleRoundTrip() {
+		UUID storeId = UUID.randomUUID();
+		List<RedisCartItem> cartItems = List.of(
+			RedisCartItem.builder().menuId(UUID.randomUUID()).storeId(storeId).quantity(1).build(),
+			RedisCartItem.builder().menuId(UUID.randomUUID()).storeId(storeId).quantity(2).build(),
+			RedisCartItem.builder().menuId(UUID.randomUUID()).storeId(storeId).quantity(3).build()
+		);
+
+		cartRedisService.saveCartToRedis(1L, cartItems);
+
+		assertThat(commandCalls()).containsOnly(
+			entry("evalsha", 1L),
+			entry("del", 1L),
+			entry("hset", 3L),
+			entry("expire", 1L));
+		assertThat(cartRedisService.getCartFromRedis(1L)).hasSize(3);
+	}
+
+	@Test
+	@DisplayName("빈 장바구니 저장도 센티널과 TTL을 포함해 EVALSHA 1회로 처리된다")
+	void saveCartToRedis_EmptyCart_SingleRoundTrip() {
+		cartRedisService.saveCartToRedis(2L, List.of());
+
+		assertThat(commandCalls()).containsOnly(
+			entry("evalsha", 1L),
+			entry("del", 1L),
+			entry("set", 1L),
+			entry("expire", 1L));
+	}
+}
@@ -3,9 +3,14 @@ package app.unit.domain.cart.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterEach;
@@ -82,6 +87,59 @@ class CartRedisServiceTest {
 		assertThat(ttl).isLessThanOrEqualTo(30);
 	}
 
+	@Test
+	@DisplayName("장바구니를 다시 저장하면 기존 아이템은 남지 않고 새 아이템으로 교체된다")
+	void saveCartItems_ReplacesExistingItems() {
+		Long userId = 23L;
+		UUID storeId = UUID.randomUUID();
+		UUID newMenuId = UUID.randomUUID();
+		String key = "cart:" + userId;
+		cartRedisService.saveCartToRedis(userId, List.of(
+			new RedisCartItem(UUID.randomUUID(), storeId, 1),
+			new RedisCartItem(UUID.randomUUID(), storeId, 2)
+		));
+
+		cartRedisService.saveCartToRedis(userId, List.of(new RedisCartItem(newMenuId, storeId, 4)));
+		List<RedisCartItem> retrievedItems = cartRedisService.getCartFromRedis(userId);
+
+		assertThat(redisTemplate.opsForHash().keys(key)).containsExactly(newMenuId.toString());
+		assertThat(retrievedItems).extracting(RedisCartItem::getQuantity).containsExactly(4);
+		assertThat(redisTemplate.getExpire(key, TimeUnit.MINUTES)).isGreaterThan(25).isLessThanOrEqualTo(30);
+	}
+
+	@Test
+	@DisplayName("빈 장바구니를 저장하면 기존 해시 대신 빈 문자열 센티널이 TTL과 함께 저장된다")
+	void saveCartItems_EmptyCart_StoresSentinelWithTTL() {
+		Long userId = 24L;
+		String key = "cart:" + userId;
+		cartRedisService.saveCartToRedis(userId, List.of(new RedisCartItem(UUID.randomUUID(), UUID.randomUUID(), 1)));
+		redisTemplate.expire(key, 5, TimeUnit.MINUTES);
+
+		cartRedisService.saveCartToRedis(userId, List.of());
+
+		assertThat(redisTemplate.type(key).code()).isEqualTo("string");
+		assertThat(redisTemplate.opsForValue().get(key)).isEmpty();
+		assertThat(redisTemplate.getExpire(key, TimeUnit.MINUTES)).isGreaterThan(25).isLessThanOrEqualTo(30);
+		assertThat(cartRedisService.existsCartInRedis(userId)).isTrue();
+		assertThat(cartRedisService.getCartFromRedis(userId)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("빈 장바구니 센티널 위에 아이템을 저장하면 다시 해시로 교체된다")
+	void saveCartItems_SentinelReplacedByItems() {
+		Long userId = 25L;
+		UUID menuId = UUID.randomUUID();
+		String key = "cart:" + userId;
+		cartRedisService.saveCartToRedis(userId, List.of());
+
+		cartRedisService.saveCartToRedis(userId, List.of(new RedisCartItem(menuId, UUID.randomUUID(), 2)));
+
+		assertThat(redisTemplate.type(key).code()).isEqualTo("hash");
+		assertThat(cartRedisService.getCartFromRedis(userId)).extracting(RedisCartItem::getMenuId)
+			.containsExactly(menuId);
+		assertThat(redisTemplate.getExpire(key, TimeUnit.MINUTES)).isGreaterThan(25).isLessThanOrEqualTo(30);
+	}
+
 	@Test
 	@DisplayName("장바구니 전체 삭제 시 비어있는 상태가 된다")
 	void clearCartItems_BecomesEmpty() {
@@ -216,29 +274,6 @@ class CartRedisServiceTest {
 		assertThat(exists).isFalse();
 	}
 
-	@Test
-	@DisplayName("장바구니 키들만 조회된다")
-	void getAllCartKeys_OnlyCartKeys() {
-		Long userId1 = 9L;
-		Long userId2 = 10L;
-		List<RedisCartItem> cartItems = List.of(
-			RedisCartItem.builder()
-				.menuId(UUID.randomUUID())
-				.storeId(UUID.randomUUID())
-				.quantity(1)
-				.build()
-		);
-		redisTemplate.opsForValue().set("other:key", "value");
-
-		cartRedisService.saveCartToRedis(userId1, cartItems);
-		cartRedisService.saveCartToRedis(userId2, cartItems);
-		Set<String> keys = cartRedisService.getAllCartKeys();
-
-		assertThat(keys).hasSize(2);
-		assertThat(keys).contains("cart:" + userId1, "cart:" + userId2);
-		assertThat(keys).doesNotContain("other:key");
-	}
-
 	@Test
 	@DisplayName("키에서 userId가 올바르게 추출된다")
 	void extractUserIdFromKey_ValidKey() {
@@ -288,4 +323,142 @@ class CartRedisServiceTest {
 		assertThat(keyTypeAfterRemove).isEqualTo("string");
 		assertThat(retrievedItems).isEmpty();
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("같은 메뉴를 추가하면 서버 측에서 수량이 누적된다")
+	void addCartItem_AccumulatesQuantity() {
+		Long userId = 12L;
+		UUID menuId = UUID.randomUUID();
+		UUID storeId = UUID.randomUUID();
+		cartRedisService.saveCartToRedis(userId, List.of());
+
+		cartRedisService.addCartItem(userId, new RedisCartItem(menuId, storeId, 1));
+		cartRedisService.addCartItem(userId, new RedisCartItem(menuId, storeId, 2));
+		List<RedisCartItem> retrievedItems = cartRedisService.getCartFromRedis(userId);
+
+		assertThat(retrievedItems).hasSize(1);
+		assertThat(retrievedItems.get(0).getQuantity()).isEqualTo(3);
+		assertThat(redisTemplate.type("cart:" + userId).code()).isEqualTo("hash");
+	}
+
+	@Test
+	@DisplayName("다른 매장의 메뉴를 추가하면 기존 장바구니가 초기화된다")
+	void addCartItem_DifferentStoreResetsCart() {
+		Long userId = 13L;
+		UUID storeId = UUID.randomUUID();
+		UUID otherStoreId = UUID.randomUUID();
+		UUID newMenuId = UUID.randomUUID();
+		cartRedisService.saveCartToRedis(userId, List.of(
+			new RedisCartItem(UUID.randomUUID(), otherStoreId, 1),
+			new RedisCartItem(UUID.randomUUID(), otherStoreId, 2)
+		));
+
+		cartRedisService.addCartItem(userId, new RedisCartItem(newMenuId, storeId, 2));
+		List<RedisCartItem> retrievedItems = cartRedisService.getCartFromRedis(userId);
+
+		assertThat(retrievedItems).hasSize(1);
+		assertThat(retrievedItems.get(0).getMenuId()).isEqualTo(newMenuId);
+		assertThat(retrievedItems.get(0).getStoreId()).isEqualTo(storeId);
+	}
+
+	@Test
+	@DisplayName("담긴 메뉴의 수량만 변경되고 없는 메뉴는 추가되지 않는다")
+	void updateCartItemQuantity_OnlyExistingItem() {
+		Long userId = 14L;
+		UUID menuId = UUID.randomUUID();
+		UUID storeId = UUID.randomUUID();
+		cartRedisService.saveCartToRedis(userId, List.of(new RedisCartItem(menuId, storeId, 1)));
+
+		cartRedisService.updateCartItemQuantity(userId, menuId, 5);
+		cartRedisService.updateCartItemQuantity(userId, UUID.randomUUID(), 7);
+		List<RedisCartItem> retrievedItems = cartRedisService.getCartFromRedis(userId);
+
+		assertThat(retrievedItems).hasSize(1);
+		assertThat(retrievedItems.get(0).getQuantity()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("여러 기기에서 동시에 추가해도 수량이 유실되지 않는다")
+	void addCartItem_ConcurrentAddsAreNotLost() throws Exception {
+		Long userId = 15L;
+		UUID menuId = UUID.randomUUID();
+		UUID storeId = UUID.randomUUID();
+		int threadCount = 2;
+		int addsPerThread = 50;
+		cartRedisService.saveCartToRedis(userId, List.of());
+
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			futures.add(executor.submit(() -> {
+				startLatch.await();
+				for (int j = 0; j < addsPerThread; j++) {
+					cartRedisService.addCartItem(userId, new RedisCartItem(menuId, storeId, 1));
+				}
+				return null;
+			}));
+		}
+		startLatch.countDown();
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		List<RedisCartItem> retrievedItems = cartRedisService.getCartFromRedis(userId);
+		assertThat(retrievedItems).hasSize(1);
+		assertThat(retrievedItems.get(0).getQuantity()).isEqualTo(threadCount * addsPerThread);
+	}
+
+	@Test
+	@DisplayName("기존 JSON 포맷으로 저장된 장바구니도 읽고 수량을 누적할 수 있다")
+	void legacyJsonValue_ReadAndIncrement() {
+		Long userId = 16L;
+		UUID menuId = UUID.randomUUID();
+		UUID storeId = UUID.randomUUID();
+		String key = "cart:" + userId;
+		redisTemplate.opsForHash().put(key, menuId.toString(),
+			"{\"menuId\":\"" + menuId + "\",\"storeId\":\"" + storeId + "\",\"quantity\":2}");
+
+		List<RedisCartItem> legacyItems = cartRedisService.getCartFromRedis(userId);
+		cartRedisService.addCartItem(userId, new RedisCartItem(menuId, storeId, 1));
+		List<RedisCartItem> retrievedItems = cartRedisService.getCartFromRedis(userId);
+
+		assertThat(legacyItems).hasSize(1);
+		assertThat(legacyItems.get(0).getQuantity()).isEqualTo(2);
+		assertThat(retrievedItems).hasSize(1);
+		assertThat(retrievedItems.get(0).getQuantity()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("변경된 장바구니만 동기화 대상으로 등록되고 커서로 수집된다")
+	void dirtyCarts_OnlyMutatedCartsAreDrained() {
+		UUID storeId = UUID.randomUUID();
+		cartRedisService.saveCartToRedis(17L, List.of(new RedisCartItem(UUID.randomUUID(), storeId, 1)));
+		cartRedisService.addCartItem(18L, new RedisCartItem(UUID.randomUUID(), storeId, 1));
+		cartRedisService.clearCartItems(19L);
+
+		boolean started = cartRedisService.beginDirtyCartDrain();
+		List<Long> drained = new ArrayList<>();
+		cartRedisService.scanDrainingCarts(1, drained::addAll);
+		cartRedisService.finishDirtyCartDrain();
+
+		assertThat(started).isTrue();
+		assertThat(drained).containsExactlyInAnyOrder(18L, 19L);
+		assertThat(cartRedisService.beginDirtyCartDrain()).isFalse();
+	}
+
+	@Test
+	@DisplayName("여러 장바구니를 한 번에 조회하고 만료된 장바구니는 제외한다")
+	void getCartsFromRedis_SkipsExpiredCarts() {
+		UUID storeId = UUID.randomUUID();
+		cartRedisService.saveCartToRedis(20L, List.of(new RedisCartItem(UUID.randomUUID(), storeId, 2)));
+		cartRedisService.saveCartToRedis(21L, List.of());
+
+		Map<Long, List<RedisCartItem>> carts = cartRedisService.getCartsFromRedis(List.of(20L, 21L, 22L));
+
+		assertThat(carts).containsOnlyKeys(20L, 21L);
+		assertThat(carts.get(20L)).extracting(RedisCartItem::getQuantity).containsExactly(2);
+		assertThat(carts.get(21L)).isEmpty();
+	}
+}
@@ -7,13 +7,13 @@ import static org.mockito.Mockito.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,11 +26,14 @@ import app.domain.cart.model.repository.CartItemRepository;
 import app.domain.cart.model.repository.CartRepository;
 import app.domain.cart.service.CartRedisService;
 import app.domain.cart.service.CartService;
+import app.domain.cart.status.CartErrorStatus;
 import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.repository.MenuRepository;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
 import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.CurrentUser;
 import app.global.SecurityUtil;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -76,87 +79,88 @@ class CartServiceTest {
 	@DisplayName("장바구니에 새로운 아이템을 추가할 수 있다")
 	void addItem() {
 		AddCartItemRequest request = new AddCartItemRequest(menuId, storeId, 2);
-		User testUser = User.builder().userId(userId).build();
-		when(securityUtil.getCurrentUser()).thenReturn(testUser);
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(userId, UserRole.CUSTOMER));
 		when(menuRepository.existsById(menuId)).thenReturn(true);
 		when(storeRepository.existsById(storeId)).thenReturn(true);
 		when(cartRedisService.existsCartInRedis(userId)).thenReturn(true);
-		when(cartRedisService.getCartFromRedis(userId)).thenReturn(cartItems);
-		when(cartRedisService.saveCartToRedis(eq(userId), any())).thenReturn("성공");
+		when(cartRedisService.addCartItem(eq(userId), any())).thenReturn("성공");
 
 		cartService.addCartItem(request);
 
-		verify(cartRedisService).saveCartToRedis(eq(userId), argThat(items ->
-			items.size() == 1 &&
-				items.get(0).getMenuId().equals(menuId) &&
-				items.get(0).getQuantity() == 2
+		verify(cartRedisService).addCartItem(eq(userId), argThat(item ->
+			item.getMenuId().equals(menuId) &&
+				item.getStoreId().equals(storeId) &&
+				item.getQuantity() == 2
 		));
 	}
 
 	@Test
-	@DisplayName("이미 존재하는 아이템을 추가하면 수량이 누적된다")
-	void addExistingItem() {
+	@DisplayName("아이템 추가 시 장바구니 전체를 다시 저장하지 않고 증분만 전달한다")
+	void addItem_DeltaOnly() {
 		AddCartItemRequest request = new AddCartItemRequest(menuId, storeId, 2);
-		cartItems.add(RedisCartItem.builder().menuId(menuId).storeId(storeId).quantity(1).build());
-		User testUser = User.builder().userId(userId).build();
-		when(securityUtil.getCurrentUser()).thenReturn(testUser);
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(userId, UserRole.CUSTOMER));
 		when(menuRepository.existsById(menuId)).thenReturn(true);
 		when(storeRepository.existsById(storeId)).thenReturn(true);
 		when(cartRedisService.existsCartInRedis(userId)).thenReturn(true);
-		when(cartRedisService.getCartFromRedis(userId)).thenReturn(cartItems);
-		when(cartRedisService.saveCartToRedis(eq(userId), any())).thenReturn("성공");
+		when(cartRedisService.addCartItem(eq(userId), any())).thenReturn("성공");
 
 		cartService.addCartItem(request);
 
-		verify(cartRedisService).saveCartToRedis(eq(userId), argThat(items ->
-			items.get(0).getQuantity() == 3
-		));
+		verify(cartRedisService, never()).getCartFromRedis(any());
+		verify(cartRedisService, never()).saveCartToRedis(any(), any());
 	}
 
 	@Test
-	@DisplayName("다른 매장의 아이템을 추가하면 기존 장바구니가 초기화된다")
-	void addDifferentStoreItem() {
+	@DisplayName("Redis에 장바구니가 없으면 DB에서 로드한 뒤 아이템을 추가한다")
+	void addItem_LoadFromDbFirst() {
 		AddCartItemRequest request = new AddCartItemRequest(menuId, storeId, 2);
-		UUID otherStoreId = UUID.randomUUID();
-		cartItems.add(RedisCartItem.builder().menuId(UUID.randomUUID()).storeId(otherStoreId).quantity(1).build());
 		User testUser = User.builder().userId(userId).build();
-		when(securityUtil.getCurrentUser()).thenReturn(testUser);
+		Cart cart = Cart.builder().cartId(UUID.randomUUID()).user(testUser).build();
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(userId, UserRole.CUSTOMER));
 		when(menuRepository.existsById(menuId)).thenReturn(true);
 		when(storeRepository.existsById(storeId)).thenReturn(true);
-		when(cartRedisService.existsCartInRedis(userId)).thenReturn(true);
-		when(cartRedisService.getCartFromRedis(userId)).thenReturn(cartItems);
-		when(cartRedisService.saveCartToRedis(eq(userId), any())).thenReturn("성공");
+		when(cartRedisService.existsCartInRedis(userId)).thenReturn(false);
+		when(cartRepository.findByUser_UserId(userId)).thenReturn(Optional.of(cart));
+		when(cartItemRepository.findByCart_CartId(cart.getCartId())).thenReturn(List.of());
+		when(cartRedisService.addCartItem(eq(userId), any())).thenReturn("성공");
 
 		cartService.addCartItem(request);
 
-		verify(cartRedisService).saveCartToRedis(eq(userId), argThat(items ->
-			items.size() == 1 &&
-				items.get(0).getStoreId().equals(storeId)
-		));
+		InOrder inOrder = inOrder(cartRedisService);
+		inOrder.verify(cartRedisService).saveCartToRedis(eq(userId), any());
+		inOrder.verify(cartRedisService).addCartItem(eq(userId), any());
 	}
 
 	@Test
 	@DisplayName("장바구니 아이템의 수량을 수정할 수 있다")
 	void updateItem() {
-		cartItems.add(RedisCartItem.builder().menuId(menuId).storeId(storeId).quantity(1).build());
-		User testUser = User.builder().userId(userId).build();
-		when(securityUtil.getCurrentUser()).thenReturn(testUser);
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(userId, UserRole.CUSTOMER));
 		when(cartRedisService.existsCartInRedis(userId)).thenReturn(true);
-		when(cartRedisService.getCartFromRedis(userId)).thenReturn(cartItems);
-		when(cartRedisService.saveCartToRedis(eq(userId), any())).thenReturn("성공");
+		when(cartRedisService.updateCartItemQuantity(userId, menuId, 5)).thenReturn("성공");
 
 		cartService.updateCartItem(menuId, 5);
 
-		verify(cartRedisService).saveCartToRedis(eq(userId), argThat(items ->
-			items.get(0).getQuantity() == 5
-		));
+		verify(cartRedisService).updateCartItemQuantity(userId, menuId, 5);
+		verify(cartRedisService, never()).saveCartToRedis(any(), any());
+	}
+
+	@Test
+	@DisplayName("수량을 1 미만으로 수정하면 INVALID_QUANTITY 예외가 발생한다")
+	void updateItem_InvalidQuantity() {
+		assertThatThrownBy(() -> cartService.updateCartItem(menuId, 0))
+			.isInstanceOf(GeneralException.class)
+			.satisfies(ex -> {
+				GeneralException generalEx = (GeneralException)ex;
+				assertThat(generalEx.getErrorReason().getCode()).isEqualTo(CartErrorStatus.INVALID_QUANTITY.getCode());
+			});
+
+		verify(cartRedisService, never()).updateCartItemQuantity(any(), any(), anyInt());
 	}
 
 	@Test
 	@DisplayName("장바구니에서 특정 아이템을 삭제할 수 있다")
 	void removeItem() {
-		User testUser = User.builder().userId(userId).build();
-		when(securityUtil.getCurrentUser()).thenReturn(testUser);
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(userId, UserRole.CUSTOMER));
 		when(cartRedisService.removeCartItem(userId, menuId)).thenReturn("성공");
 
 		cartService.removeCartItem(menuId);
@@ -167,8 +171,7 @@ class CartServiceTest {
 	@Test
 	@DisplayName("Redis에 장바구니가 있으면 Redis에서 조회한다")
 	void getFromRedis() {
-		User testUser = User.builder().userId(userId).build();
-		when(securityUtil.getCurrentUser()).thenReturn(testUser);
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(userId, UserRole.CUSTOMER));
 		when(cartRedisService.existsCartInRedis(userId)).thenReturn(true);
 		when(cartRedisService.getCartFromRedis(userId)).thenReturn(cartItems);
 
@@ -181,8 +184,7 @@ class CartServiceTest {
 	@Test
 	@DisplayName("Redis에 장바구니가 없으면 DB에서 로드한다")
 	void getFromDb() {
-		User testUser = User.builder().userId(userId).build();
-		when(securityUtil.getCurrentUser()).thenReturn(testUser);
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(userId, UserRole.CUSTOMER));
 		when(cartRedisService.existsCartInRedis(userId)).thenReturn(false);
 		when(cartRedisService.getCartFromRedis(userId)).thenReturn(cartItems);
 
@@ -205,8 +207,7 @@ class CartServiceTest {
 	@Test
 	@DisplayName("장바구니의 모든 아이템을 삭제할 수 있다")
 	void clearItems() {
-		User testUser = User.builder().userId(userId).build();
-		when(securityUtil.getCurrentUser()).thenReturn(testUser);
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(userId, UserRole.CUSTOMER));
 		when(cartRedisService.clearCartItems(userId)).thenReturn("성공");
 
 		cartService.clearCartItems();
@@ -225,7 +226,7 @@ class CartServiceTest {
 			.quantity(2)
 			.build();
 
-		when(securityUtil.getCurrentUser()).thenReturn(testUser);
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(userId, UserRole.CUSTOMER));
 		when(cartRepository.findByUser_UserId(userId)).thenReturn(Optional.of(cart));
 		when(cartItemRepository.findByCart_CartId(cart.getCartId())).thenReturn(List.of(cartItem));
 		when(cartRedisService.saveCartToRedis(eq(userId), any())).thenReturn("성공");
@@ -240,70 +241,6 @@ class CartServiceTest {
 		));
 	}
 
-	@Test
-	@DisplayName("Redis의 장바구니 데이터를 DB에 동기화할 수 있다")
-	void syncRedisToDb() {
-		RedisCartItem redisItem = RedisCartItem.builder().menuId(menuId).storeId(storeId).quantity(3).build();
-		Cart cart = Cart.builder().cartId(UUID.randomUUID()).user(User.builder().userId(userId).build()).build();
-		Menu menu = Menu.builder().menuId(menuId).store(Store.builder().storeId(storeId).build()).build();
-
-		when(cartRedisService.getCartFromRedis(userId)).thenReturn(List.of(redisItem));
-		when(cartRepository.findByUser_UserId(userId)).thenReturn(Optional.of(cart));
-		when(menuRepository.existsById(menuId)).thenReturn(true);
-		when(menuRepository.findById(menuId)).thenReturn(Optional.of(menu));
-
-		cartService.syncRedisToDb(userId);
-
-		verify(cartItemRepository).deleteByCart_CartId(cart.getCartId());
-		verify(menuRepository).existsById(menuId);
-		verify(cartItemRepository).saveAll(argThat((List<CartItem> items) ->
-			items.size() == 1 &&
-				items.get(0).getQuantity() == 3
-		));
-	}
-
-	@Test
-	@DisplayName("모든 사용자의 Redis 장바구니를 DB에 동기화할 수 있다")
-	void syncAllCarts() {
-		Set<String> cartKeys = Set.of("cart:1", "cart:2");
-		when(cartRedisService.getAllCartKeys()).thenReturn(cartKeys);
-		when(cartRedisService.extractUserIdFromKey("cart:1")).thenReturn(1L);
-		when(cartRedisService.extractUserIdFromKey("cart:2")).thenReturn(2L);
-
-		UUID menuId1 = UUID.randomUUID();
-		UUID menuId2 = UUID.randomUUID();
-		RedisCartItem redisItem1 = RedisCartItem.builder()
-			.menuId(menuId1)
-			.storeId(storeId)
-			.quantity(1)
-			.build();
-		RedisCartItem redisItem2 = RedisCartItem.builder()
-			.menuId(menuId2)
-			.storeId(storeId)
-			.quantity(2)
-			.build();
-		when(cartRedisService.getCartFromRedis(1L)).thenReturn(List.of(redisItem1));
-		when(cartRedisService.getCartFromRedis(2L)).thenReturn(List.of(redisItem2));
-
-		Cart cart1 = Cart.builder().cartId(UUID.randomUUID()).user(User.builder().userId(1L).build()).build();
-		Cart cart2 = Cart.builder().cartId(UUID.randomUUID()).user(User.builder().userId(2L).build()).build();
-		when(cartRepository.findByUser_UserId(1L)).thenReturn(Optional.of(cart1));
-		when(cartRepository.findByUser_UserId(2L)).thenReturn(Optional.of(cart2));
-
-		when(menuRepository.existsById(menuId1)).thenReturn(true);
-		when(menuRepository.existsById(menuId2)).thenReturn(true);
-		when(menuRepository.findById(menuId1)).thenReturn(Optional.of(
-			Menu.builder().menuId(menuId1).store(Store.builder().storeId(storeId).build()).build()));
-		when(menuRepository.findById(menuId2)).thenReturn(Optional.of(
-			Menu.builder().menuId(menuId2).store(Store.builder().storeId(storeId).build()).build()));
-
-		cartService.syncAllCartsToDb();
-
-		verify(cartItemRepository).deleteByCart_CartId(cart1.getCartId());
-		verify(cartItemRepository).deleteByCart_CartId(cart2.getCartId());
-		verify(cartItemRepository, times(2)).saveAll(any());
-	}
-
 	@Test
 	@DisplayName("존재하지 않는 menuId로 장바구니 추가 시 예외 발생")
 	void addCartItem_MenuNotFound() {
@@ -0,0 +1,182 @@
+package app.unit.domain.cart.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.model.entity.Cart;
+import app.domain.cart.model.repository.CartItemRepository;
+import app.domain.cart.model.repository.CartRepository;
+import app.domain.cart.service.CartRedisService;
+import app.domain.cart.service.CartSyncService;
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.repository.MenuRepository;
+import app.domain.store.model.entity.Store;
+import app.domain.user.model.entity.User;
+
+@ExtendWith(MockitoExtension.class)
+class CartSyncServiceTest {
+
+	@Mock
+	private CartRedisService cartRedisService;
+
+	@Mock
+	private CartRepository cartRepository;
+
+	@Mock
+	private CartItemRepository cartItemRepository;
+
+	@Mock
+	private MenuRepository menuRepository;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@InjectMocks
+	private CartSyncService cartSyncService;
+
+	private UUID storeId;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(cartSyncService, "parallelism", 2);
+		ReflectionTestUtils.setField(cartSyncService, "batchSize", 2);
+		storeId = UUID.randomUUID();
+	}
+
+	private void givenDrainingChunks(List<List<Long>> chunks) {
+		when(cartRedisService.beginDirtyCartDrain()).thenReturn(true);
+		doAnswer(invocation -> {
+			Consumer<List<Long>> handler = invocation.getArgument(1);
+			chunks.forEach(handler);
+			return null;
+		}).when(cartRedisService).scanDrainingCarts(eq(2), any());
+	}
+
+	private void givenTransactionRunsInline() {
+		when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+			TransactionCallback<?> callback = invocation.getArgument(0);
+			return callback.doInTransaction(null);
+		});
+	}
+
+	private Cart cartOf(Long userId) {
+		return Cart.builder().cartId(UUID.randomUUID()).user(User.builder().userId(userId).build()).build();
+	}
+
+	private Menu menuOf(UUID menuId) {
+		return Menu.builder().menuId(menuId).store(Store.builder().storeId(storeId).build()).build();
+	}
+
+	@Test
+	@DisplayName("변경된 장바구니가 없으면 아무것도 조회하지 않는다")
+	void noDirtyCarts() {
+		when(cartRedisService.beginDirtyCartDrain()).thenReturn(false);
+
+		String result = cartSyncService.syncDirtyCartsToDb();
+
+		assertThat(result).contains("없습니다");
+		verify(cartRedisService, never()).scanDrainingCarts(anyInt(), any());
+		verifyNoInteractions(cartRepository, cartItemRepository, jdbcTemplate);
+	}
+
+	@Test
+	@DisplayName("변경된 장바구니만 청크 단위로 일괄 삭제 후 JDBC 배치로 삽입한다")
+	void syncDirtyCarts_BatchedPerChunk() {
+		UUID menuId1 = UUID.randomUUID();
+		UUID menuId2 = UUID.randomUUID();
+		Cart cart1 = cartOf(1L);
+		Cart cart2 = cartOf(2L);
+		givenDrainingChunks(List.of(List.of(1L, 2L)));
+		givenTransactionRunsInline();
+		when(cartRedisService.getCartsFromRedis(List.of(1L, 2L))).thenReturn(Map.of(
+			1L, List.of(new RedisCartItem(menuId1, storeId, 1)),
+			2L, List.of(new RedisCartItem(menuId2, storeId, 2))
+		));
+		when(cartRepository.findAllWithUserByUserIdIn(any())).thenReturn(List.of(cart1, cart2));
+		when(menuRepository.findAllById(any())).thenReturn(List.of(menuOf(menuId1), menuOf(menuId2)));
+
+		String result = cartSyncService.syncDirtyCartsToDb();
+
+		assertThat(result).contains("성공: 2");
+		verify(cartItemRepository).deleteAllByCartIdIn(argThat(ids ->
+			ids.containsAll(List.of(cart1.getCartId(), cart2.getCartId()))));
+		verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> rows) ->
+			rows.size() == 2 && rows.stream().allMatch(row -> storeId.equals(row[3]))));
+		verify(menuRepository, never()).existsById(any());
+		verify(menuRepository, never()).findById(any());
+		verify(cartRedisService).finishDirtyCartDrain();
+	}
+
+	@Test
+	@DisplayName("삭제된 메뉴는 동기화에서 제외된다")
+	void syncDirtyCarts_SkipsMissingMenu() {
+		UUID menuId = UUID.randomUUID();
+		UUID deletedMenuId = UUID.randomUUID();
+		givenDrainingChunks(List.of(List.of(1L)));
+		givenTransactionRunsInline();
+		when(cartRedisService.getCartsFromRedis(List.of(1L))).thenReturn(Map.of(
+			1L, List.of(new RedisCartItem(menuId, storeId, 1), new RedisCartItem(deletedMenuId, storeId, 1))
+		));
+		when(cartRepository.findAllWithUserByUserIdIn(any())).thenReturn(List.of(cartOf(1L)));
+		when(menuRepository.findAllById(any())).thenReturn(List.of(menuOf(menuId)));
+
+		cartSyncService.syncDirtyCartsToDb();
+
+		verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> rows) ->
+			rows.size() == 1 && menuId.equals(rows.get(0)[2])));
+	}
+
+	@Test
+	@DisplayName("Redis에서 만료된 장바구니는 DB 장바구니를 비우지 않는다")
+	void syncDirtyCarts_ExpiredCartKeepsDb() {
+		givenDrainingChunks(List.of(List.of(1L)));
+		when(cartRedisService.getCartsFromRedis(List.of(1L))).thenReturn(Map.of());
+
+		cartSyncService.syncDirtyCartsToDb();
+
+		verifyNoInteractions(cartItemRepository, jdbcTemplate);
+		verify(cartRedisService).finishDirtyCartDrain();
+	}
+
+	@Test
+	@DisplayName("청크 동기화가 실패하면 해당 사용자들을 다시 변경 집합에 등록한다")
+	void syncDirtyCarts_FailedChunkRequeued() {
+		givenDrainingChunks(List.of(List.of(1L, 2L), List.of(3L)));
+		givenTransactionRunsInline();
+		when(cartRedisService.getCartsFromRedis(List.of(1L, 2L)))
+			.thenThrow(new RuntimeException("Redis connection failed"));
+		when(cartRedisService.getCartsFromRedis(List.of(3L))).thenReturn(Map.of(
+			3L, List.of(new RedisCartItem(UUID.randomUUID(), storeId, 1))
+		));
+		when(cartRepository.findAllWithUserByUserIdIn(any())).thenReturn(List.of(cartOf(3L)));
+		when(menuRepository.findAllById(any())).thenReturn(List.of());
+
+		String result = cartSyncService.syncDirtyCartsToDb();
+
+		assertThat(result).contains("성공: 1");
+		verify(cartRedisService).markCartsDirty(List.of(1L, 2L));
+		verify(cartRedisService).finishDirtyCartDrain();
+	}
+}
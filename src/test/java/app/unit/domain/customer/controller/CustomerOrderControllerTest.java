@@ -6,7 +6,6 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -30,6 +31,7 @@ import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.entity.enums.PaymentMethod;
 import app.domain.order.model.entity.enums.ReceiptMethod;
 import app.domain.review.ReviewService;
+import app.global.apiPayload.PagedResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 import app.global.config.MockSecurityConfig;
@@ -73,24 +75,26 @@ class CustomerOrderControllerTest {
 			ReceiptMethod.DELIVERY,
 			OrderStatus.PENDING,
 			true,
-			"{}",
+			List.of(),
 			"요청사항 없음",
 			LocalDateTime.now()
 		);
-		List<CustomerOrderResponse> responses = Collections.singletonList(response);
+		PagedResponse<CustomerOrderResponse> responses = PagedResponse.from(
+			new PageImpl<>(List.of(response), PageRequest.of(1, 5), 6));
 
-		given(customerOrderService.getCustomerOrders()).willReturn(responses);
+		given(customerOrderService.getCustomerOrders(PageRequest.of(1, 5))).willReturn(responses);
 
-		mockMvc.perform(get("/customer/order"))
+		mockMvc.perform(get("/customer/order").param("page", "1").param("size", "5"))
 			.andExpect(status().isOk())
-			.andExpect(jsonPath("$.result[0].storeName").value("테스트 가게"));
+			.andExpect(jsonPath("$.result.content[0].storeName").value("테스트 가게"))
+			.andExpect(jsonPath("$.result.totalElements").value(6));
 	}
 
 	@Test
 	@DisplayName("고객 주문 내역 조회 실패 - 사용자를 찾을 수 없음")
 	@WithMockUser(username = "1", roles = "CUSTOMER")
 	void getCustomerOrders_UserNotFound() throws Exception {
-		given(customerOrderService.getCustomerOrders()).willThrow(
+		given(customerOrderService.getCustomerOrders(any())).willThrow(
 			new GeneralException(ErrorStatus.USER_NOT_FOUND));
 
 		mockMvc.perform(get("/customer/order"))
@@ -13,6 +13,7 @@ import app.domain.user.model.entity.UserAddress;
 import app.domain.user.model.entity.enums.UserRole;
 import app.domain.customer.status.CustomerErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
+import app.global.CurrentUser;
 import app.global.SecurityUtil;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -59,7 +60,8 @@ class CustomerAddressServiceTest {
 			.userRole(UserRole.CUSTOMER)
 			.build();
 
-		when(securityUtil.getCurrentUser()).thenReturn(testUser);
+		lenient().when(securityUtil.getCurrentUser()).thenReturn(testUser);
+		lenient().when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(testUser.getUserId(), UserRole.CUSTOMER));
 	}
 
 	private List<UserAddress> createMockAddressList(User user) {
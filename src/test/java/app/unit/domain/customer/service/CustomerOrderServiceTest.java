@@ -3,9 +3,8 @@ package app.unit.domain.customer.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,20 +14,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import app.domain.customer.CustomerOrderService;
 import app.domain.customer.dto.response.CustomerOrderResponse;
 import app.domain.customer.status.CustomerErrorStatus;
-import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.OrderStatusEvent;
 import app.domain.order.model.entity.enums.OrderChannel;
 import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.entity.enums.PaymentMethod;
 import app.domain.order.model.entity.enums.ReceiptMethod;
 import app.domain.order.model.repository.OrdersRepository;
-import app.domain.store.model.entity.Store;
+import app.domain.order.service.OrderStatusHistoryService;
 import app.domain.user.model.UserRepository;
 import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.CurrentUser;
 import app.global.SecurityUtil;
+import app.global.apiPayload.PagedResponse;
 import app.global.apiPayload.exception.GeneralException;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,12 +50,14 @@ class CustomerOrderServiceTest {
 	@Mock
 	private SecurityUtil securityUtil;
 
+	@Mock
+	private OrderStatusHistoryService orderStatusHistoryService;
+
 	@InjectMocks
 	private CustomerOrderService customerOrderService;
 
 	private User testUser;
-	private Store testStore;
-	private Orders testOrder;
+	private CustomerOrderResponse testOrder;
 
 	@BeforeEach
 	void setUp() {
@@ -58,52 +66,88 @@ class CustomerOrderServiceTest {
 			.email("test@example.com")
 			.build();
 
-		testStore = Store.builder()
-			.storeId(UUID.randomUUID())
-			.storeName("Test Store")
-			.build();
-
-		testOrder = Orders.builder()
-			.ordersId(UUID.randomUUID())
-			.user(testUser)
-			.store(testStore)
-			.totalPrice(15000L)
-			.deliveryAddress("Test Address")
-			.paymentMethod(PaymentMethod.CREDIT_CARD)
-			.orderStatus(OrderStatus.COMPLETED)
-			.orderChannel(OrderChannel.ONLINE)
-			.receiptMethod(ReceiptMethod.DELIVERY)
-			.isRefundable(false)
-			.orderHistory("{}")
-			.build();
+		testOrder = new CustomerOrderResponse(
+			UUID.randomUUID(),
+			"Test Store",
+			15000L,
+			"Test Address",
+			PaymentMethod.CREDIT_CARD,
+			OrderChannel.ONLINE,
+			ReceiptMethod.DELIVERY,
+			OrderStatus.COMPLETED,
+			false,
+			null,
+			null);
 	}
 
 	@Test
 	@DisplayName("고객 주문 내역 조회 성공")
 	void getCustomerOrders_Success() {
-		when(securityUtil.getCurrentUser()).thenReturn(testUser);
-		when(ordersRepository.findByUser(testUser)).thenReturn(Arrays.asList(testOrder));
-
-		List<CustomerOrderResponse> result = customerOrderService.getCustomerOrders();
+		PageRequest pageable = PageRequest.of(0, 20);
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(testUser.getUserId(), UserRole.CUSTOMER));
+		when(ordersRepository.findCustomerOrderPage(1L, pageable))
+			.thenReturn(new PageImpl<>(List.of(testOrder), pageable, 1));
+		when(orderStatusHistoryService.getHistories(List.of(testOrder.getOrdersId()))).thenReturn(Map.of(
+			testOrder.getOrdersId(), List.of(
+				OrderStatusEvent.builder().ordersId(testOrder.getOrdersId()).status(OrderStatus.PENDING).build(),
+				OrderStatusEvent.builder().ordersId(testOrder.getOrdersId()).status(OrderStatus.COMPLETED).build())));
+
+		PagedResponse<CustomerOrderResponse> result = customerOrderService.getCustomerOrders(pageable);
+
+		assertThat(result.getContent()).hasSize(1);
+		assertThat(result.getTotalElements()).isEqualTo(1);
+		assertThat(result.getContent().get(0).getStoreName()).isEqualTo("Test Store");
+		assertThat(result.getContent().get(0).getTotalPrice()).isEqualTo(15000L);
+		assertThat(result.getContent().get(0).getOrderHistory()).extracting("status")
+			.containsExactly(OrderStatus.PENDING, OrderStatus.COMPLETED);
+
+		verify(ordersRepository, times(1)).findCustomerOrderPage(1L, pageable);
+		verify(orderStatusHistoryService, times(1)).getHistories(List.of(testOrder.getOrdersId()));
+	}
 
-		assertThat(result).hasSize(1);
-		assertThat(result.get(0).getStoreName()).isEqualTo("Test Store");
-		assertThat(result.get(0).getTotalPrice()).isEqualTo(15000L);
+	@Test
+	@DisplayName("요청의 정렬 조건은 무시하고 페이지 번호와 크기만 전달한다")
+	void getCustomerOrders_IgnoresRequestedSort() {
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(testUser.getUserId(), UserRole.CUSTOMER));
+		when(ordersRepository.findCustomerOrderPage(1L, PageRequest.of(2, 10)))
+			.thenReturn(new PageImpl<>(List.of(testOrder), PageRequest.of(2, 10), 21));
+		when(orderStatusHistoryService.getHistories(List.of(testOrder.getOrdersId()))).thenReturn(Map.of());
+
+		PagedResponse<CustomerOrderResponse> result = customerOrderService.getCustomerOrders(
+			PageRequest.of(2, 10, Sort.by("totalPrice")));
+
+		assertThat(result.getPage()).isEqualTo(2);
+		assertThat(result.isLast()).isTrue();
+		assertThat(result.getContent().get(0).getOrderHistory()).isEmpty();
+	}
 
-		verify(ordersRepository, times(1)).findByUser(testUser);
+	@Test
+	@DisplayName("마지막 페이지를 넘긴 경우 상태 이력을 조회하지 않고 빈 페이지를 반환한다")
+	void getCustomerOrders_PageBeyondLast() {
+		PageRequest pageable = PageRequest.of(5, 20);
+		Page<CustomerOrderResponse> empty = new PageImpl<>(List.of(), pageable, 3);
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(testUser.getUserId(), UserRole.CUSTOMER));
+		when(ordersRepository.findCustomerOrderPage(1L, pageable)).thenReturn(empty);
+
+		PagedResponse<CustomerOrderResponse> result = customerOrderService.getCustomerOrders(pageable);
+
+		assertThat(result.getContent()).isEmpty();
+		assertThat(result.getTotalElements()).isEqualTo(3);
+		verifyNoInteractions(orderStatusHistoryService);
 	}
 
 	@Test
 	@DisplayName("고객 주문 내역 조회 실패 - 주문이 없는 경우")
 	void getCustomerOrders_NoOrdersFound() {
-		when(securityUtil.getCurrentUser()).thenReturn(testUser);
-		when(ordersRepository.findByUser(testUser)).thenReturn(Collections.emptyList());
+		PageRequest pageable = PageRequest.of(0, 20);
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(testUser.getUserId(), UserRole.CUSTOMER));
+		when(ordersRepository.findCustomerOrderPage(1L, pageable)).thenReturn(Page.empty(pageable));
 
-		assertThatThrownBy(() -> customerOrderService.getCustomerOrders())
+		assertThatThrownBy(() -> customerOrderService.getCustomerOrders(pageable))
 			.isInstanceOf(GeneralException.class)
 			.extracting(ex -> ((GeneralException)ex).getErrorReason().getCode())
 			.isEqualTo(CustomerErrorStatus.CUSTOMER_ORDER_NOT_FOUND.getCode());
 
-		verify(ordersRepository, times(1)).findByUser(testUser);
+		verify(ordersRepository, times(1)).findCustomerOrderPage(1L, pageable);
 	}
-}
\ No newline at end of file
+}
@@ -24,11 +24,11 @@ import app.domain.customer.CustomerStoreService;
 import app.domain.customer.dto.response.GetCustomerStoreDetailResponse;
 import app.domain.customer.dto.response.GetStoreListResponse;
 import app.domain.menu.model.entity.Category;
-import app.domain.review.model.ReviewRepository;
 import app.domain.store.model.StoreQueryRepository;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
 import app.domain.store.status.StoreAcceptStatus;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.PagedResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -42,9 +42,6 @@ class CustomerStoreServiceTest {
 	@Mock
 	private StoreQueryRepository storeQueryRepository;
 
-	@Mock
-	private ReviewRepository reviewRepository;
-
 	@InjectMocks
 	private CustomerStoreService customerStoreService;
 
@@ -89,7 +86,7 @@ class CustomerStoreServiceTest {
 		given(store.getStoreId()).willReturn(storeId);
 		given(storeRepository.findByStoreIdAndStoreAcceptStatusAndDeletedAtIsNull(storeId, StoreAcceptStatus.APPROVE))
 			.willReturn(Optional.of(store));
-		given(reviewRepository.getAverageRatingByStore(storeId)).willReturn(3.8);
+		given(store.getAverageRating()).willReturn(3.8);
 
 		// when
 		GetCustomerStoreDetailResponse response = customerStoreService.getApproveStoreDetail(storeId);
@@ -180,4 +177,20 @@ class CustomerStoreServiceTest {
 		assertThat(ex.getErrorReasonHttpStatus().getCode()).isEqualTo("STORE004");
 	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("커서 조회 - 페이지 크기는 1~100 으로 제한된다")
+	void scrollApprovedStores_clampsSize() {
+		// given
+		CursorResponse<GetStoreListResponse> response = new CursorResponse<>(List.of(), 0, false, null, null);
+		given(storeQueryRepository.scrollStores(null, StoreAcceptStatus.APPROVE, null, 100, false)).willReturn(response);
+		given(storeQueryRepository.scrollStores("족발", StoreAcceptStatus.APPROVE, "cursor", 1, true)).willReturn(response);
+
+		// when
+		customerStoreService.scrollApprovedStores(null, null, 1000, false);
+		customerStoreService.scrollApprovedStores("족발", "cursor", 0, true);
+
+		// then
+		then(storeQueryRepository).should().scrollStores(null, StoreAcceptStatus.APPROVE, null, 100, false);
+		then(storeQueryRepository).should().scrollStores("족발", StoreAcceptStatus.APPROVE, "cursor", 1, true);
+	}
+}
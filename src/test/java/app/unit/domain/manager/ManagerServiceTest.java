@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.*;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.IntStream;
@@ -31,10 +32,10 @@ import app.domain.manager.dto.response.GetCustomerListResponse;
 import app.domain.manager.dto.response.GetStoreDetailResponse;
 import app.domain.menu.model.entity.Category;
 import app.domain.order.model.dto.response.OrderDetailResponse;
+import app.domain.order.model.entity.OrderItem;
 import app.domain.order.model.entity.Orders;
-import app.domain.order.model.repository.OrderItemRepository;
 import app.domain.order.model.repository.OrdersRepository;
-import app.domain.review.model.ReviewRepository;
+import app.domain.order.service.OrderItemLoader;
 import app.domain.store.model.StoreQueryRepository;
 import app.domain.store.model.entity.Region;
 import app.domain.store.model.entity.Store;
@@ -68,14 +69,11 @@ class ManagerServiceTest {
 	private UserAddressRepository userAddressRepository;
 
 	@Mock
-	private OrderItemRepository orderItemRepository;
+	private OrderItemLoader orderItemLoader;
 
 	@Mock
 	private StoreRepository storeRepository;
 
-	@Mock
-	private ReviewRepository reviewRepository;
-
 	@Mock
 	private StoreQueryRepository storeQueryRepository;
 
@@ -223,13 +221,20 @@ class ManagerServiceTest {
 				.build()
 		));
 
+		Orders order = ordersPage.getContent().get(0);
+
 		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
 		when(ordersRepository.findAllByUserAndDeliveryAddressIsNotNull(user, pageable)).thenReturn(ordersPage);
+		when(orderItemLoader.loadByOrders(ordersPage.getContent())).thenReturn(Map.of(order.getOrdersId(), List.of(
+			OrderItem.builder().orders(order).menuName("짜장면").price(7000L).quantity(2).build())));
 
 		PagedResponse<OrderDetailResponse> result = managerService.getCustomerOrderListById(userId, pageable);
 
 		assertThat(result.getTotalElements()).isEqualTo(1);
 		assertThat(result.getContent()).hasSize(1);
+		assertThat(result.getContent().get(0).getMenuList()).extracting(OrderDetailResponse.Menu::getMenuName)
+			.containsExactly("짜장면");
+		verify(orderItemLoader, times(1)).loadByOrders(ordersPage.getContent());
 	}
 
 	@DisplayName("사용자 상세 조회 시 주소 목록이 없을 경우 빈 리스트 반환")
@@ -386,13 +391,14 @@ class ManagerServiceTest {
 			.phoneNumber("010-1234-5678")
 			.minOrderAmount(15000L)
 			.storeAcceptStatus(StoreAcceptStatus.APPROVE)
+			.reviewCount(10L)
+			.ratingSum(47L)
 			.region(region)
 			.category(category)
 			.user(owner)
 			.build();
 
 		when(storeRepository.findByStoreIdAndDeletedAtIsNull(storeId)).thenReturn(Optional.of(store));
-		when(reviewRepository.getAverageRatingByStore(storeId)).thenReturn(4.7);
 
 		// when
 		GetStoreDetailResponse response = managerService.getStoreDetail(storeId);
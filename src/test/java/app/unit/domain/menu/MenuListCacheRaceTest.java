@@ -0,0 +1,151 @@
+package app.unit.domain.menu;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.menu.MenuListCache;
+import app.domain.menu.model.dto.response.MenuListResponse;
+import redis.embedded.RedisServer;
+
+/**
+ * 내장 Redis 로 메뉴 목록 조회와 무효화가 겹치는 경우를 재현한다.
+ * DB 조회가 끝나기 전에 무효화되면 조회한 목록은 Redis 에도 로컬에도 남지 않아야 한다.
+ */
+@DisplayName("메뉴 목록 캐시 조회/무효화 경합 테스트")
+class MenuListCacheRaceTest {
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+
+	private MenuListCache menuListCache;
+	private UUID storeId;
+	private AtomicInteger loadCount;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = RedisServer.newRedisServer().port(port).setting("bind 127.0.0.1").build();
+		redisServer.start();
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		menuListCache = new MenuListCache(redisTemplate, mock(RedisMessageListenerContainer.class),
+			new ObjectMapper(), 100, 60, 600);
+		storeId = UUID.randomUUID();
+		loadCount = new AtomicInteger();
+	}
+
+	@AfterEach
+	void cleanup() {
+		redisTemplate.getConnectionFactory().getConnection().flushAll();
+	}
+
+	private MenuListResponse menuList(String name) {
+		loadCount.incrementAndGet();
+		return new MenuListResponse(storeId,
+			List.of(new MenuListResponse.MenuDetail(UUID.randomUUID(), name, 30000L, "설명", false)));
+	}
+
+	@Test
+	@DisplayName("무효화가 없으면 조회한 목록을 Redis 에 저장하고 다음 조회는 DB 를 거치지 않는다")
+	void get_FillsRedisWithoutConcurrentEvict() {
+		menuListCache.get(storeId, () -> menuList("족발"));
+
+		assertThat(redisTemplate.hasKey("menu:list:" + storeId)).isTrue();
+		assertThat(menuListCache.get(storeId, () -> menuList("족발")).getMenus().get(0).getName()).isEqualTo("족발");
+		assertThat(loadCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("DB 조회 중에 무효화되면 조회한 목록을 Redis 와 로컬에 남기지 않는다")
+	void get_EvictDuringLoadRejectsFill() {
+		MenuListResponse stale = menuListCache.get(storeId, () -> {
+			MenuListResponse beforeUpdate = menuList("변경 전");
+			menuListCache.evict(storeId);
+			return beforeUpdate;
+		});
+
+		assertThat(stale.getMenus().get(0).getName()).isEqualTo("변경 전");
+		assertThat(redisTemplate.hasKey("menu:list:" + storeId)).isFalse();
+		MenuListResponse fresh = menuListCache.get(storeId, () -> menuList("변경 후"));
+		assertThat(fresh.getMenus().get(0).getName()).isEqualTo("변경 후");
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("다른 스레드의 무효화가 DB 조회와 겹쳐도 변경 전 목록이 캐시에 남지 않는다")
+	void get_ConcurrentEvictFromAnotherThread() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int round = 0; round < 20; round++) {
+				CountDownLatch loading = new CountDownLatch(1);
+				CountDownLatch evicted = new CountDownLatch(1);
+				Future<MenuListResponse> reader = executor.submit(() -> menuListCache.get(storeId, () -> {
+					loading.countDown();
+					awaitQuietly(evicted);
+					return menuList("변경 전");
+				}));
+				Future<?> writer = executor.submit(() -> {
+					awaitQuietly(loading);
+					menuListCache.evict(storeId);
+					evicted.countDown();
+				});
+				writer.get(5, TimeUnit.SECONDS);
+				reader.get(5, TimeUnit.SECONDS);
+
+				assertThat(redisTemplate.hasKey("menu:list:" + storeId)).isFalse();
+				assertThat(menuListCache.get(storeId, () -> menuList("변경 후")).getMenus().get(0).getName())
+					.isEqualTo("변경 후");
+				menuListCache.evict(storeId);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package app.unit.domain.menu;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.menu.MenuListCache;
+import app.domain.menu.model.dto.response.MenuListResponse;
+
+@ExtendWith(MockitoExtension.class)
+class MenuListCacheTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private MenuListCache menuListCache;
+	private UUID storeId;
+	private List<String> keys;
+	private AtomicInteger loadCount;
+
+	@BeforeEach
+	void setUp() {
+		menuListCache = new MenuListCache(redisTemplate, redisMessageListenerContainer, objectMapper, 100, 60, 600);
+		storeId = UUID.randomUUID();
+		keys = List.of("menu:list:" + storeId, "menu:list:version:" + storeId);
+		loadCount = new AtomicInteger();
+	}
+
+	private void givenRedisMiss(String version, Long fillResult) {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.multiGet(keys)).thenReturn(Arrays.asList(null, version));
+		when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(keys),
+			eq(version == null ? "0" : version), anyString(), eq("600"))).thenReturn(fillResult);
+	}
+
+	private Supplier<MenuListResponse> loader() {
+		return () -> {
+			loadCount.incrementAndGet();
+			return menuList();
+		};
+	}
+
+	private MenuListResponse menuList() {
+		return new MenuListResponse(storeId,
+			List.of(new MenuListResponse.MenuDetail(UUID.randomUUID(), "족발", 30000L, "앞다리", true)));
+	}
+
+	@Test
+	@DisplayName("두 계층 모두 없으면 DB 에서 읽어 Redis 와 로컬에 저장하고 이후에는 로컬에서 응답한다")
+	void get_MissThenLocalHit() {
+		givenRedisMiss(null, 1L);
+
+		MenuListResponse first = menuListCache.get(storeId, loader());
+		MenuListResponse second = menuListCache.get(storeId, loader());
+
+		assertThat(second).isSameAs(first);
+		assertThat(loadCount).hasValue(1);
+		verify(valueOperations, times(1)).multiGet(keys);
+		verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(keys), eq("0"), anyString(),
+			eq("600"));
+		assertThat(menuListCache.stats()).isEqualTo(new MenuListCache.MenuCacheStats(1, 0, 1));
+		assertThat(menuListCache.stats().hitRate()).isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 채운 Redis 항목을 역직렬화해 사용한다")
+	void get_RedisHit() throws Exception {
+		MenuListResponse stored = menuList();
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.multiGet(keys)).thenReturn(Arrays.asList(objectMapper.writeValueAsString(stored), "3"));
+
+		MenuListResponse response = menuListCache.get(storeId, loader());
+
+		assertThat(loadCount).hasValue(0);
+		assertThat(response.getStoreId()).isEqualTo(storeId);
+		assertThat(response.getMenus()).singleElement().satisfies(menu -> {
+			assertThat(menu.getName()).isEqualTo("족발");
+			assertThat(menu.isHidden()).isTrue();
+		});
+		assertThat(menuListCache.stats().redisHits()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("조회하는 동안 버전이 바뀌어 Redis 저장이 거절되면 로컬에도 남기지 않는다")
+	void get_FillRejectedAfterConcurrentEvict() {
+		givenRedisMiss("2", 0L);
+
+		menuListCache.get(storeId, loader());
+		menuListCache.get(storeId, loader());
+
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 DB 조회로 응답한다")
+	void get_RedisFailureFallsBackToLoader() {
+		when(redisTemplate.opsForValue()).thenThrow(new RuntimeException("Redis connection failed"));
+
+		MenuListResponse response = menuListCache.get(storeId, loader());
+
+		assertThat(response.getStoreId()).isEqualTo(storeId);
+		assertThat(loadCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("무효화하면 버전을 올리며 Redis 항목을 지우고 다른 인스턴스에 메시지를 발행한다")
+	void evict_DeletesAndPublishes() {
+		givenRedisMiss(null, 1L);
+		when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(keys), eq("600"))).thenReturn(1L);
+		menuListCache.get(storeId, loader());
+
+		menuListCache.evict(storeId);
+		menuListCache.get(storeId, loader());
+
+		verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(keys), eq("600"));
+		verify(redisTemplate).convertAndSend(MenuListCache.MENU_INVALIDATED_CHANNEL, storeId.toString());
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("무효화 메시지를 받으면 로컬 항목만 제거한다")
+	void onMessage_InvalidatesLocal() {
+		givenRedisMiss(null, 1L);
+		menuListCache.get(storeId, loader());
+
+		menuListCache.onMessage(new DefaultMessage(
+			MenuListCache.MENU_INVALIDATED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			storeId.toString().getBytes(StandardCharsets.UTF_8)), null);
+		menuListCache.get(storeId, loader());
+
+		assertThat(loadCount).hasValue(2);
+		verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(keys), eq("600"));
+	}
+}
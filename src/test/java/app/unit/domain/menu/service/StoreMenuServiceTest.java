@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,6 +19,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import app.domain.menu.MenuListCache;
 import app.domain.menu.StoreMenuService;
 import app.domain.menu.model.dto.request.MenuCreateRequest;
 import app.domain.menu.model.dto.request.MenuDeleteRequest;
@@ -34,6 +36,7 @@ import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
 import app.domain.store.status.StoreErrorCode;
 import app.domain.user.model.entity.User;
+import app.global.CurrentUser;
 import app.global.SecurityUtil;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -53,10 +56,17 @@ public class StoreMenuServiceTest {
 	@Mock
 	private SecurityUtil securityUtil;
 
+	@Mock
+	private MenuListCache menuListCache;
+
 	private final Long TEST_USER_ID = 1L;
 	private final UUID TEST_STORE_ID = UUID.randomUUID();
 	private final UUID TEST_MENU_ID = UUID.randomUUID();
 
+	private CurrentUser principalOf(User user) {
+		return new CurrentUser(user.getUserId(), user.getUserRole());
+	}
+
 	@Nested
 	@DisplayName("메뉴 등록 테스트")
 	class CreateMenuTest {
@@ -85,6 +95,7 @@ public class StoreMenuServiceTest {
 			verify(storeRepository, times(1)).findById(request.getStoreId());
 			verify(menuRepository, times(1)).existsByStoreAndNameAndDeletedAtIsNull(mockStore, "테스트 메뉴");
 			verify(menuRepository, times(1)).save(any(Menu.class));
+			verify(menuListCache, times(1)).evict(TEST_STORE_ID);
 		}
 
 		@Test
@@ -154,7 +165,7 @@ public class StoreMenuServiceTest {
 			MenuUpdateRequest request = new MenuUpdateRequest(TEST_MENU_ID, "수정된 메뉴", 12000L, "수정된 설명", true);
 
 			User mockUser = User.builder().userId(TEST_USER_ID).build();
-			Store mockStore = Store.builder().user(mockUser).build();
+			Store mockStore = Store.builder().storeId(TEST_STORE_ID).user(mockUser).build();
 			Menu mockMenu = Menu.builder()
 				.menuId(TEST_MENU_ID)
 				.store(mockStore)
@@ -164,7 +175,7 @@ public class StoreMenuServiceTest {
 				.isHidden(false)
 				.build();
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(menuRepository.findByMenuIdAndDeletedAtIsNull(request.getMenuId())).thenReturn(Optional.of(mockMenu));
 			when(menuRepository.existsByStoreAndNameAndDeletedAtIsNull(mockStore, "수정된 메뉴")).thenReturn(false);
 			when(menuRepository.save(any(Menu.class))).thenReturn(mockMenu);
@@ -175,10 +186,11 @@ public class StoreMenuServiceTest {
 			assertEquals(TEST_MENU_ID, response.getMenuId());
 			assertEquals("수정된 메뉴", response.getName());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(menuRepository, times(1)).findByMenuIdAndDeletedAtIsNull(request.getMenuId());
 			verify(menuRepository, times(1)).existsByStoreAndNameAndDeletedAtIsNull(mockStore, "수정된 메뉴");
 			verify(menuRepository, times(1)).save(any(Menu.class));
+			verify(menuListCache, times(1)).evict(TEST_STORE_ID);
 		}
 
 		@Test
@@ -197,7 +209,7 @@ public class StoreMenuServiceTest {
 				.isHidden(false)
 				.build();
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(menuRepository.findByMenuIdAndDeletedAtIsNull(request.getMenuId())).thenReturn(Optional.of(mockMenu));
 			when(menuRepository.save(any(Menu.class))).thenReturn(mockMenu);
 
@@ -210,7 +222,7 @@ public class StoreMenuServiceTest {
 			assertEquals("원래 설명", mockMenu.getDescription());
 			assertEquals(false, mockMenu.isHidden());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(menuRepository, times(1)).findByMenuIdAndDeletedAtIsNull(request.getMenuId());
 			verify(menuRepository, never()).existsByStoreAndNameAndDeletedAtIsNull(any(),
 				any());
@@ -218,17 +230,17 @@ public class StoreMenuServiceTest {
 		}
 
 		@Test
-		@DisplayName("실패: 사용자 없음")
-		void updateMenuFailUserNotFound() {
+		@DisplayName("실패: 인증 정보 없음")
+		void updateMenuFailUnauthenticated() {
 			MenuUpdateRequest request = new MenuUpdateRequest(null, null, null, null, null);
 
-			when(securityUtil.getCurrentUser()).thenThrow(new GeneralException(ErrorStatus.USER_NOT_FOUND));
+			when(securityUtil.getCurrentPrincipal()).thenThrow(new GeneralException(ErrorStatus._UNAUTHORIZED));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
 				storeMenuService.updateMenu(request);
 			});
 
-			assertEquals(ErrorStatus.USER_NOT_FOUND, exception.getCode());
+			assertEquals(ErrorStatus._UNAUTHORIZED, exception.getCode());
 		}
 
 		@Test
@@ -237,7 +249,7 @@ public class StoreMenuServiceTest {
 			MenuUpdateRequest request = new MenuUpdateRequest(TEST_MENU_ID, null, null, null, null);
 			User mockUser = User.builder().userId(TEST_USER_ID).build();
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(menuRepository.findByMenuIdAndDeletedAtIsNull(request.getMenuId())).thenReturn(Optional.empty());
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -259,7 +271,7 @@ public class StoreMenuServiceTest {
 				.store(mockStore)
 				.build();
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(menuRepository.findByMenuIdAndDeletedAtIsNull(request.getMenuId())).thenReturn(Optional.of(mockMenu));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -281,7 +293,7 @@ public class StoreMenuServiceTest {
 				.name("원래 메뉴")
 				.build();
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(menuRepository.findByMenuIdAndDeletedAtIsNull(request.getMenuId())).thenReturn(Optional.of(mockMenu));
 			when(menuRepository.existsByStoreAndNameAndDeletedAtIsNull(mockStore, "중복 메뉴")).thenReturn(true);
 
@@ -303,14 +315,14 @@ public class StoreMenuServiceTest {
 			MenuDeleteRequest request = new MenuDeleteRequest(TEST_MENU_ID);
 
 			User mockUser = User.builder().userId(TEST_USER_ID).build();
-			Store mockStore = Store.builder().user(mockUser).build();
+			Store mockStore = Store.builder().storeId(TEST_STORE_ID).user(mockUser).build();
 			Menu mockMenu = Menu.builder()
 				.menuId(TEST_MENU_ID)
 				.store(mockStore)
 				.build();
 			mockMenu.setDeletedAt(null);
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(menuRepository.findByMenuIdAndDeletedAtIsNull(request.getMenuId())).thenReturn(Optional.of(mockMenu));
 			when(menuRepository.save(any(Menu.class))).thenReturn(mockMenu);
 
@@ -321,23 +333,24 @@ public class StoreMenuServiceTest {
 			assertEquals("DELETED", response.getStatus());
 			assertNotNull(mockMenu.getDeletedAt());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(menuRepository, times(1)).findByMenuIdAndDeletedAtIsNull(request.getMenuId());
 			verify(menuRepository, times(1)).save(any(Menu.class));
+			verify(menuListCache, times(1)).evict(TEST_STORE_ID);
 		}
 
 		@Test
-		@DisplayName("실패: 사용자 없음")
-		void deleteMenuFailUserNotFound() {
+		@DisplayName("실패: 인증 정보 없음")
+		void deleteMenuFailUnauthenticated() {
 			MenuDeleteRequest request = new MenuDeleteRequest(TEST_MENU_ID);
 
-			when(securityUtil.getCurrentUser()).thenThrow(new GeneralException(ErrorStatus.USER_NOT_FOUND));
+			when(securityUtil.getCurrentPrincipal()).thenThrow(new GeneralException(ErrorStatus._UNAUTHORIZED));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
 				storeMenuService.deleteMenu(request);
 			});
 
-			assertEquals(ErrorStatus.USER_NOT_FOUND, exception.getCode());
+			assertEquals(ErrorStatus._UNAUTHORIZED, exception.getCode());
 		}
 
 		@Test
@@ -346,7 +359,7 @@ public class StoreMenuServiceTest {
 			MenuDeleteRequest request = new MenuDeleteRequest(TEST_MENU_ID);
 			User mockUser = User.builder().userId(TEST_USER_ID).build();
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(menuRepository.findByMenuIdAndDeletedAtIsNull(request.getMenuId())).thenReturn(Optional.empty());
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -368,7 +381,7 @@ public class StoreMenuServiceTest {
 				.store(mockStore)
 				.build();
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(menuRepository.findByMenuIdAndDeletedAtIsNull(request.getMenuId())).thenReturn(Optional.of(mockMenu));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -390,7 +403,7 @@ public class StoreMenuServiceTest {
 				.build();
 			mockMenu.setDeletedAt(LocalDateTime.now());
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(menuRepository.findByMenuIdAndDeletedAtIsNull(request.getMenuId())).thenReturn(Optional.of(mockMenu));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -405,10 +418,18 @@ public class StoreMenuServiceTest {
 	@DisplayName("메뉴 리스트 조회 테스트")
 	class GetMenuListTest {
 
+		private void givenCacheMiss() {
+			when(menuListCache.get(eq(TEST_STORE_ID), any())).thenAnswer(invocation -> {
+				Supplier<MenuListResponse> loader = invocation.getArgument(1);
+				return loader.get();
+			});
+		}
+
 		@Test
 		@DisplayName("성공: 메뉴 리스트 조회")
 		void getMenuListSuccess() {
 			MenuListRequest request = new MenuListRequest(TEST_STORE_ID);
+			givenCacheMiss();
 
 			Store mockStore = mock(Store.class);
 			when(mockStore.getStoreId()).thenReturn(TEST_STORE_ID);
@@ -448,6 +469,7 @@ public class StoreMenuServiceTest {
 		@DisplayName("실패: 가게 없음")
 		void getMenuListFailStoreNotFound() {
 			MenuListRequest request = new MenuListRequest(TEST_STORE_ID);
+			givenCacheMiss();
 
 			when(storeRepository.findById(request.getStoreId())).thenReturn(Optional.empty());
 
@@ -467,7 +489,7 @@ public class StoreMenuServiceTest {
 		@DisplayName("성공: 메뉴 숨김/노출")
 		void updateMenuVisibilitySuccess() {
 			User mockUser = User.builder().userId(TEST_USER_ID).build();
-			Store mockStore = Store.builder().user(mockUser).build();
+			Store mockStore = Store.builder().storeId(TEST_STORE_ID).user(mockUser).build();
 			Menu mockMenu = Menu.builder()
 				.menuId(TEST_MENU_ID)
 				.store(mockStore)
@@ -475,7 +497,7 @@ public class StoreMenuServiceTest {
 				.isHidden(false)
 				.build();
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(menuRepository.findByMenuIdAndDeletedAtIsNull(TEST_MENU_ID)).thenReturn(Optional.of(mockMenu));
 			when(menuRepository.save(any(Menu.class))).thenReturn(mockMenu);
 
@@ -486,22 +508,23 @@ public class StoreMenuServiceTest {
 			assertEquals("테스트 메뉴", response.getName());
 			assertTrue(mockMenu.isHidden());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(menuRepository, times(1)).findByMenuIdAndDeletedAtIsNull(TEST_MENU_ID);
 			verify(menuRepository, times(1)).save(any(Menu.class));
+			verify(menuListCache, times(1)).evict(TEST_STORE_ID);
 		}
 
 		@Test
-		@DisplayName("실패: 사용자 없음")
-		void updateMenuVisibilityFailUserNotFound() {
+		@DisplayName("실패: 인증 정보 없음")
+		void updateMenuVisibilityFailUnauthenticated() {
 
-			when(securityUtil.getCurrentUser()).thenThrow(new GeneralException(ErrorStatus.USER_NOT_FOUND));
+			when(securityUtil.getCurrentPrincipal()).thenThrow(new GeneralException(ErrorStatus._UNAUTHORIZED));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
 				storeMenuService.updateMenuVisibility(TEST_MENU_ID, true);
 			});
 
-			assertEquals(ErrorStatus.USER_NOT_FOUND, exception.getCode());
+			assertEquals(ErrorStatus._UNAUTHORIZED, exception.getCode());
 		}
 
 		@Test
@@ -509,7 +532,7 @@ public class StoreMenuServiceTest {
 		void updateMenuVisibilityFailMenuNotFound() {
 			User mockUser = User.builder().userId(TEST_USER_ID).build();
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(menuRepository.findByMenuIdAndDeletedAtIsNull(TEST_MENU_ID)).thenReturn(Optional.empty());
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -530,7 +553,7 @@ public class StoreMenuServiceTest {
 				.store(mockStore)
 				.build();
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(menuRepository.findByMenuIdAndDeletedAtIsNull(TEST_MENU_ID)).thenReturn(Optional.of(mockMenu));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
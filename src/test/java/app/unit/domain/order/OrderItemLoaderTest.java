@@ -0,0 +1,88 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.domain.order.model.entity.OrderItem;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.service.OrderItemLoader;
+
+@ExtendWith(MockitoExtension.class)
+class OrderItemLoaderTest {
+
+	@Mock
+	private OrderItemRepository orderItemRepository;
+
+	@InjectMocks
+	private OrderItemLoader orderItemLoader;
+
+	private Orders orderOf(UUID ordersId) {
+		return Orders.builder().ordersId(ordersId).build();
+	}
+
+	private OrderItem itemOf(Orders order, String menuName) {
+		return OrderItem.builder().orders(order).menuName(menuName).price(1000L).quantity(1).build();
+	}
+
+	@Test
+	@DisplayName("주문 목록의 아이템을 한 번에 조회해 주문별로 묶는다")
+	void loadByOrders_GroupsByOrder() {
+		Orders first = orderOf(UUID.randomUUID());
+		Orders second = orderOf(UUID.randomUUID());
+		Orders withoutItems = orderOf(UUID.randomUUID());
+		when(orderItemRepository.findAllByOrders_OrdersIdIn(
+			List.of(first.getOrdersId(), second.getOrdersId(), withoutItems.getOrdersId())))
+			.thenReturn(List.of(itemOf(first, "짜장면"), itemOf(second, "짬뽕"), itemOf(first, "탕수육")));
+
+		Map<UUID, List<OrderItem>> result = orderItemLoader.loadByOrders(List.of(first, second, withoutItems));
+
+		assertThat(result.get(first.getOrdersId())).extracting(OrderItem::getMenuName).containsExactly("짜장면", "탕수육");
+		assertThat(result.get(second.getOrdersId())).extracting(OrderItem::getMenuName).containsExactly("짬뽕");
+		assertThat(result).doesNotContainKey(withoutItems.getOrdersId());
+		verify(orderItemRepository, times(1)).findAllByOrders_OrdersIdIn(any());
+	}
+
+	@Test
+	@DisplayName("주문 id 가 많으면 나누어 조회한다")
+	void loadByOrderIds_SplitsLargeIdList() {
+		List<UUID> ids = IntStream.range(0, 501).mapToObj(i -> UUID.randomUUID()).toList();
+		when(orderItemRepository.findAllByOrders_OrdersIdIn(any())).thenReturn(List.of());
+
+		orderItemLoader.loadByOrderIds(ids);
+
+		verify(orderItemRepository).findAllByOrders_OrdersIdIn(argThat((Collection<UUID> chunk) -> chunk.size() == 500));
+		verify(orderItemRepository).findAllByOrders_OrdersIdIn(argThat((Collection<UUID> chunk) -> chunk.size() == 1));
+	}
+
+	@Test
+	@DisplayName("주문이 없으면 조회하지 않는다")
+	void loadByOrderIds_Empty() {
+		assertThat(orderItemLoader.loadByOrderIds(List.of())).isEmpty();
+
+		verifyNoInteractions(orderItemRepository);
+	}
+
+	@Test
+	@DisplayName("단건 조회는 아이템이 없으면 빈 목록을 반환한다")
+	void load_NoItems() {
+		Orders order = orderOf(UUID.randomUUID());
+		when(orderItemRepository.findAllByOrders_OrdersIdIn(List.of(order.getOrdersId()))).thenReturn(List.of());
+
+		assertThat(orderItemLoader.load(order)).isEmpty();
+	}
+}
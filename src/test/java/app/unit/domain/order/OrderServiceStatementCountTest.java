@@ -0,0 +1,165 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartService;
+import app.domain.menu.model.entity.Category;
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.repository.MenuRepository;
+import app.domain.order.deadline.OrderDeadlineScheduler;
+import app.domain.order.model.dto.request.CreateOrderRequest;
+import app.domain.order.model.entity.OrderItem;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderItemLoader;
+import app.domain.order.service.OrderService;
+import app.domain.order.service.OrderStatusHistoryService;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.store.repository.StoreRepository;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.SecurityUtil;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+	"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+	"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({QueryDslConfig.class, TestJpaConfig.class})
+@DisplayName("주문 생성 SQL 실행 횟수 테스트")
+class OrderServiceStatementCountTest {
+
+	private static final int ORDER_LINES = 5;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private OrdersRepository ordersRepository;
+
+	@Autowired
+	private OrderItemRepository orderItemRepository;
+
+	@Autowired
+	private StoreRepository storeRepository;
+
+	@Autowired
+	private MenuRepository menuRepository;
+
+	@Autowired
+	private OrderStatusEventRepository orderStatusEventRepository;
+
+	private final CartService cartService = mock(CartService.class);
+	private final SecurityUtil securityUtil = mock(SecurityUtil.class);
+
+	private OrderService orderService;
+	private Long userId;
+	private UUID storeId;
+	private List<RedisCartItem> cartItems;
+	private long totalPrice;
+
+	@BeforeEach
+	void setUp() {
+		orderService = new OrderService(ordersRepository, orderItemRepository, cartService, storeRepository,
+			menuRepository, mock(OrderDeadlineScheduler.class), securityUtil,
+			new OrderStatusHistoryService(orderStatusEventRepository, mock(OrderDeadlineScheduler.class)),
+			new OrderItemLoader(orderItemRepository));
+
+		User user = entityManager.persist(User.builder()
+			.username("customer")
+			.password("password123!")
+			.email("customer@example.com")
+			.nickname("customer")
+			.realName("김고객")
+			.phoneNumber("01012345678")
+			.userRole(UserRole.CUSTOMER)
+			.build());
+		Region region = entityManager.persist(Region.builder()
+			.regionCode("1111010600")
+			.regionName("광화문")
+			.fullName("서울특별시 종로구 세종로")
+			.isActive(true)
+			.build());
+		Category category = entityManager.persist(Category.builder().categoryName("한식").build());
+		Store store = entityManager.persist(Store.builder()
+			.user(user)
+			.region(region)
+			.category(category)
+			.storeName("테스트매장")
+			.address("서울시 종로구")
+			.build());
+
+		cartItems = new ArrayList<>();
+		for (int i = 0; i < ORDER_LINES; i++) {
+			Menu menu = entityManager.persist(Menu.builder()
+				.store(store)
+				.category(category)
+				.name("메뉴" + i)
+				.price(1000L * (i + 1))
+				.build());
+			cartItems.add(new RedisCartItem(menu.getMenuId(), store.getStoreId(), i + 1));
+			totalPrice += menu.getPrice() * (i + 1);
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+		userId = user.getUserId();
+		storeId = store.getStoreId();
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	@DisplayName("주문 아이템 수와 관계없이 메뉴 조회 1회, 주문 INSERT 1회, 주문 아이템 배치 INSERT 1회, 상태 이력 INSERT 1회로 처리된다")
+	void createOrder_StatementCountIndependentOfLines() {
+		// Given
+		when(securityUtil.getCurrentUser()).thenReturn(entityManager.getEntityManager().getReference(User.class, userId));
+		when(cartService.getCartFromCache()).thenReturn(cartItems);
+		CreateOrderRequest request = new CreateOrderRequest(PaymentMethod.CREDIT_CARD, OrderChannel.ONLINE,
+			ReceiptMethod.DELIVERY, "문 앞에 놓아주세요", totalPrice, "서울시 강남구");
+		Statistics statistics = statistics();
+		statistics.clear();
+
+		// When
+		UUID orderId = orderService.createOrder(request);
+		entityManager.flush();
+
+		// Then
+		assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + ORDER_LINES + 1);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+
+		entityManager.clear();
+		List<OrderItem> orderItems = orderItemRepository.findByOrders(ordersRepository.findById(orderId).orElseThrow());
+		assertThat(orderItems).hasSize(ORDER_LINES);
+		assertThat(orderItems).allSatisfy(item -> assertThat(item.getOrders().getStore().getStoreId()).isEqualTo(storeId));
+	}
+}
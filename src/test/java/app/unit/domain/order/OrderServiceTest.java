@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,17 +22,20 @@ import app.domain.cart.model.dto.RedisCartItem;
 import app.domain.cart.service.CartService;
 import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.repository.MenuRepository;
+import app.domain.order.deadline.OrderDeadlineScheduler;
 import app.domain.order.model.dto.request.CreateOrderRequest;
 import app.domain.order.model.dto.response.OrderDetailResponse;
 import app.domain.order.model.entity.OrderItem;
 import app.domain.order.model.entity.Orders;
 import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.entity.enums.PaymentMethod;
 import app.domain.order.model.entity.enums.ReceiptMethod;
 import app.domain.order.model.repository.OrderItemRepository;
 import app.domain.order.model.repository.OrdersRepository;
-import app.domain.order.service.OrderDelayService;
+import app.domain.order.service.OrderItemLoader;
 import app.domain.order.service.OrderService;
+import app.domain.order.service.OrderStatusHistoryService;
 import app.domain.order.status.OrderErrorStatus;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
@@ -63,11 +67,17 @@ class OrderServiceTest {
 	private MenuRepository menuRepository;
 
 	@Mock
-	private OrderDelayService orderDelayService;
+	private OrderDeadlineScheduler orderDeadlineScheduler;
 
 	@Mock
 	private SecurityUtil securityUtil;
 
+	@Mock
+	private OrderStatusHistoryService orderStatusHistoryService;
+
+	@Mock
+	private OrderItemLoader orderItemLoader;
+
 	@InjectMocks
 	private OrderService orderService;
 
@@ -105,14 +115,13 @@ class OrderServiceTest {
 		List<RedisCartItem> cartItems = List.of(cartItem);
 
 		Store store = Store.builder().storeId(storeId).build();
-		Menu menu = Menu.builder().menuId(menuId).name("테스트메뉴").price(5000L).build();
+		Menu menu = Menu.builder().menuId(menuId).store(store).name("테스트메뉴").price(5000L).build();
 		Orders savedOrder = Orders.builder().ordersId(UUID.randomUUID()).build();
 		User testUser = User.builder().userId(userId).build();
 
 		when(securityUtil.getCurrentUser()).thenReturn(testUser);
 		when(cartService.getCartFromCache()).thenReturn(cartItems);
-		when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
-		when(menuRepository.findById(menuId)).thenReturn(Optional.of(menu));
+		when(menuRepository.findAllWithStoreByMenuIdInAndStoreId(Set.of(menuId), storeId)).thenReturn(List.of(menu));
 		when(ordersRepository.save(any(Orders.class))).thenReturn(savedOrder);
 
 		// When
@@ -121,11 +130,14 @@ class OrderServiceTest {
 		// Then
 		assertThat(result).isInstanceOf(UUID.class);
 		verify(cartService).getCartFromCache();
-		verify(storeRepository).findById(storeId);
-		verify(menuRepository).findById(menuId);
-		verify(ordersRepository).save(any(Orders.class));
-		verify(orderItemRepository).save(any(OrderItem.class));
-		verify(orderDelayService).scheduleRefundDisable(any(UUID.class));
+		verify(menuRepository).findAllWithStoreByMenuIdInAndStoreId(Set.of(menuId), storeId);
+		verify(menuRepository, never()).findById(any());
+		verifyNoInteractions(storeRepository);
+		verify(ordersRepository).save(argThat(order -> order.getStore() == store));
+		verify(orderStatusHistoryService).changeStatus(savedOrder, OrderStatus.PENDING);
+		verify(orderItemRepository).saveAll(argThat((List<OrderItem> items) -> items.size() == 1));
+		verify(orderItemRepository, never()).save(any());
+		verify(orderDeadlineScheduler).scheduleNewOrder(any(UUID.class));
 	}
 
 	@Test
@@ -140,7 +152,8 @@ class OrderServiceTest {
 		List<RedisCartItem> cartItems = List.of(cartItem);
 
 		when(cartService.getCartFromCache()).thenReturn(cartItems);
-		when(storeRepository.findById(storeId)).thenReturn(Optional.empty());
+		when(menuRepository.findAllWithStoreByMenuIdInAndStoreId(Set.of(menuId), storeId)).thenReturn(List.of());
+		when(storeRepository.existsById(storeId)).thenReturn(false);
 
 		// When & Then
 		assertThatThrownBy(() -> orderService.createOrder(request))
@@ -151,7 +164,7 @@ class OrderServiceTest {
 			});
 
 		verify(cartService).getCartFromCache();
-		verify(storeRepository).findById(storeId);
+		verify(storeRepository).existsById(storeId);
 		verify(ordersRepository, never()).save(any());
 	}
 
@@ -185,6 +198,7 @@ class OrderServiceTest {
 
 		verify(cartService).getCartFromCache();
 		verify(storeRepository, never()).findById(any());
+		verifyNoInteractions(menuRepository);
 		verify(ordersRepository, never()).save(any());
 	}
 
@@ -219,7 +233,7 @@ class OrderServiceTest {
 			.build();
 		List<RedisCartItem> cartItems = List.of(cartItem);
 		Store store = Store.builder().storeId(storeId).build();
-		Menu menu = Menu.builder().menuId(menuId).name("테스트메뉴").price(5000L).build();
+		Menu menu = Menu.builder().menuId(menuId).store(store).name("테스트메뉴").price(5000L).build();
 
 		CreateOrderRequest mismatchRequest = new CreateOrderRequest(
 			PaymentMethod.CREDIT_CARD,
@@ -231,8 +245,7 @@ class OrderServiceTest {
 		);
 
 		when(cartService.getCartFromCache()).thenReturn(cartItems);
-		when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
-		when(menuRepository.findById(menuId)).thenReturn(Optional.of(menu));
+		when(menuRepository.findAllWithStoreByMenuIdInAndStoreId(Set.of(menuId), storeId)).thenReturn(List.of(menu));
 
 		// When & Then
 		assertThatThrownBy(() -> orderService.createOrder(mismatchRequest))
@@ -244,8 +257,7 @@ class OrderServiceTest {
 			});
 
 		verify(cartService).getCartFromCache();
-		verify(storeRepository).findById(storeId);
-		verify(menuRepository).findById(menuId);
+		verify(menuRepository).findAllWithStoreByMenuIdInAndStoreId(Set.of(menuId), storeId);
 		verify(ordersRepository, never()).save(any());
 	}
 
@@ -259,11 +271,10 @@ class OrderServiceTest {
 			.quantity(2)
 			.build();
 		List<RedisCartItem> cartItems = List.of(cartItem);
-		Store store = Store.builder().storeId(storeId).build();
 
 		when(cartService.getCartFromCache()).thenReturn(cartItems);
-		when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
-		when(menuRepository.findById(menuId)).thenReturn(Optional.empty());
+		when(menuRepository.findAllWithStoreByMenuIdInAndStoreId(Set.of(menuId), storeId)).thenReturn(List.of());
+		when(storeRepository.existsById(storeId)).thenReturn(true);
 
 		// When & Then
 		assertThatThrownBy(() -> orderService.createOrder(request))
@@ -274,9 +285,37 @@ class OrderServiceTest {
 			});
 
 		verify(cartService).getCartFromCache();
-		verify(storeRepository).findById(storeId);
+		verify(storeRepository).existsById(storeId);
+		verify(ordersRepository, never()).save(any());
+		verify(orderItemRepository, never()).saveAll(any());
+	}
+
+	@Test
+	@DisplayName("장바구니 메뉴 중 일부가 매장에 없으면 메뉴를 찾을 수 없음")
+	void createOrder_PartialMenuNotFound() {
+		// Given
+		UUID missingMenuId = UUID.randomUUID();
+		List<RedisCartItem> cartItems = List.of(
+			RedisCartItem.builder().menuId(menuId).storeId(storeId).quantity(1).build(),
+			RedisCartItem.builder().menuId(missingMenuId).storeId(storeId).quantity(1).build()
+		);
+		Store store = Store.builder().storeId(storeId).build();
+		Menu menu = Menu.builder().menuId(menuId).store(store).name("테스트메뉴").price(5000L).build();
+
+		when(cartService.getCartFromCache()).thenReturn(cartItems);
+		when(menuRepository.findAllWithStoreByMenuIdInAndStoreId(Set.of(menuId, missingMenuId), storeId))
+			.thenReturn(List.of(menu));
+
+		// When & Then
+		assertThatThrownBy(() -> orderService.createOrder(request))
+			.isInstanceOf(GeneralException.class)
+			.satisfies(ex -> {
+				GeneralException generalEx = (GeneralException)ex;
+				assertThat(generalEx.getErrorReason().getMessage()).isEqualTo(ErrorStatus.MENU_NOT_FOUND.getMessage());
+			});
+
+		verifyNoInteractions(storeRepository);
 		verify(ordersRepository, never()).save(any());
-		verify(orderItemRepository, never()).save(any());
 	}
 
 	@Test
@@ -308,7 +347,7 @@ class OrderServiceTest {
 		List<OrderItem> orderItems = List.of(orderItem);
 
 		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
-		when(orderItemRepository.findByOrders(order)).thenReturn(orderItems);
+		when(orderItemLoader.load(order)).thenReturn(orderItems);
 
 		// When
 		OrderDetailResponse result = orderService.getOrderDetail(orderId);
@@ -328,7 +367,7 @@ class OrderServiceTest {
 		assertThat(result.getRequestMessage()).isEqualTo("문 앞에 놓아주세요");
 
 		verify(ordersRepository).findById(orderId);
-		verify(orderItemRepository).findByOrders(order);
+		verify(orderItemLoader).load(order);
 	}
 
 	@Test
@@ -348,6 +387,6 @@ class OrderServiceTest {
 			});
 
 		verify(ordersRepository).findById(orderId);
-		verify(orderItemRepository, never()).findByOrders(any());
+		verify(orderItemLoader, never()).load(any());
 	}
 }
\ No newline at end of file
@@ -5,7 +5,6 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,18 +18,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import app.domain.order.deadline.OrderDeadlineScheduler;
 import app.domain.order.model.dto.response.UpdateOrderStatusResponse;
 import app.domain.order.model.entity.Orders;
 import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrderStatusEventRepository;
 import app.domain.order.model.repository.OrdersRepository;
 import app.domain.order.service.OrderService;
+import app.domain.order.service.OrderStatusHistoryService;
 import app.domain.order.status.OrderErrorStatus;
 import app.domain.store.model.entity.Store;
 import app.domain.user.model.entity.User;
 import app.domain.user.model.entity.enums.UserRole;
+import app.global.CurrentUser;
 import app.global.SecurityUtil;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -43,10 +43,13 @@ class OrderServiceUpdateOrderStatusTest {
 	private SecurityUtil securityUtil;
 
 	@Mock
-	private ObjectMapper objectMapper;
+	private OrdersRepository ordersRepository;
 
 	@Mock
-	private OrdersRepository ordersRepository;
+	private OrderStatusEventRepository orderStatusEventRepository;
+
+	@Mock
+	private OrderDeadlineScheduler orderDeadlineScheduler;
 
 	@InjectMocks
 	private OrderService orderService;
@@ -74,11 +77,12 @@ class OrderServiceUpdateOrderStatusTest {
 			.ordersId(orderId)
 			.orderStatus(OrderStatus.PENDING)
 			.store(store)
-			.orderHistory("{}")
 			.build();
 		ReflectionTestUtils.setField(pendingOrder, "createdAt", LocalDateTime.now());
+		ReflectionTestUtils.setField(orderService, "orderStatusHistoryService",
+			new OrderStatusHistoryService(orderStatusEventRepository, orderDeadlineScheduler));
 
-		when(securityUtil.getCurrentUser()).thenReturn(storeOwner);
+		when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(storeOwner.getUserId(), UserRole.OWNER));
 	}
 
 	@Nested
@@ -87,11 +91,10 @@ class OrderServiceUpdateOrderStatusTest {
 
 		@Test
 		@DisplayName("가게 주인이 주문 상태를 PENDING에서 ACCEPTED로 성공적으로 변경한다.")
-		void updateOrderStatus_ByOwner_Success() throws JsonProcessingException {
+		void updateOrderStatus_ByOwner_Success() {
 			// Given
 			OrderStatus newStatus = OrderStatus.ACCEPTED;
 			when(ordersRepository.findById(orderId)).thenReturn(Optional.of(pendingOrder));
-			when(objectMapper.writeValueAsString(any(Map.class))).thenReturn("{\"ACCEPTED\":\"...\"}");
 
 			// When
 			UpdateOrderStatusResponse response = orderService.updateOrderStatus(orderId, newStatus);
@@ -100,7 +103,12 @@ class OrderServiceUpdateOrderStatusTest {
 			verify(ordersRepository).findById(orderId);
 			assertThat(pendingOrder.getOrderStatus()).isEqualTo(newStatus);
 			assertThat(response.getUpdatedStatus()).isEqualTo(newStatus);
+			verify(orderDeadlineScheduler).onStatusChanged(orderId, newStatus);
 			assertThat(response.getOrderId()).isEqualTo(orderId);
+			verify(orderStatusEventRepository).save(argThat(event ->
+				event.getOrdersId().equals(orderId)
+					&& event.getStoreId().equals(store.getStoreId())
+					&& event.getStatus() == newStatus));
 		}
 	}
 
@@ -113,8 +121,8 @@ class OrderServiceUpdateOrderStatusTest {
 		void updateOrderStatus_ByWrongOwner_ThrowsAccessDenied() {
 			// Given
 			OrderStatus newStatus = OrderStatus.ACCEPTED;
-			User anotherOwner = User.builder().userId(99L).userRole(UserRole.OWNER).build();
-			when(securityUtil.getCurrentUser()).thenReturn(anotherOwner);
+			CurrentUser anotherOwner = new CurrentUser(99L, UserRole.OWNER);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(anotherOwner);
 			when(ordersRepository.findById(orderId)).thenReturn(Optional.of(pendingOrder));
 
 			// When & Then
@@ -138,6 +146,7 @@ class OrderServiceUpdateOrderStatusTest {
 				.isEqualTo(OrderErrorStatus.INVALID_ORDER_STATUS_TRANSITION);
 
 			assertThat(pendingOrder.getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+			verify(orderStatusEventRepository, never()).save(any());
 		}
 
 		@Test
@@ -160,8 +169,8 @@ class OrderServiceUpdateOrderStatusTest {
 		void updateOrderStatus_ByCustomer_ThrowsAccessDenied() {
 			// Given
 			OrderStatus newStatus = OrderStatus.ACCEPTED;
-			User customer = User.builder().userId(2L).userRole(UserRole.CUSTOMER).build();
-			when(securityUtil.getCurrentUser()).thenReturn(customer);
+			CurrentUser customer = new CurrentUser(2L, UserRole.CUSTOMER);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(customer);
 			when(ordersRepository.findById(orderId)).thenReturn(Optional.of(pendingOrder));
 
 			// When & Then
@@ -0,0 +1,86 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.domain.order.deadline.OrderDeadlineScheduler;
+import app.domain.order.model.entity.OrderStatusEvent;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import app.domain.order.service.OrderStatusHistoryService;
+import app.domain.store.model.entity.Store;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderStatusHistoryService 테스트")
+class OrderStatusHistoryServiceTest {
+
+	@Mock
+	private OrderStatusEventRepository orderStatusEventRepository;
+
+	@Mock
+	private OrderDeadlineScheduler orderDeadlineScheduler;
+
+	@InjectMocks
+	private OrderStatusHistoryService orderStatusHistoryService;
+
+	@Test
+	@DisplayName("상태 변경 시 주문 상태를 바꾸고 이력은 INSERT 만 한다")
+	void changeStatus_AppendsEvent() {
+		UUID storeId = UUID.randomUUID();
+		Orders order = Orders.builder()
+			.ordersId(UUID.randomUUID())
+			.store(Store.builder().storeId(storeId).build())
+			.orderStatus(OrderStatus.ACCEPTED)
+			.build();
+
+		orderStatusHistoryService.changeStatus(order, OrderStatus.COOKING);
+
+		assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.COOKING);
+		verify(orderStatusEventRepository).save(argThat(event ->
+			event.getOrdersId().equals(order.getOrdersId())
+				&& event.getStoreId().equals(storeId)
+				&& event.getStatus() == OrderStatus.COOKING
+				&& event.getOccurredAt() != null));
+		verify(orderDeadlineScheduler).onStatusChanged(order.getOrdersId(), OrderStatus.COOKING);
+		verifyNoMoreInteractions(orderStatusEventRepository);
+	}
+
+	@Test
+	@DisplayName("여러 주문의 이력을 한 번에 조회해 주문별로 묶는다")
+	void getHistories_GroupedByOrder() {
+		UUID orderId1 = UUID.randomUUID();
+		UUID orderId2 = UUID.randomUUID();
+		when(orderStatusEventRepository.findAllByOrdersIdInOrderByOccurredAtAsc(List.of(orderId1, orderId2)))
+			.thenReturn(List.of(
+				OrderStatusEvent.builder().ordersId(orderId1).status(OrderStatus.PENDING).build(),
+				OrderStatusEvent.builder().ordersId(orderId2).status(OrderStatus.PENDING).build(),
+				OrderStatusEvent.builder().ordersId(orderId1).status(OrderStatus.ACCEPTED).build()));
+
+		Map<UUID, List<OrderStatusEvent>> histories = orderStatusHistoryService.getHistories(List.of(orderId1, orderId2));
+
+		assertThat(histories.get(orderId1)).extracting(OrderStatusEvent::getStatus)
+			.containsExactly(OrderStatus.PENDING, OrderStatus.ACCEPTED);
+		assertThat(histories.get(orderId2)).extracting(OrderStatusEvent::getStatus)
+			.containsExactly(OrderStatus.PENDING);
+	}
+
+	@Test
+	@DisplayName("조회할 주문이 없으면 쿼리를 실행하지 않는다")
+	void getHistories_Empty() {
+		assertThat(orderStatusHistoryService.getHistories(List.of())).isEmpty();
+		verifyNoInteractions(orderStatusEventRepository);
+	}
+}
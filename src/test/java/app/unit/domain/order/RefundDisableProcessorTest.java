@@ -0,0 +1,101 @@
+package app.unit.domain.order;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBlockingQueue;
+import org.redisson.api.RDelayedQueue;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.domain.order.RefundDisableProcessor;
+import app.domain.order.service.RefundUpdateService;
+
+@ExtendWith(MockitoExtension.class)
+class RefundDisableProcessorTest {
+
+	@Mock
+	private RedissonClient redissonClient;
+
+	@Mock
+	private RefundUpdateService refundUpdateService;
+
+	@Mock
+	private RBlockingQueue<Object> queue;
+
+	@Mock
+	private RDelayedQueue<Object> delayedQueue;
+
+	@InjectMocks
+	private RefundDisableProcessor processor;
+
+	private final UUID first = UUID.randomUUID();
+	private final UUID second = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(processor, "queueName", "refund-queue");
+		when(redissonClient.getBlockingQueue("refund-queue")).thenReturn(queue);
+		when(redissonClient.getDelayedQueue(queue)).thenReturn(delayedQueue);
+	}
+
+	@AfterEach
+	void tearDown() {
+		processor.shutdown();
+	}
+
+	@Test
+	@DisplayName("도착해 있는 항목을 모아 처리하고 큐가 비면 지연 큐 전송 작업을 정리한다")
+	void drain_BatchesReadyItemsAndStopsWhenEmpty() throws InterruptedException {
+		when(queue.poll(anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(first).thenReturn(null);
+		when(queue.drainTo(anyCollection(), anyInt())).thenAnswer(invocation -> {
+			Collection<Object> batch = invocation.getArgument(0);
+			batch.add(second);
+			return 1;
+		});
+		when(delayedQueue.isEmpty()).thenReturn(true);
+
+		processor.run();
+
+		verify(delayedQueue, timeout(1000)).destroy();
+		verify(refundUpdateService).disableRefunds(List.of(first, second));
+	}
+
+	@Test
+	@DisplayName("지연 중인 항목이 남아 있으면 도착할 때까지 기다렸다가 처리한다")
+	void drain_WaitsForDelayedItems() throws InterruptedException {
+		when(queue.poll(anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(null).thenReturn(first).thenReturn(null);
+		when(delayedQueue.isEmpty()).thenReturn(false).thenReturn(true);
+
+		processor.run();
+
+		verify(delayedQueue, timeout(1000)).destroy();
+		verify(refundUpdateService).disableRefunds(List.of(first));
+	}
+
+	@Test
+	@DisplayName("처리에 실패한 항목은 큐에 되돌린다")
+	void drain_FailureRequeues() throws InterruptedException {
+		when(queue.poll(anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(first).thenReturn(null);
+		when(refundUpdateService.disableRefunds(anyCollection())).thenThrow(new RuntimeException("DB down"));
+		when(delayedQueue.isEmpty()).thenReturn(true);
+
+		processor.run();
+
+		verify(queue, timeout(1000)).addAll(List.of(first));
+		verify(delayedQueue, timeout(3000)).destroy();
+	}
+}
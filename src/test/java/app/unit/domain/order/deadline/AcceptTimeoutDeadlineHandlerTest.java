@@ -0,0 +1,68 @@
+package app.unit.domain.order.deadline;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.domain.order.deadline.AcceptTimeoutDeadlineHandler;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderStatusHistoryService;
+import app.domain.payment.PaymentService;
+
+@ExtendWith(MockitoExtension.class)
+class AcceptTimeoutDeadlineHandlerTest {
+
+	@Mock
+	private OrdersRepository ordersRepository;
+
+	@Mock
+	private OrderStatusHistoryService orderStatusHistoryService;
+
+	@Mock
+	private PaymentService paymentService;
+
+	@InjectMocks
+	private AcceptTimeoutDeadlineHandler handler;
+
+	private final UUID ordersId = UUID.randomUUID();
+
+	private Orders orderOf(OrderStatus status) {
+		return Orders.builder().ordersId(ordersId).orderStatus(status).isRefundable(false).build();
+	}
+
+	@Test
+	@DisplayName("결제된 주문이 수락 기한을 넘기면 거절하고, 환불 불가 전환 이후여도 결제 취소 의도를 기록한다")
+	void paidOrderTimesOut_RejectedAndRefunded() {
+		Orders order = orderOf(OrderStatus.PENDING);
+		when(ordersRepository.findById(ordersId)).thenReturn(Optional.of(order));
+		when(paymentService.beginRefundForRejectedOrder(eq(ordersId), anyString())).thenReturn(true);
+
+		handler.onDeadline(ordersId);
+
+		InOrder inOrder = inOrder(orderStatusHistoryService, paymentService);
+		inOrder.verify(orderStatusHistoryService).changeStatus(order, OrderStatus.REJECTED);
+		inOrder.verify(paymentService).beginRefundForRejectedOrder(eq(ordersId), anyString());
+	}
+
+	@Test
+	@DisplayName("이미 수락된 주문은 거절하지도 결제를 취소하지도 않는다")
+	void acceptedOrder_Untouched() {
+		when(ordersRepository.findById(ordersId)).thenReturn(Optional.of(orderOf(OrderStatus.ACCEPTED)));
+
+		handler.onDeadline(ordersId);
+
+		verifyNoInteractions(orderStatusHistoryService, paymentService);
+	}
+}
@@ -0,0 +1,76 @@
+package app.unit.domain.order.deadline;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.domain.order.deadline.HierarchicalTimingWheel;
+
+class HierarchicalTimingWheelTest {
+
+	private static final long START = 1_000_000L;
+
+	@Test
+	@DisplayName("기한이 된 키만 만료된다")
+	void advanceTo_ExpiresOnlyDueKeys() {
+		HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+		wheel.schedule("a", START + 30);
+		wheel.schedule("b", START + 55);
+
+		assertThat(wheel.advanceTo(START + 29)).isEmpty();
+		assertThat(wheel.advanceTo(START + 30)).containsExactly("a");
+		assertThat(wheel.advanceTo(START + 50)).isEmpty();
+		assertThat(wheel.advanceTo(START + 60)).containsExactly("b");
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("휠 한 바퀴보다 먼 기한은 상위 휠을 거쳐 제때 만료된다")
+	void advanceTo_CascadesFromOverflowWheels() {
+		HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(10, 4, START);
+		Random random = new Random(42);
+		List<long[]> deadlines = new ArrayList<>();
+		for (int key = 0; key < 500; key++) {
+			long deadline = START + 1 + random.nextInt(100_000);
+			deadlines.add(new long[] {key, deadline});
+			wheel.schedule(key, deadline);
+		}
+
+		for (long now = START; now <= START + 100_010; now += 10) {
+			for (Integer key : wheel.advanceTo(now)) {
+				long deadline = deadlines.get(key)[1];
+				assertThat(now).isGreaterThanOrEqualTo(deadline).isLessThan(deadline + 10);
+			}
+		}
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("취소한 키는 만료되지 않고, 다시 등록하면 새 기한을 따른다")
+	void cancelAndReschedule() {
+		HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+		wheel.schedule("cancelled", START + 100);
+		wheel.schedule("moved", START + 100);
+
+		assertThat(wheel.cancel("cancelled")).isTrue();
+		wheel.schedule("moved", START + 300);
+
+		assertThat(wheel.advanceTo(START + 200)).isEmpty();
+		assertThat(wheel.advanceTo(START + 300)).containsExactly("moved");
+		assertThat(wheel.cancel("cancelled")).isFalse();
+	}
+
+	@Test
+	@DisplayName("이미 지난 기한은 다음 진행에서 바로 만료된다")
+	void schedule_PastDeadline() {
+		HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+		wheel.schedule("late", START - 5_000);
+
+		assertThat(wheel.advanceTo(START + 10)).containsExactly("late");
+	}
+}
@@ -0,0 +1,172 @@
+package app.unit.domain.order.deadline;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.order.deadline.OrderDeadlineHandler;
+import app.domain.order.deadline.OrderDeadlineScheduler;
+import app.domain.order.model.entity.OrderDeadline;
+import app.domain.order.model.entity.enums.OrderDeadlineType;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrderDeadlineRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OrderDeadlineSchedulerTest {
+
+	@Mock
+	private OrderDeadlineRepository orderDeadlineRepository;
+
+	@Mock
+	private ObjectProvider<OrderDeadlineHandler> handlerProvider;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private OrderDeadlineHandler refundDisableHandler;
+
+	private OrderDeadlineScheduler scheduler;
+
+	private final UUID ordersId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		scheduler = new OrderDeadlineScheduler(orderDeadlineRepository, handlerProvider, transactionTemplate,
+			10, 8, 5000, 30000, 500, 300000, 900000, 600000);
+		lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+			TransactionCallback<?> callback = invocation.getArgument(0);
+			return callback.doInTransaction(null);
+		});
+		when(refundDisableHandler.type()).thenReturn(OrderDeadlineType.REFUND_DISABLE);
+		when(handlerProvider.orderedStream()).thenReturn(Stream.of(refundDisableHandler));
+	}
+
+	private OrderDeadline deadline(OrderDeadlineType type, LocalDateTime dueAt) {
+		return OrderDeadline.builder().ordersId(ordersId).type(type).dueAt(dueAt).build();
+	}
+
+	@Test
+	@DisplayName("재시작 시 남은 기한을 적재하고, 만료되면 행을 삭제한 뒤 처리기를 실행한다")
+	void load_ThenFireExpired() {
+		when(orderDeadlineRepository.findAll())
+			.thenReturn(List.of(deadline(OrderDeadlineType.REFUND_DISABLE, LocalDateTime.now().minusSeconds(1))));
+		when(orderDeadlineRepository.deleteByOrdersIdAndType(ordersId, OrderDeadlineType.REFUND_DISABLE))
+			.thenReturn(1);
+
+		scheduler.load();
+
+		assertThat(scheduler.pendingCount()).isEqualTo(1);
+		await(() -> scheduler.advance() == 1);
+		verify(refundDisableHandler).onDeadline(ordersId);
+		assertThat(scheduler.pendingCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("다른 곳에서 이미 처리하거나 취소한 기한은 처리기를 실행하지 않는다")
+	void fire_SkipsWhenRowAlreadyDeleted() {
+		when(orderDeadlineRepository.findAll())
+			.thenReturn(List.of(deadline(OrderDeadlineType.REFUND_DISABLE, LocalDateTime.now().minusSeconds(1))));
+		when(orderDeadlineRepository.deleteByOrdersIdAndType(ordersId, OrderDeadlineType.REFUND_DISABLE))
+			.thenReturn(0);
+
+		scheduler.load();
+		await(() -> {
+			scheduler.advance();
+			return scheduler.pendingCount() == 0;
+		});
+
+		verify(orderDeadlineRepository).deleteByOrdersIdAndType(ordersId, OrderDeadlineType.REFUND_DISABLE);
+		verify(refundDisableHandler, never()).onDeadline(any());
+	}
+
+	@Test
+	@DisplayName("처리기가 실패하면 재시도 간격 뒤에 다시 처리하도록 휠에 남긴다")
+	void fire_FailureRetried() {
+		when(orderDeadlineRepository.findAll())
+			.thenReturn(List.of(deadline(OrderDeadlineType.REFUND_DISABLE, LocalDateTime.now().minusSeconds(1))));
+		when(orderDeadlineRepository.deleteByOrdersIdAndType(ordersId, OrderDeadlineType.REFUND_DISABLE))
+			.thenReturn(1);
+		doThrow(new RuntimeException("DB down")).when(refundDisableHandler).onDeadline(ordersId);
+
+		scheduler.load();
+		await(() -> {
+			scheduler.advance();
+			return mockingDetails(refundDisableHandler).getInvocations().stream()
+				.anyMatch(invocation -> invocation.getMethod().getName().equals("onDeadline"));
+		});
+
+		assertThat(scheduler.pendingCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("기한을 등록하면 행을 기록하고, 수락되면 수락/결제 기한을 취소한다")
+	void scheduleAndCancelOnStatusChange() {
+		scheduler.load();
+
+		scheduler.scheduleNewOrder(ordersId);
+		scheduler.onStatusChanged(ordersId, OrderStatus.PENDING);
+		scheduler.onStatusChanged(ordersId, OrderStatus.ACCEPTED);
+
+		verify(orderDeadlineRepository, times(3)).save(argThat(deadline -> deadline.getOrdersId().equals(ordersId)));
+		verify(orderDeadlineRepository).deleteByOrdersIdAndTypeIn(ordersId,
+			EnumSet.of(OrderDeadlineType.ACCEPT_TIMEOUT, OrderDeadlineType.PAYMENT_TIMEOUT));
+		assertThat(scheduler.pendingCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("주문이 종료되면 모든 기한을 취소한다")
+	void onStatusChanged_TerminalCancelsAll() {
+		scheduler.load();
+		scheduler.schedule(ordersId, OrderDeadlineType.REFUND_DISABLE, Duration.ofMinutes(5));
+
+		scheduler.onStatusChanged(ordersId, OrderStatus.REFUNDED);
+
+		verify(orderDeadlineRepository).deleteByOrdersIdAndTypeIn(ordersId, EnumSet.allOf(OrderDeadlineType.class));
+		assertThat(scheduler.pendingCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("grace 이상 지난 기한은 sweep 이 넘겨받아 처리한다")
+	void sweep_FiresOverdueRows() {
+		scheduler.load();
+		when(orderDeadlineRepository.findAllByDueAtBeforeOrderByDueAtAsc(any(), any()))
+			.thenReturn(List.of(deadline(OrderDeadlineType.REFUND_DISABLE, LocalDateTime.now().minusMinutes(5))));
+		when(orderDeadlineRepository.deleteByOrdersIdAndType(ordersId, OrderDeadlineType.REFUND_DISABLE))
+			.thenReturn(1);
+
+		assertThat(scheduler.sweep()).isEqualTo(1);
+		verify(refundDisableHandler).onDeadline(ordersId);
+	}
+
+	private void await(BooleanSupplier condition) {
+		long until = System.currentTimeMillis() + 1000;
+		while (!condition.getAsBoolean()) {
+			assertThat(System.currentTimeMillis()).as("조건 대기 시간 초과").isLessThan(until);
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+}
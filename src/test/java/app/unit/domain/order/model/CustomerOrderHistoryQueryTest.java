@@ -0,0 +1,143 @@
+package app.unit.domain.order.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import app.domain.customer.dto.response.CustomerOrderResponse;
+import app.domain.menu.model.entity.Category;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({QueryDslConfig.class, TestJpaConfig.class})
+@DisplayName("고객 주문 내역 조회 테스트")
+class CustomerOrderHistoryQueryTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private OrdersRepository ordersRepository;
+
+	private User customer;
+	private User otherCustomer;
+	private Store store;
+	private LocalDateTime base;
+
+	@BeforeEach
+	void setUp() {
+		customer = persistUser("customer");
+		otherCustomer = persistUser("other");
+		Region region = entityManager.persist(Region.builder()
+			.regionCode("1111010600")
+			.regionName("광화문")
+			.fullName("서울특별시 종로구 세종로")
+			.isActive(true)
+			.build());
+		Category category = entityManager.persist(Category.builder().categoryName("한식").build());
+		store = entityManager.persist(Store.builder()
+			.user(customer)
+			.region(region)
+			.category(category)
+			.storeName("내역매장")
+			.address("서울시 종로구")
+			.build());
+		base = LocalDateTime.now().minusDays(1).withNano(0);
+	}
+
+	private User persistUser(String username) {
+		return entityManager.persist(User.builder()
+			.username(username)
+			.password("password123!")
+			.email(username + "@example.com")
+			.nickname(username)
+			.realName("김고객")
+			.phoneNumber("01012345678")
+			.userRole(UserRole.CUSTOMER)
+			.build());
+	}
+
+	private UUID persistOrder(User orderUser, LocalDateTime createdAt) {
+		Orders order = entityManager.persist(Orders.builder()
+			.store(store)
+			.user(orderUser)
+			.totalPrice(12000L)
+			.deliveryAddress("서울시 강남구")
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.orderChannel(OrderChannel.ONLINE)
+			.receiptMethod(ReceiptMethod.DELIVERY)
+			.orderStatus(OrderStatus.COMPLETED)
+			.isRefundable(false)
+			.requestMessage("문 앞에 놓아주세요")
+			.build());
+		entityManager.flush();
+		// created_at 은 갱신 불가 컬럼이라 네이티브 쿼리로 주문 시각을 맞춘다
+		entityManager.getEntityManager()
+			.createNativeQuery("update p_orders set created_at = :createdAt where orders_id = :id")
+			.setParameter("createdAt", createdAt)
+			.setParameter("id", order.getOrdersId())
+			.executeUpdate();
+		return order.getOrdersId();
+	}
+
+	@Test
+	@DisplayName("본인 주문만 최신 주문순으로 페이지 단위로 DTO 로 반환한다")
+	void findCustomerOrderPage() {
+		UUID oldest = persistOrder(customer, base);
+		UUID middle = persistOrder(customer, base.plusHours(1));
+		UUID latest = persistOrder(customer, base.plusHours(2));
+		persistOrder(otherCustomer, base.plusHours(3));
+		entityManager.clear();
+
+		Page<CustomerOrderResponse> first = ordersRepository.findCustomerOrderPage(customer.getUserId(),
+			PageRequest.of(0, 2));
+		Page<CustomerOrderResponse> second = ordersRepository.findCustomerOrderPage(customer.getUserId(),
+			PageRequest.of(1, 2));
+
+		assertThat(first.getTotalElements()).isEqualTo(3);
+		assertThat(first.getContent()).extracting(CustomerOrderResponse::getOrdersId).containsExactly(latest, middle);
+		assertThat(second.getContent()).extracting(CustomerOrderResponse::getOrdersId).containsExactly(oldest);
+		assertThat(first.getContent().get(0)).satisfies(order -> {
+			assertThat(order.getStoreName()).isEqualTo("내역매장");
+			assertThat(order.getTotalPrice()).isEqualTo(12000L);
+			assertThat(order.getRequestMessage()).isEqualTo("문 앞에 놓아주세요");
+			assertThat(order.getCreatedAt()).isEqualTo(base.plusHours(2));
+			assertThat(order.getOrderHistory()).isEmpty();
+		});
+	}
+
+	@Test
+	@DisplayName("주문이 없는 고객은 빈 페이지를 반환한다")
+	void findCustomerOrderPage_Empty() {
+		persistOrder(otherCustomer, base);
+		entityManager.clear();
+
+		Page<CustomerOrderResponse> page = ordersRepository.findCustomerOrderPage(customer.getUserId(),
+			PageRequest.of(0, 20));
+
+		assertThat(page.getTotalElements()).isZero();
+		assertThat(page.getContent()).isEmpty();
+	}
+}
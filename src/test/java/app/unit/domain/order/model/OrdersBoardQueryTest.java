@@ -0,0 +1,163 @@
+package app.unit.domain.order.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import app.domain.menu.model.entity.Category;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.store.model.dto.response.StoreOrderBoardItem;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({QueryDslConfig.class, TestJpaConfig.class})
+@DisplayName("주문 보드 조회 테스트")
+class OrdersBoardQueryTest {
+
+	private static final UUID MIN_ORDER_ID = new UUID(0L, 0L);
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private OrdersRepository ordersRepository;
+
+	private User customer;
+	private Store store;
+	private Store otherStore;
+	private LocalDateTime base;
+
+	@BeforeEach
+	void setUp() {
+		customer = entityManager.persist(User.builder()
+			.username("customer")
+			.password("password123!")
+			.email("customer@example.com")
+			.nickname("customer")
+			.realName("김고객")
+			.phoneNumber("01012345678")
+			.userRole(UserRole.CUSTOMER)
+			.build());
+		Region region = entityManager.persist(Region.builder()
+			.regionCode("1111010600")
+			.regionName("광화문")
+			.fullName("서울특별시 종로구 세종로")
+			.isActive(true)
+			.build());
+		Category category = entityManager.persist(Category.builder().categoryName("한식").build());
+		store = persistStore(region, category, "보드매장");
+		otherStore = persistStore(region, category, "다른매장");
+		base = LocalDateTime.now().minusHours(1).withNano(0);
+	}
+
+	private Store persistStore(Region region, Category category, String storeName) {
+		return entityManager.persist(Store.builder()
+			.user(customer)
+			.region(region)
+			.category(category)
+			.storeName(storeName)
+			.address("서울시 종로구")
+			.build());
+	}
+
+	private UUID persistOrder(Store orderStore, OrderStatus status, LocalDateTime updatedAt) {
+		Orders order = entityManager.persist(Orders.builder()
+			.store(orderStore)
+			.user(customer)
+			.totalPrice(10000L)
+			.deliveryAddress("서울시 강남구")
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.orderChannel(OrderChannel.ONLINE)
+			.receiptMethod(ReceiptMethod.DELIVERY)
+			.orderStatus(status)
+			.isRefundable(true)
+			.build());
+		entityManager.flush();
+		entityManager.getEntityManager()
+			.createQuery("update Orders o set o.updatedAt = :updatedAt where o.ordersId = :id")
+			.setParameter("updatedAt", updatedAt)
+			.setParameter("id", order.getOrdersId())
+			.executeUpdate();
+		return order.getOrdersId();
+	}
+
+	@Test
+	@DisplayName("스냅샷은 해당 매장의 진행 중 주문만 변경 시각 순으로 DTO 로 반환한다")
+	void findBoardSnapshot() {
+		UUID pending = persistOrder(store, OrderStatus.PENDING, base.plusMinutes(2));
+		UUID cooking = persistOrder(store, OrderStatus.COOKING, base.plusMinutes(1));
+		persistOrder(store, OrderStatus.COMPLETED, base.plusMinutes(3));
+		persistOrder(otherStore, OrderStatus.PENDING, base.plusMinutes(4));
+		entityManager.clear();
+
+		List<StoreOrderBoardItem> board = ordersRepository.findBoardSnapshot(store.getStoreId(),
+			EnumSet.of(OrderStatus.PENDING, OrderStatus.ACCEPTED, OrderStatus.COOKING, OrderStatus.IN_DELIVERY),
+			PageRequest.of(0, 10));
+
+		assertThat(board).extracting(StoreOrderBoardItem::getOrderId).containsExactly(cooking, pending);
+		assertThat(board).allSatisfy(item -> assertThat(item.getCustomerName()).isEqualTo("customer"));
+	}
+
+	@Test
+	@DisplayName("변경분은 since 이후 변경된 주문을 상태와 관계없이 반환한다")
+	void findBoardChanges() {
+		persistOrder(store, OrderStatus.PENDING, base.minusMinutes(1));
+		UUID completed = persistOrder(store, OrderStatus.COMPLETED, base.plusMinutes(2));
+		UUID accepted = persistOrder(store, OrderStatus.ACCEPTED, base.plusMinutes(1));
+		persistOrder(otherStore, OrderStatus.ACCEPTED, base.plusMinutes(1));
+		entityManager.clear();
+
+		List<StoreOrderBoardItem> changes = ordersRepository.findBoardChanges(store.getStoreId(), base,
+			MIN_ORDER_ID, PageRequest.of(0, 10));
+
+		assertThat(changes).extracting(StoreOrderBoardItem::getOrderId).containsExactly(accepted, completed);
+		assertThat(ordersRepository.findBoardChanges(store.getStoreId(), base.plusMinutes(2), completed,
+			PageRequest.of(0, 10))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("같은 시각에 변경된 주문이 페이지 경계에 걸려도 복합 커서로 이어 읽으면 빠짐없이 반환한다")
+	void findBoardChanges_TiesAcrossPages() {
+		LocalDateTime updatedAt = base.plusMinutes(1);
+		persistOrder(store, OrderStatus.PENDING, updatedAt);
+		persistOrder(store, OrderStatus.ACCEPTED, updatedAt);
+		persistOrder(store, OrderStatus.COOKING, updatedAt);
+		entityManager.clear();
+
+		List<StoreOrderBoardItem> firstPage = ordersRepository.findBoardChanges(store.getStoreId(), base,
+			MIN_ORDER_ID, PageRequest.of(0, 2));
+		StoreOrderBoardItem last = firstPage.get(firstPage.size() - 1);
+		List<StoreOrderBoardItem> secondPage = ordersRepository.findBoardChanges(store.getStoreId(),
+			last.getUpdatedAt(), last.getOrderId(), PageRequest.of(0, 2));
+		List<StoreOrderBoardItem> all = ordersRepository.findBoardChanges(store.getStoreId(), base,
+			MIN_ORDER_ID, PageRequest.of(0, 10));
+
+		assertThat(firstPage).hasSize(2);
+		assertThat(secondPage).hasSize(1);
+		assertThat(Stream.concat(firstPage.stream(), secondPage.stream()).map(StoreOrderBoardItem::getOrderId))
+			.containsExactlyElementsOf(all.stream().map(StoreOrderBoardItem::getOrderId).toList());
+	}
+}
@@ -51,7 +51,6 @@ class OrdersRepositoryTest {
 			.receiptMethod(ReceiptMethod.DELIVERY)
 			.orderStatus(OrderStatus.PENDING)
 			.isRefundable(true)
-			.orderHistory("{\"pending\": \"2024-01-01 12:00:00\"}")
 			.requestMessage("문 앞에 놓아주세요")
 			.build();
 	}
@@ -0,0 +1,172 @@
+package app.unit.domain.payment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.cart.service.CartRedisService;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderStatusHistoryService;
+import app.domain.payment.PaymentOutboxDispatcher;
+import app.domain.payment.model.entity.PaymentEtc;
+import app.domain.payment.model.entity.PaymentOutbox;
+import app.domain.payment.model.entity.enums.PaymentOutboxType;
+import app.domain.payment.model.repository.PaymentEtcRepository;
+import app.domain.payment.model.repository.PaymentOutboxRepository;
+import app.domain.payment.model.repository.PaymentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentOutboxDispatcherTest {
+
+	@Mock
+	private PaymentOutboxRepository paymentOutboxRepository;
+
+	@Mock
+	private PaymentRepository paymentRepository;
+
+	@Mock
+	private PaymentEtcRepository paymentEtcRepository;
+
+	@Mock
+	private OrdersRepository ordersRepository;
+
+	@Mock
+	private OrderStatusHistoryService orderStatusHistoryService;
+
+	@Mock
+	private CartRedisService cartRedisService;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@InjectMocks
+	private PaymentOutboxDispatcher dispatcher;
+
+	private final UUID paymentId = UUID.randomUUID();
+	private final UUID ordersId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+		ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+		ReflectionTestUtils.setField(dispatcher, "leaseMs", 60000L);
+		ReflectionTestUtils.setField(dispatcher, "retryBackoffMs", 1000L);
+
+		lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+			TransactionCallback<?> callback = invocation.getArgument(0);
+			return callback.doInTransaction(null);
+		});
+		lenient().doAnswer(invocation -> {
+			Consumer<TransactionStatus> callback = invocation.getArgument(0);
+			callback.accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	private PaymentOutbox outbox(PaymentOutboxType type, String payload) {
+		PaymentOutbox outbox = PaymentOutbox.builder()
+			.paymentId(paymentId)
+			.ordersId(ordersId)
+			.userId(1L)
+			.type(type)
+			.payload(payload)
+			.build();
+		ReflectionTestUtils.setField(outbox, "paymentOutboxId", UUID.randomUUID());
+		when(paymentOutboxRepository.findById(outbox.getPaymentOutboxId())).thenReturn(Optional.of(outbox));
+		return outbox;
+	}
+
+	@Test
+	@DisplayName("처리할 작업이 없으면 아무것도 하지 않는다")
+	void dispatch_NothingDue() {
+		when(paymentOutboxRepository.findDueForUpdate(any(), any())).thenReturn(List.of());
+
+		assertThat(dispatcher.dispatch()).isZero();
+		verify(paymentOutboxRepository, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("가져온 작업에 lease 를 건 뒤 유형별로 처리하고 삭제한다")
+	void dispatch_ProcessesEachTypeAndDeletes() {
+		PaymentOutbox storeResponse = outbox(PaymentOutboxType.STORE_RESPONSE, "{\"status\":\"DONE\"}");
+		PaymentOutbox clearCart = outbox(PaymentOutboxType.CLEAR_CART, null);
+		PaymentOutbox changeStatus = outbox(PaymentOutboxType.CHANGE_ORDER_STATUS, OrderStatus.REFUNDED.name());
+		Orders order = Orders.builder().ordersId(ordersId).build();
+		when(paymentOutboxRepository.findDueForUpdate(any(), any()))
+			.thenReturn(List.of(storeResponse, clearCart, changeStatus));
+		when(ordersRepository.findById(ordersId)).thenReturn(Optional.of(order));
+
+		int processed = dispatcher.dispatch();
+
+		assertThat(processed).isEqualTo(3);
+		assertThat(storeResponse.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+		verify(paymentEtcRepository).save(argThat((PaymentEtc etc) ->
+			"DONE".equals(etc.getGatewayStatus()) && etc.getPaymentResponse().contains("DONE")));
+		verify(cartRedisService).clearCartItems(1L);
+		verify(orderStatusHistoryService).changeStatus(order, OrderStatus.REFUNDED);
+		verify(paymentOutboxRepository).delete(storeResponse);
+		verify(paymentOutboxRepository).delete(clearCart);
+		verify(paymentOutboxRepository).delete(changeStatus);
+	}
+
+	@Test
+	@DisplayName("실패한 작업은 삭제하지 않고 백오프 후 재시도하며 최대 횟수를 넘기면 dead 로 남긴다")
+	void dispatch_FailureBacksOffThenDead() {
+		PaymentOutbox clearCart = outbox(PaymentOutboxType.CLEAR_CART, null);
+		when(paymentOutboxRepository.findDueForUpdate(any(), any())).thenReturn(List.of(clearCart));
+		when(cartRedisService.clearCartItems(1L)).thenThrow(new RuntimeException("Redis connection failed"));
+
+		assertThat(dispatcher.dispatch()).isZero();
+
+		assertThat(clearCart.getAttempts()).isEqualTo(1);
+		assertThat(clearCart.getLastError()).contains("Redis connection failed");
+		assertThat(clearCart.isDead()).isFalse();
+		verify(paymentOutboxRepository, never()).delete(any());
+
+		dispatcher.dispatch();
+		dispatcher.dispatch();
+
+		assertThat(clearCart.getAttempts()).isEqualTo(3);
+		assertThat(clearCart.isDead()).isTrue();
+	}
+
+	@Test
+	@DisplayName("재시도 간격은 시도할 때마다 두 배로 늘어난다")
+	void recordFailure_ExponentialBackoff() {
+		PaymentOutbox outbox = PaymentOutbox.builder()
+			.paymentId(paymentId)
+			.ordersId(ordersId)
+			.type(PaymentOutboxType.STORE_RESPONSE)
+			.payload("{}")
+			.build();
+		LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+		outbox.recordFailure("fail", now, 10, Duration.ofSeconds(1));
+		assertThat(outbox.getNextAttemptAt()).isEqualTo(now.plusSeconds(1));
+		outbox.recordFailure("fail", now, 10, Duration.ofSeconds(1));
+		assertThat(outbox.getNextAttemptAt()).isEqualTo(now.plusSeconds(2));
+		outbox.recordFailure("fail", now, 10, Duration.ofSeconds(1));
+		assertThat(outbox.getNextAttemptAt()).isEqualTo(now.plusSeconds(4));
+	}
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,29 +13,35 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import app.domain.cart.service.CartService;
 import app.domain.order.model.entity.Orders;
 import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.entity.enums.PaymentMethod;
 import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderStatusHistoryService;
 import app.domain.payment.PaymentService;
+import app.domain.payment.gateway.TossPaymentClient;
+import app.domain.payment.gateway.TossPaymentResponse;
 import app.domain.payment.model.dto.request.CancelPaymentRequest;
 import app.domain.payment.model.dto.request.PaymentConfirmRequest;
 import app.domain.payment.model.dto.request.PaymentFailRequest;
 import app.domain.payment.model.entity.Payment;
-import app.domain.payment.model.entity.PaymentEtc;
+import app.domain.payment.model.entity.PaymentOutbox;
+import app.domain.payment.model.entity.enums.PaymentOutboxType;
 import app.domain.payment.model.entity.enums.PaymentStatus;
-import app.domain.payment.model.repository.PaymentEtcRepository;
+import app.domain.payment.model.repository.PaymentOutboxRepository;
 import app.domain.payment.model.repository.PaymentRepository;
 import app.domain.payment.status.PaymentErrorStatus;
 import app.domain.store.model.entity.Store;
 import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.CurrentUser;
 import app.global.SecurityUtil;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -48,15 +56,20 @@ class PaymentServiceTest {
 	private PaymentRepository paymentRepository;
 
 	@Mock
-	private PaymentEtcRepository paymentEtcRepository;
+	private PaymentOutboxRepository paymentOutboxRepository;
 
 	@Mock
-	private CartService cartService;
+	private SecurityUtil securityUtil;
 
 	@Mock
-	private SecurityUtil securityUtil;
+	private OrderStatusHistoryService orderStatusHistoryService;
+
+	@Mock
+	private TossPaymentClient tossPaymentClient;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
 
-	@Spy
 	@InjectMocks
 	private PaymentService paymentService;
 
@@ -74,8 +87,10 @@ class PaymentServiceTest {
 		orderId = UUID.randomUUID();
 		userId = 1L;
 
-		ReflectionTestUtils.setField(paymentService, "tossSecretKey", "test_secret_key");
-		ReflectionTestUtils.setField(paymentService, "tossUrl", "https://api.tosspayments.com/v1/payments");
+		lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+			TransactionCallback<?> callback = invocation.getArgument(0);
+			return callback.doInTransaction(null);
+		});
 
 		confirmRequest = new PaymentConfirmRequest(
 			"test_payment_key",
@@ -87,6 +102,8 @@ class PaymentServiceTest {
 
 		cancelRequest = new CancelPaymentRequest(orderId, "구매자가 취소를 원함");
 
+		lenient().when(securityUtil.getCurrentPrincipal()).thenReturn(new CurrentUser(userId, UserRole.CUSTOMER));
+
 		testuser = User.builder().userId(userId).build();
 		Store store = Store.builder().storeId(UUID.randomUUID()).build();
 
@@ -97,7 +114,6 @@ class PaymentServiceTest {
 			.totalPrice(10000L)
 			.paymentMethod(PaymentMethod.CREDIT_CARD)
 			.orderStatus(OrderStatus.PENDING)
-			.orderHistory("pending:" + "2024-01-01 10:00:00")
 			.build();
 
 		payment = Payment.builder()
@@ -110,37 +126,46 @@ class PaymentServiceTest {
 			.build();
 	}
 
+	private void verifyOutbox(PaymentOutboxType... types) {
+		verify(paymentOutboxRepository).saveAll(argThat((Iterable<PaymentOutbox> outboxes) -> {
+			List<PaymentOutboxType> saved = new ArrayList<>();
+			outboxes.forEach(outbox -> saved.add(outbox.getType()));
+			return saved.equals(List.of(types));
+		}));
+	}
+
 	@Test
 	@DisplayName("결제 승인 성공")
 	void confirmPayment_Success() {
 		// Given
-		when(securityUtil.getCurrentUser()).thenReturn(testuser);
-		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		when(ordersRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(order));
 		when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
-		when(paymentEtcRepository.save(any(PaymentEtc.class))).thenReturn(mock(PaymentEtc.class));
-		doReturn("success:{\"status\":\"DONE\"}").when(paymentService).callTossConfirmApi(any(PaymentConfirmRequest.class), any(Long.class));
+		when(tossPaymentClient.confirm(any(PaymentConfirmRequest.class), anyString()))
+			.thenReturn(new TossPaymentResponse(true, "{\"status\":\"DONE\"}"));
+		when(paymentRepository.transitionStatus(payment.getPaymentId(), PaymentStatus.PENDING, PaymentStatus.COMPLETED))
+			.thenReturn(1);
 
 		// When
 		String result = paymentService.confirmPayment(confirmRequest);
 
 		// Then
 		assertThat(result).contains("결제 승인이 완료되었습니다");
-		verify(securityUtil).getCurrentUser();
-		verify(ordersRepository).findById(orderId);
+		verify(securityUtil).getCurrentPrincipal();
+		verify(ordersRepository).findByIdForUpdate(orderId);
 		verify(paymentRepository).save(any(Payment.class));
-		verify(paymentEtcRepository).save(any(PaymentEtc.class));
-		verify(cartService).clearCartItems();
+		verifyOutbox(PaymentOutboxType.STORE_RESPONSE, PaymentOutboxType.CLEAR_CART);
 	}
 
 	@Test
 	@DisplayName("결제 승인 실패 - API 호출 실패")
 	void confirmPayment_ApiCallFailed() {
 		// Given
-		when(securityUtil.getCurrentUser()).thenReturn(testuser);
-		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		when(ordersRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(order));
 		when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
-		when(paymentEtcRepository.save(any(PaymentEtc.class))).thenReturn(mock(PaymentEtc.class));
-		doReturn("fail:{\"code\":\"INVALID_REQUEST\",\"message\":\"Invalid request\"}").when(paymentService).callTossConfirmApi(any(PaymentConfirmRequest.class), any(Long.class));
+		when(tossPaymentClient.confirm(any(PaymentConfirmRequest.class), anyString()))
+			.thenReturn(new TossPaymentResponse(false, "{\"code\":\"INVALID_REQUEST\",\"message\":\"Invalid request\"}"));
+		when(paymentRepository.transitionStatus(payment.getPaymentId(), PaymentStatus.PENDING, PaymentStatus.FAILED))
+			.thenReturn(1);
 
 		// When & Then
 		assertThatThrownBy(() -> paymentService.confirmPayment(confirmRequest))
@@ -152,15 +177,14 @@ class PaymentServiceTest {
 			});
 
 		verify(paymentRepository).save(any(Payment.class));
-		verify(paymentEtcRepository).save(any(PaymentEtc.class));
-		verify(cartService, never()).clearCartItems();
+		verifyOutbox(PaymentOutboxType.STORE_RESPONSE);
 	}
 
 	@Test
 	@DisplayName("결제 승인 실패 - 주문을 찾을 수 없음")
 	void confirmPayment_OrderNotFound() {
 		// Given
-		when(ordersRepository.findById(orderId)).thenReturn(Optional.empty());
+		when(ordersRepository.findByIdForUpdate(orderId)).thenReturn(Optional.empty());
 
 		// When & Then
 		assertThatThrownBy(() -> paymentService.confirmPayment(confirmRequest))
@@ -170,7 +194,7 @@ class PaymentServiceTest {
 				assertThat(generalEx.getErrorReason().getCode()).isEqualTo(ErrorStatus.ORDER_NOT_FOUND.getCode());
 			});
 
-		verify(ordersRepository).findById(orderId);
+		verify(ordersRepository).findByIdForUpdate(orderId);
 		verify(paymentRepository, never()).save(any());
 	}
 
@@ -183,7 +207,7 @@ class PaymentServiceTest {
 			orderId.toString(),
 			"20000"
 		);
-		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		when(ordersRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(order));
 
 		// When & Then
 		assertThatThrownBy(() -> paymentService.confirmPayment(wrongAmountRequest))
@@ -194,7 +218,7 @@ class PaymentServiceTest {
 					PaymentErrorStatus.PAYMENT_AMOUNT_MISMATCH.getCode());
 			});
 
-		verify(ordersRepository).findById(orderId);
+		verify(ordersRepository).findByIdForUpdate(orderId);
 		verify(paymentRepository, never()).save(any());
 	}
 
@@ -210,6 +234,7 @@ class PaymentServiceTest {
 		// Then
 		assertThat(result).isEqualTo("결제 실패 처리가 완료되었습니다.");
 		verify(ordersRepository).findById(orderId);
+		verify(orderStatusHistoryService).changeStatus(order, OrderStatus.FAILED);
 	}
 
 	@Test
@@ -241,16 +266,15 @@ class PaymentServiceTest {
 			.totalPrice(10000L)
 			.paymentMethod(PaymentMethod.CREDIT_CARD)
 			.orderStatus(OrderStatus.PENDING)
-			.orderHistory("pending:" + "2024-01-01 10:00:00")
 			.isRefundable(true)
 			.build();
 
-		when(securityUtil.getCurrentUser()).thenReturn(testuser);
 		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(refundableOrder));
 		when(paymentRepository.findByOrdersId(orderId)).thenReturn(Optional.of(payment));
-		when(paymentEtcRepository.save(any(PaymentEtc.class))).thenReturn(mock(PaymentEtc.class));
-		doReturn("success:{\"status\":\"CANCELED\"}").when(paymentService)
-			.callTossCancelApi(anyString(), anyString(), any(Long.class), any(UUID.class));
+		when(tossPaymentClient.cancel(anyString(), anyString(), anyString()))
+			.thenReturn(new TossPaymentResponse(true, "{\"status\":\"CANCELED\"}"));
+		when(paymentRepository.transitionStatus(payment.getPaymentId(), PaymentStatus.CANCEL_PENDING,
+			PaymentStatus.CANCELLED)).thenReturn(1);
 
 		// When
 		String result = paymentService.cancelPayment(cancelRequest);
@@ -258,8 +282,10 @@ class PaymentServiceTest {
 		// Then
 		assertThat(result).isEqualTo("결제 취소가 완료되었습니다.");
 		verify(ordersRepository).findById(orderId);
+		assertThat(payment.getCancelReason()).isEqualTo("구매자가 취소를 원함");
 		verify(paymentRepository).findByOrdersId(orderId);
-		verify(paymentEtcRepository).save(any(PaymentEtc.class));
+		verifyOutbox(PaymentOutboxType.STORE_RESPONSE, PaymentOutboxType.CHANGE_ORDER_STATUS);
+		verify(orderStatusHistoryService, never()).changeStatus(any(), any());
 	}
 
 	@Test
@@ -273,16 +299,15 @@ class PaymentServiceTest {
 			.totalPrice(10000L)
 			.paymentMethod(PaymentMethod.CREDIT_CARD)
 			.orderStatus(OrderStatus.PENDING)
-			.orderHistory("pending:" + "2024-01-01 10:00:00")
 			.isRefundable(true)
 			.build();
 
-		when(securityUtil.getCurrentUser()).thenReturn(testuser);
 		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(refundableOrder));
 		when(paymentRepository.findByOrdersId(orderId)).thenReturn(Optional.of(payment));
-		when(paymentEtcRepository.save(any(PaymentEtc.class))).thenReturn(mock(PaymentEtc.class));
-		doReturn("fail:{\"code\":\"CANCEL_FAILED\",\"message\":\"Cancel failed\"}").when(paymentService)
-			.callTossCancelApi(anyString(), anyString(), any(Long.class), any(UUID.class));
+		when(tossPaymentClient.cancel(anyString(), anyString(), anyString()))
+			.thenReturn(new TossPaymentResponse(false, "{\"code\":\"CANCEL_FAILED\",\"message\":\"Cancel failed\"}"));
+		when(paymentRepository.transitionStatus(payment.getPaymentId(), PaymentStatus.CANCEL_PENDING,
+			PaymentStatus.COMPLETED)).thenReturn(1);
 
 		// When & Then
 		assertThatThrownBy(() -> paymentService.cancelPayment(cancelRequest))
@@ -293,7 +318,8 @@ class PaymentServiceTest {
 					ErrorStatus._INTERNAL_SERVER_ERROR.getCode());
 			});
 
-		verify(paymentEtcRepository).save(any(PaymentEtc.class));
+		verifyOutbox(PaymentOutboxType.STORE_RESPONSE);
+		verify(orderStatusHistoryService, never()).changeStatus(any(), any());
 	}
 
 	@Test
@@ -325,7 +351,6 @@ class PaymentServiceTest {
 			.totalPrice(10000L)
 			.paymentMethod(PaymentMethod.CREDIT_CARD)
 			.orderStatus(OrderStatus.PENDING)
-			.orderHistory("pending:" + "2024-01-01 10:00:00")
 			.isRefundable(true)
 			.build();
 
@@ -356,7 +381,6 @@ class PaymentServiceTest {
 			.totalPrice(10000L)
 			.paymentMethod(PaymentMethod.CREDIT_CARD)
 			.orderStatus(OrderStatus.PENDING)
-			.orderHistory("pending:" + "2024-01-01 10:00:00")
 			.isRefundable(false)
 			.build();
 
@@ -374,4 +398,215 @@ class PaymentServiceTest {
 		verify(ordersRepository).findById(orderId);
 		verify(paymentRepository, never()).findByOrdersId(any());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("결제 승인 - 토스 호출 동안에는 트랜잭션을 열지 않는다")
+	void confirmPayment_GatewayCalledOutsideTransaction() {
+		// Given
+		when(ordersRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(order));
+		when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
+		when(tossPaymentClient.confirm(any(PaymentConfirmRequest.class), anyString()))
+			.thenReturn(new TossPaymentResponse(true, "{\"status\":\"DONE\"}"));
+		when(paymentRepository.transitionStatus(payment.getPaymentId(), PaymentStatus.PENDING, PaymentStatus.COMPLETED))
+			.thenReturn(1);
+
+		// When
+		paymentService.confirmPayment(confirmRequest);
+
+		// Then
+		InOrder inOrder = inOrder(transactionTemplate, tossPaymentClient, paymentRepository);
+		inOrder.verify(transactionTemplate).execute(any());
+		inOrder.verify(paymentRepository)
+			.save(argThat((Payment saved) -> saved.getPaymentStatus() == PaymentStatus.PENDING));
+		inOrder.verify(tossPaymentClient).confirm(any(PaymentConfirmRequest.class), anyString());
+		inOrder.verify(transactionTemplate).execute(any());
+		inOrder.verify(paymentRepository).transitionStatus(payment.getPaymentId(), PaymentStatus.PENDING,
+			PaymentStatus.COMPLETED);
+	}
+
+	@Test
+	@DisplayName("결제 승인 - 실패한 결제를 새 결제 키로 다시 승인하면 이전 실패를 재생하지 않도록 새 멱등 키를 보낸다")
+	void confirmPayment_RetryAfterFailureUsesNewIdempotencyKey() {
+		// Given
+		String failedKey = TossPaymentClient.confirmIdempotencyKey(orderId, "failed_key");
+		Payment failed = Payment.builder()
+			.paymentId(UUID.randomUUID())
+			.ordersId(orderId)
+			.paymentKey("failed_key")
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.paymentStatus(PaymentStatus.FAILED)
+			.amount(10000L)
+			.idempotencyKey(failedKey)
+			.build();
+		String retryKey = TossPaymentClient.confirmIdempotencyKey(orderId, confirmRequest.getPaymentKey());
+		when(ordersRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(order));
+		when(paymentRepository.findByOrdersId(orderId)).thenReturn(Optional.of(failed));
+		when(tossPaymentClient.confirm(confirmRequest, retryKey))
+			.thenReturn(new TossPaymentResponse(true, "{\"status\":\"DONE\"}"));
+		when(paymentRepository.transitionStatus(failed.getPaymentId(), PaymentStatus.PENDING, PaymentStatus.COMPLETED))
+			.thenReturn(1);
+
+		// When
+		String result = paymentService.confirmPayment(confirmRequest);
+
+		// Then
+		assertThat(result).contains("결제 승인이 완료되었습니다");
+		assertThat(retryKey).isNotEqualTo(failedKey);
+		assertThat(failed.getPaymentKey()).isEqualTo(confirmRequest.getPaymentKey());
+		assertThat(failed.getIdempotencyKey()).isEqualTo(retryKey);
+		verify(paymentRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("결제 승인 - 토스 응답을 받지 못하면 결제 의도를 PENDING 으로 남긴다")
+	void confirmPayment_GatewayErrorLeavesIntentPending() {
+		// Given
+		when(ordersRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(order));
+		when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
+		when(tossPaymentClient.confirm(any(PaymentConfirmRequest.class), anyString()))
+			.thenThrow(new GeneralException(PaymentErrorStatus.TOSS_API_ERROR));
+
+		// When & Then
+		assertThatThrownBy(() -> paymentService.confirmPayment(confirmRequest))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.TOSS_API_ERROR);
+		verify(paymentRepository, never()).transitionStatus(any(), any(), any());
+		verify(paymentOutboxRepository, never()).saveAll(any());
+	}
+
+	@Test
+	@DisplayName("결제 승인 - 이미 승인된 결제는 토스를 다시 호출하지 않는다")
+	void confirmPayment_AlreadyCompleted() {
+		// Given
+		when(ordersRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(order));
+		when(paymentRepository.findByOrdersId(orderId)).thenReturn(Optional.of(payment));
+
+		// When & Then
+		assertThatThrownBy(() -> paymentService.confirmPayment(confirmRequest))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_ALREADY_PROCESSED);
+		verifyNoInteractions(tossPaymentClient);
+	}
+
+	@Test
+	@DisplayName("결제 승인 - 복구 작업이 먼저 확정했으면 확정된 상태를 따른다")
+	void confirmPayment_AlreadyFinalizedByRecovery() {
+		// Given
+		when(ordersRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(order));
+		when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
+		when(tossPaymentClient.confirm(any(PaymentConfirmRequest.class), anyString()))
+			.thenReturn(new TossPaymentResponse(true, "{\"status\":\"DONE\"}"));
+		when(paymentRepository.transitionStatus(payment.getPaymentId(), PaymentStatus.PENDING, PaymentStatus.COMPLETED))
+			.thenReturn(0);
+		when(paymentRepository.findById(payment.getPaymentId())).thenReturn(Optional.of(payment));
+
+		// When
+		String result = paymentService.confirmPayment(confirmRequest);
+
+		// Then
+		assertThat(result).contains("결제 승인이 완료되었습니다");
+		verify(paymentOutboxRepository, never()).saveAll(any());
+	}
+
+	@Test
+	@DisplayName("결제 의도 복구 - 남아 있는 승인/취소 의도를 같은 멱등 키로 재전송해 확정한다")
+	void recoverStaleIntents() {
+		// Given
+		Payment pendingConfirm = Payment.builder()
+			.paymentId(UUID.randomUUID())
+			.ordersId(orderId)
+			.paymentKey("pending_key")
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.paymentStatus(PaymentStatus.PENDING)
+			.amount(10000L)
+			.idempotencyKey("stored_confirm_key")
+			.build();
+		Payment pendingCancel = Payment.builder()
+			.paymentId(UUID.randomUUID())
+			.ordersId(orderId)
+			.paymentKey("cancel_key")
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.paymentStatus(PaymentStatus.CANCEL_PENDING)
+			.cancelReason("구매자가 취소를 원함")
+			.amount(10000L)
+			.idempotencyKey("stored_cancel_key")
+			.build();
+		when(paymentRepository.findTop100ByPaymentStatusInAndUpdatedAtBeforeOrderByUpdatedAtAsc(any(), any()))
+			.thenReturn(List.of(pendingConfirm, pendingCancel));
+		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		when(tossPaymentClient.confirm(argThat((PaymentConfirmRequest request) ->
+			request.getPaymentKey().equals("pending_key") && request.getAmount().equals("10000")), eq("stored_confirm_key")))
+			.thenReturn(new TossPaymentResponse(true, "{\"status\":\"DONE\"}"));
+		when(tossPaymentClient.cancel("cancel_key", "구매자가 취소를 원함", "stored_cancel_key"))
+			.thenReturn(new TossPaymentResponse(true, "{\"status\":\"CANCELED\"}"));
+		when(paymentRepository.transitionStatus(pendingConfirm.getPaymentId(), PaymentStatus.PENDING,
+			PaymentStatus.COMPLETED)).thenReturn(1);
+		when(paymentRepository.transitionStatus(pendingCancel.getPaymentId(), PaymentStatus.CANCEL_PENDING,
+			PaymentStatus.CANCELLED)).thenReturn(1);
+
+		// When
+		int recovered = paymentService.recoverStaleIntents();
+
+		// Then
+		assertThat(recovered).isEqualTo(2);
+		verify(paymentOutboxRepository, times(2)).saveAll(any());
+		verify(orderStatusHistoryService, never()).changeStatus(any(), any());
+	}
+
+	@Test
+	@DisplayName("자동 거절 환불 - 승인된 결제는 환불 불가 주문이어도 취소 의도를 기록해 복구 작업이 토스 취소를 보내게 한다")
+	void beginRefundForRejectedOrder_CompletedPayment() {
+		// Given
+		when(paymentRepository.findByOrdersId(orderId)).thenReturn(Optional.of(payment));
+
+		// When
+		boolean refunded = paymentService.beginRefundForRejectedOrder(orderId, "가게 미수락");
+
+		// Then
+		assertThat(refunded).isTrue();
+		assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.CANCEL_PENDING);
+		assertThat(payment.getCancelReason()).isEqualTo("가게 미수락");
+		assertThat(payment.getIdempotencyKey())
+			.isEqualTo(TossPaymentClient.cancelIdempotencyKey(orderId, payment.getPaymentKey()))
+			.isNotEqualTo(TossPaymentClient.confirmIdempotencyKey(orderId, payment.getPaymentKey()));
+		verifyNoInteractions(tossPaymentClient);
+	}
+
+	@Test
+	@DisplayName("자동 거절 환불 - 승인되지 않은 결제는 취소하지 않는다")
+	void beginRefundForRejectedOrder_NotCompleted() {
+		// Given
+		Payment failed = Payment.builder()
+			.paymentId(UUID.randomUUID())
+			.ordersId(orderId)
+			.paymentKey("failed_key")
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.paymentStatus(PaymentStatus.FAILED)
+			.amount(10000L)
+			.build();
+		when(paymentRepository.findByOrdersId(orderId)).thenReturn(Optional.of(failed));
+
+		// When & Then
+		assertThat(paymentService.beginRefundForRejectedOrder(orderId, "가게 미수락")).isFalse();
+		assertThat(failed.getPaymentStatus()).isEqualTo(PaymentStatus.FAILED);
+	}
+
+	@Test
+	@DisplayName("결제 승인 실패 - 결제 시간 초과로 실패 처리된 주문은 결제 의도를 남기지 않고 토스를 호출하지 않는다")
+	void confirmPayment_OrderAlreadyFailed() {
+		// Given
+		order.updateOrderStatus(OrderStatus.FAILED);
+		when(ordersRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(order));
+
+		// When & Then
+		assertThatThrownBy(() -> paymentService.confirmPayment(confirmRequest))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_ORDER_NOT_PAYABLE);
+		verify(paymentRepository, never()).findByOrdersId(any());
+		verify(paymentRepository, never()).save(any());
+		verifyNoInteractions(tossPaymentClient);
+	}
+}
@@ -0,0 +1,86 @@
+package app.unit.domain.payment.archive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.payment.archive.PaymentResponseArchiver;
+import app.domain.payment.model.repository.PaymentEtcArchiveRepository;
+import app.domain.payment.model.repository.PaymentEtcRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentResponseArchiverTest {
+
+	@Mock
+	private PaymentEtcRepository paymentEtcRepository;
+
+	@Mock
+	private PaymentEtcArchiveRepository paymentEtcArchiveRepository;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@InjectMocks
+	private PaymentResponseArchiver archiver;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(archiver, "retentionDays", 30);
+		ReflectionTestUtils.setField(archiver, "batchSize", 2);
+		lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+			TransactionCallback<?> callback = invocation.getArgument(0);
+			return callback.doInTransaction(null);
+		});
+	}
+
+	private List<UUID> ids(int count) {
+		return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+	}
+
+	@Test
+	@DisplayName("보관 기간이 지난 응답이 없으면 아무것도 옮기지 않는다")
+	void archive_NothingDue() {
+		when(paymentEtcRepository.findIdsToArchive(any(), any())).thenReturn(List.of());
+
+		assertThat(archiver.archive()).isZero();
+		verifyNoInteractions(paymentEtcArchiveRepository);
+		verify(paymentEtcRepository, never()).markArchived(any(), any());
+	}
+
+	@Test
+	@DisplayName("배치마다 cold 테이블로 복사한 뒤 hot 행의 원문을 비운다")
+	void archive_CopiesThenClearsPerBatch() {
+		List<UUID> first = ids(2);
+		List<UUID> second = ids(1);
+		LocalDateTime before = LocalDateTime.now();
+		when(paymentEtcRepository.findIdsToArchive(any(), any())).thenReturn(first, second);
+
+		int archived = archiver.archive();
+
+		assertThat(archived).isEqualTo(3);
+		verify(paymentEtcRepository, times(2)).findIdsToArchive(
+			argThat(cutoff -> !cutoff.isAfter(before.minusDays(29)) && cutoff.isAfter(before.minusDays(31))), any());
+		InOrder inOrder = inOrder(paymentEtcArchiveRepository, paymentEtcRepository);
+		inOrder.verify(paymentEtcArchiveRepository).copyFromHot(first);
+		inOrder.verify(paymentEtcRepository).markArchived(eq(first), any());
+		inOrder.verify(paymentEtcArchiveRepository).copyFromHot(second);
+		inOrder.verify(paymentEtcRepository).markArchived(eq(second), any());
+	}
+}
@@ -0,0 +1,41 @@
+package app.unit.domain.payment.archive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.domain.payment.archive.PaymentResponseCodec;
+
+class PaymentResponseCodecTest {
+
+	private static final String CONFIRM_RESPONSE = "{\"mId\":\"tosspayments\",\"paymentKey\":\"tgen_20250801\","
+		+ "\"orderId\":\"0a1b2c3d\",\"status\":\"DONE\",\"totalAmount\":15000,\"method\":\"카드\","
+		+ "\"card\":{\"issuerCode\":\"61\",\"acquirerCode\":\"31\",\"number\":\"12345678****000*\"},"
+		+ "\"cancels\":null,\"receipt\":{\"url\":\"https://dashboard.tosspayments.com/receipt\"}}";
+
+	@Test
+	@DisplayName("압축한 응답은 원문 그대로 복원되고 원문보다 작다")
+	void compress_RoundTrip() {
+		String body = CONFIRM_RESPONSE.repeat(4);
+
+		byte[] compressed = PaymentResponseCodec.compress(body);
+
+		assertThat(compressed.length).isLessThan(body.getBytes().length);
+		assertThat(PaymentResponseCodec.decompress(compressed)).isEqualTo(body);
+	}
+
+	@Test
+	@DisplayName("성공 응답은 status, 실패 응답은 code 를 응답 상태로 추출한다")
+	void gatewayStatus_FromStatusOrCode() {
+		assertThat(PaymentResponseCodec.gatewayStatus(CONFIRM_RESPONSE)).isEqualTo("DONE");
+		assertThat(PaymentResponseCodec.gatewayStatus("{\"code\":\"REJECT_CARD_COMPANY\",\"message\":\"거절\"}"))
+			.isEqualTo("REJECT_CARD_COMPANY");
+	}
+
+	@Test
+	@DisplayName("JSON 이 아닌 응답은 응답 상태를 추출하지 않는다")
+	void gatewayStatus_NotJson() {
+		assertThat(PaymentResponseCodec.gatewayStatus("Bad Gateway")).isNull();
+	}
+}
@@ -0,0 +1,161 @@
+package app.unit.domain.payment.gateway;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.domain.payment.gateway.TossPaymentClient;
+import app.domain.payment.gateway.TossPaymentResponse;
+import app.domain.payment.model.dto.request.PaymentConfirmRequest;
+import app.domain.payment.status.PaymentErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.toss.TossStubGateway;
+
+@DisplayName("토스페이먼츠 클라이언트 테스트")
+class TossPaymentClientTest {
+
+	private static final long READ_TIMEOUT_MS = 300;
+	private static final int FAILURE_THRESHOLD = 3;
+	private static final long OPEN_DURATION_MS = 300;
+
+	private TossStubGateway gateway;
+	private TossPaymentClient client;
+	private PaymentConfirmRequest confirmRequest;
+	private String confirmKey;
+	private String cancelKey;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		gateway = new TossStubGateway(0);
+		client = new TossPaymentClient("test_secret_key", gateway.baseUrl(), 1000, READ_TIMEOUT_MS,
+			FAILURE_THRESHOLD, OPEN_DURATION_MS);
+		UUID orderId = UUID.randomUUID();
+		confirmRequest = new PaymentConfirmRequest("test_payment_key", orderId.toString(), "10000");
+		confirmKey = TossPaymentClient.confirmIdempotencyKey(orderId, "test_payment_key");
+		cancelKey = TossPaymentClient.cancelIdempotencyKey(orderId, "test_payment_key");
+	}
+
+	@AfterEach
+	void tearDown() {
+		gateway.close();
+	}
+
+	@Test
+	@DisplayName("승인 요청은 미리 만든 인증 헤더와 멱등 키를 담고 연결을 재사용한다")
+	void confirm_ReusesConnectionAndHeaders() {
+		for (int i = 0; i < 5; i++) {
+			TossPaymentResponse response = client.confirm(confirmRequest, confirmKey);
+			assertThat(response.success()).isTrue();
+			assertThat(response.body()).isEqualTo("{\"status\":\"DONE\"}");
+		}
+
+		String expectedAuthorization = "Basic " + Base64.getEncoder()
+			.encodeToString("test_secret_key:".getBytes(StandardCharsets.UTF_8));
+		assertThat(gateway.requestCount()).isEqualTo(5);
+		assertThat(gateway.clientPorts()).hasSize(1);
+		assertThat(gateway.requestHeaders()).allSatisfy(headers -> {
+			assertThat(headers.getFirst("Authorization")).isEqualTo(expectedAuthorization);
+			assertThat(headers.getFirst("Idempotency-Key")).isEqualTo(confirmKey);
+		});
+	}
+
+	@Test
+	@DisplayName("멱등 키는 작업 종류와 결제 키별로 달라지고 같은 요청에는 항상 같다")
+	void idempotencyKey_PerOperationAndPaymentKey() {
+		UUID orderId = UUID.randomUUID();
+		String confirm = TossPaymentClient.confirmIdempotencyKey(orderId, "payment_key");
+
+		assertThat(TossPaymentClient.confirmIdempotencyKey(orderId, "payment_key")).isEqualTo(confirm);
+		assertThat(TossPaymentClient.confirmIdempotencyKey(orderId, "retried_payment_key")).isNotEqualTo(confirm);
+		assertThat(TossPaymentClient.cancelIdempotencyKey(orderId, "payment_key")).isNotEqualTo(confirm);
+		assertThat(confirm).hasSizeLessThanOrEqualTo(64);
+	}
+
+	@Test
+	@DisplayName("4xx 응답은 실패 본문을 그대로 반환하며 서킷 브레이커를 열지 않는다")
+	void confirm_ClientErrorDoesNotTripBreaker() {
+		gateway.respond(400, "{\"code\":\"INVALID_REQUEST\"}");
+
+		for (int i = 0; i < FAILURE_THRESHOLD + 1; i++) {
+			TossPaymentResponse response = client.confirm(confirmRequest, confirmKey);
+			assertThat(response.success()).isFalse();
+			assertThat(response.body()).contains("INVALID_REQUEST");
+		}
+		assertThat(gateway.requestCount()).isEqualTo(FAILURE_THRESHOLD + 1);
+	}
+
+	@Test
+	@DisplayName("응답 대기 시간을 넘기면 TOSS_API_ERROR 예외가 발생한다")
+	void confirm_ReadTimeout() {
+		gateway.latency(Duration.ofMillis(READ_TIMEOUT_MS * 3));
+
+		assertThatThrownBy(() -> client.confirm(confirmRequest, confirmKey))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.TOSS_API_ERROR);
+	}
+
+	@Test
+	@DisplayName("연속 장애가 임계값에 도달하면 호출을 차단하고 대기 후 시험 호출이 성공하면 복구된다")
+	void circuitBreaker_OpensAndRecovers() throws Exception {
+		gateway.respond(503, "{\"code\":\"UNAVAILABLE\"}");
+		for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+			client.cancel("test_payment_key", "테스트", cancelKey);
+		}
+
+		assertThatThrownBy(() -> client.confirm(confirmRequest, confirmKey))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.TOSS_CIRCUIT_OPEN);
+		assertThat(gateway.requestCount()).isEqualTo(FAILURE_THRESHOLD);
+
+		Thread.sleep(OPEN_DURATION_MS + 100);
+		gateway.respond(200, "{\"status\":\"DONE\"}");
+
+		assertThat(client.confirm(confirmRequest, confirmKey).success()).isTrue();
+		assertThat(client.confirm(confirmRequest, confirmKey).success()).isTrue();
+		assertThat(gateway.requestCount()).isEqualTo(FAILURE_THRESHOLD + 2);
+	}
+
+	@Test
+	@DisplayName("연결이 끊기는 장애도 서킷 브레이커 실패로 집계된다")
+	void circuitBreaker_CountsDroppedConnections() {
+		gateway.dropConnection(true);
+		for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+			assertThatThrownBy(() -> client.confirm(confirmRequest, confirmKey))
+				.isInstanceOf(GeneralException.class)
+				.extracting("code")
+				.isEqualTo(PaymentErrorStatus.TOSS_API_ERROR);
+		}
+
+		assertThatThrownBy(() -> client.confirm(confirmRequest, confirmKey))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.TOSS_CIRCUIT_OPEN);
+	}
+
+	@Test
+	@DisplayName("잘못된 요청 주소로 실패한 호출은 반열림 상태의 시험 호출 자격을 소모하지 않는다")
+	void circuitBreaker_InvalidRequestDoesNotWedgeHalfOpen() throws Exception {
+		gateway.respond(503, "{\"code\":\"UNAVAILABLE\"}");
+		for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+			client.cancel("test_payment_key", "테스트", cancelKey);
+		}
+		Thread.sleep(OPEN_DURATION_MS + 100);
+		gateway.respond(200, "{\"status\":\"DONE\"}");
+
+		assertThatThrownBy(() -> client.cancel("invalid payment key", "테스트", cancelKey))
+			.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(client.confirm(confirmRequest, confirmKey).success()).isTrue();
+		assertThat(gateway.requestCount()).isEqualTo(FAILURE_THRESHOLD + 1);
+	}
+}
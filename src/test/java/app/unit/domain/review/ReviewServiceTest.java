@@ -26,6 +26,7 @@ import app.domain.review.model.dto.response.GetReviewResponse;
 import app.domain.review.model.entity.Review;
 import app.domain.review.status.ReviewErrorStatus;
 import app.domain.store.model.entity.Store;
+import app.domain.store.repository.StoreRepository;
 import app.domain.user.model.entity.User;
 import app.global.SecurityUtil;
 import app.global.apiPayload.code.status.ErrorStatus;
@@ -41,6 +42,9 @@ class ReviewServiceTest {
 	@Mock
 	private OrdersRepository ordersRepository;
 
+	@Mock
+	private StoreRepository storeRepository;
+
 	@Mock
 	private SecurityUtil securityUtil;
 
@@ -85,6 +89,7 @@ class ReviewServiceTest {
 		assertTrue(result.contains(review.getReviewId().toString()));
 		assertTrue(result.contains("가 생성되었습니다."));
 		verify(reviewRepository, times(1)).save(any(Review.class));
+		verify(storeRepository, times(1)).incrementRating(store.getStoreId(), 5L);
 	}
 
 	@Test
@@ -0,0 +1,137 @@
+package app.unit.domain.store.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import app.domain.customer.dto.response.GetStoreListResponse;
+import app.domain.customer.status.CustomerErrorStatus;
+import app.domain.menu.model.entity.Category;
+import app.domain.store.model.StoreCursor;
+import app.domain.store.model.StoreQueryRepositoryImpl;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.store.status.StoreAcceptStatus;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.apiPayload.CursorResponse;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({QueryDslConfig.class, TestJpaConfig.class, StoreQueryRepositoryImpl.class})
+@DisplayName("가게 목록 커서 조회 테스트")
+class StoreQueryRepositoryScrollTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private StoreQueryRepositoryImpl storeQueryRepository;
+
+	@BeforeEach
+	void setUp() {
+		User owner = entityManager.persist(User.builder()
+			.username("owner")
+			.password("password123!")
+			.email("owner@example.com")
+			.nickname("owner")
+			.realName("김사장")
+			.phoneNumber("01012345678")
+			.userRole(UserRole.OWNER)
+			.build());
+		Region region = entityManager.persist(Region.builder()
+			.regionCode("1111010600")
+			.regionName("광화문")
+			.fullName("서울특별시 종로구 세종로")
+			.isActive(true)
+			.build());
+		Category category = entityManager.persist(Category.builder().categoryName("한식").build());
+
+		for (int i = 0; i < 5; i++) {
+			persistStore(owner, region, category, "족발집" + i, StoreAcceptStatus.APPROVE);
+		}
+		persistStore(owner, region, category, "치킨집", StoreAcceptStatus.APPROVE);
+		persistStore(owner, region, category, "족발집-대기", StoreAcceptStatus.PENDING);
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	private void persistStore(User owner, Region region, Category category, String name, StoreAcceptStatus status) {
+		entityManager.persist(Store.builder()
+			.user(owner)
+			.region(region)
+			.category(category)
+			.storeName(name)
+			.address("서울시 종로구")
+			.storeAcceptStatus(status)
+			.build());
+	}
+
+	private List<UUID> scrollAll(String keyword, int size) {
+		List<UUID> storeIds = new ArrayList<>();
+		String cursor = null;
+		do {
+			CursorResponse<GetStoreListResponse> page =
+				storeQueryRepository.scrollStores(keyword, StoreAcceptStatus.APPROVE, cursor, size, false);
+			assertThat(page.getContent()).hasSizeLessThanOrEqualTo(size);
+			assertThat(page.getTotalElements()).isNull();
+			page.getContent().forEach(store -> storeIds.add(store.getStoreId()));
+			cursor = page.getNextCursor();
+			assertThat(page.isHasNext()).isEqualTo(cursor != null);
+		} while (cursor != null);
+		return storeIds;
+	}
+
+	@Test
+	@DisplayName("커서를 따라가면 승인된 가게를 중복·누락 없이 모두 조회한다")
+	void scroll_VisitsEveryStoreOnce() {
+		List<UUID> storeIds = scrollAll(null, 2);
+
+		Set<UUID> distinct = new HashSet<>(storeIds);
+		assertThat(storeIds).hasSize(6);
+		assertThat(distinct).hasSize(6);
+	}
+
+	@Test
+	@DisplayName("키워드 검색도 커서로 이어서 조회한다")
+	void scroll_WithKeyword() {
+		assertThat(scrollAll("족발", 2)).hasSize(5);
+	}
+
+	@Test
+	@DisplayName("전체 개수는 요청한 경우에만 계산한다")
+	void scroll_IncludeTotal() {
+		CursorResponse<GetStoreListResponse> page =
+			storeQueryRepository.scrollStores("족발", StoreAcceptStatus.APPROVE, null, 2, true);
+
+		assertThat(page.getTotalElements()).isEqualTo(5L);
+		assertThat(page.isHasNext()).isTrue();
+	}
+
+	@Test
+	@DisplayName("커서는 불투명 토큰으로 왕복되며 잘못된 토큰은 예외가 발생한다")
+	void cursor_RoundTripAndInvalid() {
+		StoreCursor cursor = new StoreCursor(LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123000), UUID.randomUUID());
+
+		assertThat(StoreCursor.decode(cursor.encode())).isEqualTo(cursor);
+		assertThatThrownBy(() -> StoreCursor.decode("not-a-cursor"))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(CustomerErrorStatus.INVALID_STORE_CURSOR);
+	}
+}
@@ -0,0 +1,185 @@
+package app.unit.domain.store.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import app.domain.customer.dto.response.GetStoreListResponse;
+import app.domain.menu.model.entity.Category;
+import app.domain.menu.model.entity.Menu;
+import app.domain.store.model.StoreQueryRepositoryImpl;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.store.status.StoreAcceptStatus;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.apiPayload.PagedResponse;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({QueryDslConfig.class, TestJpaConfig.class, StoreQueryRepositoryImpl.class})
+@DisplayName("가게/메뉴 이름 검색 테스트")
+class StoreSearchTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private StoreQueryRepositoryImpl storeQueryRepository;
+
+	private User owner;
+	private Region region;
+	private Category category;
+
+	@BeforeEach
+	void setUp() {
+		owner = entityManager.persist(User.builder()
+			.username("owner")
+			.password("password123!")
+			.email("owner@example.com")
+			.nickname("owner")
+			.realName("김사장")
+			.phoneNumber("01012345678")
+			.userRole(UserRole.OWNER)
+			.build());
+		region = entityManager.persist(Region.builder()
+			.regionCode("1111010600")
+			.regionName("광화문")
+			.fullName("서울특별시 종로구 세종로")
+			.isActive(true)
+			.build());
+		category = entityManager.persist(Category.builder().categoryName("한식").build());
+
+		persistStore("원조 족발", "보쌈");
+		persistStore("족발", null);
+		persistStore("족발야시장", null);
+		persistStore("한식당", "족발 정식");
+		persistStore("분식집", "족발 김밥", true);
+		persistStore("치킨집", "후라이드");
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	private void persistStore(String storeName, String menuName) {
+		persistStore(storeName, menuName, false);
+	}
+
+	private void persistStore(String storeName, String menuName, boolean hiddenMenu) {
+		Store store = entityManager.persist(Store.builder()
+			.user(owner)
+			.region(region)
+			.category(category)
+			.storeName(storeName)
+			.address("서울시 종로구")
+			.storeAcceptStatus(StoreAcceptStatus.APPROVE)
+			.build());
+		if (menuName != null) {
+			entityManager.persist(Menu.builder()
+				.store(store)
+				.category(category)
+				.name(menuName)
+				.price(10000L)
+				.isHidden(hiddenMenu)
+				.build());
+		}
+	}
+
+	private List<String> search(String keyword) {
+		PagedResponse<GetStoreListResponse> page =
+			storeQueryRepository.searchStoresWithAvgRating(keyword, StoreAcceptStatus.APPROVE, PageRequest.of(0, 10));
+		return page.getContent().stream().map(GetStoreListResponse::getStoreName).toList();
+	}
+
+	@Test
+	@DisplayName("이름 일치, 접두 일치, 부분 일치, 메뉴 이름 일치 순으로 정렬된다")
+	void search_RankedByMatchQuality() {
+		assertThat(search("족발")).containsExactly("족발", "족발야시장", "원조 족발", "한식당");
+	}
+
+	@Test
+	@DisplayName("대소문자를 구분하지 않고 숨김 메뉴는 검색 대상에서 제외된다")
+	void search_IgnoresCaseAndHiddenMenus() {
+		persistStore("BBQ Chicken", null);
+		entityManager.flush();
+
+		assertThat(search("bbq")).containsExactly("BBQ Chicken");
+		assertThat(search("김밥")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("메뉴 이름으로 검색한 가게도 전체 개수에 포함된다")
+	void search_TotalIncludesMenuMatches() {
+		PagedResponse<GetStoreListResponse> page =
+			storeQueryRepository.searchStoresWithAvgRating("족발", StoreAcceptStatus.APPROVE, PageRequest.of(0, 2));
+
+		assertThat(page.getContent()).hasSize(2);
+		assertThat(page.getTotalElements()).isEqualTo(4L);
+	}
+
+	@Test
+	@DisplayName("메뉴 이름으로만 찾은 후보 가게도 승인 상태 조건을 따른다")
+	void search_MenuCandidatesFilteredByStatus() {
+		Store pending = entityManager.persist(Store.builder()
+			.user(owner)
+			.region(region)
+			.category(category)
+			.storeName("심사중 가게")
+			.address("서울시 종로구")
+			.storeAcceptStatus(StoreAcceptStatus.PENDING)
+			.build());
+		entityManager.persist(Menu.builder()
+			.store(pending)
+			.category(category)
+			.name("족발 세트")
+			.price(10000L)
+			.isHidden(false)
+			.build());
+		entityManager.flush();
+
+		assertThat(search("족발")).doesNotContain("심사중 가게");
+	}
+
+	@Test
+	@DisplayName("트라이그램 길이 이상의 키워드도 가게/메뉴 이름으로 찾고 승인 상태 조건을 따른다")
+	void search_TrigramKeyword_MatchesNamesAndFiltersStatus() {
+		Store pending = entityManager.persist(Store.builder()
+			.user(owner)
+			.region(region)
+			.category(category)
+			.storeName("족발야시장 2호점")
+			.address("서울시 종로구")
+			.storeAcceptStatus(StoreAcceptStatus.PENDING)
+			.build());
+		entityManager.persist(Menu.builder()
+			.store(pending)
+			.category(category)
+			.name("족발 정식")
+			.price(10000L)
+			.isHidden(false)
+			.build());
+		entityManager.flush();
+
+		assertThat(search("족발야시")).containsExactly("족발야시장");
+		assertThat(search("족발 정식")).containsExactly("한식당");
+	}
+
+	@Test
+	@DisplayName("후보 가게가 없으면 빈 페이지를 반환한다")
+	void search_NoCandidates() {
+		PagedResponse<GetStoreListResponse> page =
+			storeQueryRepository.searchStoresWithAvgRating("피자", StoreAcceptStatus.APPROVE, PageRequest.of(0, 10));
+
+		assertThat(page.getContent()).isEmpty();
+		assertThat(page.getTotalElements()).isZero();
+	}
+}
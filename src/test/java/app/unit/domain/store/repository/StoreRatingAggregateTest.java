@@ -0,0 +1,160 @@
+package app.unit.domain.store.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import app.domain.customer.dto.response.GetStoreListResponse;
+import app.domain.menu.model.entity.Category;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.review.model.entity.Review;
+import app.domain.store.model.StoreQueryRepositoryImpl;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.store.repository.StoreRepository;
+import app.domain.store.status.StoreAcceptStatus;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.apiPayload.PagedResponse;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({QueryDslConfig.class, TestJpaConfig.class, StoreQueryRepositoryImpl.class})
+@DisplayName("매장 평점 집계 테스트")
+class StoreRatingAggregateTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private StoreRepository storeRepository;
+
+	@Autowired
+	private StoreQueryRepositoryImpl storeQueryRepository;
+
+	private User user;
+	private Store store;
+
+	@BeforeEach
+	void setUp() {
+		user = entityManager.persist(User.builder()
+			.username("owner")
+			.password("password123!")
+			.email("owner@example.com")
+			.nickname("owner")
+			.realName("김사장")
+			.phoneNumber("01012345678")
+			.userRole(UserRole.OWNER)
+			.build());
+		Region region = entityManager.persist(Region.builder()
+			.regionCode("1111010600")
+			.regionName("광화문")
+			.fullName("서울특별시 종로구 세종로")
+			.isActive(true)
+			.build());
+		Category category = entityManager.persist(Category.builder().categoryName("한식").build());
+		store = entityManager.persist(Store.builder()
+			.user(user)
+			.region(region)
+			.category(category)
+			.storeName("테스트매장")
+			.address("서울시 종로구")
+			.storeAcceptStatus(StoreAcceptStatus.APPROVE)
+			.build());
+		entityManager.flush();
+	}
+
+	private void persistReview(long rating) {
+		Orders order = entityManager.persist(Orders.builder()
+			.user(user)
+			.store(store)
+			.totalPrice(10000L)
+			.deliveryAddress("서울시 종로구")
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.orderChannel(OrderChannel.ONLINE)
+			.receiptMethod(ReceiptMethod.DELIVERY)
+			.orderStatus(OrderStatus.COMPLETED)
+			.build());
+		entityManager.persist(Review.builder()
+			.user(user)
+			.store(store)
+			.orders(order)
+			.rating(rating)
+			.content("맛있어요")
+			.build());
+	}
+
+	private Store reloadStore() {
+		entityManager.flush();
+		entityManager.clear();
+		return entityManager.find(Store.class, store.getStoreId());
+	}
+
+	@Test
+	@DisplayName("리뷰 작성 시 평점 합계와 개수가 증분 반영되고 목록 조회는 집계로 평균을 계산한다")
+	void incrementRating_UsedByStoreList() {
+		storeRepository.incrementRating(store.getStoreId(), 5L);
+		storeRepository.incrementRating(store.getStoreId(), 4L);
+
+		Store reloaded = reloadStore();
+		assertThat(reloaded.getReviewCount()).isEqualTo(2);
+		assertThat(reloaded.getRatingSum()).isEqualTo(9);
+		assertThat(reloaded.getAverageRating()).isEqualTo(4.5);
+
+		PagedResponse<GetStoreListResponse> stores = storeQueryRepository.getApprovedStore(PageRequest.of(0, 10));
+		assertThat(stores.getContent()).singleElement()
+			.extracting(GetStoreListResponse::getAverageRating)
+			.isEqualTo(4.5);
+	}
+
+	@Test
+	@DisplayName("평점 증분 이후 영속 상태의 매장 정보를 수정해도 집계가 덮어써지지 않는다")
+	void incrementRating_SurvivesStoreEdit() {
+		storeRepository.incrementRating(store.getStoreId(), 5L);
+
+		store.setStoreName("변경된매장");
+		store.updateAcceptStatus(StoreAcceptStatus.APPROVE);
+
+		Store reloaded = reloadStore();
+		assertThat(reloaded.getStoreName()).isEqualTo("변경된매장");
+		assertThat(reloaded.getReviewCount()).isEqualTo(1);
+		assertThat(reloaded.getRatingSum()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("리뷰가 없는 매장의 평균 평점은 0이다")
+	void noReviews_ZeroAverage() {
+		PagedResponse<GetStoreListResponse> stores = storeQueryRepository.getApprovedStore(PageRequest.of(0, 10));
+
+		assertThat(stores.getContent()).singleElement()
+			.extracting(GetStoreListResponse::getAverageRating)
+			.isEqualTo(0.0);
+	}
+
+	@Test
+	@DisplayName("보정 작업은 p_review 기준으로 어긋난 집계만 다시 계산한다")
+	void reconcileRatings_FixesDrift() {
+		persistReview(5L);
+		persistReview(3L);
+		entityManager.flush();
+
+		assertThat(storeRepository.reconcileRatings()).isEqualTo(1);
+		Store reloaded = reloadStore();
+		assertThat(reloaded.getReviewCount()).isEqualTo(2);
+		assertThat(reloaded.getRatingSum()).isEqualTo(8);
+
+		assertThat(storeRepository.reconcileRatings()).isZero();
+	}
+}
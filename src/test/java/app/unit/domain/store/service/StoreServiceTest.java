@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import app.domain.menu.model.dto.response.MenuListResponse;
 import app.domain.menu.model.entity.Category;
@@ -23,6 +26,7 @@ import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.repository.CategoryRepository;
 import app.domain.menu.model.repository.MenuRepository;
 import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.repository.OrdersRepository;
 import app.domain.order.service.OrderService;
 import app.domain.review.model.ReviewRepository;
@@ -33,6 +37,8 @@ import app.domain.store.model.dto.request.StoreApproveRequest;
 import app.domain.store.model.dto.request.StoreInfoUpdateRequest;
 import app.domain.store.model.dto.response.StoreApproveResponse;
 import app.domain.store.model.dto.response.StoreInfoUpdateResponse;
+import app.domain.store.model.dto.response.StoreOrderBoardItem;
+import app.domain.store.model.dto.response.StoreOrderBoardResponse;
 import app.domain.store.model.dto.response.StoreOrderListResponse;
 import app.domain.store.model.entity.Region;
 import app.domain.store.model.entity.Store;
@@ -42,6 +48,7 @@ import app.domain.store.status.StoreAcceptStatus;
 import app.domain.store.status.StoreErrorCode;
 import app.domain.user.model.entity.User;
 import app.domain.user.model.entity.enums.UserRole;
+import app.global.CurrentUser;
 import app.global.SecurityUtil;
 import app.global.apiPayload.exception.GeneralException;
 
@@ -82,6 +89,10 @@ class StoreServiceTest {
 			reviewRepository, ordersRepository, orderService, securityUtil);
 	}
 
+	private CurrentUser principalOf(User user) {
+		return new CurrentUser(user.getUserId(), user.getUserRole());
+	}
+
 	@Nested
 	@DisplayName("createStore Test")
 	class CreateStoreTest {
@@ -188,7 +199,7 @@ class StoreServiceTest {
 
 			Category newCategory = new Category(categoryId, "새 카테고리");
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(storeId)).thenReturn(Optional.of(mockStore));
 			when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(newCategory));
 			when(storeRepository.save(any(Store.class))).thenReturn(mockStore);
@@ -198,7 +209,7 @@ class StoreServiceTest {
 			assertNotNull(response);
 			assertEquals(storeId, response.getStoreId());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(storeId);
 			verify(categoryRepository, times(1)).findById(categoryId);
 			verify(storeRepository, times(1)).save(any(Store.class));
@@ -226,7 +237,7 @@ class StoreServiceTest {
 
 			Category newCategory = new Category(categoryId, "새 카테고리");
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(storeId)).thenReturn(Optional.of(mockStore));
 			when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(newCategory));
 			when(storeRepository.save(any(Store.class))).thenReturn(mockStore);
@@ -236,7 +247,7 @@ class StoreServiceTest {
 			assertNotNull(response);
 			assertEquals(storeId, response.getStoreId());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(storeId);
 			verify(categoryRepository, times(1)).findById(categoryId);
 			verify(storeRepository, times(1)).save(any(Store.class));
@@ -258,7 +269,7 @@ class StoreServiceTest {
 			User mockUser = new User(TEST_USER_ID, "testuser", "test@example.com", "password", "nickname", "홍길동",
 				"01012345678", UserRole.OWNER);
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(storeId)).thenReturn(Optional.empty());
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -266,7 +277,7 @@ class StoreServiceTest {
 			});
 			assertEquals(StoreErrorCode.STORE_NOT_FOUND, exception.getCode());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(storeId);
 			verify(categoryRepository, never()).findById(any(UUID.class));
 			verify(storeRepository, never()).save(any(Store.class));
@@ -285,7 +296,7 @@ class StoreServiceTest {
 			Store mockStore = new Store(storeId, mockUser, mockRegion, oldCategory, "기존 가게명", "기존 설명",
 				"기존 주소", "010-1111-1111", 1000L, StoreAcceptStatus.APPROVE);
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(storeId)).thenReturn(Optional.of(mockStore));
 			when(categoryRepository.findById(categoryId)).thenReturn(Optional.empty());
 
@@ -294,7 +305,7 @@ class StoreServiceTest {
 			});
 			assertEquals(StoreErrorCode.CATEGORY_NOT_FOUND, exception.getCode());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(storeId);
 			verify(categoryRepository, times(1)).findById(categoryId);
 			verify(storeRepository, never()).save(any(Store.class));
@@ -315,7 +326,7 @@ class StoreServiceTest {
 			Store mockStore = new Store(storeId, storeOwner, mockRegion, oldCategory, "기존 가게명", "기존 설명",
 				"기존 주소", "010-1111-1111", 1000L, StoreAcceptStatus.APPROVE);
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(storeId)).thenReturn(Optional.of(mockStore));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -323,7 +334,7 @@ class StoreServiceTest {
 			});
 			assertEquals(StoreErrorCode.INVALID_USER_ROLE, exception.getCode());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(storeId);
 			verify(categoryRepository, never()).findById(any(UUID.class));
 			verify(storeRepository, never()).save(any(Store.class));
@@ -345,12 +356,12 @@ class StoreServiceTest {
 			Store mockStore = mock(Store.class);
 			when(mockStore.getUser()).thenReturn(mockUser);
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(storeId)).thenReturn(Optional.of(mockStore));
 
 			assertDoesNotThrow(() -> storeService.deleteStore(storeId));
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(storeId);
 			verify(mockStore, times(1)).markAsDeleted();
 		}
@@ -361,7 +372,7 @@ class StoreServiceTest {
 			User mockUser = new User(TEST_USER_ID, "testuser", "test@example.com", "password", "nickname", "홍길동",
 				"01012345678", UserRole.OWNER);
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(storeId)).thenReturn(Optional.empty());
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -370,7 +381,7 @@ class StoreServiceTest {
 
 			assertEquals(StoreErrorCode.STORE_NOT_FOUND, exception.getCode());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(storeId);
 			verify(mock(Store.class), never()).markAsDeleted();
 		}
@@ -386,7 +397,7 @@ class StoreServiceTest {
 				"기존 설명",
 				"기존 주소", "010-1111-1111", 1000L, StoreAcceptStatus.APPROVE);
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(storeId)).thenReturn(Optional.of(mockStore));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -395,7 +406,7 @@ class StoreServiceTest {
 
 			assertEquals(StoreErrorCode.INVALID_USER_ROLE, exception.getCode());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(storeId);
 
 			assertNull(mockStore.getDeletedAt());
@@ -439,7 +450,7 @@ class StoreServiceTest {
 				.build();
 			List<Menu> mockMenus = Arrays.asList(menu1, menu2);
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
 			when(menuRepository.findByStoreAndDeletedAtIsNull(mockStore)).thenReturn(mockMenus);
 
@@ -451,7 +462,7 @@ class StoreServiceTest {
 			assertEquals("메뉴1", response.getMenus().get(0).getName());
 			assertEquals("메뉴2", response.getMenus().get(1).getName());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(testStoreId);
 			verify(menuRepository, times(1)).findByStoreAndDeletedAtIsNull(mockStore);
 		}
@@ -459,7 +470,7 @@ class StoreServiceTest {
 		@Test
 		@DisplayName("실패: 가게 없음")
 		void getStoreMenuList_Fail_StoreNotFound() {
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.empty());
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -467,7 +478,7 @@ class StoreServiceTest {
 			});
 
 			assertEquals(StoreErrorCode.STORE_NOT_FOUND, exception.getCode());
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(testStoreId);
 			verify(menuRepository, never()).findByStoreAndDeletedAtIsNull(any(Store.class));
 		}
@@ -478,7 +489,7 @@ class StoreServiceTest {
 			User anotherUser = new User(TEST_USER_ID + 1, "testuser", "test@example.com", "password", "nickname", "홍길동",
 				"01012345678", UserRole.CUSTOMER);
 
-			when(securityUtil.getCurrentUser()).thenReturn(anotherUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(anotherUser));
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -486,7 +497,7 @@ class StoreServiceTest {
 			});
 
 			assertEquals(StoreErrorCode.INVALID_USER_ROLE, exception.getCode());
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(testStoreId);
 			verify(menuRepository, never()).findByStoreAndDeletedAtIsNull(any(Store.class));
 		}
@@ -528,7 +539,7 @@ class StoreServiceTest {
 				.build();
 			List<Review> mockReviews = Arrays.asList(review1, review2);
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
 			when(reviewRepository.findByStore(mockStore)).thenReturn(mockReviews);
 
@@ -539,7 +550,7 @@ class StoreServiceTest {
 			assertEquals(review1.getReviewId(), response.get(0).getReviewId());
 			assertEquals(review2.getReviewId(), response.get(1).getReviewId());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(testStoreId);
 			verify(reviewRepository, times(1)).findByStore(mockStore);
 		}
@@ -547,7 +558,7 @@ class StoreServiceTest {
 		@Test
 		@DisplayName("실패: 가게 없음")
 		void getStoreReviewList_Fail_StoreNotFound() {
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.empty());
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -555,7 +566,7 @@ class StoreServiceTest {
 			});
 
 			assertEquals(StoreErrorCode.STORE_NOT_FOUND, exception.getCode());
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(testStoreId);
 			verify(reviewRepository, never()).findByStore(any(Store.class));
 		}
@@ -567,7 +578,7 @@ class StoreServiceTest {
 				"홍길동",
 				"01012345678", UserRole.CUSTOMER);
 
-			when(securityUtil.getCurrentUser()).thenReturn(anotherUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(anotherUser));
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -575,7 +586,7 @@ class StoreServiceTest {
 			});
 
 			assertEquals(StoreErrorCode.INVALID_USER_ROLE, exception.getCode());
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(testStoreId);
 			verify(reviewRepository, never()).findByStore(any(Store.class));
 		}
@@ -617,7 +628,7 @@ class StoreServiceTest {
 				.build();
 			List<Orders> mockOrders = Arrays.asList(order1, order2);
 
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
 			when(ordersRepository.findByStore(mockStore)).thenReturn(mockOrders);
 
@@ -629,7 +640,7 @@ class StoreServiceTest {
 			assertEquals(order1.getOrdersId(), response.getOrderList().get(0).getOrderId());
 			assertEquals(order2.getOrdersId(), response.getOrderList().get(1).getOrderId());
 
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(testStoreId);
 			verify(ordersRepository, times(1)).findByStore(mockStore);
 		}
@@ -637,7 +648,7 @@ class StoreServiceTest {
 		@Test
 		@DisplayName("실패: 가게 없음")
 		void getStoreOrderList_Fail_StoreNotFound() {
-			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.empty());
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -645,7 +656,7 @@ class StoreServiceTest {
 			});
 
 			assertEquals(StoreErrorCode.STORE_NOT_FOUND, exception.getCode());
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(testStoreId);
 			verify(ordersRepository, never()).findByStore(any(Store.class));
 		}
@@ -657,7 +668,7 @@ class StoreServiceTest {
 				"홍길동",
 				"01012345678", UserRole.CUSTOMER);
 
-			when(securityUtil.getCurrentUser()).thenReturn(anotherUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(anotherUser));
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
@@ -665,7 +676,7 @@ class StoreServiceTest {
 			});
 
 			assertEquals(StoreErrorCode.INVALID_USER_ROLE, exception.getCode());
-			verify(securityUtil, times(1)).getCurrentUser();
+			verify(securityUtil, times(1)).getCurrentPrincipal();
 			verify(storeRepository, times(1)).findById(testStoreId);
 			verify(ordersRepository, never()).findByStore(any(Store.class));
 		}
@@ -689,7 +700,7 @@ class StoreServiceTest {
 			orderId = UUID.randomUUID();
 			order = Orders.builder().ordersId(orderId).store(store).build();
 
-			when(securityUtil.getCurrentUser()).thenReturn(currentUser);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(currentUser));
 		}
 
 		@Test
@@ -758,4 +769,138 @@ class StoreServiceTest {
 			assertEquals(StoreErrorCode.NOT_STORE_OWNER, exception.getCode());
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	@DisplayName("점주의 주문 보드 조회 테스트")
+	class GetStoreOrderBoardTest {
+
+		private UUID testStoreId;
+		private User mockUser;
+		private Store mockStore;
+
+		@BeforeEach
+		void setUp() {
+			ReflectionTestUtils.setField(storeService, "boardMaxSize", 2);
+			ReflectionTestUtils.setField(storeService, "boardLookbackMs", 2000L);
+			testStoreId = UUID.randomUUID();
+			mockUser = new User(TEST_USER_ID, "testuser", "test@example.com", "password", "nickname", "홍길동",
+				"01012345678", UserRole.OWNER);
+			mockStore = new Store(testStoreId, mockUser, mock(Region.class), mock(Category.class), "테스트 가게", null, null,
+				null, 10000L, null);
+			lenient().when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(mockUser));
+			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
+		}
+
+		private StoreOrderBoardItem item(OrderStatus status, LocalDateTime updatedAt) {
+			return new StoreOrderBoardItem(UUID.randomUUID(), "customer", 10000L, status, updatedAt, updatedAt);
+		}
+
+		@Test
+		@DisplayName("성공: since 가 없으면 진행 중 주문 전체를 반환하고 watermark 는 조회 시각보다 lookback 만큼 앞선다")
+		void getStoreOrderBoard_Snapshot() {
+			StoreOrderBoardItem pending = item(OrderStatus.PENDING, LocalDateTime.now().minusMinutes(1));
+			when(ordersRepository.findBoardSnapshot(eq(testStoreId), anyCollection(), any(Pageable.class)))
+				.thenReturn(List.of(pending));
+			LocalDateTime before = LocalDateTime.now();
+
+			StoreOrderBoardResponse response = storeService.getStoreOrderBoard(testStoreId, null, null);
+
+			assertEquals(List.of(pending), response.getOrders());
+			assertTrue(response.getClosedOrderIds().isEmpty());
+			assertFalse(response.isHasMore());
+			assertTrue(response.getWatermark().isBefore(before.minusSeconds(1)));
+			verify(ordersRepository, never()).findBoardChanges(any(), any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("성공: 변경분에서 진행 중 상태를 벗어난 주문은 closedOrderIds 로 분리한다")
+		void getStoreOrderBoard_DeltaSplitsClosed() {
+			LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+			StoreOrderBoardItem cooking = item(OrderStatus.COOKING, since.plusSeconds(10));
+			StoreOrderBoardItem completed = item(OrderStatus.COMPLETED, since.plusSeconds(20));
+			ReflectionTestUtils.setField(storeService, "boardMaxSize", 3);
+			when(ordersRepository.findBoardChanges(eq(testStoreId), eq(since), any(UUID.class), any(Pageable.class)))
+				.thenReturn(List.of(cooking, completed));
+
+			StoreOrderBoardResponse response = storeService.getStoreOrderBoard(testStoreId, since, null);
+
+			assertEquals(List.of(cooking), response.getOrders());
+			assertEquals(List.of(completed.getOrderId()), response.getClosedOrderIds());
+			assertFalse(response.isHasMore());
+			assertTrue(response.getWatermark().isAfter(since));
+		}
+
+		@Test
+		@DisplayName("성공: 변경이 없으면 빈 목록을 반환하고 watermark 는 뒤로 가지 않는다")
+		void getStoreOrderBoard_NoChanges() {
+			LocalDateTime since = LocalDateTime.now();
+			when(ordersRepository.findBoardChanges(eq(testStoreId), eq(since), any(UUID.class), any(Pageable.class)))
+				.thenReturn(List.of());
+
+			StoreOrderBoardResponse response = storeService.getStoreOrderBoard(testStoreId, since, null);
+
+			assertTrue(response.getOrders().isEmpty());
+			assertEquals(since, response.getWatermark());
+		}
+
+		@Test
+		@DisplayName("성공: 최대 개수를 채우면 hasMore 와 함께 마지막 변경 시각을 watermark 로 반환한다")
+		void getStoreOrderBoard_HasMore() {
+			LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+			StoreOrderBoardItem first = item(OrderStatus.PENDING, since.plusSeconds(1));
+			StoreOrderBoardItem second = item(OrderStatus.ACCEPTED, since.plusSeconds(2));
+			when(ordersRepository.findBoardChanges(eq(testStoreId), eq(since), any(UUID.class), any(Pageable.class)))
+				.thenReturn(List.of(first, second));
+
+			StoreOrderBoardResponse response = storeService.getStoreOrderBoard(testStoreId, since, null);
+
+			assertTrue(response.isHasMore());
+			assertEquals(second.getUpdatedAt(), response.getWatermark());
+			assertEquals(second.getOrderId(), response.getWatermarkOrderId());
+		}
+
+		@Test
+		@DisplayName("성공: 이어 읽기 요청은 sinceOrderId 를 복합 커서로 넘기고, 변경이 없으면 커서를 그대로 돌려준다")
+		void getStoreOrderBoard_ContinuesFromCompositeCursor() {
+			LocalDateTime since = LocalDateTime.now();
+			UUID sinceOrderId = UUID.randomUUID();
+			when(ordersRepository.findBoardChanges(eq(testStoreId), eq(since), eq(sinceOrderId), any(Pageable.class)))
+				.thenReturn(List.of());
+
+			StoreOrderBoardResponse response = storeService.getStoreOrderBoard(testStoreId, since, sinceOrderId);
+
+			assertEquals(since, response.getWatermark());
+			assertEquals(sinceOrderId, response.getWatermarkOrderId());
+		}
+
+		@Test
+		@DisplayName("성공: 스냅샷이 최대 개수를 채우면 마지막 주문의 (변경 시각, ID) 를 커서로 반환한다")
+		void getStoreOrderBoard_SnapshotHasMore() {
+			LocalDateTime updatedAt = LocalDateTime.now().minusMinutes(1);
+			StoreOrderBoardItem first = item(OrderStatus.PENDING, updatedAt);
+			StoreOrderBoardItem second = item(OrderStatus.ACCEPTED, updatedAt);
+			when(ordersRepository.findBoardSnapshot(eq(testStoreId), anyCollection(), any(Pageable.class)))
+				.thenReturn(List.of(first, second));
+
+			StoreOrderBoardResponse response = storeService.getStoreOrderBoard(testStoreId, null, null);
+
+			assertTrue(response.isHasMore());
+			assertEquals(updatedAt, response.getWatermark());
+			assertEquals(second.getOrderId(), response.getWatermarkOrderId());
+		}
+
+		@Test
+		@DisplayName("실패: 다른 사용자의 가게")
+		void getStoreOrderBoard_Fail_Unauthorized() {
+			User anotherUser = new User(TEST_USER_ID + 1, "otheruser", "other@example.com", "password", "nickname",
+				"홍길동", "01012345678", UserRole.OWNER);
+			when(securityUtil.getCurrentPrincipal()).thenReturn(principalOf(anotherUser));
+
+			GeneralException exception = assertThrows(GeneralException.class,
+				() -> storeService.getStoreOrderBoard(testStoreId, null, null));
+
+			assertEquals(StoreErrorCode.INVALID_USER_ROLE, exception.getCode());
+			verifyNoInteractions(ordersRepository);
+		}
+	}
+}
@@ -3,21 +3,20 @@ package app.unit.domain.user.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
-import java.util.concurrent.TimeUnit;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,6 +25,8 @@ import app.domain.user.UserService;
 import app.domain.user.status.UserErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 import app.global.jwt.JwtTokenProvider;
+import app.global.jwt.TokenDigest;
+import app.global.jwt.TokenRevocationRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserService.logout 테스트")
@@ -41,7 +42,10 @@ class UserServiceLogoutTest {
 	private RedisTemplate<String, String> redisTemplate;
 
 	@Mock
-	private ValueOperations<String, String> valueOperations;
+	private ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	private TokenRevocationRegistry tokenRevocationRegistry;
 
 	private MockedStatic<SecurityContextHolder> mockedSecurityContextHolder;
 
@@ -80,18 +84,25 @@ class UserServiceLogoutTest {
 			given(authentication.isAuthenticated()).willReturn(true);
 			given(redisTemplate.hasKey(refreshTokenKey)).willReturn(true);
 			given(jwtTokenProvider.getExpiration(accessToken)).willReturn(expiration);
-			given(redisTemplate.opsForValue()).willReturn(valueOperations);
+			given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
 
 			// when
+			long before = System.currentTimeMillis();
 			userService.logout();
+			long after = System.currentTimeMillis();
 
 			// then
 			then(redisTemplate).should().delete(refreshTokenKey);
-			then(valueOperations).should().set(
-				"BL:" + accessToken,
-				"logout",
-				expiration,
-				TimeUnit.MILLISECONDS
+			then(zSetOperations).should().add(
+				eq(TokenRevocationRegistry.REVOKED_TOKENS_KEY),
+				eq(TokenDigest.of(accessToken)),
+				doubleThat(score -> score >= before + expiration && score <= after + expiration)
+			);
+			InOrder inOrder = inOrder(tokenRevocationRegistry, redisTemplate);
+			inOrder.verify(tokenRevocationRegistry).revoke(TokenDigest.of(accessToken));
+			inOrder.verify(redisTemplate).convertAndSend(
+				TokenRevocationRegistry.REVOKED_TOKEN_CHANNEL,
+				TokenDigest.of(accessToken)
 			);
 		}
 
@@ -110,18 +121,17 @@ class UserServiceLogoutTest {
 			given(authentication.isAuthenticated()).willReturn(true);
 			given(redisTemplate.hasKey(refreshTokenKey)).willReturn(false);
 			given(jwtTokenProvider.getExpiration(accessToken)).willReturn(expiration);
-			given(redisTemplate.opsForValue()).willReturn(valueOperations);
+			given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
 
 			// when
 			userService.logout();
 
 			// then
 			then(redisTemplate).should(never()).delete(refreshTokenKey);
-			then(valueOperations).should().set(
-				"BL:" + accessToken,
-				"logout",
-				expiration,
-				TimeUnit.MILLISECONDS
+			then(zSetOperations).should().add(
+				eq(TokenRevocationRegistry.REVOKED_TOKENS_KEY),
+				eq(TokenDigest.of(accessToken)),
+				anyDouble()
 			);
 		}
 
@@ -146,7 +156,9 @@ class UserServiceLogoutTest {
 
 			// then
 			then(redisTemplate).should().delete(refreshTokenKey);
-			then(redisTemplate).should(never()).opsForValue();
+			then(redisTemplate).should(never()).opsForZSet();
+			then(redisTemplate).should(never()).convertAndSend(anyString(), any());
+			then(tokenRevocationRegistry).should(never()).revoke(anyString());
 		}
 	}
 
@@ -0,0 +1,117 @@
+package app.unit.global;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.CurrentUser;
+import app.global.SecurityUtil;
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityUtilTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@InjectMocks
+	private SecurityUtil securityUtil;
+
+	private final Long userId = 1L;
+
+	@BeforeEach
+	void setUp() {
+		org.springframework.security.core.userdetails.User principal =
+			new org.springframework.security.core.userdetails.User(String.valueOf(userId), "",
+				List.of(new SimpleGrantedAuthority("CUSTOMER")));
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(principal, "token", principal.getAuthorities()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("같은 요청 안에서는 사용자를 한 번만 조회한다")
+	void getCurrentUser_MemoizedPerRequest() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		User user = User.builder().userId(userId).build();
+		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+		User first = securityUtil.getCurrentUser();
+		User second = securityUtil.getCurrentUser();
+
+		assertThat(first).isSameAs(user);
+		assertThat(second).isSameAs(user);
+		verify(userRepository, times(1)).findById(userId);
+	}
+
+	@Test
+	@DisplayName("요청이 바뀌면 사용자를 다시 조회한다")
+	void getCurrentUser_NewRequestLooksUpAgain() {
+		when(userRepository.findById(userId)).thenReturn(Optional.of(User.builder().userId(userId).build()));
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		securityUtil.getCurrentUser();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		securityUtil.getCurrentUser();
+
+		verify(userRepository, times(2)).findById(userId);
+	}
+
+	@Test
+	@DisplayName("요청 컨텍스트가 없으면 매번 조회한다")
+	void getCurrentUser_NoRequestContext() {
+		when(userRepository.findById(userId)).thenReturn(Optional.of(User.builder().userId(userId).build()));
+
+		securityUtil.getCurrentUser();
+		securityUtil.getCurrentUser();
+
+		verify(userRepository, times(2)).findById(userId);
+	}
+
+	@Test
+	@DisplayName("경량 인증 정보는 DB 조회 없이 JWT 클레임으로 만들어진다")
+	void getCurrentPrincipal_FromClaims() {
+		CurrentUser currentUser = securityUtil.getCurrentPrincipal();
+
+		assertThat(currentUser.userId()).isEqualTo(userId);
+		assertThat(currentUser.userRole()).isEqualTo(UserRole.CUSTOMER);
+		verifyNoInteractions(userRepository);
+	}
+
+	@Test
+	@DisplayName("인증 정보가 없으면 _UNAUTHORIZED 예외가 발생한다")
+	void getCurrentPrincipal_Unauthenticated() {
+		SecurityContextHolder.clearContext();
+
+		assertThatThrownBy(() -> securityUtil.getCurrentPrincipal())
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(ErrorStatus._UNAUTHORIZED);
+	}
+}